@@ -0,0 +1,78 @@
+package com.bobeat.backend.benchmark;
+
+import com.bobeat.backend.domain.store.util.PgVectorUtils;
+import com.bobeat.backend.domain.store.vo.Embedding;
+import com.bobeat.backend.global.util.KeysetCursor;
+import java.sql.SQLException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.postgresql.util.PGobject;
+
+/**
+ * 검색 요청마다 실행되는 커서/벡터 처리 경로
+ * - KeysetCursor 인코딩/디코딩 (위치 기반 검색)
+ * - 1024차원 임베딩 pgvector 파라미터 변환, 코사인 거리 커서 계산 (의미 기반 검색)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchHotPathBenchmark {
+
+    private static final int EMBEDDING_DIMENSION = 1024;
+
+    private String encodedCursor;
+    private Embedding queryEmbedding;
+    private float[] storeEmbedding;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        encodedCursor = KeysetCursor.encode(2_543, 1_234_567L);
+
+        float[] query = new float[EMBEDDING_DIMENSION];
+        storeEmbedding = new float[EMBEDDING_DIMENSION];
+        for (int i = 0; i < EMBEDDING_DIMENSION; i++) {
+            query[i] = random.nextFloat() * 2 - 1;
+            storeEmbedding[i] = random.nextFloat() * 2 - 1;
+        }
+        queryEmbedding = Embedding.of(query);
+    }
+
+    @Benchmark
+    public String keysetCursorEncode() {
+        return KeysetCursor.encode(2_543, 1_234_567L);
+    }
+
+    @Benchmark
+    public KeysetCursor.PageCursor keysetCursorDecode() {
+        return KeysetCursor.decodeOrNull(encodedCursor);
+    }
+
+    @Benchmark
+    public String pgVectorLiteral() {
+        return PgVectorUtils.toLiteral(queryEmbedding.values());
+    }
+
+    @Benchmark
+    public PGobject pgVectorBindParameter() throws SQLException {
+        return PgVectorUtils.toPGobject(queryEmbedding.values());
+    }
+
+    @Benchmark
+    public double cosineDistanceCursor() {
+        return queryEmbedding.cosineDistance(storeEmbedding);
+    }
+}
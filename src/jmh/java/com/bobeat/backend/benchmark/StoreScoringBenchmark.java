@@ -0,0 +1,134 @@
+package com.bobeat.backend.benchmark;
+
+import com.bobeat.backend.domain.member.entity.Level;
+import com.bobeat.backend.domain.store.config.StoreScoringConfig;
+import com.bobeat.backend.domain.store.dto.StoreScoreInput;
+import com.bobeat.backend.domain.store.entity.Menu;
+import com.bobeat.backend.domain.store.entity.PrimaryCategory;
+import com.bobeat.backend.domain.store.entity.SeatOption;
+import com.bobeat.backend.domain.store.entity.SeatType;
+import com.bobeat.backend.domain.store.entity.Store;
+import com.bobeat.backend.domain.store.service.CompositeScoreCalculator;
+import com.bobeat.backend.domain.store.service.StoreScoreCalculator;
+import com.bobeat.backend.domain.store.service.StoreService;
+import com.bobeat.backend.domain.store.vo.Categories;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 가게 점수/태그 계산 경로
+ * - StoreScoreCalculator.calculateScore (요약 컬럼이 채워진 가상 가게의 프로젝션 대상, DB 조회 없음)
+ * - CompositeScoreCalculator.calculate (추천순 복합 점수)
+ * - StoreService.buildTagsFromCategories (검색 결과 태그)
+ * 결과는 가게 1개당 평균 시간
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StoreScoringBenchmark {
+
+    private static final int STORE_COUNT = 1_000;
+    private static final String[] CATEGORIES = {"한식", "일식", "중식", "양식", "패스트푸드"};
+
+    private StoreScoreCalculator storeScoreCalculator;
+    private CompositeScoreCalculator compositeScoreCalculator;
+    private StoreService storeService;
+
+    private List<Store> stores;
+    private List<StoreScoreInput> scoreInputs;
+    private int[] distances;
+
+    @Setup
+    public void setUp() {
+        StoreScoringConfig scoringConfig = new StoreScoringConfig();
+        // DB 접근 없는 경로(calculateScore)만 측정하므로 리포지토리/요약 서비스/SQL 계산기는 주입하지 않음
+        storeScoreCalculator = new StoreScoreCalculator(null, null, scoringConfig, null, null);
+        compositeScoreCalculator = new CompositeScoreCalculator(scoringConfig);
+        storeService = new StoreService(null, null, null, null, null, null);
+
+        Random random = new Random(42);
+        List<PrimaryCategory> categories = new ArrayList<>();
+        for (String type : CATEGORIES) {
+            categories.add(PrimaryCategory.builder().primaryType(type).build());
+        }
+
+        stores = new ArrayList<>(STORE_COUNT);
+        distances = new int[STORE_COUNT];
+        for (int i = 0; i < STORE_COUNT; i++) {
+            Store store = Store.builder()
+                    .name("store-" + i)
+                    .honbobLevel(Level.fromValue(1 + random.nextInt(4)))
+                    .categories(new Categories(categories.get(random.nextInt(categories.size())), null))
+                    .internalScore(random.nextDouble() * 100)
+                    .build();
+            store.updateSummary(randomMenus(random), randomSeats(random));
+            stores.add(store);
+            distances[i] = random.nextInt(5_000);
+        }
+        scoreInputs = stores.stream().map(StoreScoreInput::from).toList();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STORE_COUNT)
+    public void calculateScore(Blackhole blackhole) {
+        for (StoreScoreInput input : scoreInputs) {
+            blackhole.consume(storeScoreCalculator.calculateScore(input));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STORE_COUNT)
+    public void compositeScore(Blackhole blackhole) {
+        for (int i = 0; i < STORE_COUNT; i++) {
+            blackhole.consume(compositeScoreCalculator.calculate(stores.get(i).getInternalScore(), distances[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STORE_COUNT)
+    public void buildTagsFromCategories(Blackhole blackhole) {
+        for (Store store : stores) {
+            blackhole.consume(storeService.buildTagsFromCategories(store.getCategories()));
+        }
+    }
+
+    private List<Menu> randomMenus(Random random) {
+        int count = 1 + random.nextInt(8);
+        List<Menu> menus = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            menus.add(Menu.builder()
+                    .name("menu-" + i)
+                    .price(5_000 + random.nextInt(20_000))
+                    .recommend(random.nextInt(4) == 0)
+                    .build());
+        }
+        return menus;
+    }
+
+    private List<SeatOption> randomSeats(Random random) {
+        SeatType[] seatTypes = SeatType.values();
+        int count = random.nextInt(3);
+        List<SeatOption> seats = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            seats.add(SeatOption.builder().seatType(seatTypes[random.nextInt(seatTypes.length)]).build());
+        }
+        return seats;
+    }
+}
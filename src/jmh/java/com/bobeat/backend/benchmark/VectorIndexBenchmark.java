@@ -0,0 +1,134 @@
+package com.bobeat.backend.benchmark;
+
+import com.bobeat.backend.domain.store.index.HnswIndex;
+import com.bobeat.backend.domain.store.vo.Embedding;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 의미 기반 검색 벡터 인덱스 재현율/지연시간 비교
+ * - hnswSearch: efSearch별 HNSW 근사 검색 (상위 10개)
+ * - exactSearch: 전수 비교 (pgvector 인덱스 없이 <=> 정렬과 같은 방식)
+ * <p>
+ * 재현율(recall@10)은 efSearch별로 Setup에서 측정해 hnswSearch의 보조 지표(recallAt10)로 결과(JSON 포함)에 남긴다.
+ * 임베딩은 실제 분포에 가깝도록 군집(가우시안 혼합) 형태로 생성한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VectorIndexBenchmark {
+
+    private static final int DIMENSION = 1024;
+    private static final int CLUSTERS = 100;
+    private static final int K = 10;
+    private static final int QUERY_COUNT = 256;
+    private static final int RECALL_QUERIES = 200;
+
+    @Param({"10000"})
+    private int storeCount;
+
+    @Param({"16", "32", "64", "128", "256"})
+    private int efSearch;
+
+    private HnswIndex index;
+    private Embedding[] queries;
+    private int cursor;
+    private double recall;
+
+    /**
+     * 재현율 보조 지표 - 반복마다 Trial Setup에서 측정한 값을 그대로 보고한다
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RecallCounter {
+        public double recallAt10;
+
+        @Setup(Level.Iteration)
+        public void report(VectorIndexBenchmark benchmark) {
+            recallAt10 = benchmark.recall;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        float[][] centroids = new float[CLUSTERS][];
+        for (int i = 0; i < CLUSTERS; i++) {
+            centroids[i] = gaussian(random, null, 1.0f);
+        }
+
+        index = new HnswIndex(16, 128);
+        for (long id = 1; id <= storeCount; id++) {
+            index.add(id, Embedding.of(gaussian(random, centroids[random.nextInt(CLUSTERS)], 0.6f)));
+        }
+
+        queries = new Embedding[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries[i] = Embedding.of(gaussian(random, centroids[random.nextInt(CLUSTERS)], 0.6f));
+        }
+
+        recall = measureRecall();
+    }
+
+    @Benchmark
+    public List<HnswIndex.Hit> hnswSearch(RecallCounter recallCounter) {
+        return index.search(nextQuery(), K, efSearch);
+    }
+
+    @Benchmark
+    public List<HnswIndex.Hit> exactSearch() {
+        return index.exactSearch(nextQuery(), K);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private Embedding nextQuery() {
+        Embedding query = queries[cursor];
+        cursor = (cursor + 1) % QUERY_COUNT;
+        return query;
+    }
+
+    private double measureRecall() {
+        int matched = 0;
+        int total = 0;
+        for (int i = 0; i < RECALL_QUERIES; i++) {
+            Embedding query = queries[i % QUERY_COUNT];
+            Set<Long> expected = new HashSet<>();
+            index.exactSearch(query, K).forEach(hit -> expected.add(hit.id()));
+            for (HnswIndex.Hit hit : index.search(query, K, efSearch)) {
+                if (expected.contains(hit.id())) {
+                    matched++;
+                }
+            }
+            total += expected.size();
+        }
+        return (double) matched / total;
+    }
+
+    private static float[] gaussian(Random random, float[] center, float scale) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (center != null ? center[i] : 0.0f) + (float) random.nextGaussian() * scale;
+        }
+        return vector;
+    }
+}
@@ -8,7 +8,7 @@ import com.querydsl.core.types.dsl.NumberExpression;
 public class PostgisExpressions {
     private PostgisExpressions() {}
 
-    /** 반경 검색: location 이 center(lon,lat) 로부터 radius(m) 이내인지 */
+    /** 반경 검색: location 이 center(lon,lat) 로부터 radius(m) 이내인지 (구면 거리, 인메모리 인덱스와 동일) */
     public static BooleanExpression stDWithin(Path<?> geographyPoint,
                                               double centerLat,
                                               double centerLon,
@@ -16,7 +16,7 @@ public class PostgisExpressions {
         return Expressions.booleanTemplate(
                 "function('ST_DWithin', {0}, " +
                         "  function('geography', function('ST_SetSRID', function('ST_MakePoint', {1}, {2}), 4326))," +
-                        "  {3}" +
+                        "  {3}, false" +
                         ") = true",
                 geographyPoint, centerLon, centerLat, radiusMeters
         );
@@ -35,7 +35,7 @@ public class PostgisExpressions {
         );
     }
 
-    /** 거리 계산(미터) */
+    /** 거리 계산(미터) - 구면 거리, 인메모리 인덱스(StoreGeoIndex)와 같은 값 */
     public static NumberExpression<Integer> distanceMeters(Path<?> geographyPoint,
                                                            double centerLat,
                                                            double centerLon) {
@@ -43,7 +43,7 @@ public class PostgisExpressions {
                 Integer.class,
                 "CAST(" +
                         "  function('ST_Distance', {0}, " +
-                        "    function('geography', function('ST_SetSRID', function('ST_MakePoint', {1}, {2}), 4326))" +
+                        "    function('geography', function('ST_SetSRID', function('ST_MakePoint', {1}, {2}), 4326)), false" +
                         "  ) AS integer" +
                         ")",
                 geographyPoint, centerLon, centerLat
@@ -1,20 +1,15 @@
 package com.bobeat.backend.domain.search.repository;
 
 import com.bobeat.backend.domain.search.entity.SearchHistoryEmbedding;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+/**
+ * 검색어 임베딩 영속 저장소 - 메모리 캐시는 QueryEmbeddingCache가 담당
+ */
 @Repository
 public interface SearchHistoryEmbeddingRepository extends JpaRepository<SearchHistoryEmbedding, Long> {
 
-
-    @Cacheable(value = "searchEmbeddings", key = "#query", unless = "#result == null")
-    SearchHistoryEmbedding findByQuery(String query);
-
-    @CachePut(value = "searchEmbeddings", key = "#entity.query")
-    default SearchHistoryEmbedding saveAndCache(SearchHistoryEmbedding entity) {
-        return save(entity);
-    }
+    Optional<SearchHistoryEmbedding> findFirstByQuery(String query);
 }
@@ -0,0 +1,190 @@
+package com.bobeat.backend.domain.search.service;
+
+import static com.bobeat.backend.global.exception.ErrorCode.EMBEDDING_OVERLOADED;
+import static com.bobeat.backend.global.exception.ErrorCode.QUERY_EMBEDDING_UNAVAILABLE;
+
+import com.bobeat.backend.domain.search.entity.SearchHistoryEmbedding;
+import com.bobeat.backend.domain.search.repository.SearchHistoryEmbeddingRepository;
+import com.bobeat.backend.domain.store.config.StoreSearchConfig;
+import com.bobeat.backend.domain.store.external.embedding.EmbeddingGateway;
+import com.bobeat.backend.domain.store.vo.Embedding;
+import com.bobeat.backend.global.exception.CustomException;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색어 임베딩 캐시
+ * <p>
+ * - 검색어 정규화(NFC, 공백 정리, 소문자) 후 키로 사용해 "국밥 "과 "국밥"이 같은 임베딩을 공유
+ * - 값은 float[]와 미리 계산한 노름을 가진 Embedding, 크기(바이트) 기준으로 제거
+ * - 같은 검색어의 동시 미스는 한 번만 적재 (나머지는 같은 future를 기다림)
+ * - 적재 순서: 메모리 → search_history_embedding → 임베딩 게이트웨이 (결과는 DB에 저장)
+ * - 임베딩 생성 실패는 잠시 기억해 장애 중 같은 검색어로 외부 API를 반복 호출하지 않음
+ * - 서버 시작 시 최근 검색어 임베딩을 미리 적재해 자주 찾는 검색어가 외부 API를 기다리지 않도록 함
+ */
+@Slf4j
+@Component
+public class QueryEmbeddingCache {
+
+    private static final String CACHE_NAME = "queryEmbeddings";
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+    private static final int WARM_UP_SIZE = 2000;
+    private static final Pattern WHITESPACE = Pattern.compile("[\\s\\p{Z}]+");
+
+    private final SearchHistoryEmbeddingRepository searchHistoryEmbeddingRepository;
+    private final EmbeddingGateway embeddingGateway;
+
+    private final AsyncCache<String, Embedding> cache;
+    private final Cache<String, Boolean> failures;
+    private final Counter dbLoads;
+    private final Counter apiLoads;
+    private final Counter negativeHits;
+
+    public QueryEmbeddingCache(SearchHistoryEmbeddingRepository searchHistoryEmbeddingRepository,
+                               EmbeddingGateway embeddingGateway,
+                               StoreSearchConfig searchConfig,
+                               MeterRegistry meterRegistry) {
+        this.searchHistoryEmbeddingRepository = searchHistoryEmbeddingRepository;
+        this.embeddingGateway = embeddingGateway;
+
+        StoreSearchConfig.QueryEmbeddingCache config = searchConfig.getQueryEmbeddingCache();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(config.getMaximumWeightBytes())
+                .weigher((String key, Embedding embedding) -> weigh(key, embedding))
+                .expireAfterAccess(Duration.ofMinutes(config.getExpireAfterAccessMinutes()))
+                .recordStats()
+                .buildAsync();
+        this.failures = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofSeconds(config.getNegativeTtlSeconds()))
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+        Gauge.builder("search.query_embedding.cache.bytes", cache,
+                        c -> c.synchronous().policy().eviction()
+                                .map(eviction -> eviction.weightedSize().orElse(0L))
+                                .orElse(0L))
+                .register(meterRegistry);
+        this.dbLoads = Counter.builder("search.query_embedding.load").tag("source", "db").register(meterRegistry);
+        this.apiLoads = Counter.builder("search.query_embedding.load").tag("source", "api").register(meterRegistry);
+        this.negativeHits = Counter.builder("search.query_embedding.negative_hit").register(meterRegistry);
+    }
+
+    /**
+     * 최근 검색어 임베딩 미리 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            List<SearchHistoryEmbedding> recent = searchHistoryEmbeddingRepository.findAll(
+                    PageRequest.of(0, WARM_UP_SIZE, Sort.by(Sort.Direction.DESC, "id"))).getContent();
+            for (SearchHistoryEmbedding row : recent) {
+                if (row.getQuery() != null && row.getEmbedding() != null) {
+                    cache.asMap().putIfAbsent(normalize(row.getQuery()),
+                            CompletableFuture.completedFuture(Embedding.of(row.getEmbedding())));
+                }
+            }
+            log.info("Query embedding cache warmed up. {} queries", cache.synchronous().estimatedSize());
+        } catch (Exception e) {
+            log.error("Failed to warm up query embedding cache", e);
+        }
+    }
+
+    /**
+     * 검색어 임베딩 조회 (없으면 DB → 임베딩 게이트웨이 순으로 적재)
+     *
+     * @throws CustomException 임베딩을 만들 수 없는 경우 (QUERY_EMBEDDING_UNAVAILABLE)
+     */
+    public Embedding get(String query) {
+        String key = normalize(query);
+        if (failures.getIfPresent(key) != null) {
+            negativeHits.increment();
+            throw new CustomException(QUERY_EMBEDDING_UNAVAILABLE);
+        }
+
+        // 미스를 처음 만난 요청만 호출 스레드에서 적재하고, 동시에 들어온 요청은 같은 future를 기다린다
+        CompletableFuture<Embedding> created = new CompletableFuture<>();
+        CompletableFuture<Embedding> future = cache.get(key, (k, executor) -> created);
+        if (future == created) {
+            try {
+                created.complete(load(key));
+            } catch (Exception e) {
+                // 게이트웨이 대기열 초과는 일시적인 과부하라 실패로 기억하지 않는다
+                if (!(e instanceof CustomException customException
+                        && customException.getErrorCode() == EMBEDDING_OVERLOADED)) {
+                    failures.put(key, Boolean.TRUE);
+                }
+                created.completeExceptionally(e);
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            log.warn("Failed to get query embedding: {}", key, e.getCause());
+            throw new CustomException(QUERY_EMBEDDING_UNAVAILABLE);
+        }
+    }
+
+    /**
+     * 캐시 키 정규화 - 유니코드 NFC, 앞뒤 공백 제거, 연속 공백 하나로, 소문자
+     */
+    public static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(query, Normalizer.Form.NFC);
+        return WHITESPACE.matcher(composed).replaceAll(" ").strip().toLowerCase(Locale.ROOT);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private Embedding load(String key) {
+        Embedding stored = searchHistoryEmbeddingRepository.findFirstByQuery(key)
+                .map(row -> Embedding.of(row.getEmbedding()))
+                .orElse(null);
+        if (stored != null) {
+            dbLoads.increment();
+            return stored;
+        }
+
+        Embedding embedding = embeddingGateway.embedSync(key);
+        if (embedding == null) {
+            throw new IllegalStateException("Empty embedding response");
+        }
+        apiLoads.increment();
+
+        try {
+            searchHistoryEmbeddingRepository.save(SearchHistoryEmbedding.builder()
+                    .embedding(embedding.values())
+                    .query(key)
+                    .build());
+        } catch (Exception e) {
+            // 저장 실패해도 이번 검색은 계속 진행 (다음 미스에서 다시 저장)
+            log.warn("Failed to save query embedding: {}", key, e);
+        }
+        return embedding;
+    }
+
+    private static int weigh(String key, Embedding embedding) {
+        return ENTRY_OVERHEAD_BYTES + key.length() * 2 + embedding.dimension() * Float.BYTES;
+    }
+}
@@ -0,0 +1,35 @@
+package com.bobeat.backend.domain.search.service;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 순위 목록을 RRF(Reciprocal Rank Fusion)로 결합
+ * <p>
+ * 가게마다 각 목록에서의 1 / (k + 순위) 를 더한다 (순위는 1부터). 점수 척도가 다른 어휘/벡터 검색을 정규화 없이 합칠 수 있고,
+ * 두 목록에 모두 등장한 가게가 앞선다. 결과는 (점수 내림차순, 가게 id 오름차순)이라 같은 입력이면 항상 같은 순서다.
+ */
+final class ReciprocalRankFusion {
+
+    record FusedHit(Long storeId, double score) {
+    }
+
+    private ReciprocalRankFusion() {
+    }
+
+    static List<FusedHit> fuse(int k, List<List<Long>> rankings) {
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        for (List<Long> ranking : rankings) {
+            for (int rank = 0; rank < ranking.size(); rank++) {
+                scores.merge(ranking.get(rank), 1.0 / (k + rank + 1), Double::sum);
+            }
+        }
+        return scores.entrySet().stream()
+                .map(entry -> new FusedHit(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingDouble(FusedHit::score).reversed()
+                        .thenComparing(FusedHit::storeId))
+                .toList();
+    }
+}
@@ -8,34 +8,47 @@ import com.bobeat.backend.domain.member.repository.MemberRepository;
 import com.bobeat.backend.domain.search.dto.request.StoreSearchRequest;
 import com.bobeat.backend.domain.search.dto.response.StoreSearchHistoryResponse;
 import com.bobeat.backend.domain.search.entity.SearchHistory;
-import com.bobeat.backend.domain.search.entity.SearchHistoryEmbedding;
-import com.bobeat.backend.domain.search.repository.SearchHistoryEmbeddingRepository;
 import com.bobeat.backend.domain.search.repository.SearchHistoryRepository;
+import com.bobeat.backend.domain.search.service.ReciprocalRankFusion.FusedHit;
+import com.bobeat.backend.domain.store.config.StoreScoringConfig;
+import com.bobeat.backend.domain.store.config.StoreSearchConfig;
+import com.bobeat.backend.domain.store.dto.StoreCard;
 import com.bobeat.backend.domain.store.dto.response.StoreSearchResultDto;
 import com.bobeat.backend.domain.store.dto.response.StoreSearchResultDto.Coordinate;
 import com.bobeat.backend.domain.store.dto.response.StoreSearchResultDto.SignatureMenu;
 import com.bobeat.backend.domain.store.entity.Store;
-import com.bobeat.backend.domain.store.entity.StoreEmbedding;
 import com.bobeat.backend.domain.store.entity.StoreImage;
-import com.bobeat.backend.domain.store.external.clova.service.ClovaEmbeddingClient;
+import com.bobeat.backend.domain.store.index.StoreCardSnapshot;
+import com.bobeat.backend.domain.store.index.StoreLexicalIndex;
+import com.bobeat.backend.domain.store.index.StoreLexicalIndex.LexicalHit;
+import com.bobeat.backend.domain.store.index.StoreVectorIndex;
+import com.bobeat.backend.domain.store.index.StoreVectorIndex.VectorHit;
 import com.bobeat.backend.domain.store.repository.StoreEmbeddingQueryRepository;
 import com.bobeat.backend.domain.store.repository.StoreImageRepository;
 import com.bobeat.backend.domain.store.repository.StoreRepository;
+import com.bobeat.backend.domain.store.repository.StoreRepositoryCustom.ScoredSearchResult;
 import com.bobeat.backend.domain.store.service.StoreService;
+import com.bobeat.backend.domain.store.vo.Embedding;
 import com.bobeat.backend.global.exception.CustomException;
 import com.bobeat.backend.global.request.CursorPaginationRequest;
 import com.bobeat.backend.global.response.CursorPageResponse;
+import com.bobeat.backend.global.util.EnrichmentExecutor;
+import com.bobeat.backend.global.util.EnrichmentExecutor.Lookup;
 import com.bobeat.backend.global.util.KeysetCursor;
 import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SearchService {
@@ -45,48 +58,163 @@ public class SearchService {
     private final StoreService storeService;
     private final SearchHistoryRepository searchHistoryRepository;
     private final MemberRepository memberRepository;
-    private final ClovaEmbeddingClient clovaEmbeddingClient;
+    private final QueryEmbeddingCache queryEmbeddingCache;
     private final StoreEmbeddingQueryRepository storeEmbeddingQueryRepository;
-    private final SearchHistoryEmbeddingRepository searchHistoryEmbeddingRepository;
-
+    private final StoreVectorIndex storeVectorIndex;
+    private final StoreScoringConfig scoringConfig;
+    private final StoreSearchConfig searchConfig;
+    private final StoreLexicalIndex storeLexicalIndex;
+    private final StoreCardSnapshot storeCardSnapshot;
+    private final EnrichmentExecutor enrichmentExecutor;
+
+    /**
+     * 검색어 검색
+     * 하이브리드 검색이 켜져 있으면 사용자 주변 반경 안에서 유사도/거리/내부 점수 합산 순
+     * (어휘 인덱스가 준비되어 있으면 어휘 검색 결과와 RRF로 결합), 꺼져 있으면 전국 대상 임베딩 유사도 순
+     */
     public CursorPageResponse<StoreSearchResultDto> searchStore(StoreSearchRequest request) {
-        List<Float> embedding = CheckAndSaveQueryEmbedding(request.query());
-        Float lastKnown = null;
-        if (request.paging().lastKnown() != null) {
-            lastKnown = Float.valueOf(request.paging().lastKnown());
+        if (Boolean.TRUE.equals(scoringConfig.getHybrid().getEnabled())) {
+            if (storeLexicalIndex.isReady()) {
+                return searchStoreFused(request);
+            }
+            return searchStoreHybrid(request, queryEmbeddingCache.get(request.query()));
+        }
+        return searchStoreBySimilarity(request, queryEmbeddingCache.get(request.query()));
+    }
+
+    /**
+     * 어휘(2-gram) 후보와 하이브리드 벡터 후보를 RRF로 결합, 커서는 (RRF 점수, 가게 id)
+     * <p>
+     * 어휘 검색은 인메모리라 먼저 실행하고, 1위 점수가 fastPathScore 이상이면(가게명/메뉴명이 검색어와 거의 그대로 일치)
+     * 임베딩 조회와 벡터 쿼리를 건너뛴다. 임베딩을 가져오지 못해도 어휘 후보가 있으면 어휘 결과만으로 응답한다.
+     * 각 검색에서 candidateLimit개까지만 후보로 쓰므로 페이지는 결합된 후보 안에서만 이어진다.
+     */
+    private CursorPageResponse<StoreSearchResultDto> searchStoreFused(StoreSearchRequest request) {
+        StoreSearchConfig.Lexical config = searchConfig.getLexical();
+        int candidateLimit = config.getCandidateLimit();
+        List<LexicalHit> lexicalHits = storeLexicalIndex.search(request.query(), request.lat(), request.lon(),
+                scoringConfig.getHybrid().getSearchRadius(), candidateLimit);
+
+        List<List<Long>> rankings = new ArrayList<>();
+        rankings.add(lexicalHits.stream().map(LexicalHit::storeId).toList());
+        Map<Long, StoreSearchResultDto> vectorResults = Map.of();
+        if (!isConfidentLexicalMatch(lexicalHits, config)) {
+            vectorResults = findVectorCandidates(request, lexicalHits, candidateLimit);
+            rankings.add(List.copyOf(vectorResults.keySet()));
+        }
+
+        KeysetCursor.ScoreCursor cursor = KeysetCursor.decodeScoreOrNull(request.paging().lastKnown());
+        int limit = request.paging().limit();
+        List<FusedHit> candidates = ReciprocalRankFusion.fuse(config.getRrfK(), rankings).stream()
+                .filter(hit -> cursor == null || isAfter(hit, cursor))
+                .toList();
+
+        // 카드가 없는 가게(삭제 등)는 건너뛰고 limit + 1개가 모일 때까지 다음 후보를 이어서 조회
+        List<FusedResult> rows = new ArrayList<>(limit + 1);
+        int from = 0;
+        while (rows.size() <= limit && from < candidates.size()) {
+            int to = Math.min(candidates.size(), from + limit + 1 - rows.size());
+            rows.addAll(toFusedResults(candidates.subList(from, to), lexicalHits, vectorResults));
+            from = to;
+        }
+        boolean hasNext = rows.size() > limit;
+        List<FusedResult> page = rows.stream()
+                .limit(limit)
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            FusedHit last = page.getLast().hit();
+            nextCursor = KeysetCursor.encodeScore(last.score(), last.storeId());
+        }
+
+        List<StoreSearchResultDto> results = page.stream()
+                .map(FusedResult::result)
+                .toList();
+        return new CursorPageResponse<>(results, nextCursor, hasNext, null);
+    }
+
+    /**
+     * 반경 필터 + 점수 계산 + 카드 정보를 한 쿼리로 조회, 커서는 (점수, 가게 id)
+     */
+    private CursorPageResponse<StoreSearchResultDto> searchStoreHybrid(StoreSearchRequest request,
+                                                                       Embedding embedding) {
+        int limit = request.paging().limit();
+        KeysetCursor.ScoreCursor cursor = KeysetCursor.decodeScoreOrNull(request.paging().lastKnown());
+
+        List<ScoredSearchResult> rows = storeRepository.findHybridSearchResults(embedding, request.lat(),
+                request.lon(), cursor, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<ScoredSearchResult> page = rows.stream()
+                .limit(limit)
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            ScoredSearchResult last = page.getLast();
+            nextCursor = KeysetCursor.encodeScore(last.score(), last.result().id());
         }
 
-        List<StoreEmbedding> storeEmbeddings = storeEmbeddingQueryRepository.findSimilarEmbeddingsWithCursor(
-                embedding, lastKnown, request.paging().limit() + 1);
-        boolean hasNext = checkHasNext(storeEmbeddings, request.paging().limit());
+        List<StoreSearchResultDto> results = page.stream()
+                .map(ScoredSearchResult::result)
+                .toList();
+        return new CursorPageResponse<>(results, nextCursor, hasNext, null);
+    }
+
+    private CursorPageResponse<StoreSearchResultDto> searchStoreBySimilarity(StoreSearchRequest request,
+                                                                             Embedding embedding) {
+        KeysetCursor.VectorCursor cursor = KeysetCursor.decodeVectorOrNull(request.paging().lastKnown());
 
-        List<StoreEmbedding> actualStoreEmbeddings = storeEmbeddings.stream()
+        List<VectorHit> hits = findSemanticHits(embedding, cursor, request.paging().limit() + 1);
+        boolean hasNext = checkHasNext(hits, request.paging().limit());
+
+        List<VectorHit> actualHits = hits.stream()
                 .limit(request.paging().limit())
                 .toList();
 
         String nextCursor = null;
         if (hasNext) {
-            nextCursor = findNextCursor(storeEmbeddings, embedding);
+            nextCursor = findNextCursor(actualHits);
         }
 
-        List<Store> stores = actualStoreEmbeddings.stream()
-                .map(StoreEmbedding::getStore)
+        // N+1 쿼리 해결: Store를 배치 조회 후 유사도 순서로 재정렬
+        Map<Long, Store> storeMap = storeRepository.findAllById(actualHits.stream().map(VectorHit::storeId).toList())
+                .stream()
+                .collect(Collectors.toMap(Store::getId, store -> store));
+        List<Store> stores = actualHits.stream()
+                .map(hit -> storeMap.get(hit.storeId()))
+                .filter(Objects::nonNull)
                 .toList();
 
         List<Long> storeIds = stores.stream()
                 .map(Store::getId)
                 .toList();
-        Map<Long, SignatureMenu> repMenus = storeRepository.findRepresentativeMenus(storeIds);
-        Map<Long, List<String>> seatTypes = storeRepository.findSeatTypes(storeIds);
-        Map<Long, Integer> distanceMap = storeRepository.findDistance(storeIds, request.lat(), request.lon());
 
-        // N+1 쿼리 해결: StoreImage를 배치 조회
-        Map<Long, StoreImage> storeImageMap = storeImageRepository.findMainImagesByStoreIds(storeIds).stream()
-                .collect(Collectors.toMap(img -> img.getStore().getId(), img -> img));
+        // 서로 독립적인 보강 조회 4개를 동시에 실행 (N+1 쿼리 해결: 가게 ID 목록으로 배치 조회)
+        Map<Long, SignatureMenu> repMenus;
+        Map<Long, List<String>> seatTypes;
+        Map<Long, Integer> distanceMap;
+        Map<Long, StoreImage> storeImageMap;
+        try (EnrichmentExecutor.Scope scope = enrichmentExecutor.open("search.similarity")) {
+            Lookup<Map<Long, SignatureMenu>> menuLookup = scope.fork("menus",
+                    () -> storeRepository.findRepresentativeMenus(storeIds));
+            Lookup<Map<Long, List<String>>> seatLookup = scope.fork("seats",
+                    () -> storeRepository.findSeatTypes(storeIds));
+            Lookup<Map<Long, Integer>> distanceLookup = scope.fork("distances",
+                    () -> storeRepository.findDistance(storeIds, request.lat(), request.lon()));
+            Lookup<Map<Long, StoreImage>> imageLookup = scope.fork("images",
+                    () -> storeImageRepository.findMainImagesByStoreIds(storeIds).stream()
+                            .collect(Collectors.toMap(img -> img.getStore().getId(), img -> img)));
+            scope.join();
+
+            repMenus = menuLookup.get();
+            seatTypes = seatLookup.get();
+            distanceMap = distanceLookup.get();
+            storeImageMap = imageLookup.get();
+        }
 
-        List<StoreSearchResultDto> storeSearchResultDtos = actualStoreEmbeddings.stream()
-                .map(actualStoreEmbedding -> {
-                            Store store = actualStoreEmbedding.getStore();
+        List<StoreSearchResultDto> storeSearchResultDtos = stores.stream()
+                .map(store -> {
                             StoreImage storeImage = storeImageMap.get(store.getId());
                             SignatureMenu signatureMenu = repMenus.get(store.getId());
                             Coordinate coordinate = new Coordinate(store.getAddress().getLatitude(),
@@ -160,29 +288,6 @@ public class SearchService {
         searchHistoryRepository.delete(searchHistory);
     }
 
-    public List<Float> CheckAndSaveQueryEmbedding(String query) {
-        SearchHistoryEmbedding searchHistoryEmbeddings = searchHistoryEmbeddingRepository.findByQuery(query);
-        if (searchHistoryEmbeddings != null) {
-            float[] embedding = searchHistoryEmbeddings.getEmbedding();
-            return IntStream.range(0, embedding.length)
-                    .mapToObj(i -> embedding[i])
-                    .collect(Collectors.toList());
-        }
-        List<Float> embedding = clovaEmbeddingClient.getEmbeddingSync(query);
-
-        float[] embeddingArray = new float[embedding.size()];
-        for (int i = 0; i < embedding.size(); i++) {
-            embeddingArray[i] = embedding.get(i);
-        }
-
-        SearchHistoryEmbedding searchHistoryEmbedding = SearchHistoryEmbedding.builder()
-                .embedding(embeddingArray)
-                .query(query)
-                .build();
-        searchHistoryEmbeddingRepository.saveAndCache(searchHistoryEmbedding);
-        return embedding;
-    }
-
     private CursorPageResponse<StoreSearchResultDto> buildStoreSearchResponse(List<Store> stores,
                                                                               CursorPaginationRequest paging) {
         final int temporaryDistance = 20;
@@ -234,34 +339,98 @@ public class SearchService {
         return new CursorPageResponse<>(data, nextCursor, hasNext, null);
     }
 
-    private boolean checkHasNext(List<StoreEmbedding> storeEmbeddings, @NotNull int limit) {
-        if (storeEmbeddings.size() > limit) {
-            return true;
+    /**
+     * 질의 임베딩과 가까운 가게를 거리 오름차순으로 조회
+     * 벡터 인덱스가 준비되어 있으면 인메모리 HNSW, 아니면 pgvector 쿼리 사용
+     */
+    private List<VectorHit> findSemanticHits(Embedding embedding, KeysetCursor.VectorCursor cursor,
+                                             int limitPlusOne) {
+        if (storeVectorIndex.isReady()) {
+            return storeVectorIndex.search(embedding, cursor, limitPlusOne);
         }
-        return false;
+        return storeEmbeddingQueryRepository.findSimilarStoresWithCursor(embedding, cursor, limitPlusOne);
     }
 
-    private String findNextCursor(List<StoreEmbedding> storeEmbeddings, List<Float> compareEmbedding) {
-        if (storeEmbeddings.isEmpty()) {
-            throw new CustomException("마지막 인덱스입니다.", INTERNAL_SERVER);
+    private boolean isConfidentLexicalMatch(List<LexicalHit> lexicalHits, StoreSearchConfig.Lexical config) {
+        return !lexicalHits.isEmpty() && lexicalHits.getFirst().score() >= config.getFastPathScore();
+    }
+
+    /**
+     * 하이브리드 벡터 검색 첫 candidateLimit개 (가게 id → 카드, 순위 순서 유지)
+     */
+    private Map<Long, StoreSearchResultDto> findVectorCandidates(StoreSearchRequest request,
+                                                                 List<LexicalHit> lexicalHits, int candidateLimit) {
+        Embedding embedding;
+        try {
+            embedding = queryEmbeddingCache.get(request.query());
+        } catch (CustomException e) {
+            if (lexicalHits.isEmpty()) {
+                throw e;
+            }
+            log.warn("Query embedding unavailable, answering with lexical results only. query={}", request.query());
+            return Map.of();
         }
 
-        StoreEmbedding storeEmbedding = storeEmbeddings.get(storeEmbeddings.size() - 1);
-        float[] storeVector = storeEmbedding.getEmbedding();
+        Map<Long, StoreSearchResultDto> results = new LinkedHashMap<>();
+        storeRepository.findHybridSearchResults(embedding, request.lat(), request.lon(), null, candidateLimit)
+                .forEach(row -> results.put(row.result().id(), row.result()));
+        return results;
+    }
+
+    private boolean isAfter(FusedHit hit, KeysetCursor.ScoreCursor cursor) {
+        return hit.score() < cursor.score()
+                || (hit.score() == cursor.score() && hit.storeId() > cursor.id());
+    }
+
+    /**
+     * 벡터 후보는 쿼리 결과 카드를 그대로, 어휘 후보만 있는 가게는 카드 스냅샷 + 어휘 검색에서 계산한 거리로 응답
+     * 카드를 찾지 못한 가게는 결과에서 빠진다.
+     */
+    private List<FusedResult> toFusedResults(List<FusedHit> hits, List<LexicalHit> lexicalHits,
+                                             Map<Long, StoreSearchResultDto> vectorResults) {
+        Map<Long, Integer> lexicalDistances = lexicalHits.stream()
+                .collect(Collectors.toMap(LexicalHit::storeId, LexicalHit::distance));
+        List<Long> cardIds = hits.stream()
+                .map(FusedHit::storeId)
+                .filter(id -> !vectorResults.containsKey(id))
+                .toList();
+        Map<Long, StoreCard> cards = cardIds.isEmpty() ? Map.of() : storeCardSnapshot.findAll(cardIds);
+
+        List<FusedResult> results = new ArrayList<>(hits.size());
+        for (FusedHit hit : hits) {
+            StoreSearchResultDto vectorResult = vectorResults.get(hit.storeId());
+            if (vectorResult != null) {
+                results.add(new FusedResult(hit, vectorResult));
+                continue;
+            }
+            StoreCard card = cards.get(hit.storeId());
+            if (card != null) {
+                results.add(new FusedResult(hit, card.toSearchResult(lexicalDistances.get(hit.storeId()))));
+            }
+        }
+        return results;
+    }
 
-        float dot = 0.0f;
-        float normA = 0.0f;
-        float normB = 0.0f;
+    private record FusedResult(FusedHit hit, StoreSearchResultDto result) {
+    }
 
-        for (int i = 0; i < compareEmbedding.size(); i++) {
-            dot += compareEmbedding.get(i) * storeVector[i];
-            normA += compareEmbedding.get(i) * compareEmbedding.get(i);
-            normB += storeVector[i] * storeVector[i];
+    private boolean checkHasNext(List<VectorHit> hits, @NotNull int limit) {
+        if (hits.size() > limit) {
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 현재 페이지 마지막 가게의 (거리, 가게 id) - 거리는 검색 결과 값을 그대로 사용
+     */
+    private String findNextCursor(List<VectorHit> hits) {
+        if (hits.isEmpty()) {
+            throw new CustomException("마지막 인덱스입니다.", INTERNAL_SERVER);
         }
 
-        double cosineSimilarity = dot / (Math.sqrt(normA) * Math.sqrt(normB));
-        double distance = 1 - cosineSimilarity;
-        return String.valueOf(distance);
+        VectorHit last = hits.getLast();
+        return KeysetCursor.encodeVector(last.distance(), last.storeId());
     }
 
 
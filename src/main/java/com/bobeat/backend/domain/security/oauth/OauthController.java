@@ -5,6 +5,7 @@ import com.bobeat.backend.domain.security.oauth.dto.request.SocialLoginRequest;
 import com.bobeat.backend.global.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -23,8 +24,8 @@ public class OauthController {
 
     @Operation(summary = "소셜 로그인", description = "카카오, 구글 Access Token으로 로그인 또는 회원가입을 처리합니다.")
     @PostMapping("/social-login")
-    public ApiResponse<AuthResponse> socialLogin(@RequestBody SocialLoginRequest request) {
-        AuthResponse response = oauthService.login(request);
-        return ApiResponse.success(response);
+    public CompletableFuture<ApiResponse<AuthResponse>> socialLogin(@RequestBody SocialLoginRequest request) {
+        return oauthService.login(request)
+                .thenApply(ApiResponse::success);
     }
 }
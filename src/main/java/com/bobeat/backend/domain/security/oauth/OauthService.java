@@ -9,16 +9,22 @@ import com.bobeat.backend.domain.security.auth.service.JwtService;
 import com.bobeat.backend.domain.security.oauth.dto.OAuth2UserInfo;
 import com.bobeat.backend.domain.security.oauth.dto.request.SocialLoginRequest;
 import com.bobeat.backend.domain.security.oauth.service.OAuth2Factory;
+import com.bobeat.backend.domain.security.oauth.service.OAuthCallGuard;
 import com.bobeat.backend.domain.security.oauth.service.OAuth2Service;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 소셜 로그인
+ * <p>
+ * 프로바이더 호출(논블로킹, 프로바이더별 제한 시간/bulkhead) → 회원 조회/가입 + 토큰 발급(가상 스레드, 짧은 트랜잭션)을 하나의
+ * 파이프라인으로 조합한다. 외부 응답을 기다리는 동안 요청 스레드와 DB 커넥션을 점유하지 않는다.
+ */
 @Service
-@RequiredArgsConstructor
-@Transactional
 @Slf4j
 public class OauthService {
 
@@ -26,18 +32,33 @@ public class OauthService {
     private final OAuth2Factory oAuth2Factory;
     private final JwtService jwtService;
     private final NicknameGenerator nicknameGenerator;
+    private final OAuthCallGuard oAuthCallGuard;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${profile.default-image}")
     private String defaultProfileImage;
 
-    @Transactional
-    public AuthResponse login(SocialLoginRequest request) {
-        OAuth2Service oAuth2Service = oAuth2Factory.getProvider(request.provider());
-        OAuth2UserInfo userInfo = oAuth2Service.getUser(request.oAuthToken());
+    public OauthService(MemberRepository memberRepository,
+                        OAuth2Factory oAuth2Factory,
+                        JwtService jwtService,
+                        NicknameGenerator nicknameGenerator,
+                        OAuthCallGuard oAuthCallGuard,
+                        PlatformTransactionManager transactionManager) {
+        this.memberRepository = memberRepository;
+        this.oAuth2Factory = oAuth2Factory;
+        this.jwtService = jwtService;
+        this.nicknameGenerator = nicknameGenerator;
+        this.oAuthCallGuard = oAuthCallGuard;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
-        Member member = findOrSignUp(userInfo);
+    public CompletableFuture<AuthResponse> login(SocialLoginRequest request) {
+        OAuth2Service oAuth2Service = oAuth2Factory.getProvider(request.provider());
 
-        return jwtService.generateTokens(member);
+        return oAuth2Service.getUser(request.oAuthToken())
+                .flatMap(userInfo -> oAuthCallGuard.blocking(() -> transactionTemplate.execute(
+                        status -> jwtService.generateTokens(findOrSignUp(userInfo)))))
+                .toFuture();
     }
 
     private Member findOrSignUp(OAuth2UserInfo userInfo) {
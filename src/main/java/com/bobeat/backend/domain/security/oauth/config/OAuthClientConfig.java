@@ -0,0 +1,75 @@
+package com.bobeat.backend.domain.security.oauth.config;
+
+import com.bobeat.backend.domain.member.entity.SocialProvider;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 소셜 로그인 외부 호출 설정
+ * application.yml의 oauth.client 하위에서 관리
+ */
+@Configuration
+@ConfigurationProperties(prefix = "oauth.client")
+@Getter
+@Setter
+public class OAuthClientConfig {
+
+    /**
+     * 로그인 전용 커넥션 풀의 최대 커넥션 수 (다른 외부 API 호출과 풀을 나눠 로그인이 몰려도 서로 영향이 없도록 함)
+     */
+    private Integer maxConnections = 50;
+
+    /**
+     * 커넥션을 기다리는 요청 최대 수 - 넘으면 바로 실패
+     */
+    private Integer pendingAcquireMaxCount = 100;
+
+    /**
+     * 커넥션 대기 제한 시간 (밀리초)
+     */
+    private Long pendingAcquireTimeoutMillis = 1000L;
+
+    /**
+     * 연결 제한 시간 (밀리초)
+     */
+    private Integer connectTimeoutMillis = 2000;
+
+    /**
+     * 회원 조회/가입 + 토큰 발급을 동시에 처리하는 최대 수 (로그인이 몰려도 검색이 쓸 DB 커넥션을 남겨둠)
+     */
+    private Integer maxConcurrentLoginWrites = 8;
+
+    private Provider kakao = new Provider(3000L, 50);
+
+    private Provider google = new Provider(3000L, 50);
+
+    private Provider apple = new Provider(5000L, 20);
+
+    public Provider getProvider(SocialProvider socialProvider) {
+        return switch (socialProvider) {
+            case KAKAO -> kakao;
+            case GOOGLE -> google;
+            case APPLE -> apple;
+        };
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Provider {
+        /**
+         * 호출 한 번의 제한 시간 (밀리초)
+         */
+        private Long timeoutMillis;
+
+        /**
+         * 동시에 진행 중인 호출 최대 수 (bulkhead) - 넘으면 기다리지 않고 바로 실패
+         */
+        private Integer maxConcurrentCalls;
+    }
+}
@@ -1,5 +1,6 @@
 package com.bobeat.backend.domain.security.oauth.service;
 
+import com.bobeat.backend.domain.member.entity.SocialProvider;
 import com.bobeat.backend.domain.security.oauth.domain.ApplePublicKey;
 import com.bobeat.backend.domain.security.oauth.dto.AppleUserInfo;
 import com.bobeat.backend.domain.security.oauth.dto.OAuth2UserInfo;
@@ -27,6 +28,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 @Service
 @RequiredArgsConstructor
@@ -34,33 +36,19 @@ import org.springframework.web.reactive.function.client.WebClient;
 public class AppleService implements OAuth2Service {
 
     private static final String APPLE_KEY_ENDPOINT = "https://appleid.apple.com/auth/keys";
-    private final WebClient webClient;
+    private final WebClient oauthWebClient;
+    private final OAuthCallGuard oAuthCallGuard;
     private final ApplePublicKeyRepository applePublicKeyRepository;
 
+    /**
+     * 저장된 공개키로 먼저 검증하고, 맞는 키가 없으면(키 교체 직후) 애플 공개키를 새로 받아 검증
+     */
     @Override
-    public OAuth2UserInfo getUser(String idToken) {
-        List<ApplePublicKey> applePublicKeys = applePublicKeyRepository.findAll();
-        for (ApplePublicKey storedKey : applePublicKeyRepository.findAll()) {
-            RSAPublicKey rsaKey = decodingRSAKey(storedKey.getEncodedPublicKey());
-            OAuth2UserInfo oAuth2UserInfo = validateToken(idToken, rsaKey);
-            if (oAuth2UserInfo != null) {
-                return oAuth2UserInfo;
-            }
-        }
-
-        List<JsonNode> freshKeys = fetchAppleKeyEndpoint();
-        for (JsonNode node : freshKeys) {
-            String n = node.get("n").asText();
-            String e = node.get("e").asText();
-            RSAPublicKey rsaKey = generateRSAPublicKey(n, e);
-
-            OAuth2UserInfo oAuth2UserInfo = validateToken(idToken, rsaKey);
-            if (oAuth2UserInfo != null) {
-                return oAuth2UserInfo;
-            }
-        }
-
-        throw new CustomException(ErrorCode.APPLE_TOKEN_VALIDATION_FAIL);
+    public Mono<OAuth2UserInfo> getUser(String idToken) {
+        return oAuthCallGuard.blocking(() -> validateWithStoredKeys(idToken))
+                .switchIfEmpty(Mono.defer(() -> fetchAppleKeyEndpoint()
+                        .mapNotNull(freshKeys -> validateWithFreshKeys(idToken, freshKeys))))
+                .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.APPLE_TOKEN_VALIDATION_FAIL)));
     }
 
     @Scheduled(cron = "0 0 */6 * * *")
@@ -68,7 +56,7 @@ public class AppleService implements OAuth2Service {
     public void refreshAppleKeys() {
         applePublicKeyRepository.deleteAll();
 
-        List<JsonNode> jsonNodes = fetchAppleKeyEndpoint();
+        List<JsonNode> jsonNodes = fetchAppleKeyEndpoint().block();
 
         List<ApplePublicKey> applePublicKeys = jsonNodes.stream()
                 .map(jsonNode -> {
@@ -106,8 +94,29 @@ public class AppleService implements OAuth2Service {
         return null;
     }
 
-    private List<JsonNode> fetchAppleKeyEndpoint() {
-        return webClient.get()
+    private OAuth2UserInfo validateWithStoredKeys(String idToken) {
+        for (ApplePublicKey storedKey : applePublicKeyRepository.findAll()) {
+            RSAPublicKey rsaKey = decodingRSAKey(storedKey.getEncodedPublicKey());
+            OAuth2UserInfo oAuth2UserInfo = validateToken(idToken, rsaKey);
+            if (oAuth2UserInfo != null) {
+                return oAuth2UserInfo;
+            }
+        }
+        return null;
+    }
+
+    private OAuth2UserInfo validateWithFreshKeys(String idToken, List<JsonNode> freshKeys) {
+        for (JsonNode node : freshKeys) {
+            OAuth2UserInfo oAuth2UserInfo = validateToken(idToken, generateRSAPublicKey(node));
+            if (oAuth2UserInfo != null) {
+                return oAuth2UserInfo;
+            }
+        }
+        return null;
+    }
+
+    private Mono<List<JsonNode>> fetchAppleKeyEndpoint() {
+        Mono<List<JsonNode>> request = oauthWebClient.get()
                 .uri(APPLE_KEY_ENDPOINT)
                 .retrieve()
                 .bodyToMono(JsonNode.class)
@@ -115,8 +124,8 @@ public class AppleService implements OAuth2Service {
                     List<JsonNode> list = new ArrayList<>();
                     jsonNode.get("keys").forEach(list::add);
                     return list;
-                })
-                .block();
+                });
+        return oAuthCallGuard.call(SocialProvider.APPLE, request);
     }
 
     private RSAPublicKey generateRSAPublicKey(JsonNode jsonNode) {
@@ -1,5 +1,6 @@
 package com.bobeat.backend.domain.security.oauth.service;
 
+import com.bobeat.backend.domain.member.entity.SocialProvider;
 import com.bobeat.backend.domain.security.oauth.dto.GoogleUserInfo;
 import com.bobeat.backend.domain.security.oauth.dto.OAuth2UserInfo;
 import com.bobeat.backend.global.exception.CustomException;
@@ -9,34 +10,32 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class GoogleService implements OAuth2Service {
 
-    private final WebClient webClient;
+    private final WebClient oauthWebClient;
+    private final OAuthCallGuard oAuthCallGuard;
 
     private static final String USER_INFO_URI = "https://www.googleapis.com/oauth2/v2/userinfo";
 
     @Override
-    public OAuth2UserInfo getUser(String accessToken) {
-        try {
-            JsonNode response = webClient.get()
-                    .uri(USER_INFO_URI)
-                    .header("Authorization", "Bearer " + accessToken)
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .block();
+    public Mono<OAuth2UserInfo> getUser(String accessToken) {
+        Mono<JsonNode> request = oauthWebClient.get()
+                .uri(USER_INFO_URI)
+                .header("Authorization", "Bearer " + accessToken)
+                .retrieve()
+                .bodyToMono(JsonNode.class);
 
-            if (response == null) {
-                throw new CustomException(ErrorCode.GOOGLE_TOKEN_VALIDATION_FAIL);
-            }
-
-            return GoogleUserInfo.from(response);
-        } catch (Exception e) {
-            log.error("구글 사용자 정보 조회 실패", e);
-            throw new CustomException(ErrorCode.GOOGLE_TOKEN_VALIDATION_FAIL);
-        }
+        return oAuthCallGuard.call(SocialProvider.GOOGLE, request)
+                .<OAuth2UserInfo>map(GoogleUserInfo::from)
+                .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.GOOGLE_TOKEN_VALIDATION_FAIL)))
+                .onErrorMap(e -> !(e instanceof CustomException), e -> {
+                    log.error("구글 사용자 정보 조회 실패", e);
+                    return new CustomException(ErrorCode.GOOGLE_TOKEN_VALIDATION_FAIL);
+                });
     }
-} 
+}
@@ -1,6 +1,6 @@
 package com.bobeat.backend.domain.security.oauth.service;
 
-import com.bobeat.backend.domain.member.repository.MemberRepository;
+import com.bobeat.backend.domain.member.entity.SocialProvider;
 import com.bobeat.backend.domain.security.oauth.dto.KakaoUserInfo;
 import com.bobeat.backend.domain.security.oauth.dto.OAuth2UserInfo;
 import com.bobeat.backend.global.exception.CustomException;
@@ -10,34 +10,32 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class KakaoService implements OAuth2Service {
 
-    private final WebClient webClient;
+    private final WebClient oauthWebClient;
+    private final OAuthCallGuard oAuthCallGuard;
 
     private static final String USER_INFO_URI = "https://kapi.kakao.com/v2/user/me";
 
     @Override
-    public OAuth2UserInfo getUser(String accessToken) {
-        try {
-            JsonNode response = webClient.get()
-                    .uri(USER_INFO_URI)
-                    .header("Authorization", "Bearer " + accessToken)
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .block();
+    public Mono<OAuth2UserInfo> getUser(String accessToken) {
+        Mono<JsonNode> request = oauthWebClient.get()
+                .uri(USER_INFO_URI)
+                .header("Authorization", "Bearer " + accessToken)
+                .retrieve()
+                .bodyToMono(JsonNode.class);
 
-            if (response == null) {
-                throw new CustomException(ErrorCode.KAKAO_TOKEN_VALIDATION_FAIL);
-            }
-
-            return KakaoUserInfo.from(response);
-        } catch (Exception e) {
-            log.error("카카오 사용자 정보 조회 실패", e);
-            throw new CustomException(ErrorCode.KAKAO_TOKEN_VALIDATION_FAIL);
-        }
+        return oAuthCallGuard.call(SocialProvider.KAKAO, request)
+                .<OAuth2UserInfo>map(KakaoUserInfo::from)
+                .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.KAKAO_TOKEN_VALIDATION_FAIL)))
+                .onErrorMap(e -> !(e instanceof CustomException), e -> {
+                    log.error("카카오 사용자 정보 조회 실패", e);
+                    return new CustomException(ErrorCode.KAKAO_TOKEN_VALIDATION_FAIL);
+                });
     }
-} 
+}
@@ -1,8 +1,12 @@
 package com.bobeat.backend.domain.security.oauth.service;
 
 import com.bobeat.backend.domain.security.oauth.dto.OAuth2UserInfo;
+import reactor.core.publisher.Mono;
 
 public interface OAuth2Service {
 
-    OAuth2UserInfo getUser(String accessToken);
+    /**
+     * 소셜 토큰으로 사용자 정보 조회 (응답을 기다리는 동안 스레드를 점유하지 않음)
+     */
+    Mono<OAuth2UserInfo> getUser(String accessToken);
 }
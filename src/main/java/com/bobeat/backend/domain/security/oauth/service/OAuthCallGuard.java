@@ -0,0 +1,116 @@
+package com.bobeat.backend.domain.security.oauth.service;
+
+import static com.bobeat.backend.global.exception.ErrorCode.OAUTH_PROVIDER_BUSY;
+import static com.bobeat.backend.global.exception.ErrorCode.OAUTH_PROVIDER_TIMEOUT;
+
+import com.bobeat.backend.domain.member.entity.SocialProvider;
+import com.bobeat.backend.domain.security.oauth.config.OAuthClientConfig;
+import com.bobeat.backend.global.exception.CustomException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 소셜 로그인 파이프라인의 제한 장치
+ * <p>
+ * - 외부 호출(call): 프로바이더별 제한 시간 + 동시 호출 수 제한(bulkhead). 자리가 없으면 기다리지 않고 OAUTH_PROVIDER_BUSY,
+ *   시간을 넘기면 OAUTH_PROVIDER_TIMEOUT. 응답을 기다리는 동안에는 어떤 스레드도 점유하지 않는다.
+ * - DB 작업(blocking): JPA 같은 블로킹 작업을 가상 스레드에서 실행하고 동시 실행 수를 maxConcurrentLoginWrites로 제한해
+ *   로그인이 몰려도 다른 요청이 쓸 커넥션을 남겨둔다.
+ * <p>
+ * 지표: oauth.provider.call(provider, result=success/error/timeout/rejected)
+ */
+@Slf4j
+@Component
+public class OAuthCallGuard {
+
+    private final OAuthClientConfig config;
+    private final MeterRegistry meterRegistry;
+    private final Map<SocialProvider, Semaphore> providerPermits = new EnumMap<>(SocialProvider.class);
+    private final Semaphore writePermits;
+    private final ExecutorService blockingExecutor;
+    private final Scheduler blockingScheduler;
+
+    public OAuthCallGuard(OAuthClientConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        for (SocialProvider provider : SocialProvider.values()) {
+            providerPermits.put(provider, new Semaphore(config.getProvider(provider).getMaxConcurrentCalls()));
+        }
+        this.writePermits = new Semaphore(config.getMaxConcurrentLoginWrites());
+        this.blockingExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("oauth-", 0).factory());
+        this.blockingScheduler = Schedulers.fromExecutorService(blockingExecutor, "oauth");
+    }
+
+    /**
+     * 프로바이더 호출에 제한 시간과 bulkhead 적용 (구독 시점에 자리를 잡고 완료/실패/취소 시 반납)
+     */
+    public <T> Mono<T> call(SocialProvider provider, Mono<T> request) {
+        OAuthClientConfig.Provider providerConfig = config.getProvider(provider);
+        Semaphore permits = providerPermits.get(provider);
+
+        return Mono.defer(() -> {
+            if (!permits.tryAcquire()) {
+                record(provider, "rejected", 0L);
+                log.warn("OAuth provider bulkhead full. provider={}", provider);
+                return Mono.error(new CustomException(OAUTH_PROVIDER_BUSY));
+            }
+            long start = System.nanoTime();
+            return request
+                    .timeout(Duration.ofMillis(providerConfig.getTimeoutMillis()))
+                    .doOnSuccess(result -> record(provider, "success", System.nanoTime() - start))
+                    .onErrorMap(TimeoutException.class, e -> {
+                        record(provider, "timeout", System.nanoTime() - start);
+                        log.warn("OAuth provider timed out. provider={}, timeoutMillis={}", provider,
+                                providerConfig.getTimeoutMillis());
+                        return new CustomException(OAUTH_PROVIDER_TIMEOUT);
+                    })
+                    .doOnError(e -> !(e instanceof CustomException), e -> record(provider, "error", System.nanoTime() - start))
+                    .doFinally(signal -> permits.release());
+        });
+    }
+
+    /**
+     * 블로킹 작업을 가상 스레드에서 실행 (동시 실행 수 제한, 자리가 날 때까지 가상 스레드가 대기)
+     */
+    public <T> Mono<T> blocking(Callable<T> task) {
+        return Mono.fromCallable(() -> {
+            writePermits.acquire();
+            try {
+                return task.call();
+            } finally {
+                writePermits.release();
+            }
+        }).subscribeOn(blockingScheduler);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        blockingScheduler.dispose();
+        blockingExecutor.shutdownNow();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void record(SocialProvider provider, String result, long elapsedNanos) {
+        Timer.builder("oauth.provider.call")
+                .tag("provider", provider.name())
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,96 @@
+package com.bobeat.backend.domain.store.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 임베딩 생성 설정
+ * application.yml의 store.embedding 하위에서 관리
+ */
+@Configuration
+@ConfigurationProperties(prefix = "store.embedding")
+@Getter
+@Setter
+public class EmbeddingConfig {
+
+    /**
+     * 사용할 임베딩 제공자 (clova: CLOVA Studio API, stub: 외부 호출 없는 로컬 결정적 벡터)
+     */
+    private String provider = "clova";
+
+    /**
+     * 첫 요청이 들어온 뒤 같은 배치로 묶을 요청을 기다리는 시간 (밀리초)
+     */
+    private Long batchWindowMillis = 5L;
+
+    /**
+     * 한 배치에 담을 최대 텍스트 수 (제공자 한도와 작은 값 사용)
+     */
+    private Integer maxBatchSize = 16;
+
+    /**
+     * 제공자에 동시에 보낼 수 있는 최대 배치 수
+     */
+    private Integer maxConcurrency = 4;
+
+    /**
+     * 대기열 최대 크기 - 넘치면 바로 거절해 요청 스레드가 무한정 쌓이지 않도록 함
+     */
+    private Integer maxQueueSize = 1000;
+
+    /**
+     * 요청 하나가 결과를 기다리는 최대 시간 (밀리초, 대기열 + 제공자 호출)
+     */
+    private Long timeoutMillis = 10_000L;
+
+    /**
+     * 스텁 제공자 벡터 차원
+     */
+    private Integer stubDimension = 1024;
+
+    /**
+     * 스텁 제공자 배치당 응답 지연 (밀리초)
+     */
+    private Long stubLatencyMillis = 0L;
+
+    /**
+     * 가게 임베딩 작업 큐 설정
+     */
+    private Job job = new Job();
+
+    @Getter
+    @Setter
+    public static class Job {
+        /**
+         * 워커가 한 번에 가져갈 작업 수
+         */
+        private Integer batchSize = 32;
+
+        /**
+         * 동시에 처리할 작업 묶음 수 (embeddingTaskExecutor에서 실행)
+         */
+        private Integer workerConcurrency = 2;
+
+        /**
+         * 최대 시도 횟수 - 넘기면 FAILED로 남기고 관리자 재시도를 기다린다
+         */
+        private Integer maxAttempts = 5;
+
+        /**
+         * 첫 재시도 간격 (초) - 시도할 때마다 두 배
+         */
+        private Long backoffSeconds = 30L;
+
+        /**
+         * 재시도 간격 상한 (초)
+         */
+        private Long maxBackoffSeconds = 3600L;
+
+        /**
+         * IN_PROGRESS 상태로 이 시간(분) 넘게 남은 작업은 워커 중단으로 보고 다시 대기 상태로
+         */
+        private Long staleMinutes = 10L;
+    }
+}
@@ -20,6 +20,11 @@ import java.util.stream.Collectors;
 @Setter
 public class StoreScoringConfig {
 
+    /**
+     * 가중치 설정이 없는 카테고리의 비율
+     */
+    public static final double DEFAULT_CATEGORY_WEIGHT_RATIO = 0.5;
+
     /**
      * 혼밥레벨 가중치 (최대 점수)
      */
@@ -52,15 +57,64 @@ public class StoreScoringConfig {
      */
     private CompositeScoreConfig composite = new CompositeScoreConfig();
 
-    private Map<String, Double> categoryWeightMap;
+    /**
+     * 의미 + 위치 하이브리드 검색 점수 설정 (검색어 검색 정렬용)
+     */
+    private HybridScoreConfig hybrid = new HybridScoreConfig();
+
+    /**
+     * 점수 계산 방식
+     * - JAVA: 가게를 읽어 애플리케이션에서 계산 후 저장 (기본값)
+     * - SQL: 가중치를 파라미터로 넘겨 DB에서 UPDATE ... FROM 한 번으로 계산 (데이터를 JVM으로 옮기지 않음)
+     */
+    private Engine engine = Engine.JAVA;
+
+    /**
+     * 전체 점수 재계산 시 한 트랜잭션에서 처리할 가게 수
+     */
+    private Integer recalculationChunkSize = 1000;
+
+    /**
+     * 요약 컬럼(메뉴/좌석)이 비어 있는 가게를 보정할 때 한 트랜잭션에서 처리할 가게 수
+     */
+    private Integer summaryChunkSize = 500;
+
+    /**
+     * 재계산 대상(store_score_dirty) 가게를 한 트랜잭션에서 처리할 수
+     */
+    private Integer dirtyBatchSize = 200;
+
+    /**
+     * 재계산 대상 처리 주기마다 최대 배치 수 (나머지는 다음 주기에 처리)
+     */
+    private Integer dirtyMaxBatchesPerPoll = 50;
+
+    /**
+     * 병렬 점수 계산 스레드 수 (1이면 순차 계산)
+     */
+    private Integer parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 병렬 점수 계산 시 한 작업이 맡는 최소 가게 수 (이보다 적으면 나누지 않음)
+     */
+    private Integer parallelLeafSize = 256;
+
+    // 병렬 계산 스레드에서 함께 읽으므로 volatile (동시에 만들어도 같은 내용)
+    private volatile Map<String, Double> categoryWeightMap;
 
     public double getCategoryWeightRatio(String category) {
-        if (this.categoryWeightMap == null) {
-            this.categoryWeightMap = categoryWeights.stream()
+        Map<String, Double> weightMap = this.categoryWeightMap;
+        if (weightMap == null) {
+            weightMap = categoryWeights.stream()
                     .collect(Collectors.toMap(CategoryWeightItem::getName, CategoryWeightItem::getRatio));
+            this.categoryWeightMap = weightMap;
         }
 
-        return categoryWeightMap.getOrDefault(category, 0.5);
+        return weightMap.getOrDefault(category, DEFAULT_CATEGORY_WEIGHT_RATIO);
+    }
+
+    public enum Engine {
+        JAVA, SQL
     }
 
     @Getter
@@ -117,4 +171,33 @@ public class StoreScoringConfig {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Getter
+    @Setter
+    public static class HybridScoreConfig {
+        /**
+         * 하이브리드 검색 사용 여부 (false면 전국 대상 벡터 유사도 순)
+         */
+        private Boolean enabled = true;
+
+        /**
+         * 임베딩 유사도 가중치 (0.0 ~ 1.0)
+         */
+        private Double similarityWeight = 0.6;
+
+        /**
+         * 거리 가중치 (0.0 ~ 1.0)
+         */
+        private Double distanceWeight = 0.25;
+
+        /**
+         * 내부 점수 가중치 (0.0 ~ 1.0)
+         */
+        private Double internalScoreWeight = 0.15;
+
+        /**
+         * 후보 검색 반경 (미터) - 이 밖의 가게는 결과에 포함하지 않고, 거리 점수도 이 반경 기준으로 정규화
+         */
+        private Integer searchRadius = 5000;
+    }
+}
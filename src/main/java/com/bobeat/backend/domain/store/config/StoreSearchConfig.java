@@ -0,0 +1,219 @@
+package com.bobeat.backend.domain.store.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가게 검색 설정
+ * application.yml의 store.search 하위에서 관리
+ */
+@Configuration
+@ConfigurationProperties(prefix = "store.search")
+@Getter
+@Setter
+public class StoreSearchConfig {
+
+    /**
+     * 인메모리 공간 인덱스 설정
+     */
+    private GeoIndex geoIndex = new GeoIndex();
+
+    /**
+     * 검색 카드 스냅샷 설정
+     */
+    private CardSnapshot cardSnapshot = new CardSnapshot();
+
+    /**
+     * 인메모리 벡터(HNSW) 인덱스 설정
+     */
+    private VectorIndex vectorIndex = new VectorIndex();
+
+    /**
+     * DB(pgvector) ANN 인덱스 설정
+     */
+    private PgvectorIndex pgvectorIndex = new PgvectorIndex();
+
+    /**
+     * 검색어 임베딩 캐시 설정
+     */
+    private QueryEmbeddingCache queryEmbeddingCache = new QueryEmbeddingCache();
+
+    /**
+     * 어휘(2-gram) 검색 + RRF 결합 설정
+     */
+    private Lexical lexical = new Lexical();
+
+    @Getter
+    @Setter
+    public static class GeoIndex {
+        /**
+         * 공간 인덱스 사용 여부 (false면 항상 PostGIS 쿼리)
+         */
+        private Boolean enabled = true;
+
+        /**
+         * 격자 한 칸의 크기 (도 단위, 0.01도 ≒ 1.1km)
+         */
+        private Double cellSizeDegrees = 0.01;
+    }
+
+    @Getter
+    @Setter
+    public static class CardSnapshot {
+        /**
+         * 스냅샷 사용 여부 (false면 매 검색마다 DB에서 카드 조회)
+         */
+        private Boolean enabled = true;
+
+        /**
+         * 전체 재적재 시 한 번에 조회할 가게 수
+         */
+        private Integer rebuildChunkSize = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class VectorIndex {
+        /**
+         * 벡터 인덱스 사용 여부 (false면 항상 pgvector 쿼리)
+         */
+        private Boolean enabled = true;
+
+        /**
+         * 노드당 이웃 수 (레벨 0은 2배) - 클수록 재현율/메모리 증가
+         */
+        private Integer m = 16;
+
+        /**
+         * 구축 시 후보 집합 크기 - 클수록 그래프 품질이 좋아지고 구축이 느려짐
+         */
+        private Integer efConstruction = 128;
+
+        /**
+         * 검색 시 후보 집합 크기 - 클수록 재현율이 높아지고 검색이 느려짐
+         */
+        private Integer efSearch = 64;
+
+        /**
+         * 전체 재적재 시 한 번에 조회할 임베딩 수
+         */
+        private Integer loadChunkSize = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class PgvectorIndex {
+        /**
+         * 앱이 store_embedding.embedding 인덱스를 생성/재구축할지 여부
+         */
+        private Boolean managed = true;
+
+        /**
+         * 인덱스 종류 (HNSW: 검색 품질/속도 우선, IVFFLAT: 구축 속도/메모리 우선)
+         */
+        private IndexType type = IndexType.HNSW;
+
+        /**
+         * HNSW 노드당 이웃 수
+         */
+        private Integer m = 16;
+
+        /**
+         * HNSW 구축 시 후보 집합 크기
+         */
+        private Integer efConstruction = 64;
+
+        /**
+         * IVFFLAT 클러스터 수 (권장: 행 수 / 1000)
+         */
+        private Integer lists = 100;
+
+        /**
+         * 쿼리마다 적용하는 hnsw.ef_search
+         */
+        private Integer efSearch = 40;
+
+        /**
+         * 쿼리마다 적용하는 ivfflat.probes
+         */
+        private Integer probes = 10;
+
+        /**
+         * hnsw.iterative_scan (pgvector 0.8 이상, 예: strict_order)
+         * 커서 조건(WHERE 거리 > 마지막 거리)으로 걸러지는 행이 ef_search보다 많아도 결과가 모자라지 않도록 인덱스를 이어서 탐색한다.
+         * 비워두면 설정하지 않고, 커서 페이지 결과가 모자라면 ef_search를 넓혀(최대 1000) 다시 조회한다.
+         */
+        private String iterativeScan;
+
+        /**
+         * 인덱스 구축 세션의 maintenance_work_mem
+         */
+        private String maintenanceWorkMem = "512MB";
+
+        /**
+         * 재현율 측정 시 샘플 질의 수
+         */
+        private Integer recallSampleSize = 20;
+
+        /**
+         * 재현율 측정 기준 상위 k
+         */
+        private Integer recallK = 10;
+
+        public enum IndexType {
+            HNSW,
+            IVFFLAT
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class QueryEmbeddingCache {
+        /**
+         * 캐시 최대 크기 (바이트) - 1024차원 임베딩 1건이 약 4KB이므로 기본값 64MB ≒ 1.5만 건
+         */
+        private Long maximumWeightBytes = 64L * 1024 * 1024;
+
+        /**
+         * 마지막 조회 후 만료 시간 (분) - 자주 찾는 검색어는 계속 메모리에 남는다
+         */
+        private Long expireAfterAccessMinutes = 24 * 60L;
+
+        /**
+         * 임베딩 생성 실패를 기억하는 시간 (초) - 이 시간 동안 같은 검색어는 외부 API를 다시 호출하지 않고 바로 실패
+         */
+        private Long negativeTtlSeconds = 30L;
+    }
+
+    @Getter
+    @Setter
+    public static class Lexical {
+        /**
+         * 어휘 검색 사용 여부 (false면 하이브리드 벡터 검색만 사용)
+         */
+        private Boolean enabled = true;
+
+        /**
+         * 어휘/벡터 검색 각각에서 가져올 후보 수 (결합 결과의 최대 페이지 범위)
+         */
+        private Integer candidateLimit = 100;
+
+        /**
+         * RRF 상수 k - 점수는 각 순위 목록의 1 / (k + 순위) 합
+         */
+        private Integer rrfK = 60;
+
+        /**
+         * 어휘 1위 점수가 이 값 이상이면 임베딩 조회 없이 어휘 결과만 사용
+         * 기본값 0.9: 가게명에 검색어가 그대로 포함되거나 메뉴명이 검색어와 같은 경우
+         */
+        private Double fastPathScore = 0.9;
+
+        /**
+         * 후보로 인정하는 검색어 2-gram 최소 포함 비율
+         */
+        private Double minCoverage = 0.5;
+    }
+}
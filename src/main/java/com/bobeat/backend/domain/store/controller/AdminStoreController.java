@@ -2,6 +2,8 @@ package com.bobeat.backend.domain.store.controller;
 
 import com.bobeat.backend.domain.store.dto.request.StoreCreateRequest;
 import com.bobeat.backend.domain.store.dto.response.KakaoStoreResponse;
+import com.bobeat.backend.domain.store.dto.response.StoreBulkImportResponse;
+import com.bobeat.backend.domain.store.service.StoreBulkImportService;
 import com.bobeat.backend.domain.store.service.StoreCrawlingService;
 import com.bobeat.backend.domain.store.service.StoreCreateService;
 import com.bobeat.backend.domain.store.service.StoreDeleteService;
@@ -12,6 +14,7 @@ import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -19,8 +22,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 @Tag(name = "어드민 가게 관리", description = "어드민을 위한 가게 관리 API")
 @RestController
@@ -31,6 +36,7 @@ public class AdminStoreController {
     private final StoreCreateService storeCreateService;
     private final StoreDeleteService storeDeleteService;
     private final StoreCrawlingService storeCrawlingService;
+    private final StoreBulkImportService storeBulkImportService;
 
     @Operation(summary = "가게 등록", description = "어드민이 새로운 가게를 등록합니다.")
     @PostMapping
@@ -40,6 +46,27 @@ public class AdminStoreController {
         return ApiResponse.success(storeIds);
     }
 
+    @Operation(summary = "가게 대량 등록 (JSON)",
+            description = "수천 건의 가게를 한 번에 등록합니다. 잘못되었거나 이미 등록된 가게는 건너뛰고 사유를 반환하며, "
+                    + "점수 계산과 임베딩 생성은 백그라운드에서 진행됩니다.")
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<StoreBulkImportResponse> importStores(@RequestBody List<StoreCreateRequest> requests) {
+        StoreBulkImportResponse response = storeBulkImportService.importStores(requests);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "가게 대량 등록 (CSV)",
+            description = "UTF-8 CSV 파일로 가게를 등록합니다. 헤더: name,address,latitude,longitude,phoneNumber,description,"
+                    + "honbobLevel,primaryCategory,storeImages,menus,seatOptions "
+                    + "(목록은 ';', 항목 값은 '|'로 구분 - menus: 이름|가격|이미지URL, seatOptions: 좌석타입|이미지URL)")
+    @PostMapping(value = "/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<StoreBulkImportResponse> importStoresFromCsv(@RequestPart("file") MultipartFile file) {
+        StoreBulkImportResponse response = storeBulkImportService.importCsv(file);
+        return ApiResponse.success(response);
+    }
+
     @Operation(summary = "가게 탐색", description = "어드민이 새로운 가게 정보를 탐색합니다")
     @GetMapping
     public ApiResponse<KakaoStoreResponse> findStore(@RequestParam("storeName") String storeName) {
@@ -1,13 +1,23 @@
 package com.bobeat.backend.domain.store.controller;
 
+import com.bobeat.backend.domain.store.entity.EmbeddingStatus;
+import com.bobeat.backend.domain.store.service.StoreEmbeddingIndexService;
+import com.bobeat.backend.domain.store.service.StoreEmbeddingIndexService.IndexStatus;
+import com.bobeat.backend.domain.store.service.StoreEmbeddingIndexService.RecallResult;
+import com.bobeat.backend.domain.store.service.StoreEmbeddingJobService;
 import com.bobeat.backend.domain.store.service.StoreScoreCalculator;
+import com.bobeat.backend.domain.store.service.StoreScoreRecalculationService;
+import com.bobeat.backend.domain.store.service.StoreScoreRecalculationService.Progress;
 import com.bobeat.backend.global.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -21,44 +31,108 @@ import org.springframework.web.bind.annotation.RestController;
 public class StoreAdminController {
 
     private final StoreScoreCalculator storeScoreCalculator;
+    private final StoreScoreRecalculationService storeScoreRecalculationService;
+    private final StoreEmbeddingIndexService storeEmbeddingIndexService;
+    private final StoreEmbeddingJobService storeEmbeddingJobService;
 
     @Operation(
         summary = "전체 식당 점수 재계산",
-        description = "모든 식당의 내부 정렬 점수를 강제로 재계산합니다. " +
+        description = "모든 식당의 내부 정렬 점수를 백그라운드에서 재계산합니다. " +
                      "내부 정렬 로직이 변경되었을 때 사용합니다. " +
-                     "기존 점수 여부와 관계없이 모든 식당을 재계산합니다."
+                     "가게 ID 순으로 청크마다 커밋하며, 이전 재계산이 끝나지 않았으면 마지막 체크포인트부터 이어서 진행합니다. " +
+                     "restart=true면 처음부터 다시 계산합니다. 진행 상황은 GET 같은 경로로 조회합니다."
     )
     @PostMapping("/scores/recalculate")
-    public ApiResponse<RecalculateResponse> recalculateAllScores() {
-        log.info("Admin API: Starting full recalculation of all store scores");
-
-        int updatedCount = storeScoreCalculator.calculateAndUpdateAllScores();
-        log.info("Admin API: Successfully recalculated {} store scores", updatedCount);
+    public ApiResponse<RebuildResponse> recalculateAllScores(
+            @RequestParam(name = "restart", defaultValue = "false") boolean restart) {
+        if (storeScoreRecalculationService.isRunning()) {
+            return ApiResponse.success(new RebuildResponse("이미 점수를 재계산 중입니다.", false));
+        }
+        log.info("Admin API: Starting full recalculation of all store scores (restart={})", restart);
+        storeScoreRecalculationService.recalculateAsync(restart);
+        return ApiResponse.success(new RebuildResponse("전체 식당 점수 재계산을 시작했습니다.", true));
+    }
 
-        return ApiResponse.success(new RecalculateResponse(
-            "전체 식당 점수 재계산이 완료되었습니다.",
-            updatedCount
-        ));
+    @Operation(
+        summary = "전체 식당 점수 재계산 진행 상황",
+        description = "마지막 재계산의 상태, 처리한 가게 수/전체 가게 수, 마지막 체크포인트, 오류를 조회합니다."
+    )
+    @GetMapping("/scores/recalculate")
+    public ApiResponse<Progress> getRecalculationProgress() {
+        return ApiResponse.success(storeScoreRecalculationService.getProgress());
     }
 
     @Operation(
         summary = "대기 중인 식당 점수 계산",
-        description = "점수가 없거나 업데이트 플래그가 켜진 식당들만 계산합니다. " +
-                     "증분 업데이트 방식으로 빠르게 처리됩니다."
+        description = "점수가 없는 식당들을 재계산 대상으로 등록합니다. " +
+                     "등록된 식당은 스케줄러가 배치 단위로 나눠 계산합니다."
     )
     @PostMapping("/scores/calculate-pending")
     public ApiResponse<RecalculateResponse> calculatePendingScores() {
-        log.info("Admin API: Starting incremental score calculation for pending stores");
+        log.info("Admin API: Marking pending stores for score calculation");
 
-        int updatedCount = storeScoreCalculator.calculateAndUpdatePendingScores();
-        log.info("Admin API: Successfully calculated {} pending store scores", updatedCount);
+        int markedCount = storeScoreCalculator.markPendingScores();
 
         return ApiResponse.success(new RecalculateResponse(
-            "대기 중인 식당 점수 계산이 완료되었습니다.",
-            updatedCount
+            "점수가 없는 식당을 재계산 대상으로 등록했습니다. 순차적으로 계산됩니다.",
+            markedCount
         ));
     }
 
+    @Operation(
+        summary = "임베딩 인덱스 상태 조회",
+        description = "store_embedding pgvector 인덱스의 크기, 유효 여부, 설정 일치 여부, 구축 진행 상황, " +
+                     "마지막 구축 결과와 마지막으로 측정한 재현율을 조회합니다."
+    )
+    @GetMapping("/embedding-index")
+    public ApiResponse<IndexStatus> getEmbeddingIndexStatus() {
+        return ApiResponse.success(storeEmbeddingIndexService.getStatus());
+    }
+
+    @Operation(
+        summary = "임베딩 인덱스 재구축",
+        description = "설정(종류, m, ef_construction, lists)으로 인덱스를 백그라운드에서 다시 만듭니다. " +
+                     "새 인덱스를 CONCURRENTLY로 만든 뒤 교체하므로 구축 중에도 검색은 계속 동작합니다."
+    )
+    @PostMapping("/embedding-index/rebuild")
+    public ApiResponse<RebuildResponse> rebuildEmbeddingIndex() {
+        if (storeEmbeddingIndexService.isBuilding()) {
+            return ApiResponse.success(new RebuildResponse("이미 인덱스를 구축 중입니다.", false));
+        }
+        log.info("Admin API: Starting store embedding index rebuild");
+        storeEmbeddingIndexService.rebuildAsync();
+        return ApiResponse.success(new RebuildResponse("임베딩 인덱스 재구축을 시작했습니다.", true));
+    }
+
+    @Operation(
+        summary = "임베딩 인덱스 재현율 측정",
+        description = "임의의 임베딩을 질의로 사용해 인덱스 검색 결과와 전수 비교 결과를 비교합니다 (recall@k)."
+    )
+    @PostMapping("/embedding-index/recall")
+    public ApiResponse<RecallResult> measureEmbeddingIndexRecall() {
+        return ApiResponse.success(storeEmbeddingIndexService.measureRecall());
+    }
+
+    @Operation(
+        summary = "임베딩 작업 큐 상태 조회",
+        description = "가게 임베딩 생성 작업을 상태(PENDING, IN_PROGRESS, COMPLETED, FAILED)별로 집계합니다."
+    )
+    @GetMapping("/embedding-jobs")
+    public ApiResponse<Map<EmbeddingStatus, Long>> getEmbeddingJobCounts() {
+        return ApiResponse.success(storeEmbeddingJobService.countByStatus());
+    }
+
+    @Operation(
+        summary = "실패한 임베딩 작업 재시도",
+        description = "최대 시도 횟수를 넘겨 FAILED로 남은 임베딩 작업을 다시 대기 상태로 돌립니다."
+    )
+    @PostMapping("/embedding-jobs/retry-failed")
+    public ApiResponse<RecalculateResponse> retryFailedEmbeddingJobs() {
+        int retried = storeEmbeddingJobService.retryFailed();
+        log.info("Admin API: Requeued {} failed store embedding jobs", retried);
+        return ApiResponse.success(new RecalculateResponse("실패한 임베딩 작업을 다시 대기열에 넣었습니다.", retried));
+    }
+
     /**
      * 점수 재계산 결과 응답 DTO
      *
@@ -71,4 +145,9 @@ public class StoreAdminController {
         String message,
         int updatedCount
     ) {}
-}
\ No newline at end of file
+
+    public record RebuildResponse(
+        String message,
+        boolean started
+    ) {}
+}
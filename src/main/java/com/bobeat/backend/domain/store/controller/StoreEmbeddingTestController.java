@@ -4,7 +4,6 @@ import com.bobeat.backend.domain.store.service.StoreEmbeddingService;
 import com.bobeat.backend.global.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -43,7 +42,7 @@ public class StoreEmbeddingTestController {
         private Long storeId;
         private String storeName;
         private String combinedText;
-        private List<Float> embedding;
+        private float[] embedding;
         private int embeddingDimension;
     }
 
@@ -0,0 +1,43 @@
+package com.bobeat.backend.domain.store.dto;
+
+import com.bobeat.backend.domain.store.dto.response.StoreSearchResultDto;
+import java.util.List;
+
+/**
+ * 검색 결과 카드에 필요한 가게 정보를 미리 모아둔 비정규화 프로젝션
+ * 대표 메뉴, 좌석 타입, 대표 이미지, 카테고리 태그를 함께 보관하여 검색 시 추가 조회를 없앤다.
+ */
+public record StoreCard(
+        Long storeId,
+        String name,
+        String thumbnailUrl,
+        StoreSearchResultDto.SignatureMenu signatureMenu,
+        Double latitude,
+        Double longitude,
+        List<String> seatTypes,
+        List<String> tags,
+        int honbobLevel
+) {
+    private static final StoreSearchResultDto.SignatureMenu EMPTY_MENU = new StoreSearchResultDto.SignatureMenu(null, 0);
+
+    public StoreCard {
+        signatureMenu = signatureMenu != null ? signatureMenu : EMPTY_MENU;
+        seatTypes = seatTypes != null ? List.copyOf(seatTypes) : List.of();
+        tags = tags != null ? List.copyOf(tags) : List.of();
+    }
+
+    public StoreSearchResultDto toSearchResult(int distance) {
+        return new StoreSearchResultDto(
+                storeId,
+                name,
+                thumbnailUrl,
+                signatureMenu,
+                new StoreSearchResultDto.Coordinate(latitude, longitude),
+                distance,
+                (int) Math.ceil(distance / 80.0),
+                seatTypes,
+                tags,
+                honbobLevel
+        );
+    }
+}
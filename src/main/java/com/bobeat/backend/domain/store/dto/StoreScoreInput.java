@@ -0,0 +1,35 @@
+package com.bobeat.backend.domain.store.dto;
+
+import com.bobeat.backend.domain.member.entity.Level;
+import com.bobeat.backend.domain.store.entity.Store;
+
+/**
+ * 내부 점수 계산에 필요한 최소 필드 (엔티티 대신 프로젝션으로 조회)
+ * seatTypeMask가 null이면 메뉴/좌석 요약이 아직 계산되지 않은 가게
+ */
+public record StoreScoreInput(
+        Long storeId,
+        Level honbobLevel,
+        Integer signatureMenuPrice,
+        Integer seatTypeMask,
+        String primaryCategory
+) {
+    public boolean hasSummary() {
+        return seatTypeMask != null;
+    }
+
+    public static StoreScoreInput from(Store store) {
+        String primaryCategory = store.getCategories() != null
+                && store.getCategories().getPrimaryCategory() != null
+                ? store.getCategories().getPrimaryCategory().getPrimaryType()
+                : null;
+
+        return new StoreScoreInput(
+                store.getId(),
+                store.getHonbobLevel(),
+                store.getSignatureMenuPrice(),
+                store.getSeatTypeMask(),
+                primaryCategory
+        );
+    }
+}
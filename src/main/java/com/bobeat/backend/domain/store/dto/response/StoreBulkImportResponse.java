@@ -0,0 +1,32 @@
+package com.bobeat.backend.domain.store.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "가게 대량 등록 결과 DTO")
+public record StoreBulkImportResponse(
+        @Schema(description = "요청한 가게 수")
+        int requested,
+
+        @Schema(description = "등록된 가게 수")
+        int created,
+
+        @Schema(description = "등록된 가게 ID 목록 (요청 순서)")
+        List<Long> storeIds,
+
+        @Schema(description = "등록하지 않은 행과 사유")
+        List<SkippedRow> skipped
+) {
+
+    @Schema(description = "등록하지 않은 행")
+    public record SkippedRow(
+            @Schema(description = "행 번호 (1부터)")
+            int row,
+
+            @Schema(description = "가게 이름")
+            String name,
+
+            @Schema(description = "사유")
+            String reason
+    ) {}
+}
@@ -6,6 +6,7 @@ import lombok.Getter;
 /**
  * 임베딩 벡터 생성 상태
  * - PENDING: 임베딩 생성 대기 중
+ * - IN_PROGRESS: 워커가 가져가 생성 중
  * - COMPLETED: 임베딩 생성 완료
  * - FAILED: 임베딩 생성 실패 (재시도 가능)
  */
@@ -13,6 +14,7 @@ import lombok.Getter;
 @Getter
 public enum EmbeddingStatus {
     PENDING("임베딩 생성 대기 중"),
+    IN_PROGRESS("임베딩 생성 중"),
     COMPLETED("임베딩 생성 완료"),
     FAILED("임베딩 생성 실패");
 
@@ -3,6 +3,7 @@ package com.bobeat.backend.domain.store.entity;
 import com.bobeat.backend.domain.common.BaseTimeEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -14,6 +15,7 @@ import jakarta.persistence.Table;
 import lombok.*;
 
 @Entity
+@EntityListeners(StoreScoreDirtyListener.class)
 @Table(name = "menu", indexes = {
     @Index(name = "idx_menu_store_recommend_price", columnList = "store_id, recommend, price")
 })
@@ -0,0 +1,20 @@
+package com.bobeat.backend.domain.store.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 전체 점수 재계산 실행 상태
+ * - RUNNING: 진행 중 (서버가 중간에 종료되면 이 상태로 남고, 다음 시작 시 이어서 진행)
+ * - COMPLETED: 완료
+ * - FAILED: 실패 (다음 실행 요청 시 마지막 체크포인트부터 이어서 진행)
+ */
+@AllArgsConstructor
+@Getter
+public enum ScoreRecalculationStatus {
+    RUNNING("재계산 중"),
+    COMPLETED("재계산 완료"),
+    FAILED("재계산 실패");
+
+    private final String description;
+}
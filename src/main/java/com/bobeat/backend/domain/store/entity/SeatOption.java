@@ -3,19 +3,24 @@ package com.bobeat.backend.domain.store.entity;
 import com.bobeat.backend.domain.common.BaseTimeEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import lombok.*;
 
 @Entity
-@Table(name = "seat_option")
+@EntityListeners(StoreScoreDirtyListener.class)
+@Table(name = "seat_option", indexes = {
+    @Index(name = "idx_seat_option_store_seat_type", columnList = "store_id, seat_type")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
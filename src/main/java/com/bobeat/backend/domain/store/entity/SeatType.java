@@ -1,5 +1,9 @@
 package com.bobeat.backend.domain.store.entity;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 public enum SeatType {
     FOR_ONE("1인용"),
     FOR_TWO("2인용"),
@@ -12,4 +16,36 @@ public enum SeatType {
     SeatType(String name) {
         this.name = name;
     }
+
+    /**
+     * Store.seatTypeMask 비트 (ordinal 기반 - 새 좌석 타입은 반드시 맨 뒤에 추가)
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    public static int toMask(Collection<SeatType> seatTypes) {
+        int mask = 0;
+        for (SeatType seatType : seatTypes) {
+            if (seatType != null) {
+                mask |= seatType.bit();
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * mask와 겹치는 비트가 하나라도 있는 모든 마스크 값
+     * seat_type_mask 컬럼 B-tree 인덱스를 IN 조건으로 사용하기 위함
+     */
+    public static List<Integer> overlappingMasks(int mask) {
+        List<Integer> masks = new ArrayList<>();
+        int allBits = (1 << values().length) - 1;
+        for (int candidate = 1; candidate <= allBits; candidate++) {
+            if ((candidate & mask) != 0) {
+                masks.add(candidate);
+            }
+        }
+        return masks;
+    }
 }
@@ -12,13 +12,18 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Entity
+@EntityListeners(StoreScoreDirtyListener.class)
 @Table(name = "store", indexes = {
     @Index(name = "idx_store_internal_score", columnList = "internal_score"),
-    @Index(name = "idx_store_honbob_level", columnList = "honbob_level")
+    @Index(name = "idx_store_honbob_level", columnList = "honbob_level"),
+    @Index(name = "idx_store_menu_price", columnList = "min_menu_price, max_menu_price"),
+    @Index(name = "idx_store_seat_type_mask", columnList = "seat_type_mask")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -49,7 +54,66 @@ public class Store extends BaseTimeEntity {
     @Column(name = "internal_score")
     private Double internalScore;
 
+    /**
+     * 메뉴/좌석 요약 - 검색 필터와 점수 계산에서 menu, seat_option JOIN 없이 사용
+     * 메뉴/좌석이 바뀌면 updateSummary로 함께 갱신 (null이면 아직 계산 전)
+     */
+    @Column(name = "min_menu_price")
+    private Integer minMenuPrice;
+
+    @Column(name = "max_menu_price")
+    private Integer maxMenuPrice;
+
+    /**
+     * 대표 메뉴 가격 (추천 메뉴 우선, 최저가)
+     */
+    @Column(name = "signature_menu_price")
+    private Integer signatureMenuPrice;
+
+    /**
+     * 보유 좌석 타입 비트마스크 (SeatType.bit)
+     */
+    @Column(name = "seat_type_mask")
+    private Integer seatTypeMask;
+
+    /**
+     * 점수 계산 입력(메뉴/좌석 요약)이 바뀌었는지 - StoreScoreDirtyListener가 flush 후 확인
+     * 혼밥레벨/카테고리는 등록 이후 엔티티로 바꾸는 경로가 없어 등록(PostPersist) 시점에만 반영된다
+     */
+    @Transient
+    private boolean scoreInputChanged;
+
     public void updateInternalScore(Double score) {
         this.internalScore = score;
     }
+
+    public void updateSummary(List<Menu> menus, List<SeatOption> seatOptions) {
+        Integer previousSignaturePrice = this.signatureMenuPrice;
+        Integer previousSeatTypeMask = this.seatTypeMask;
+
+        this.minMenuPrice = menus.stream().map(Menu::getPrice).min(Integer::compare).orElse(null);
+        this.maxMenuPrice = menus.stream().map(Menu::getPrice).max(Integer::compare).orElse(null);
+        this.signatureMenuPrice = menus.stream()
+                .min(Comparator.comparing(Menu::isRecommend).reversed()
+                        .thenComparingInt(Menu::getPrice))
+                .map(Menu::getPrice)
+                .orElse(null);
+        this.seatTypeMask = SeatType.toMask(seatOptions.stream().map(SeatOption::getSeatType).toList());
+
+        this.scoreInputChanged |= !Objects.equals(previousSignaturePrice, signatureMenuPrice)
+                || !Objects.equals(previousSeatTypeMask, seatTypeMask);
+    }
+
+    /**
+     * 점수 계산 입력 변경 여부를 확인하고 초기화
+     */
+    public boolean consumeScoreInputChange() {
+        boolean changed = scoreInputChanged;
+        scoreInputChanged = false;
+        return changed;
+    }
+
+    public boolean hasSummary() {
+        return seatTypeMask != null;
+    }
 }
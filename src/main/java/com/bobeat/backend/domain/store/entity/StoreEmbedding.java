@@ -43,5 +43,6 @@ public class StoreEmbedding {
 
     public void update(StoreEmbedding updated) {
         this.embedding = updated.getEmbedding();
+        this.embeddingStatus = updated.getEmbeddingStatus();
     }
 }
@@ -0,0 +1,125 @@
+package com.bobeat.backend.domain.store.entity;
+
+import com.bobeat.backend.domain.common.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가게 임베딩 생성 작업 (가게당 1건)
+ * <p>
+ * PENDING → IN_PROGRESS → COMPLETED, 실패 시 재시도 간격을 늘려가며 PENDING으로 되돌리고
+ * 최대 시도 횟수를 넘기면 FAILED로 남긴다 (관리자 재시도 전까지 처리하지 않음)
+ */
+@Entity
+@Table(name = "store_embedding_job", indexes = {
+    @Index(name = "idx_store_embedding_job_store_id", columnList = "store_id", unique = true),
+    @Index(name = "idx_store_embedding_job_status_next", columnList = "status, next_attempt_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class StoreEmbeddingJob extends BaseTimeEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EmbeddingStatus status;
+
+    private int attempts;
+
+    /**
+     * 선점(start)할 때마다 1씩 증가 - 워커가 들고 있는 값과 다르면 그 사이 재등록/재선점된 작업
+     * JDBC로 직접 넣는 행(대량 등록)과 기존 행을 위해 DB 기본값 0
+     */
+    @Column(name = "claim_token", nullable = false, columnDefinition = "bigint default 0")
+    private long claimToken;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime lockedAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public static StoreEmbeddingJob pending(Long storeId, LocalDateTime now) {
+        return StoreEmbeddingJob.builder()
+                .storeId(storeId)
+                .status(EmbeddingStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .build();
+    }
+
+    /**
+     * 가게 정보가 바뀌어 다시 생성해야 할 때
+     * 진행 중이던 워커의 완료/실패 기록은 선점 정보가 맞지 않아 무시되고, 바뀐 정보로 다시 생성된다
+     */
+    public void requeue(LocalDateTime now) {
+        this.status = EmbeddingStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.lockedAt = null;
+        this.lastError = null;
+    }
+
+    public void start(LocalDateTime now) {
+        this.status = EmbeddingStatus.IN_PROGRESS;
+        this.attempts++;
+        this.claimToken++;
+        this.lockedAt = now;
+    }
+
+    /**
+     * 이 선점의 결과를 기록해도 되는지 (아직 진행 중이고, 그 사이 재등록/재선점되지 않음)
+     */
+    public boolean isClaimedBy(long claimToken) {
+        return status == EmbeddingStatus.IN_PROGRESS && this.claimToken == claimToken;
+    }
+
+    public void complete() {
+        this.status = EmbeddingStatus.COMPLETED;
+        this.lockedAt = null;
+        this.lastError = null;
+    }
+
+    /**
+     * 실패 기록 - 시도 횟수가 남아 있으면 backoff × 2^(시도-1) 뒤 재시도 (maxBackoff 상한)
+     */
+    public void fail(String error, LocalDateTime now, int maxAttempts, Duration backoff, Duration maxBackoff) {
+        this.lockedAt = null;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        if (attempts >= maxAttempts) {
+            this.status = EmbeddingStatus.FAILED;
+            return;
+        }
+        Duration delay = backoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        this.status = EmbeddingStatus.PENDING;
+        this.nextAttemptAt = now.plus(delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay);
+    }
+}
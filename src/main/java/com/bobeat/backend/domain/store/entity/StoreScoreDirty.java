@@ -0,0 +1,34 @@
+package com.bobeat.backend.domain.store.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 점수를 다시 계산해야 하는 가게 (가게당 1건)
+ * <p>
+ * 메뉴/좌석/혼밥레벨/카테고리가 바뀐 트랜잭션 안에서 StoreScoreDirtyListener가 등록하고,
+ * StoreScoreScheduler가 오래된 순으로 가져가 점수를 계산하면서 삭제한다.
+ * 행 추가/삭제는 StoreScoreDirtyRepository(JDBC)로만 하고 엔티티는 테이블 정의용
+ */
+@Entity
+@Table(name = "store_score_dirty", indexes = {
+    @Index(name = "idx_store_score_dirty_marked_at", columnList = "marked_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreScoreDirty {
+
+    @Id
+    @Column(name = "store_id")
+    private Long storeId;
+
+    @Column(name = "marked_at", nullable = false)
+    private LocalDateTime markedAt;
+}
@@ -0,0 +1,94 @@
+package com.bobeat.backend.domain.store.entity;
+
+import com.bobeat.backend.domain.store.repository.StoreScoreDirtyRepository;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 점수 계산 입력이 바뀐 가게를 재계산 대상으로 등록하는 엔티티 리스너 (Store, Menu, SeatOption)
+ * <p>
+ * - Store: 새로 등록되거나 메뉴·좌석 요약이 바뀐 경우 (점수만 바뀐 경우, 요약을 채우며 점수도 함께 계산한 경우는 제외)
+ * - Menu, SeatOption: 추가/수정/삭제된 경우 소속 가게
+ * <p>
+ * flush 시점에 같은 트랜잭션으로 store_score_dirty에 기록하므로 변경이 롤백되면 등록도 함께 롤백된다.
+ * 한 트랜잭션에서 같은 가게는 한 번만 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreScoreDirtyListener {
+
+    private final StoreScoreDirtyRepository storeScoreDirtyRepository;
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        if (entity instanceof Store store) {
+            store.consumeScoreInputChange();
+            mark(store.getId());
+            return;
+        }
+        markOwner(entity);
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        if (entity instanceof Store store) {
+            if (store.consumeScoreInputChange()) {
+                mark(store.getId());
+            }
+            return;
+        }
+        markOwner(entity);
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        markOwner(entity);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void markOwner(Object entity) {
+        Store store = null;
+        if (entity instanceof Menu menu) {
+            store = menu.getStore();
+        } else if (entity instanceof SeatOption seatOption) {
+            store = seatOption.getStore();
+        }
+        if (store != null && store.getId() != null) {
+            mark(store.getId());
+        }
+    }
+
+    private void mark(Long storeId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive() && !markedStores().add(storeId)) {
+            return;
+        }
+        storeScoreDirtyRepository.mark(List.of(storeId));
+    }
+
+    /**
+     * 현재 트랜잭션에서 이미 등록한 가게 (트랜잭션 동기화에 보관해 중첩 트랜잭션과 섞이지 않게 함)
+     */
+    private Set<Long> markedStores() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof MarkedStores marked) {
+                return marked.storeIds;
+            }
+        }
+        MarkedStores marked = new MarkedStores();
+        TransactionSynchronizationManager.registerSynchronization(marked);
+        return marked.storeIds;
+    }
+
+    private static class MarkedStores implements TransactionSynchronization {
+        private final Set<Long> storeIds = new HashSet<>();
+    }
+}
@@ -0,0 +1,112 @@
+package com.bobeat.backend.domain.store.entity;
+
+import com.bobeat.backend.domain.common.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 전체 가게 점수 재계산 실행 기록 (체크포인트)
+ * <p>
+ * 가게 ID 순으로 청크를 처리하며, 청크의 점수 UPDATE와 같은 트랜잭션에서 lastStoreId를 갱신한다.
+ * 중간에 멈춰도 lastStoreId 다음 가게부터 이어서 처리할 수 있다.
+ */
+@Entity
+@Table(name = "store_score_recalculation")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class StoreScoreRecalculation extends BaseTimeEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ScoreRecalculationStatus status;
+
+    /**
+     * 마지막으로 처리한 가게 ID (0이면 아직 처리한 청크 없음)
+     */
+    @Column(name = "last_store_id", nullable = false)
+    private long lastStoreId;
+
+    private long processedCount;
+
+    /**
+     * 시작 시점의 가게 수 (진행률 표시용)
+     */
+    private long totalCount;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public static StoreScoreRecalculation start(long totalCount, LocalDateTime now) {
+        return StoreScoreRecalculation.builder()
+                .status(ScoreRecalculationStatus.RUNNING)
+                .lastStoreId(0L)
+                .processedCount(0L)
+                .totalCount(totalCount)
+                .startedAt(now)
+                .build();
+    }
+
+    public boolean isResumable() {
+        return status != ScoreRecalculationStatus.COMPLETED;
+    }
+
+    public void resume() {
+        this.status = ScoreRecalculationStatus.RUNNING;
+        this.finishedAt = null;
+        this.lastError = null;
+    }
+
+    /**
+     * 청크 처리 결과 반영
+     */
+    public void advance(long lastStoreId, int processed) {
+        this.lastStoreId = lastStoreId;
+        this.processedCount += processed;
+    }
+
+    public void complete(LocalDateTime now) {
+        this.status = ScoreRecalculationStatus.COMPLETED;
+        this.finishedAt = now;
+    }
+
+    /**
+     * 한 번에 전체를 처리한 경우 (SQL 계산)
+     */
+    public void completeAll(LocalDateTime now) {
+        this.processedCount = totalCount;
+        complete(now);
+    }
+
+    public void fail(String error, LocalDateTime now) {
+        this.status = ScoreRecalculationStatus.FAILED;
+        this.finishedAt = now;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+    }
+}
@@ -1,12 +1,11 @@
 package com.bobeat.backend.domain.store.external.clova.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.bobeat.backend.domain.store.vo.Embedding;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.util.List;
-
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,6 +19,6 @@ public class ClovaEmbeddingResponse {
     @AllArgsConstructor
     @JsonIgnoreProperties(ignoreUnknown = true)
     public static class Result {
-        private List<Float> embedding;
+        private Embedding embedding;
     }
 }
@@ -2,8 +2,8 @@ package com.bobeat.backend.domain.store.external.clova.service;
 
 import com.bobeat.backend.domain.store.external.clova.dto.ClovaEmbeddingRequest;
 import com.bobeat.backend.domain.store.external.clova.dto.ClovaEmbeddingResponse;
+import com.bobeat.backend.domain.store.vo.Embedding;
 import java.time.Duration;
-import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,7 +23,7 @@ public class ClovaEmbeddingClient {
     private String embeddingApiUrl;
 
 
-    public Mono<List<Float>> getEmbedding(String text) {
+    public Mono<Embedding> getEmbedding(String text) {
         ClovaEmbeddingRequest requestBody = new ClovaEmbeddingRequest(text);
         String requestId = UUID.randomUUID().toString();
 
@@ -44,8 +44,4 @@ public class ClovaEmbeddingClient {
                 .map(response -> response.getResult().getEmbedding())
                 .timeout(Duration.ofSeconds(10));
     }
-
-    public List<Float> getEmbeddingSync(String text) {
-        return getEmbedding(text).block();
-    }
 }
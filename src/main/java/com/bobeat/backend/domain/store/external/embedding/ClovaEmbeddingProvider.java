@@ -0,0 +1,48 @@
+package com.bobeat.backend.domain.store.external.embedding;
+
+import com.bobeat.backend.domain.store.external.clova.service.ClovaEmbeddingClient;
+import com.bobeat.backend.domain.store.vo.Embedding;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * CLOVA Studio 임베딩 제공자
+ * <p>
+ * CLOVA 임베딩 API는 요청당 텍스트 1건만 받으므로 배치 안의 텍스트를 동시에 호출하고 순서대로 모은다.
+ * 빈 응답은 건너뛰지 않고 그 자리를 null로 남겨, 뒤 텍스트의 임베딩이 앞 요청으로 밀려 들어가지 않도록 한다.
+ * 배치 수는 게이트웨이가 제한하므로 동시 HTTP 요청은 최대 maxBatchSize × maxConcurrency건이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClovaEmbeddingProvider implements EmbeddingProvider {
+
+    private static final int MAX_BATCH_SIZE = 16;
+
+    private final ClovaEmbeddingClient clovaEmbeddingClient;
+
+    @Override
+    public String name() {
+        return "clova";
+    }
+
+    @Override
+    public int maxBatchSize() {
+        return MAX_BATCH_SIZE;
+    }
+
+    @Override
+    public Mono<List<Embedding>> embed(List<String> texts) {
+        return Flux.fromIterable(texts)
+                .flatMapSequential(text -> clovaEmbeddingClient.getEmbedding(text)
+                                .map(Optional::of)
+                                .defaultIfEmpty(Optional.empty()),
+                        Math.max(1, texts.size()))
+                .collectList()
+                // Reactor 신호에는 null을 실을 수 없어 모은 뒤에 풀어낸다 (Stream.toList는 null 허용)
+                .map(results -> results.stream().map(result -> result.orElse(null)).toList());
+    }
+}
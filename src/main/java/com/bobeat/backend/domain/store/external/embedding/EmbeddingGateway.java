@@ -0,0 +1,237 @@
+package com.bobeat.backend.domain.store.external.embedding;
+
+import static com.bobeat.backend.global.exception.ErrorCode.EMBEDDING_FAILED;
+import static com.bobeat.backend.global.exception.ErrorCode.EMBEDDING_OVERLOADED;
+
+import com.bobeat.backend.domain.store.config.EmbeddingConfig;
+import com.bobeat.backend.domain.store.vo.Embedding;
+import com.bobeat.backend.global.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 임베딩 요청 게이트웨이 (검색어/가게 임베딩 공용)
+ * <p>
+ * - 같은 텍스트의 동시 요청은 진행 중인 요청 하나를 공유 (coalescing)
+ * - 서로 다른 텍스트는 batchWindowMillis 동안 모아 최대 배치 크기만큼 한 번에 제공자에 전달 (micro-batching)
+ * - 제공자에 동시에 보내는 배치 수를 maxConcurrency로 제한하고, 나머지는 대기열에서 기다린다
+ * - 대기열이 가득 차면 바로 EMBEDDING_OVERLOADED로 거절 (backpressure)
+ * <p>
+ * 배치 조립/전송은 단일 디스패처 스레드에서만 수행하고, 요청 스레드는 결과 future만 기다린다.
+ */
+@Slf4j
+@Component
+public class EmbeddingGateway {
+
+    private final EmbeddingProvider provider;
+    private final EmbeddingConfig config;
+    private final int batchSize;
+    private final Semaphore permits;
+    private final BlockingQueue<Pending> queue;
+    private final ConcurrentHashMap<String, CompletableFuture<Embedding>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final ScheduledExecutorService dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "embedding-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // 디스패처 스레드에서만 접근
+    private boolean windowExpired;
+
+    private final Counter coalesced;
+    private final Counter rejected;
+    private final DistributionSummary batchSizes;
+
+    private record Pending(String text, CompletableFuture<Embedding> future) {
+    }
+
+    @Autowired
+    public EmbeddingGateway(List<EmbeddingProvider> providers, EmbeddingConfig config, MeterRegistry meterRegistry) {
+        this(selectProvider(providers, config.getProvider()), config, meterRegistry);
+    }
+
+    EmbeddingGateway(EmbeddingProvider provider, EmbeddingConfig config, MeterRegistry meterRegistry) {
+        this.provider = provider;
+        this.config = config;
+        this.batchSize = Math.max(1, Math.min(config.getMaxBatchSize(), provider.maxBatchSize()));
+        this.permits = new Semaphore(Math.max(1, config.getMaxConcurrency()));
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, config.getMaxQueueSize()));
+
+        String providerTag = provider.name();
+        Gauge.builder("embedding.gateway.queue", queue, BlockingQueue::size)
+                .tag("provider", providerTag).register(meterRegistry);
+        Gauge.builder("embedding.gateway.in_flight", inFlight, ConcurrentHashMap::size)
+                .tag("provider", providerTag).register(meterRegistry);
+        this.coalesced = Counter.builder("embedding.gateway.coalesced")
+                .tag("provider", providerTag).register(meterRegistry);
+        this.rejected = Counter.builder("embedding.gateway.rejected")
+                .tag("provider", providerTag).register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("embedding.gateway.batch_size")
+                .tag("provider", providerTag).register(meterRegistry);
+        log.info("Embedding gateway using provider '{}' (batch {}, concurrency {})",
+                providerTag, batchSize, config.getMaxConcurrency());
+    }
+
+    /**
+     * 임베딩 요청 (결과를 기다리지 않음)
+     */
+    public CompletableFuture<Embedding> embedAsync(String text) {
+        CompletableFuture<Embedding> existing = inFlight.get(text);
+        if (existing != null) {
+            coalesced.increment();
+            return existing;
+        }
+        CompletableFuture<Embedding> created = new CompletableFuture<>();
+        existing = inFlight.putIfAbsent(text, created);
+        if (existing != null) {
+            coalesced.increment();
+            return existing;
+        }
+        created.whenComplete((embedding, error) -> inFlight.remove(text, created));
+
+        if (!queue.offer(new Pending(text, created))) {
+            rejected.increment();
+            created.completeExceptionally(new CustomException(EMBEDDING_OVERLOADED));
+            return created;
+        }
+        requestFlush();
+        return created;
+    }
+
+    /**
+     * 임베딩 요청 후 결과 대기 (최대 timeoutMillis)
+     *
+     * @throws CustomException EMBEDDING_OVERLOADED(대기열 초과) 또는 EMBEDDING_FAILED(제공자 오류/시간 초과)
+     */
+    public Embedding embedSync(String text) {
+        try {
+            return embedAsync(text).get(config.getTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CustomException customException) {
+                throw customException;
+            }
+            log.warn("Embedding request failed: {}", e.getCause().getMessage());
+            throw new CustomException(EMBEDDING_FAILED);
+        } catch (TimeoutException e) {
+            throw new CustomException("임베딩 응답 시간이 초과되었습니다.", EMBEDDING_FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(EMBEDDING_FAILED);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static EmbeddingProvider selectProvider(List<EmbeddingProvider> providers, String name) {
+        return providers.stream()
+                .filter(provider -> provider.name().equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Unknown embedding provider: " + name));
+    }
+
+    /**
+     * 배치가 가득 찼으면 바로, 아니면 배치 대기 시간 뒤에 전송
+     */
+    private void requestFlush() {
+        if (queue.size() >= batchSize) {
+            dispatcher.execute(this::flush);
+        } else {
+            scheduleWindow();
+        }
+    }
+
+    private void scheduleWindow() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            dispatcher.schedule(() -> {
+                flushScheduled.set(false);
+                windowExpired = true;
+                flush();
+            }, config.getBatchWindowMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 디스패처 스레드에서만 실행 - 허용된 동시 배치 수만큼 대기열을 비운다
+     * 배치 대기 시간이 지나기 전에는 가득 찬 배치만 보낸다
+     */
+    private void flush() {
+        while (!queue.isEmpty()) {
+            if (queue.size() < batchSize && !windowExpired) {
+                break;
+            }
+            if (!permits.tryAcquire()) {
+                break;
+            }
+            List<Pending> batch = new ArrayList<>(batchSize);
+            queue.drainTo(batch, batchSize);
+            dispatch(batch);
+        }
+        if (queue.isEmpty()) {
+            windowExpired = false;
+        } else if (!windowExpired) {
+            scheduleWindow();
+        }
+    }
+
+    private void dispatch(List<Pending> batch) {
+        batchSizes.record(batch.size());
+        List<String> texts = batch.stream().map(Pending::text).toList();
+
+        Mono<List<Embedding>> call;
+        try {
+            call = provider.embed(texts);
+        } catch (Exception e) {
+            call = Mono.error(e);
+        }
+
+        call.timeout(Duration.ofMillis(config.getTimeoutMillis()))
+                .defaultIfEmpty(List.of())
+                .doFinally(signal -> {
+                    permits.release();
+                    dispatcher.execute(this::flush);
+                })
+                .subscribe(
+                        embeddings -> complete(batch, embeddings),
+                        error -> {
+                            log.warn("Embedding batch of {} failed: {}", batch.size(), error.getMessage());
+                            batch.forEach(pending -> pending.future().completeExceptionally(error));
+                        });
+    }
+
+    private void complete(List<Pending> batch, List<Embedding> embeddings) {
+        for (int i = 0; i < batch.size(); i++) {
+            Embedding embedding = i < embeddings.size() ? embeddings.get(i) : null;
+            if (embedding != null) {
+                batch.get(i).future().complete(embedding);
+            } else {
+                batch.get(i).future().completeExceptionally(new CustomException(EMBEDDING_FAILED));
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.bobeat.backend.domain.store.external.embedding;
+
+import com.bobeat.backend.domain.store.vo.Embedding;
+import java.util.List;
+import reactor.core.publisher.Mono;
+
+/**
+ * 임베딩 제공자 - EmbeddingGateway가 묶은 배치를 실제로 임베딩한다
+ */
+public interface EmbeddingProvider {
+
+    /**
+     * store.embedding.provider 값과 비교하는 이름
+     */
+    String name();
+
+    /**
+     * 한 번에 보낼 수 있는 최대 텍스트 수
+     */
+    int maxBatchSize();
+
+    /**
+     * @return texts와 같은 순서/크기의 임베딩 목록 (결과가 없는 텍스트 자리는 null)
+     */
+    Mono<List<Embedding>> embed(List<String> texts);
+}
@@ -0,0 +1,55 @@
+package com.bobeat.backend.domain.store.external.embedding;
+
+import com.bobeat.backend.domain.store.config.EmbeddingConfig;
+import com.bobeat.backend.domain.store.vo.Embedding;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 외부 호출 없는 로컬 임베딩 제공자 (오프라인 개발/부하 테스트용)
+ * <p>
+ * 같은 텍스트는 항상 같은 벡터를 돌려주며, 응답 지연은 store.embedding.stub-latency-millis로 흉내낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StubEmbeddingProvider implements EmbeddingProvider {
+
+    private static final int MAX_BATCH_SIZE = 64;
+
+    private final EmbeddingConfig embeddingConfig;
+
+    @Override
+    public String name() {
+        return "stub";
+    }
+
+    @Override
+    public int maxBatchSize() {
+        return MAX_BATCH_SIZE;
+    }
+
+    @Override
+    public Mono<List<Embedding>> embed(List<String> texts) {
+        Mono<List<Embedding>> result = Mono.fromSupplier(() -> texts.stream().map(this::embedOne).toList());
+        long latency = embeddingConfig.getStubLatencyMillis();
+        return latency > 0 ? Mono.delay(Duration.ofMillis(latency)).then(result) : result;
+    }
+
+    private Embedding embedOne(String text) {
+        long seed = 1125899906842597L;
+        for (byte b : text.getBytes(StandardCharsets.UTF_8)) {
+            seed = 31 * seed + b;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        float[] values = new float[embeddingConfig.getStubDimension()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (float) (random.nextDouble() - 0.5);
+        }
+        return Embedding.of(values);
+    }
+}
@@ -0,0 +1,392 @@
+package com.bobeat.backend.domain.store.index;
+
+import com.bobeat.backend.domain.store.vo.Embedding;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 인덱스 (코사인 거리)
+ * <p>
+ * - 노드마다 확률적으로 정해진 최상위 레벨까지 각 레벨의 이웃 목록을 가진다 (레벨 0은 최대 2M개, 그 위는 M개)
+ * - 검색은 최상위 레벨에서 탐욕적으로 내려온 뒤 레벨 0에서 efSearch 크기의 후보 집합으로 탐색한다
+ * - 이웃 선택은 논문의 휴리스틱(후보가 이미 고른 이웃보다 기준점에 더 가까울 때만 채택)을 사용한다
+ * <p>
+ * 삭제/갱신은 노드를 삭제 표시만 하고 그래프 탐색에는 계속 사용한다 (결과에서만 제외). 삭제 표시가 쌓이면 재구축으로 정리한다.
+ * 검색은 읽기 락, 추가/삭제는 쓰기 락으로 보호한다.
+ */
+public class HnswIndex {
+
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final Random random;
+
+    private final List<Node> nodes = new ArrayList<>();
+    private final Map<Long, Integer> nodeById = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+    private int deletedCount;
+
+    public record Hit(long id, double distance) {
+    }
+
+    private record Candidate(int node, double distance) {
+    }
+
+    private static final Comparator<Candidate> NEAREST_FIRST = Comparator.comparingDouble(Candidate::distance);
+    private static final Comparator<Candidate> FARTHEST_FIRST = NEAREST_FIRST.reversed();
+
+    private static final class Node {
+        private final long id;
+        private final Embedding vector;
+        private final int[][] neighbors;
+        private final int[] neighborCounts;
+        private boolean deleted;
+
+        private Node(long id, Embedding vector, int level, int m, int maxM0) {
+            this.id = id;
+            this.vector = vector;
+            this.neighbors = new int[level + 1][];
+            this.neighborCounts = new int[level + 1];
+            for (int l = 0; l <= level; l++) {
+                neighbors[l] = new int[l == 0 ? maxM0 : m];
+            }
+        }
+
+        private int level() {
+            return neighbors.length - 1;
+        }
+    }
+
+    public HnswIndex(int m, int efConstruction) {
+        this(m, efConstruction, 42L);
+    }
+
+    public HnswIndex(int m, int efConstruction, long seed) {
+        this.m = Math.max(2, m);
+        this.maxM0 = this.m * 2;
+        this.efConstruction = Math.max(this.m, efConstruction);
+        this.levelMultiplier = 1.0 / Math.log(this.m);
+        this.random = new Random(seed);
+    }
+
+    /**
+     * 벡터 추가 (같은 id가 있으면 기존 노드를 삭제 표시하고 새 노드로 교체)
+     */
+    public void add(long id, Embedding vector) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(nodeById.get(id));
+
+            int level = randomLevel();
+            int newNode = nodes.size();
+            nodes.add(new Node(id, vector, level, m, maxM0));
+            nodeById.put(id, newNode);
+
+            if (entryPoint < 0) {
+                entryPoint = newNode;
+                maxLevel = level;
+                return;
+            }
+
+            int current = entryPoint;
+            for (int l = maxLevel; l > level; l--) {
+                current = greedyClosest(vector, current, l);
+            }
+
+            List<Candidate> entryPoints = List.of(new Candidate(current, distance(vector, current)));
+            for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+                List<Candidate> candidates = searchLayer(vector, entryPoints, efConstruction, l);
+                List<Candidate> selected = selectNeighbors(candidates, l == 0 ? maxM0 : m);
+                for (Candidate neighbor : selected) {
+                    link(newNode, neighbor.node(), l);
+                    link(neighbor.node(), newNode, l);
+                }
+                entryPoints = candidates;
+            }
+
+            if (level > maxLevel) {
+                entryPoint = newNode;
+                maxLevel = level;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(nodeById.remove(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Embedding get(long id) {
+        lock.readLock().lock();
+        try {
+            Integer node = nodeById.get(id);
+            return node == null ? null : nodes.get(node).vector;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 근사 k-최근접 이웃 (거리 오름차순)
+     *
+     * @param ef 탐색 후보 집합 크기 - 클수록 재현율이 높고 느려진다 (k보다 작으면 k 사용)
+     */
+    public List<Hit> search(Embedding query, int k, int ef) {
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0 || k <= 0) {
+                return List.of();
+            }
+            int current = entryPoint;
+            for (int l = maxLevel; l > 0; l--) {
+                current = greedyClosest(query, current, l);
+            }
+            List<Candidate> candidates = searchLayer(
+                    query, List.of(new Candidate(current, distance(query, current))), Math.max(ef, k), 0);
+
+            List<Hit> hits = new ArrayList<>(Math.min(k, candidates.size()));
+            for (Candidate candidate : candidates) {
+                Node node = nodes.get(candidate.node());
+                if (node.deleted) {
+                    continue;
+                }
+                hits.add(new Hit(node.id, candidate.distance()));
+                if (hits.size() == k) {
+                    break;
+                }
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전수 비교 k-최근접 이웃 (재현율 측정 기준값)
+     */
+    public List<Hit> exactSearch(Embedding query, int k) {
+        lock.readLock().lock();
+        try {
+            PriorityQueue<Candidate> top = new PriorityQueue<>(FARTHEST_FIRST);
+            for (int i = 0; i < nodes.size(); i++) {
+                if (nodes.get(i).deleted) {
+                    continue;
+                }
+                double d = distance(query, i);
+                if (top.size() < k) {
+                    top.add(new Candidate(i, d));
+                } else if (d < top.peek().distance()) {
+                    top.poll();
+                    top.add(new Candidate(i, d));
+                }
+            }
+            return top.stream()
+                    .sorted(NEAREST_FIRST)
+                    .map(c -> new Hit(nodes.get(c.node()).id, c.distance()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodeById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제 표시된 노드를 포함한 그래프 노드 수 - 탐색 범위(ef)가 이 값 이상이면 그래프 전체를 본 것
+     */
+    public int nodeCount() {
+        lock.readLock().lock();
+        try {
+            return nodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int deletedCount() {
+        lock.readLock().lock();
+        try {
+            return deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void markDeleted(Integer node) {
+        if (node != null && !nodes.get(node).deleted) {
+            nodes.get(node).deleted = true;
+            deletedCount++;
+        }
+    }
+
+    private int randomLevel() {
+        return (int) Math.floor(-Math.log(1.0 - random.nextDouble()) * levelMultiplier);
+    }
+
+    private double distance(Embedding query, int node) {
+        return query.cosineDistance(nodes.get(node).vector);
+    }
+
+    private int greedyClosest(Embedding query, int start, int level) {
+        int current = start;
+        double currentDistance = distance(query, current);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            Node node = nodes.get(current);
+            int[] neighbors = node.neighbors[level];
+            for (int i = 0; i < node.neighborCounts[level]; i++) {
+                double d = distance(query, neighbors[i]);
+                if (d < currentDistance) {
+                    current = neighbors[i];
+                    currentDistance = d;
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 한 레벨 안에서 ef개 후보를 유지하며 탐색 (거리 오름차순으로 반환)
+     */
+    private List<Candidate> searchLayer(Embedding query, List<Candidate> entryPoints, int ef, int level) {
+        BitSet visited = new BitSet(nodes.size());
+        PriorityQueue<Candidate> toVisit = new PriorityQueue<>(NEAREST_FIRST);
+        PriorityQueue<Candidate> found = new PriorityQueue<>(FARTHEST_FIRST);
+
+        for (Candidate entry : entryPoints) {
+            if (!visited.get(entry.node())) {
+                visited.set(entry.node());
+                toVisit.add(entry);
+                found.add(entry);
+            }
+        }
+        while (found.size() > ef) {
+            found.poll();
+        }
+
+        while (!toVisit.isEmpty()) {
+            Candidate closest = toVisit.poll();
+            if (found.size() >= ef && closest.distance() > found.peek().distance()) {
+                break;
+            }
+            Node node = nodes.get(closest.node());
+            if (node.level() < level) {
+                continue;
+            }
+            int[] neighbors = node.neighbors[level];
+            for (int i = 0; i < node.neighborCounts[level]; i++) {
+                int neighbor = neighbors[i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                double d = distance(query, neighbor);
+                if (found.size() < ef || d < found.peek().distance()) {
+                    Candidate candidate = new Candidate(neighbor, d);
+                    toVisit.add(candidate);
+                    found.add(candidate);
+                    if (found.size() > ef) {
+                        found.poll();
+                    }
+                }
+            }
+        }
+
+        List<Candidate> result = new ArrayList<>(found);
+        result.sort(NEAREST_FIRST);
+        return result;
+    }
+
+    /**
+     * 이웃 선택 휴리스틱 - 이미 고른 이웃보다 기준점에 더 가까운 후보만 채택해 여러 방향의 이웃을 고르고,
+     * 자리가 남으면 버린 후보를 가까운 순으로 채운다
+     *
+     * @param candidates 기준점과의 거리 오름차순
+     */
+    private List<Candidate> selectNeighbors(List<Candidate> candidates, int maxNeighbors) {
+        List<Candidate> selected = new ArrayList<>(maxNeighbors);
+        List<Candidate> pruned = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            if (selected.size() >= maxNeighbors) {
+                break;
+            }
+            Embedding vector = nodes.get(candidate.node()).vector;
+            boolean diverse = true;
+            for (Candidate chosen : selected) {
+                if (distance(vector, chosen.node()) < candidate.distance()) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate);
+            } else {
+                pruned.add(candidate);
+            }
+        }
+        for (int i = 0; i < pruned.size() && selected.size() < maxNeighbors; i++) {
+            selected.add(pruned.get(i));
+        }
+        return selected;
+    }
+
+    /**
+     * from → to 단방향 연결, 이웃 수가 넘치면 휴리스틱으로 다시 고른다
+     */
+    private void link(int from, int to, int level) {
+        Node node = nodes.get(from);
+        int[] neighbors = node.neighbors[level];
+        int count = node.neighborCounts[level];
+        for (int i = 0; i < count; i++) {
+            if (neighbors[i] == to) {
+                return;
+            }
+        }
+        if (count < neighbors.length) {
+            neighbors[count] = to;
+            node.neighborCounts[level] = count + 1;
+            return;
+        }
+
+        List<Candidate> candidates = new ArrayList<>(count + 1);
+        for (int i = 0; i < count; i++) {
+            candidates.add(new Candidate(neighbors[i], distance(node.vector, neighbors[i])));
+        }
+        candidates.add(new Candidate(to, distance(node.vector, to)));
+        candidates.sort(NEAREST_FIRST);
+
+        List<Candidate> selected = selectNeighbors(candidates, neighbors.length);
+        for (int i = 0; i < selected.size(); i++) {
+            neighbors[i] = selected.get(i).node();
+        }
+        node.neighborCounts[level] = selected.size();
+    }
+}
@@ -0,0 +1,209 @@
+package com.bobeat.backend.domain.store.index;
+
+import com.bobeat.backend.domain.store.config.StoreSearchConfig;
+import com.bobeat.backend.domain.store.dto.StoreCard;
+import com.bobeat.backend.domain.store.repository.StoreRepository;
+import com.bobeat.backend.global.util.AfterCommit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 카드(StoreCard) 인메모리 스냅샷
+ * <p>
+ * 검색 페이지마다 실행되던 대표 메뉴/좌석 타입/대표 이미지 조회와 카테고리 지연 로딩을 메모리 조회로 대체한다.
+ * <p>
+ * 동기화: - 서버 시작 시 전체 적재 (청크 단위) - 가게 등록/삭제 시 트랜잭션 커밋 이후 해당 가게만 갱신하고 변경분(changes)에도 기록
+ * - 10분마다 전체 재적재하면서 재적재 시작 이후 변경분은 새 스냅샷에 다시 적용하고, 이전 변경분은 정리 - 직접 DB 수정분은 재적재로 보정
+ * <p>
+ * 스냅샷에 없는 가게는 DB에서 조회 후 채워 넣는다. 조회를 시작한 뒤 같은 가게가 변경되었거나 스냅샷이 교체되었으면 채워 넣지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreCardSnapshot {
+
+    private final StoreRepository storeRepository;
+    private final StoreSearchConfig searchConfig;
+
+    private volatile Map<Long, StoreCard> cards = new ConcurrentHashMap<>();
+
+    /**
+     * 재적재 이후 바뀐 가게 (card가 null이면 삭제) - lock으로 스냅샷 교체와 변경 반영 순서를 맞춘다
+     */
+    private final Map<Long, Change> changes = new HashMap<>();
+    private final Object lock = new Object();
+
+    /**
+     * 현재 스냅샷의 재적재 시작 시각 (lock 안에서만 읽고 씀)
+     */
+    private long snapshotStartedAt = System.nanoTime();
+
+    private record Change(StoreCard card, long changedAt) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 10분마다 전체 재적재
+     */
+    @Scheduled(initialDelay = 600000, fixedDelay = 600000)
+    public void rebuild() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            long startedAt = System.nanoTime();
+            List<Long> storeIds = storeRepository.findAllIds();
+            int chunkSize = searchConfig.getCardSnapshot().getRebuildChunkSize();
+
+            Map<Long, StoreCard> rebuilt = new ConcurrentHashMap<>(storeIds.size());
+            for (int from = 0; from < storeIds.size(); from += chunkSize) {
+                List<Long> chunk = storeIds.subList(from, Math.min(from + chunkSize, storeIds.size()));
+                rebuilt.putAll(storeRepository.findStoreCards(chunk));
+            }
+            synchronized (lock) {
+                // 청크 적재 도중 커밋된 변경분은 조회 결과에 없을 수 있으므로 새 스냅샷에 다시 적용
+                changes.forEach((storeId, change) -> {
+                    if (change.changedAt() - startedAt >= 0) {
+                        apply(rebuilt, storeId, change.card());
+                    }
+                });
+                this.cards = rebuilt;
+                this.snapshotStartedAt = startedAt;
+                changes.values().removeIf(change -> change.changedAt() - startedAt < 0);
+            }
+            log.info("Store card snapshot rebuilt. {} stores", rebuilt.size());
+        } catch (Exception e) {
+            log.error("Failed to rebuild store card snapshot", e);
+        }
+    }
+
+    /**
+     * 메뉴/좌석/이미지/카테고리가 바뀐 가게를 다시 적재 (트랜잭션 커밋 이후)
+     */
+    public void refresh(Long storeId) {
+        if (!isEnabled()) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            long changedAt = System.nanoTime();
+            record(storeId, storeRepository.findStoreCards(List.of(storeId)).get(storeId), changedAt);
+        });
+    }
+
+    /**
+     * 대량 등록된 가게를 청크 단위로 적재 (트랜잭션 커밋 이후)
+     */
+    public void refreshAll(List<Long> storeIds) {
+        if (!isEnabled() || storeIds.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            int chunkSize = searchConfig.getCardSnapshot().getRebuildChunkSize();
+            for (int from = 0; from < storeIds.size(); from += chunkSize) {
+                List<Long> chunk = storeIds.subList(from, Math.min(from + chunkSize, storeIds.size()));
+                long changedAt = System.nanoTime();
+                Map<Long, StoreCard> loaded = storeRepository.findStoreCards(chunk);
+                chunk.forEach(storeId -> record(storeId, loaded.get(storeId), changedAt));
+            }
+        });
+    }
+
+    /**
+     * 삭제된 가게 제거 (트랜잭션 커밋 이후)
+     */
+    public void remove(Long storeId) {
+        AfterCommit.run(() -> record(storeId, null, System.nanoTime()));
+    }
+
+    /**
+     * 가게 ID 목록에 해당하는 카드 조회
+     * 스냅샷에 없는 가게만 DB에서 한 번에 조회
+     */
+    public Map<Long, StoreCard> findAll(List<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return Map.of();
+        }
+        if (!isEnabled()) {
+            return storeRepository.findStoreCards(storeIds);
+        }
+
+        Map<Long, StoreCard> current = cards;
+        Map<Long, StoreCard> result = new HashMap<>(storeIds.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : storeIds) {
+            StoreCard card = current.get(id);
+            if (card != null) {
+                result.put(id, card);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long loadedAt = System.nanoTime();
+            Map<Long, StoreCard> loaded = storeRepository.findStoreCards(missing);
+            cacheLoaded(loaded, loadedAt);
+            result.putAll(loaded);
+        }
+        return result;
+    }
+
+    // ==================== Helper Methods ====================
+
+    private boolean isEnabled() {
+        return Boolean.TRUE.equals(searchConfig.getCardSnapshot().getEnabled());
+    }
+
+    /**
+     * 같은 가게의 더 최근 변경분이 이미 있으면 무시 (조회 시작 시각 기준)
+     */
+    private void record(Long storeId, StoreCard card, long changedAt) {
+        synchronized (lock) {
+            Change previous = changes.get(storeId);
+            if (previous != null && previous.changedAt() - changedAt > 0) {
+                return;
+            }
+            changes.put(storeId, new Change(card, changedAt));
+            apply(cards, storeId, card);
+        }
+    }
+
+    /**
+     * 조회로 채운 카드는 변경분으로 기록하지 않고 스냅샷에만 넣는다
+     * 조회 시작 이후 같은 가게가 변경(등록/삭제)되었거나 스냅샷이 다시 적재되었으면 그쪽이 더 최신이므로 넣지 않는다.
+     */
+    private void cacheLoaded(Map<Long, StoreCard> loaded, long loadedAt) {
+        synchronized (lock) {
+            if (snapshotStartedAt - loadedAt > 0) {
+                return;
+            }
+            loaded.forEach((storeId, card) -> {
+                Change change = changes.get(storeId);
+                if (change == null || change.changedAt() - loadedAt < 0) {
+                    cards.put(storeId, card);
+                }
+            });
+        }
+    }
+
+    private void apply(Map<Long, StoreCard> target, Long storeId, StoreCard card) {
+        if (card == null) {
+            target.remove(storeId);
+        } else {
+            target.put(storeId, card);
+        }
+    }
+}
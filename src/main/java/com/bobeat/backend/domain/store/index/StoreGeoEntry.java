@@ -0,0 +1,35 @@
+package com.bobeat.backend.domain.store.index;
+
+import com.bobeat.backend.domain.member.entity.Level;
+import com.bobeat.backend.domain.store.entity.Store;
+
+/**
+ * 공간 인덱스에 적재되는 가게 위치 정보
+ * 위치 검색과 혼밥레벨/카테고리 필터에 필요한 최소 필드만 보관
+ */
+public record StoreGeoEntry(
+        Long storeId,
+        Double latitude,
+        Double longitude,
+        Level honbobLevel,
+        String primaryCategory
+) {
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+
+    public static StoreGeoEntry from(Store store) {
+        String primaryCategory = store.getCategories() != null
+                && store.getCategories().getPrimaryCategory() != null
+                ? store.getCategories().getPrimaryCategory().getPrimaryType()
+                : null;
+
+        return new StoreGeoEntry(
+                store.getId(),
+                store.getAddress().getLatitude(),
+                store.getAddress().getLongitude(),
+                store.getHonbobLevel(),
+                primaryCategory
+        );
+    }
+}
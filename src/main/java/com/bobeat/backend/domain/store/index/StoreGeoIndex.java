@@ -0,0 +1,390 @@
+package com.bobeat.backend.domain.store.index;
+
+import com.bobeat.backend.domain.member.entity.Level;
+import com.bobeat.backend.domain.store.config.StoreSearchConfig;
+import com.bobeat.backend.domain.store.dto.request.StoreFilteringRequest;
+import com.bobeat.backend.domain.store.repository.StoreRepository;
+import com.bobeat.backend.domain.store.repository.query.StoreQueryFilterBuilder;
+import com.bobeat.backend.global.util.AfterCommit;
+import com.bobeat.backend.global.util.KeysetCursor;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가게 위치 인메모리 격자(grid) 인덱스
+ * <p>
+ * 지도 이동마다 PostGIS(ST_DWithin/ST_Intersects + ST_Distance 정렬)를 호출하지 않고 JVM 안에서 반경/BBox 검색과 (distance, id) 키셋 페이징을
+ * 처리한다. 가게 수가 수만 건 수준이라 위치 정보 전체가 수 MB 힙에 들어간다.
+ * <p>
+ * 동기화: - 서버 시작 시 전체 적재 - 가게 등록/삭제 시 트랜잭션 커밋 이후 반영하고 변경분(changes)에도 기록
+ * - 10분마다 전체 재적재하면서 재적재 시작 이후 변경분은 새 격자에 다시 적용하고, 이전 변경분은 정리 - 직접 DB 수정분은 재적재로 보정
+ * <p>
+ * 거리는 DB 경로(ST_Distance(..., false))와 같은 구면 거리 + 반올림을 사용해 두 경로의 (distance, id) 커서가 호환된다.
+ * <p>
+ * 가격/좌석 필터와 추천순 정렬은 지원하지 않으며 기존 DB 쿼리 경로를 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreGeoIndex {
+
+    /**
+     * PostGIS가 구면 계산에 쓰는 WGS84 평균 반지름 ((2a + b) / 3)
+     */
+    private static final double EARTH_RADIUS_METERS = 6_371_008.771415;
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+    private static final int DEFAULT_RADIUS_METERS = 5000;
+
+    private final StoreRepository storeRepository;
+    private final StoreQueryFilterBuilder filterBuilder;
+    private final StoreSearchConfig searchConfig;
+
+    private volatile Grid grid;
+
+    /**
+     * 재적재 이후 바뀐 가게 (entry가 null이면 삭제) - lock으로 격자 교체와 변경 반영 순서를 맞춘다
+     */
+    private final Map<Long, Change> changes = new HashMap<>();
+    private final Object lock = new Object();
+
+    public record GeoHit(Long storeId, int distance) {
+    }
+
+    private record Change(StoreGeoEntry entry, long changedAt) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 10분마다 전체 재적재 - 인덱스를 거치지 않은 변경분 보정
+     */
+    @Scheduled(initialDelay = 600000, fixedDelay = 600000)
+    public void rebuild() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            long startedAt = System.nanoTime();
+            List<StoreGeoEntry> entries = storeRepository.findAllGeoEntries();
+            Grid rebuilt = new Grid(searchConfig.getGeoIndex().getCellSizeDegrees());
+            entries.forEach(rebuilt::put);
+            synchronized (lock) {
+                // 적재 도중 커밋된 변경분은 조회 결과에 없을 수 있으므로 새 격자에 다시 적용
+                changes.forEach((storeId, change) -> {
+                    if (change.changedAt() - startedAt >= 0) {
+                        apply(rebuilt, storeId, change.entry());
+                    }
+                });
+                this.grid = rebuilt;
+                changes.values().removeIf(change -> change.changedAt() - startedAt < 0);
+            }
+            log.info("Store geo index rebuilt. {} stores, {} cells", rebuilt.size(), rebuilt.cellCount());
+        } catch (Exception e) {
+            log.error("Failed to rebuild store geo index", e);
+        }
+    }
+
+    /**
+     * 가게 등록/수정 반영 (트랜잭션 커밋 이후)
+     */
+    public void put(StoreGeoEntry entry) {
+        AfterCommit.run(() -> record(entry.storeId(), entry));
+    }
+
+    /**
+     * 대량 등록 반영 (트랜잭션 커밋 이후)
+     */
+    public void putAll(List<StoreGeoEntry> entries) {
+        AfterCommit.run(() -> entries.forEach(entry -> record(entry.storeId(), entry)));
+    }
+
+    /**
+     * 가게 삭제 반영 (트랜잭션 커밋 이후)
+     */
+    public void remove(Long storeId) {
+        AfterCommit.run(() -> record(storeId, null));
+    }
+
+    /**
+     * 인덱스로 처리 가능한 요청인지 확인
+     * 거리순 정렬 + JOIN 필터(가격/좌석)가 없는 경우만 처리
+     */
+    public boolean supports(StoreFilteringRequest request) {
+        if (!isEnabled() || grid == null) {
+            return false;
+        }
+        boolean distanceSort = request.sortBy() == null
+                || request.sortBy() == StoreFilteringRequest.SortBy.DISTANCE;
+        return distanceSort && !filterBuilder.needsJoin(request);
+    }
+
+    /**
+     * 위치/혼밥레벨/카테고리 필터 적용 후 (distance, id) 오름차순으로 limitPlusOne개 반환
+     */
+    public List<GeoHit> search(StoreFilteringRequest request, int limitPlusOne) {
+        KeysetCursor.PageCursor cursor = request.paging() != null
+                ? KeysetCursor.decodeOrNull(request.paging().lastKnown())
+                : null;
+        return search(request, cursor, limitPlusOne);
+    }
+
+    /**
+     * 요청의 커서 대신 주어진 커서(null이면 처음부터) 이후의 가게를 반환 - 카드가 빠진 페이지를 이어서 채울 때 사용
+     */
+    public List<GeoHit> search(StoreFilteringRequest request, KeysetCursor.PageCursor cursor, int limitPlusOne) {
+        Grid current = grid;
+        if (current == null) {
+            return List.of();
+        }
+
+        double centerLat = request.center().lat();
+        double centerLon = request.center().lon();
+
+        List<StoreGeoEntry> candidates;
+        double radius;
+        if (filterBuilder.hasValidBbox(request)) {
+            var nw = request.bbox().nw();
+            var se = request.bbox().se();
+            candidates = current.findInBox(
+                    Math.min(nw.lat(), se.lat()), Math.min(nw.lon(), se.lon()),
+                    Math.max(nw.lat(), se.lat()), Math.max(nw.lon(), se.lon())
+            );
+            radius = Double.MAX_VALUE;
+        } else {
+            double latDelta = DEFAULT_RADIUS_METERS / METERS_PER_DEGREE_LAT;
+            double lonDelta = DEFAULT_RADIUS_METERS
+                    / (METERS_PER_DEGREE_LAT * Math.max(Math.cos(Math.toRadians(centerLat)), 0.01));
+            candidates = current.findInBox(
+                    centerLat - latDelta, centerLon - lonDelta,
+                    centerLat + latDelta, centerLon + lonDelta
+            );
+            radius = DEFAULT_RADIUS_METERS;
+        }
+
+        Set<Level> levels = resolveLevels(request);
+        Set<String> categories = resolveCategories(request);
+
+        List<GeoHit> hits = new ArrayList<>();
+        for (StoreGeoEntry entry : candidates) {
+            if (levels != null && !levels.contains(entry.honbobLevel())) {
+                continue;
+            }
+            if (categories != null && !categories.contains(entry.primaryCategory())) {
+                continue;
+            }
+            double meters = distanceMeters(centerLat, centerLon, entry.latitude(), entry.longitude());
+            if (meters > radius) {
+                continue;
+            }
+            GeoHit hit = new GeoHit(entry.storeId(), roundMeters(meters));
+            if (cursor != null && !isAfter(hit, cursor)) {
+                continue;
+            }
+            hits.add(hit);
+        }
+
+        return hits.stream()
+                .sorted(Comparator.comparingInt(GeoHit::distance).thenComparing(GeoHit::storeId))
+                .limit(limitPlusOne)
+                .toList();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private boolean isEnabled() {
+        return Boolean.TRUE.equals(searchConfig.getGeoIndex().getEnabled());
+    }
+
+    private void record(Long storeId, StoreGeoEntry entry) {
+        if (storeId == null) {
+            return;
+        }
+        synchronized (lock) {
+            changes.put(storeId, new Change(entry, System.nanoTime()));
+            Grid current = grid;
+            if (current != null) {
+                apply(current, storeId, entry);
+            }
+        }
+    }
+
+    private void apply(Grid target, Long storeId, StoreGeoEntry entry) {
+        if (entry == null) {
+            target.remove(storeId);
+        } else {
+            target.put(entry);
+        }
+    }
+
+    private boolean isAfter(GeoHit hit, KeysetCursor.PageCursor cursor) {
+        return hit.distance() > cursor.distance()
+                || (hit.distance() == cursor.distance() && hit.storeId() > cursor.id());
+    }
+
+    private Set<Level> resolveLevels(StoreFilteringRequest request) {
+        if (request.filters() == null || request.filters().honbobLevel() == null) {
+            return null;
+        }
+        Set<Level> levels = request.filters().honbobLevel().stream()
+                .filter(Objects::nonNull)
+                .map(Level::fromValue)
+                .collect(Collectors.toSet());
+        return levels.isEmpty() ? null : levels;
+    }
+
+    private Set<String> resolveCategories(StoreFilteringRequest request) {
+        if (request.filters() == null
+                || request.filters().categories() == null
+                || request.filters().categories().isEmpty()) {
+            return null;
+        }
+        return Set.copyOf(request.filters().categories());
+    }
+
+    /**
+     * 구면 거리(미터) - PostGIS geography ST_Distance(a, b, false)와 같은 식 (lwgeodetic sphere_distance)
+     */
+    static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double latS = Math.toRadians(lat1);
+        double latE = Math.toRadians(lat2);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double cosLatS = Math.cos(latS);
+        double sinLatS = Math.sin(latS);
+        double cosLatE = Math.cos(latE);
+        double sinLatE = Math.sin(latE);
+        double cosDLon = Math.cos(dLon);
+
+        double a1 = cosLatE * Math.sin(dLon);
+        double a2 = cosLatS * sinLatE - sinLatS * cosLatE * cosDLon;
+        double a = Math.sqrt(a1 * a1 + a2 * a2);
+        double b = sinLatS * sinLatE + cosLatS * cosLatE * cosDLon;
+        return EARTH_RADIUS_METERS * Math.atan2(a, b);
+    }
+
+    /**
+     * CAST(float8 AS integer)와 같은 반올림 (0.5는 짝수 쪽)
+     */
+    static int roundMeters(double meters) {
+        return (int) Math.rint(meters);
+    }
+
+    /**
+     * 위경도 격자 - 셀 키는 (위도 인덱스 << 32 | 경도 인덱스)
+     */
+    static final class Grid {
+        private final double cellSize;
+        private final Map<Long, StoreGeoEntry> entries = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+        Grid(double cellSize) {
+            this.cellSize = cellSize;
+        }
+
+        void put(StoreGeoEntry entry) {
+            if (entry.storeId() == null) {
+                return;
+            }
+            if (!entry.hasLocation()) {
+                remove(entry.storeId());
+                return;
+            }
+            StoreGeoEntry previous = entries.put(entry.storeId(), entry);
+            if (previous != null) {
+                removeFromCell(previous);
+            }
+            cells.computeIfAbsent(cellKey(entry.latitude(), entry.longitude()), k -> ConcurrentHashMap.newKeySet())
+                    .add(entry.storeId());
+        }
+
+        void remove(Long storeId) {
+            StoreGeoEntry previous = entries.remove(storeId);
+            if (previous != null) {
+                removeFromCell(previous);
+            }
+        }
+
+        List<StoreGeoEntry> findInBox(double minLat, double minLon, double maxLat, double maxLon) {
+            long minRow = cellIndex(minLat);
+            long maxRow = cellIndex(maxLat);
+            long minCol = cellIndex(minLon);
+            long maxCol = cellIndex(maxLon);
+
+            List<StoreGeoEntry> result = new ArrayList<>();
+
+            // 박스가 커서 셀 순회가 전체 순회보다 비싸면 전체 스캔
+            long cellsToVisit = (maxRow - minRow + 1) * (maxCol - minCol + 1);
+            if (cellsToVisit > entries.size()) {
+                for (StoreGeoEntry entry : entries.values()) {
+                    if (inBox(entry, minLat, minLon, maxLat, maxLon)) {
+                        result.add(entry);
+                    }
+                }
+                return result;
+            }
+
+            for (long row = minRow; row <= maxRow; row++) {
+                for (long col = minCol; col <= maxCol; col++) {
+                    Set<Long> ids = cells.get(key(row, col));
+                    if (ids == null) {
+                        continue;
+                    }
+                    for (Long id : ids) {
+                        StoreGeoEntry entry = entries.get(id);
+                        if (entry != null && inBox(entry, minLat, minLon, maxLat, maxLon)) {
+                            result.add(entry);
+                        }
+                    }
+                }
+            }
+            return result;
+        }
+
+        int size() {
+            return entries.size();
+        }
+
+        int cellCount() {
+            return cells.size();
+        }
+
+        private void removeFromCell(StoreGeoEntry entry) {
+            cells.computeIfPresent(cellKey(entry.latitude(), entry.longitude()), (k, ids) -> {
+                ids.remove(entry.storeId());
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+
+        private boolean inBox(StoreGeoEntry e, double minLat, double minLon, double maxLat, double maxLon) {
+            return e.latitude() >= minLat && e.latitude() <= maxLat
+                    && e.longitude() >= minLon && e.longitude() <= maxLon;
+        }
+
+        private long cellIndex(double degrees) {
+            return (long) Math.floor(degrees / cellSize);
+        }
+
+        private long cellKey(double lat, double lon) {
+            return key(cellIndex(lat), cellIndex(lon));
+        }
+
+        private long key(long row, long col) {
+            return (row << 32) | (col & 0xFFFFFFFFL);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.bobeat.backend.domain.store.index;
+
+import java.util.List;
+
+/**
+ * 어휘(n-gram) 인덱스에 적재되는 가게 텍스트 정보
+ * 가게명, 메뉴명, 카테고리명과 반경 필터용 위치만 보관
+ */
+public record StoreLexicalEntry(
+        Long storeId,
+        String name,
+        List<String> menuNames,
+        List<String> categories,
+        Double latitude,
+        Double longitude
+) {
+    public StoreLexicalEntry {
+        menuNames = menuNames != null ? List.copyOf(menuNames) : List.of();
+        categories = categories != null ? List.copyOf(categories) : List.of();
+    }
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+}
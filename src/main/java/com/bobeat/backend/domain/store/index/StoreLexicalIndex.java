@@ -0,0 +1,311 @@
+package com.bobeat.backend.domain.store.index;
+
+import com.bobeat.backend.domain.store.config.StoreSearchConfig;
+import com.bobeat.backend.domain.store.repository.StoreLexicalRepository;
+import com.bobeat.backend.global.util.AfterCommit;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가게명/메뉴명/카테고리 인메모리 2-gram 역색인
+ * <p>
+ * "혼밥식당", "순대국밥"처럼 짧은 한국어 검색어는 임베딩보다 글자 일치가 더 정확하고, 임베딩 조회 없이 바로 답할 수 있다.
+ * 검색어와 필드를 정규화(NFC, 소문자, 공백/기호 제거)한 뒤 2-gram 포함 비율로 후보를 고르고 필드별 일치 점수로 정렬한다.
+ * <p>
+ * 점수 (필드 가중치 × 일치 점수, 필드 중 최댓값): - 가중치: 가게명 1.0, 메뉴명 0.9, 카테고리 0.8
+ * - 일치 점수: 전체 일치 1.0, 부분 문자열 0.9, 그 외 0.7 × 2-gram 포함 비율 (minCoverage 미만은 제외)
+ * <p>
+ * 동기화: - 서버 시작 시 전체 적재 - 가게 등록/삭제 시 트랜잭션 커밋 이후 변경분(changes)에 반영
+ * - 10분마다 전체 재적재하면서 재적재 시작 이전 변경분은 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreLexicalIndex {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final double NAME_WEIGHT = 1.0;
+    private static final double MENU_WEIGHT = 0.9;
+    private static final double CATEGORY_WEIGHT = 0.8;
+    private static final double EXACT_SCORE = 1.0;
+    private static final double CONTAINS_SCORE = 0.9;
+    private static final double PARTIAL_SCORE = 0.7;
+
+    private final StoreLexicalRepository storeLexicalRepository;
+    private final StoreSearchConfig searchConfig;
+
+    private volatile Postings postings;
+
+    /**
+     * 마지막 재적재 이후 바뀐 가게 (doc이 null이면 삭제) - 검색 시 기본 역색인보다 우선
+     */
+    private final Map<Long, Change> changes = new ConcurrentHashMap<>();
+
+    public record LexicalHit(Long storeId, double score, int distance) {
+    }
+
+    private record Change(Doc doc, long changedAt) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 10분마다 전체 재적재 - 인덱스를 거치지 않은 변경분(메뉴 수정 등) 보정
+     */
+    @Scheduled(initialDelay = 600000, fixedDelay = 600000)
+    public void rebuild() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            long startedAt = System.nanoTime();
+            Postings rebuilt = Postings.build(storeLexicalRepository.findAll());
+            this.postings = rebuilt;
+            changes.values().removeIf(change -> change.changedAt() - startedAt < 0);
+            log.info("Store lexical index rebuilt. {} stores, {} grams", rebuilt.docs.length, rebuilt.grams.size());
+        } catch (Exception e) {
+            log.error("Failed to rebuild store lexical index", e);
+        }
+    }
+
+    /**
+     * 가게 등록/수정 반영 (트랜잭션 커밋 이후)
+     */
+    public void refresh(Long storeId) {
+        refreshAll(List.of(storeId));
+    }
+
+    /**
+     * 대량 등록 반영 (트랜잭션 커밋 이후)
+     */
+    public void refreshAll(Collection<Long> storeIds) {
+        if (!isEnabled() || storeIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(storeIds);
+        AfterCommit.run(() -> {
+            long changedAt = System.nanoTime();
+            Map<Long, StoreLexicalEntry> entries = storeLexicalRepository.findByStoreIds(ids).stream()
+                    .collect(Collectors.toMap(StoreLexicalEntry::storeId, Function.identity()));
+            for (Long storeId : ids) {
+                StoreLexicalEntry entry = entries.get(storeId);
+                changes.put(storeId, new Change(entry != null ? Doc.from(entry) : null, changedAt));
+            }
+        });
+    }
+
+    /**
+     * 가게 삭제 반영 (트랜잭션 커밋 이후)
+     */
+    public void remove(Long storeId) {
+        if (!isEnabled()) {
+            return;
+        }
+        AfterCommit.run(() -> changes.put(storeId, new Change(null, System.nanoTime())));
+    }
+
+    public boolean isReady() {
+        return isEnabled() && postings != null;
+    }
+
+    /**
+     * 반경 안에서 검색어와 글자가 일치하는 가게를 (점수 내림차순, 거리, id) 순으로 최대 limit개 반환
+     * 정규화 후 2글자 미만인 검색어는 빈 결과
+     */
+    public List<LexicalHit> search(String query, double lat, double lon, int radiusMeters, int limit) {
+        Postings current = postings;
+        String text = normalize(query);
+        if (current == null || text.length() < 2) {
+            return List.of();
+        }
+
+        Query q = new Query(text, bigrams(text), searchConfig.getLexical().getMinCoverage());
+        int minMatches = Math.max(1, (int) Math.ceil(q.grams().size() * q.minCoverage()));
+
+        Map<Integer, Integer> matches = new HashMap<>();
+        for (String gram : q.grams()) {
+            int[] ordinals = current.grams.get(gram);
+            if (ordinals == null) {
+                continue;
+            }
+            for (int ordinal : ordinals) {
+                matches.merge(ordinal, 1, Integer::sum);
+            }
+        }
+
+        List<LexicalHit> hits = new ArrayList<>();
+        matches.forEach((ordinal, count) -> {
+            Doc doc = current.docs[ordinal];
+            if (count >= minMatches && !changes.containsKey(doc.storeId())) {
+                addIfMatched(hits, doc, q, lat, lon, radiusMeters);
+            }
+        });
+        for (Change change : changes.values()) {
+            if (change.doc() != null) {
+                addIfMatched(hits, change.doc(), q, lat, lon, radiusMeters);
+            }
+        }
+
+        return hits.stream()
+                .sorted(Comparator.comparingDouble(LexicalHit::score).reversed()
+                        .thenComparingInt(LexicalHit::distance)
+                        .thenComparing(LexicalHit::storeId))
+                .limit(limit)
+                .toList();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private boolean isEnabled() {
+        return Boolean.TRUE.equals(searchConfig.getLexical().getEnabled());
+    }
+
+    private void addIfMatched(List<LexicalHit> hits, Doc doc, Query q, double lat, double lon, int radiusMeters) {
+        double meters = StoreGeoIndex.distanceMeters(lat, lon, doc.latitude(), doc.longitude());
+        if (meters > radiusMeters) {
+            return;
+        }
+        double score = doc.score(q);
+        if (score > 0) {
+            hits.add(new LexicalHit(doc.storeId(), score, StoreGeoIndex.roundMeters(meters)));
+        }
+    }
+
+    /**
+     * NFC 정규화 + 소문자 + 공백/기호 제거 ("순대 국밥!" → "순대국밥")
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        return NON_WORD.matcher(normalized).replaceAll("");
+    }
+
+    static Set<String> bigrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private record Query(String text, Set<String> grams, double minCoverage) {
+    }
+
+    /**
+     * 정규화된 가게 텍스트 - 위치가 없는 가게는 반경 필터를 할 수 없어 적재하지 않는다
+     */
+    private record Doc(long storeId, String name, List<String> menus, List<String> categories,
+                       double latitude, double longitude) {
+
+        static Doc from(StoreLexicalEntry entry) {
+            if (entry.storeId() == null || !entry.hasLocation()) {
+                return null;
+            }
+            return new Doc(
+                    entry.storeId(),
+                    normalize(entry.name()),
+                    entry.menuNames().stream().map(StoreLexicalIndex::normalize).filter(s -> !s.isEmpty()).toList(),
+                    entry.categories().stream().map(StoreLexicalIndex::normalize).filter(s -> !s.isEmpty()).toList(),
+                    entry.latitude(),
+                    entry.longitude()
+            );
+        }
+
+        Set<String> grams() {
+            Set<String> grams = bigrams(name);
+            menus.forEach(menu -> grams.addAll(bigrams(menu)));
+            categories.forEach(category -> grams.addAll(bigrams(category)));
+            return grams;
+        }
+
+        double score(Query q) {
+            double best = NAME_WEIGHT * similarity(name, q);
+            for (String menu : menus) {
+                best = Math.max(best, MENU_WEIGHT * similarity(menu, q));
+            }
+            for (String category : categories) {
+                best = Math.max(best, CATEGORY_WEIGHT * similarity(category, q));
+            }
+            return best;
+        }
+
+        /**
+         * 필드가 정규화되어 있어 "필드의 2-gram 집합에 속함"은 "필드가 그 2-gram을 포함함"과 같다
+         */
+        private static double similarity(String field, Query q) {
+            if (field.isEmpty()) {
+                return 0;
+            }
+            if (field.equals(q.text())) {
+                return EXACT_SCORE;
+            }
+            if (field.contains(q.text())) {
+                return CONTAINS_SCORE;
+            }
+            int matched = 0;
+            for (String gram : q.grams()) {
+                if (field.contains(gram)) {
+                    matched++;
+                }
+            }
+            double coverage = (double) matched / q.grams().size();
+            return coverage >= q.minCoverage() ? PARTIAL_SCORE * coverage : 0;
+        }
+    }
+
+    /**
+     * 재적재 단위의 불변 역색인 - 2-gram → 가게 순번 배열
+     */
+    private static final class Postings {
+        private final Doc[] docs;
+        private final Map<String, int[]> grams;
+
+        private Postings(Doc[] docs, Map<String, int[]> grams) {
+            this.docs = docs;
+            this.grams = grams;
+        }
+
+        static Postings build(List<StoreLexicalEntry> entries) {
+            List<Doc> docs = new ArrayList<>(entries.size());
+            Map<String, List<Integer>> lists = new HashMap<>();
+            for (StoreLexicalEntry entry : entries) {
+                Doc doc = Doc.from(entry);
+                if (doc == null) {
+                    continue;
+                }
+                int ordinal = docs.size();
+                docs.add(doc);
+                for (String gram : doc.grams()) {
+                    lists.computeIfAbsent(gram, k -> new ArrayList<>()).add(ordinal);
+                }
+            }
+
+            Map<String, int[]> grams = new HashMap<>(lists.size() * 4 / 3 + 1);
+            lists.forEach((gram, ordinals) -> grams.put(gram, ordinals.stream().mapToInt(Integer::intValue).toArray()));
+            return new Postings(docs.toArray(Doc[]::new), grams);
+        }
+    }
+}
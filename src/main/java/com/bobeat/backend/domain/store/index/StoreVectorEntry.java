@@ -0,0 +1,10 @@
+package com.bobeat.backend.domain.store.index;
+
+/**
+ * 벡터 인덱스에 적재되는 가게 임베딩 (임베딩 생성이 완료된 가게만)
+ */
+public record StoreVectorEntry(
+        Long storeId,
+        float[] embedding
+) {
+}
@@ -0,0 +1,212 @@
+package com.bobeat.backend.domain.store.index;
+
+import com.bobeat.backend.domain.store.config.StoreSearchConfig;
+import com.bobeat.backend.domain.store.repository.StoreEmbeddingRepository;
+import com.bobeat.backend.domain.store.vo.Embedding;
+import com.bobeat.backend.global.util.AfterCommit;
+import com.bobeat.backend.global.util.KeysetCursor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가게 임베딩 인메모리 벡터 인덱스 (HNSW)
+ * <p>
+ * 의미 기반 검색/유사 가게 추천마다 pgvector 전수 비교(<=> 정렬)를 호출하지 않고 JVM 안에서 근사 최근접 이웃을 찾는다.
+ * 가게 수가 수만 건 수준이라 1024차원 임베딩 전체가 수백 MB 이하 힙에 들어간다.
+ * <p>
+ * 동기화: - 서버 시작 시 전체 적재 - 임베딩 저장/가게 삭제 시 트랜잭션 커밋 이후 반영하고 변경분(changes)에도 기록
+ * - 30분마다 재구축하면서 재구축 시작 이후 변경분은 새 인덱스에 다시 적용하고, 이전 변경분은 정리
+ * - 삭제 표시 정리와 직접 DB 수정분은 재구축으로 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreVectorIndex {
+
+    private final StoreEmbeddingRepository storeEmbeddingRepository;
+    private final StoreSearchConfig searchConfig;
+
+    private volatile HnswIndex index;
+
+    /**
+     * 재구축 이후 바뀐 가게 (embedding이 null이면 삭제) - lock으로 인덱스 교체와 변경 반영 순서를 맞춘다
+     */
+    private final Map<Long, Change> changes = new HashMap<>();
+    private final Object lock = new Object();
+
+    public record VectorHit(Long storeId, double distance) {
+    }
+
+    private record Change(Embedding embedding, long changedAt) {
+    }
+
+    private static final Comparator<VectorHit> HIT_ORDER =
+            Comparator.comparingDouble(VectorHit::distance).thenComparing(VectorHit::storeId);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 30분마다 전체 재구축 - 삭제 표시된 노드 정리 및 인덱스를 거치지 않은 변경분 보정
+     */
+    @Scheduled(initialDelay = 1800000, fixedDelay = 1800000)
+    public void rebuild() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            long startedAt = System.nanoTime();
+            StoreSearchConfig.VectorIndex config = searchConfig.getVectorIndex();
+            HnswIndex rebuilt = new HnswIndex(config.getM(), config.getEfConstruction());
+
+            long lastStoreId = 0L;
+            while (true) {
+                List<StoreVectorEntry> chunk = storeEmbeddingRepository.findCompletedVectorsAfter(
+                        lastStoreId, Limit.of(config.getLoadChunkSize()));
+                for (StoreVectorEntry entry : chunk) {
+                    rebuilt.add(entry.storeId(), Embedding.of(entry.embedding()));
+                }
+                if (chunk.size() < config.getLoadChunkSize()) {
+                    break;
+                }
+                lastStoreId = chunk.getLast().storeId();
+            }
+
+            synchronized (lock) {
+                // 청크 적재 도중 커밋된 변경분은 조회 결과에 없을 수 있으므로 새 인덱스에 다시 적용
+                changes.forEach((storeId, change) -> {
+                    if (change.changedAt() - startedAt >= 0) {
+                        apply(rebuilt, storeId, change.embedding());
+                    }
+                });
+                this.index = rebuilt;
+                changes.values().removeIf(change -> change.changedAt() - startedAt < 0);
+            }
+            log.info("Store vector index rebuilt. {} stores", rebuilt.size());
+        } catch (Exception e) {
+            log.error("Failed to rebuild store vector index", e);
+        }
+    }
+
+    /**
+     * 임베딩 저장/갱신 반영 (트랜잭션 커밋 이후)
+     */
+    public void put(Long storeId, Embedding embedding) {
+        AfterCommit.run(() -> record(storeId, embedding));
+    }
+
+    /**
+     * 가게 삭제 반영 (트랜잭션 커밋 이후)
+     */
+    public void remove(Long storeId) {
+        AfterCommit.run(() -> record(storeId, null));
+    }
+
+    public boolean isReady() {
+        return isEnabled() && index != null;
+    }
+
+    /**
+     * 질의 벡터와 가까운 가게를 (거리, 가게 id) 오름차순으로 cursor 이후부터 limitPlusOne개 반환
+     * 커서 이후 결과가 모자라거나 탐색 범위 끝에서 동점이 잘리면 탐색 개수를 두 배씩 늘려 다시 찾는다
+     *
+     * @param cursor 이전 페이지 마지막 (거리, 가게 id), 첫 페이지면 null
+     */
+    public List<VectorHit> search(Embedding query, KeysetCursor.VectorCursor cursor, int limitPlusOne) {
+        HnswIndex current = index;
+        if (current == null) {
+            return List.of();
+        }
+        int efSearch = searchConfig.getVectorIndex().getEfSearch();
+        int k = limitPlusOne;
+        while (true) {
+            // 삭제 표시된 노드도 탐색 후보 자리를 차지하므로 그 수만큼 넓혀서 찾는다
+            int ef = Math.max(efSearch, k + current.deletedCount());
+            List<HnswIndex.Hit> hits = current.search(query, k, ef);
+            List<VectorHit> result = hits.stream()
+                    .map(hit -> new VectorHit(hit.id(), hit.distance()))
+                    .sorted(HIT_ORDER)
+                    .filter(hit -> isAfter(hit, cursor))
+                    .limit(limitPlusOne)
+                    .toList();
+            // 결과가 k개보다 적어도 삭제 표시 때문일 수 있어, 탐색 범위가 그래프 전체를 덮었을 때만 끝으로 본다
+            boolean exhausted = ef >= current.nodeCount();
+            // 탐색 범위 끝과 마지막 결과의 거리가 같으면 동점 가게가 잘렸을 수 있어 범위를 넓힌다
+            boolean tiedAtBoundary = !result.isEmpty() && hits.getLast().distance() <= result.getLast().distance();
+            if (exhausted || (result.size() >= limitPlusOne && !tiedAtBoundary)) {
+                return result;
+            }
+            k *= 2;
+        }
+    }
+
+    /**
+     * 기준 가게 임베딩과 후보 가게들의 거리를 전수 비교해 가까운 순으로 limit개 반환
+     * 후보가 반경 내 가게 수백 개 수준이라 그래프 탐색보다 전수 비교가 정확하고 빠르다
+     *
+     * @return 기준 가게 임베딩이 없으면 빈 목록
+     */
+    public List<VectorHit> rankCandidates(Long storeId, Collection<Long> candidateStoreIds, int limit) {
+        HnswIndex current = index;
+        Embedding target = current != null ? current.get(storeId) : null;
+        if (target == null) {
+            return List.of();
+        }
+        List<VectorHit> hits = new ArrayList<>(candidateStoreIds.size());
+        for (Long candidateId : candidateStoreIds) {
+            Embedding candidate = current.get(candidateId);
+            if (candidate != null) {
+                hits.add(new VectorHit(candidateId, target.cosineDistance(candidate)));
+            }
+        }
+        return hits.stream()
+                .sorted(HIT_ORDER)
+                .limit(limit)
+                .toList();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void record(Long storeId, Embedding embedding) {
+        synchronized (lock) {
+            changes.put(storeId, new Change(embedding, System.nanoTime()));
+            HnswIndex current = index;
+            if (current != null) {
+                apply(current, storeId, embedding);
+            }
+        }
+    }
+
+    private void apply(HnswIndex target, Long storeId, Embedding embedding) {
+        if (embedding == null) {
+            target.remove(storeId);
+        } else {
+            target.add(storeId, embedding);
+        }
+    }
+
+    private boolean isAfter(VectorHit hit, KeysetCursor.VectorCursor cursor) {
+        if (cursor == null) {
+            return true;
+        }
+        int byDistance = Double.compare(hit.distance(), cursor.distance());
+        return byDistance > 0 || (byDistance == 0 && hit.storeId() > cursor.id());
+    }
+
+    private boolean isEnabled() {
+        return Boolean.TRUE.equals(searchConfig.getVectorIndex().getEnabled());
+    }
+}
@@ -30,4 +30,14 @@ public interface SimilarStoreRepository {
      * @return 임베딩 유사도 순으로 정렬된 Store와 유저와의 거리 정보 목록
      */
     List<StoreWithDistance> findSimilarByEmbeddingWithDistance(Long storeId, List<Long> candidateStoreIds, int limit, Double userLatitude, Double userLongitude);
+
+    /**
+     * 가게 ID 목록의 Store와 유저와의 거리 정보 조회 (순서 보장 없음)
+     *
+     * @param storeIds 가게 ID 목록
+     * @param userLatitude 유저의 현재 위도
+     * @param userLongitude 유저의 현재 경도
+     * @return Store와 유저와의 거리 정보 목록
+     */
+    List<StoreWithDistance> findStoresWithDistance(List<Long> storeIds, Double userLatitude, Double userLongitude);
 }
@@ -7,11 +7,13 @@ import com.bobeat.backend.domain.store.dto.StoreWithDistance;
 import com.bobeat.backend.domain.store.entity.EmbeddingStatus;
 import com.bobeat.backend.domain.store.entity.QStore;
 import com.bobeat.backend.domain.store.entity.QStoreEmbedding;
+import com.bobeat.backend.domain.store.repository.query.VectorSearchParameters;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +28,8 @@ import org.springframework.stereotype.Repository;
 public class SimilarStoreRepositoryImpl implements SimilarStoreRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final EntityManager em;
+    private final VectorSearchParameters vectorSearchParameters;
 
     /**
      * PostGIS로 특정 가게로부터 지정된 거리 이내에 있는 가게 ID 목록 반환
@@ -77,6 +81,9 @@ public class SimilarStoreRepositoryImpl implements SimilarStoreRepository {
             return List.of();
         }
 
+        // 호출하는 서비스의 읽기 전용 트랜잭션 범위로 ef_search/probes 적용
+        vectorSearchParameters.apply(em, limit);
+
         // se: 후보군 가게의 임베딩
         // targetSe: 비교 기준이 되는 가게(storeId)의 임베딩
         QStoreEmbedding se = new QStoreEmbedding("se");
@@ -116,4 +123,37 @@ public class SimilarStoreRepositoryImpl implements SimilarStoreRepository {
                 .limit(limit)
                 .fetch();
     }
+
+    /**
+     * 가게 ID 목록의 Store와 유저와의 거리 정보 조회 (벡터 인덱스로 순위를 정한 뒤 사용)
+     *
+     * @param storeIds      가게 ID 목록
+     * @param userLatitude  유저의 현재 위도
+     * @param userLongitude 유저의 현재 경도
+     *
+     * @return Store와 유저와의 거리 정보 목록 (순서 보장 없음)
+     */
+    @Override
+    public List<StoreWithDistance> findStoresWithDistance(List<Long> storeIds, Double userLatitude,
+                                                          Double userLongitude) {
+        if (storeIds == null || storeIds.isEmpty()) {
+            return List.of();
+        }
+
+        NumberExpression<Integer> distance = PostgisExpressions.distanceMeters(
+                store.address.location,
+                userLatitude,
+                userLongitude
+        );
+
+        return queryFactory
+                .select(Projections.constructor(
+                        StoreWithDistance.class,
+                        store,
+                        distance
+                ))
+                .from(store)
+                .where(store.id.in(storeIds))
+                .fetch();
+    }
 }
@@ -0,0 +1,193 @@
+package com.bobeat.backend.domain.store.repository;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 가게 대량 등록용 JDBC 저장소
+ * <p>
+ * IDENTITY 전략 엔티티는 INSERT마다 생성된 키를 받아야 해서 Hibernate가 JDBC 배치를 쓰지 못한다.
+ * 가게 ID는 시퀀스에서 미리 한 번에 받아 두고, 모든 INSERT를 JdbcTemplate.batchUpdate로 묶어 보낸다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreBulkImportRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record StoreKey(String name, double latitude, double longitude) {
+    }
+
+    public record StoreRow(Long id, String name, String address, double latitude, double longitude,
+                           String phoneNumber, String description, int honbobLevel, Long primaryCategoryId,
+                           Integer minMenuPrice, Integer maxMenuPrice, Integer signatureMenuPrice,
+                           int seatTypeMask) {
+    }
+
+    public record ImageRow(Long storeId, String imageUrl, boolean isMain) {
+    }
+
+    public record MenuRow(Long storeId, String name, int price, String imageUrl) {
+    }
+
+    public record SeatOptionRow(Long storeId, String seatType, String imageUrl) {
+    }
+
+    /**
+     * 이미 등록된 (이름, 위도, 경도) 조합을 한 번의 쿼리로 조회
+     */
+    public Set<StoreKey> findExistingKeys(List<StoreKey> keys) {
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+        String[] names = new String[keys.size()];
+        Double[] latitudes = new Double[keys.size()];
+        Double[] longitudes = new Double[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            names[i] = keys.get(i).name();
+            latitudes[i] = keys.get(i).latitude();
+            longitudes[i] = keys.get(i).longitude();
+        }
+
+        Set<StoreKey> existing = new HashSet<>();
+        jdbcTemplate.query("""
+                        SELECT s.name, s.latitude, s.longitude
+                        FROM store s
+                        JOIN unnest(?, ?, ?) AS k(name, latitude, longitude)
+                          ON s.name = k.name AND s.latitude = k.latitude AND s.longitude = k.longitude
+                        """,
+                statement -> {
+                    Connection connection = statement.getConnection();
+                    statement.setArray(1, connection.createArrayOf("text", names));
+                    statement.setArray(2, connection.createArrayOf("float8", latitudes));
+                    statement.setArray(3, connection.createArrayOf("float8", longitudes));
+                },
+                rs -> {
+                    existing.add(new StoreKey(rs.getString(1), rs.getDouble(2), rs.getDouble(3)));
+                });
+        return existing;
+    }
+
+    /**
+     * store.id 시퀀스에서 count개의 ID를 한 번에 발급
+     */
+    public List<Long> allocateStoreIds(int count) {
+        if (count == 0) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(
+                "SELECT nextval(pg_get_serial_sequence('store', 'id')) FROM generate_series(1, ?)",
+                Long.class, count);
+    }
+
+    public void insertStores(List<StoreRow> rows, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO store (id, name, address, latitude, longitude, location, phone_number, description,
+                                           honbob_level, primary_category_id, min_menu_price, max_menu_price,
+                                           signature_menu_price, seat_type_mask, created_at, updated_at)
+                        VALUES (?, ?, ?, ?, ?, CAST(ST_SetSRID(ST_MakePoint(?, ?), 4326) AS geography), ?, ?,
+                                ?, ?, ?, ?, ?, ?, ?, ?)
+                        """,
+                rows, BATCH_SIZE, (statement, row) -> {
+                    statement.setLong(1, row.id());
+                    statement.setString(2, row.name());
+                    statement.setString(3, row.address());
+                    statement.setDouble(4, row.latitude());
+                    statement.setDouble(5, row.longitude());
+                    statement.setDouble(6, row.longitude());
+                    statement.setDouble(7, row.latitude());
+                    statement.setString(8, row.phoneNumber());
+                    statement.setString(9, row.description());
+                    statement.setInt(10, row.honbobLevel());
+                    statement.setLong(11, row.primaryCategoryId());
+                    statement.setObject(12, row.minMenuPrice(), Types.INTEGER);
+                    statement.setObject(13, row.maxMenuPrice(), Types.INTEGER);
+                    statement.setObject(14, row.signatureMenuPrice(), Types.INTEGER);
+                    statement.setInt(15, row.seatTypeMask());
+                    statement.setTimestamp(16, timestamp);
+                    statement.setTimestamp(17, timestamp);
+                });
+    }
+
+    public void insertImages(List<ImageRow> rows, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO store_image (store_id, image_url, is_main, created_at, updated_at)
+                        VALUES (?, ?, ?, ?, ?)
+                        """,
+                rows, BATCH_SIZE, (statement, row) -> {
+                    statement.setLong(1, row.storeId());
+                    statement.setString(2, row.imageUrl());
+                    statement.setBoolean(3, row.isMain());
+                    statement.setTimestamp(4, timestamp);
+                    statement.setTimestamp(5, timestamp);
+                });
+    }
+
+    public void insertMenus(List<MenuRow> rows, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO menu (store_id, name, price, image_url, recommend, created_at, updated_at)
+                        VALUES (?, ?, ?, ?, false, ?, ?)
+                        """,
+                rows, BATCH_SIZE, (statement, row) -> {
+                    statement.setLong(1, row.storeId());
+                    statement.setString(2, row.name());
+                    statement.setInt(3, row.price());
+                    statement.setString(4, row.imageUrl());
+                    statement.setTimestamp(5, timestamp);
+                    statement.setTimestamp(6, timestamp);
+                });
+    }
+
+    public void insertSeatOptions(List<SeatOptionRow> rows, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO seat_option (store_id, seat_type, image_url, created_at, updated_at)
+                        VALUES (?, ?, ?, ?, ?)
+                        """,
+                rows, BATCH_SIZE, (statement, row) -> {
+                    statement.setLong(1, row.storeId());
+                    statement.setString(2, row.seatType());
+                    statement.setString(3, row.imageUrl());
+                    statement.setTimestamp(4, timestamp);
+                    statement.setTimestamp(5, timestamp);
+                });
+    }
+
+    /**
+     * 임베딩 작업 큐에 한 번에 등록 (StoreEmbeddingJobWorker가 처리)
+     */
+    public void insertEmbeddingJobs(List<Long> storeIds, LocalDateTime now) {
+        if (storeIds.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.update("""
+                        INSERT INTO store_embedding_job (store_id, status, attempts, claim_token, next_attempt_at,
+                                                         created_at, updated_at)
+                        SELECT id, 'PENDING', 0, 0, ?, ?, ?
+                        FROM unnest(?) AS t(id)
+                        ON CONFLICT (store_id) DO NOTHING
+                        """,
+                statement -> {
+                    Array ids = statement.getConnection().createArrayOf("int8", storeIds.toArray());
+                    statement.setTimestamp(1, timestamp);
+                    statement.setTimestamp(2, timestamp);
+                    statement.setTimestamp(3, timestamp);
+                    statement.setArray(4, ids);
+                });
+    }
+}
@@ -0,0 +1,185 @@
+package com.bobeat.backend.domain.store.repository;
+
+import com.bobeat.backend.domain.store.util.PgVectorUtils;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * store_embedding.embedding ANN 인덱스 DDL/상태 조회
+ * <p>
+ * CREATE INDEX CONCURRENTLY는 트랜잭션 블록 안에서 실행할 수 없어 JPA 대신 JdbcTemplate(autocommit)으로 실행한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreEmbeddingIndexRepository {
+
+    private static final String TABLE = "store_embedding";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record IndexInfo(String definition, boolean valid, long sizeBytes) {
+    }
+
+    public record BuildProgress(String phase, long blocksDone, long blocksTotal, long tuplesDone, long tuplesTotal) {
+    }
+
+    public Optional<IndexInfo> findIndex(String indexName) {
+        List<IndexInfo> result = jdbcTemplate.query("""
+                        SELECT i.indexdef, ix.indisvalid, pg_relation_size(c.oid) AS size_bytes
+                        FROM pg_indexes i
+                        JOIN pg_class c ON c.relname = i.indexname
+                        JOIN pg_index ix ON ix.indexrelid = c.oid
+                        WHERE i.tablename = ? AND i.indexname = ?
+                        """,
+                (rs, rowNum) -> new IndexInfo(rs.getString(1), rs.getBoolean(2), rs.getLong(3)),
+                TABLE, indexName);
+        return result.stream().findFirst();
+    }
+
+    /**
+     * 진행 중인 인덱스 구축 상태 (pg_stat_progress_create_index)
+     */
+    public Optional<BuildProgress> findBuildProgress() {
+        List<BuildProgress> result = jdbcTemplate.query("""
+                        SELECT phase, blocks_done, blocks_total, tuples_done, tuples_total
+                        FROM pg_stat_progress_create_index
+                        WHERE relid = CAST(? AS regclass)
+                        """,
+                (rs, rowNum) -> new BuildProgress(rs.getString(1), rs.getLong(2), rs.getLong(3),
+                        rs.getLong(4), rs.getLong(5)),
+                TABLE);
+        return result.stream().findFirst();
+    }
+
+    public long countRows() {
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM " + TABLE, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 락을 최소화해 인덱스 생성 (쓰기를 막지 않음)
+     *
+     * @param method          USING 이후 부분, 예: hnsw (embedding vector_cosine_ops) WITH (m = 16, ef_construction = 64)
+     * @param maintenanceWorkMem 구축 세션의 maintenance_work_mem
+     */
+    public void createIndexConcurrently(String indexName, String method, String maintenanceWorkMem) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET maintenance_work_mem = '" + maintenanceWorkMem.replace("'", "") + "'");
+                try {
+                    statement.execute("CREATE INDEX CONCURRENTLY " + indexName + " ON " + TABLE + " USING " + method);
+                } finally {
+                    // 구축이 실패해도 풀에 반납되는 커넥션에 큰 maintenance_work_mem이 남지 않도록
+                    statement.execute("RESET maintenance_work_mem");
+                }
+            }
+            return null;
+        });
+    }
+
+    public void dropIndexConcurrently(String indexName) {
+        jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + indexName);
+    }
+
+    /**
+     * 새 인덱스를 기존 이름으로 교체
+     * <p>
+     * 이름 변경 두 번만 한 트랜잭션으로 실행해 인덱스가 없는 순간이 없도록 하고 (ALTER INDEX RENAME은 SHARE UPDATE EXCLUSIVE 락이라
+     * 조회/쓰기를 막지 않음), 이전 인덱스는 커밋 이후 트랜잭션 밖에서 DROP INDEX CONCURRENTLY로 지운다.
+     * 트랜잭션 안의 DROP INDEX는 ACCESS EXCLUSIVE 락으로 삭제가 끝날 때까지 테이블 조회/쓰기를 모두 막는다.
+     */
+    public void swapIndex(String newIndexName, String indexName) {
+        String oldIndexName = indexName + "_old";
+        dropIndexConcurrently(oldIndexName);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER INDEX IF EXISTS " + indexName + " RENAME TO " + oldIndexName);
+                statement.execute("ALTER INDEX " + newIndexName + " RENAME TO " + indexName);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+            return null;
+        });
+        dropIndexConcurrently(oldIndexName);
+    }
+
+    /**
+     * 재현율 측정용 샘플 임베딩 (임의의 완료된 임베딩)
+     */
+    public List<float[]> sampleEmbeddings(int sampleSize) {
+        return jdbcTemplate.query("""
+                        SELECT CAST(embedding AS text)
+                        FROM store_embedding
+                        WHERE embedding_status = 'COMPLETED' AND embedding IS NOT NULL
+                        ORDER BY random()
+                        LIMIT ?
+                        """,
+                (rs, rowNum) -> PgVectorUtils.parse(rs.getString(1)),
+                sampleSize);
+    }
+
+    /**
+     * 질의 벡터의 상위 k개 임베딩 id
+     *
+     * @param useIndex       true면 ANN 인덱스 강제(순차 스캔 비활성화), false면 인덱스를 끄고 전수 비교
+     * @param indexSettings  같은 트랜잭션에 적용할 설정 (예: hnsw.ef_search → 40)
+     */
+    public List<Long> findNearestIds(float[] query, int k, boolean useIndex, Map<String, String> indexSettings) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                setLocal(connection, useIndex ? "enable_seqscan" : "enable_indexscan", "off");
+                if (useIndex) {
+                    for (Map.Entry<String, String> setting : indexSettings.entrySet()) {
+                        setLocal(connection, setting.getKey(), setting.getValue());
+                    }
+                }
+                List<Long> ids = new ArrayList<>(k);
+                try (PreparedStatement statement = connection.prepareStatement("""
+                        SELECT id FROM store_embedding
+                        WHERE embedding_status = 'COMPLETED'
+                        ORDER BY embedding <=> ?
+                        LIMIT ?
+                        """)) {
+                    statement.setObject(1, PgVectorUtils.toPGobject(query));
+                    statement.setInt(2, k);
+                    try (ResultSet rs = statement.executeQuery()) {
+                        while (rs.next()) {
+                            ids.add(rs.getLong(1));
+                        }
+                    }
+                }
+                return ids;
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+            }
+        });
+    }
+
+    private void setLocal(Connection connection, String name, String value) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT set_config(?, ?, true)")) {
+            statement.setString(1, name);
+            statement.setString(2, value);
+            statement.execute();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.bobeat.backend.domain.store.repository;
+
+import com.bobeat.backend.domain.store.entity.EmbeddingStatus;
+import com.bobeat.backend.domain.store.entity.StoreEmbeddingJob;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StoreEmbeddingJobRepository extends JpaRepository<StoreEmbeddingJob, Long> {
+
+    Optional<StoreEmbeddingJob> findByStoreId(Long storeId);
+
+    /**
+     * 완료/실패 기록용 - 같은 작업의 재등록(requeue)과 순서가 섞이지 않도록 행을 잠그고 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM StoreEmbeddingJob j WHERE j.id = :jobId")
+    Optional<StoreEmbeddingJob> findByIdWithLock(@Param("jobId") Long jobId);
+
+    /**
+     * 처리할 작업을 잠그고 조회 - 다른 서버/워커가 잠근 행은 건너뛴다 (FOR UPDATE SKIP LOCKED)
+     */
+    @Query(value = """
+            SELECT * FROM store_embedding_job
+            WHERE status = 'PENDING' AND next_attempt_at <= :now
+            ORDER BY next_attempt_at, id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<StoreEmbeddingJob> findClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 워커가 중간에 종료되어 IN_PROGRESS로 남은 작업을 다시 대기 상태로
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE StoreEmbeddingJob j
+            SET j.status = com.bobeat.backend.domain.store.entity.EmbeddingStatus.PENDING, j.lockedAt = null
+            WHERE j.status = com.bobeat.backend.domain.store.entity.EmbeddingStatus.IN_PROGRESS
+              AND j.lockedAt < :staleBefore
+            """)
+    int releaseStale(@Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE StoreEmbeddingJob j
+            SET j.status = com.bobeat.backend.domain.store.entity.EmbeddingStatus.PENDING,
+                j.attempts = 0, j.nextAttemptAt = :now
+            WHERE j.status = com.bobeat.backend.domain.store.entity.EmbeddingStatus.FAILED
+            """)
+    int retryFailed(@Param("now") LocalDateTime now);
+
+    long countByStatus(EmbeddingStatus status);
+
+    void deleteByStoreId(Long storeId);
+}
@@ -1,42 +1,93 @@
 package com.bobeat.backend.domain.store.repository;
 
-import com.bobeat.backend.domain.store.entity.StoreEmbedding;
-import com.bobeat.backend.domain.store.util.PgVectorUtils;
+import com.bobeat.backend.domain.store.index.StoreVectorIndex.VectorHit;
+import com.bobeat.backend.domain.store.repository.query.VectorSearchParameters;
+import com.bobeat.backend.domain.store.util.PgVectorType;
+import com.bobeat.backend.domain.store.vo.Embedding;
+import com.bobeat.backend.global.util.KeysetCursor;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.Query;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.CustomType;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 @RequiredArgsConstructor
 public class StoreEmbeddingQueryRepository {
 
     private final EntityManager em;
+    private final VectorSearchParameters vectorSearchParameters;
 
-    public List<StoreEmbedding> findSimilarEmbeddingsWithCursor(
-            List<Float> embedding,
-            Float lastScore,
+    /**
+     * 질의 임베딩과 가까운 가게를 (거리, 가게 id) 오름차순으로 조회
+     * <p>
+     * - 거리는 pgvector가 계산한 float8 값을 그대로 반환해 다음 커서로 사용 (Java 재계산 시 오차로 경계 행이 빠지거나 반복됨)
+     * - 커서 조건을 ORDER BY와 같은 거리 식(embedding <=> :embedding)에 직접 걸어 인덱스 순서 스캔 중에 바로 걸러지도록 함
+     * - 커서 이전 행은 인덱스가 돌려준 ef_search개 후보 안에서 걸러지므로, hnsw.iterative_scan이 없으면 결과가 모자랄 때
+     *   ef_search를 넓혀 다시 조회
+     * - ef_search/probes는 트랜잭션 범위로 적용되므로 읽기 전용 트랜잭션 안에서 실행
+     *
+     * @param cursor 이전 페이지 마지막 (거리, 가게 id), 첫 페이지면 null
+     */
+    @Transactional(readOnly = true)
+    public List<VectorHit> findSimilarStoresWithCursor(
+            Embedding embedding,
+            KeysetCursor.VectorCursor cursor,
             int limit
     ) {
-        String vectorLiteral = PgVectorUtils.toLiteral(embedding);
-        if (lastScore == null) {
-            lastScore = Float.valueOf(0.0f);
-        }
         String sql = """
-                    SELECT 
-                        se.*
+                    SELECT se.store_id, (se.embedding <=> :embedding) AS distance
                     FROM store_embedding se
                     JOIN store s ON s.id = se.store_id
-                    WHERE (se.embedding <=> CAST(:embedding AS vector(1024))) > :lastScore
-                    ORDER BY (se.embedding <=> CAST(:embedding AS vector(1024))) ASC, s.id ASC
+                """
+                + (cursor != null
+                ? """
+                    WHERE (se.embedding <=> :embedding) >= :lastDistance
+                      AND ((se.embedding <=> :embedding) > :lastDistance OR se.store_id > :lastStoreId)
+                """
+                : "")
+                + """
+                    ORDER BY se.embedding <=> :embedding ASC, se.store_id ASC
                     LIMIT :limit
                 """;
 
-        Query query = em.createNativeQuery(sql, StoreEmbedding.class);
-        query.setParameter("embedding", vectorLiteral);
+        int candidates = limit;
+        while (true) {
+            vectorSearchParameters.apply(em, candidates);
+            List<VectorHit> hits = query(sql, embedding, cursor, limit);
+            boolean canWiden = cursor != null
+                    && vectorSearchParameters.isBoundedByEfSearch()
+                    && candidates < VectorSearchParameters.MAX_EF_SEARCH;
+            if (hits.size() >= limit || !canWiden) {
+                return hits;
+            }
+            candidates = Math.min(candidates * 4, VectorSearchParameters.MAX_EF_SEARCH);
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private List<VectorHit> query(String sql, Embedding embedding, KeysetCursor.VectorCursor cursor, int limit) {
+        NativeQuery<?> query = em.createNativeQuery(sql).unwrap(NativeQuery.class);
+        query.setParameter("embedding", embedding.values(), vectorType());
         query.setParameter("limit", limit);
-        query.setParameter("lastScore", lastScore);
-        return query.getResultList();
+        if (cursor != null) {
+            query.setParameter("lastDistance", cursor.distance());
+            query.setParameter("lastStoreId", cursor.id());
+        }
+
+        List<?> rows = query.getResultList();
+        return rows.stream()
+                .map(row -> (Object[]) row)
+                .map(row -> new VectorHit(((Number) row[0]).longValue(), ((Number) row[1]).doubleValue()))
+                .toList();
+    }
+
+    private CustomType<float[]> vectorType() {
+        return new CustomType<>(PgVectorType.INSTANCE,
+                em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class).getTypeConfiguration());
     }
-}
\ No newline at end of file
+}
@@ -2,8 +2,10 @@ package com.bobeat.backend.domain.store.repository;
 
 import com.bobeat.backend.domain.store.entity.Store;
 import com.bobeat.backend.domain.store.entity.StoreEmbedding;
+import com.bobeat.backend.domain.store.index.StoreVectorEntry;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,21 +16,18 @@ public interface StoreEmbeddingRepository extends JpaRepository<StoreEmbedding,
 
     Optional<StoreEmbedding> findByStore(Store store);
 
-    @Query(value = """
-            SELECT store_embedding.* FROM store_embedding se
-            WHERE (:lastDistance IS NULL
-                   OR (store_embedding.embedding <=> CAST(:embedding AS vector(1024))) > :lastDistance
-                   OR ((store_embedding.embedding <=> CAST(:embedding AS vector(1024))) = :lastDistance
-                                   AND store_embedding.id > :lastId))
-            ORDER BY store_embedding.embedding <=> CAST(:embedding AS vector(1024)) ASC, se.id ASC
-            LIMIT :limit
-            """, nativeQuery = true)
-    List<StoreEmbedding> findSimilarEmbeddingsWithCursor(
-            @Param("embedding") String embedding,
-            @Param("lastDistance") Double lastDistance,
-            @Param("lastId") Long lastId,
-            @Param("limit") int limit
-    );
+    /**
+     * 벡터 인덱스 적재용 임베딩 조회 (store_id 키셋 청크)
+     */
+    @Query("""
+            SELECT new com.bobeat.backend.domain.store.index.StoreVectorEntry(se.store.id, se.embedding)
+            FROM StoreEmbedding se
+            WHERE se.embeddingStatus = com.bobeat.backend.domain.store.entity.EmbeddingStatus.COMPLETED
+              AND se.embedding IS NOT NULL
+              AND se.store.id > :lastStoreId
+            ORDER BY se.store.id
+            """)
+    List<StoreVectorEntry> findCompletedVectorsAfter(@Param("lastStoreId") Long lastStoreId, Limit limit);
 
     void deleteByStoreId(Long storeId);
 }
@@ -0,0 +1,79 @@
+package com.bobeat.backend.domain.store.repository;
+
+import com.bobeat.backend.domain.store.index.StoreLexicalEntry;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 어휘 인덱스 적재용 가게 텍스트(가게명/메뉴명/카테고리) 조회
+ * 메뉴명은 가게별로 배열 집계해 가게당 한 행으로 가져온다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreLexicalRepository {
+
+    private static final String SELECT_ENTRIES = """
+            SELECT s.id, s.name, s.latitude, s.longitude, pc.primary_type, sc.secondary_type,
+                   (SELECT array_agg(m.name ORDER BY m.id) FROM menu m WHERE m.store_id = s.id) AS menu_names
+            FROM store s
+            LEFT JOIN primary_category pc ON pc.id = s.primary_category_id
+            LEFT JOIN secondary_category sc ON sc.id = s.secondary_category_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<StoreLexicalEntry> findAll() {
+        return jdbcTemplate.query(SELECT_ENTRIES, (rs, rowNum) -> toEntry(rs));
+    }
+
+    public List<StoreLexicalEntry> findByStoreIds(Collection<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(SELECT_ENTRIES + "WHERE s.id = ANY(?)",
+                statement -> statement.setArray(1,
+                        statement.getConnection().createArrayOf("int8", storeIds.toArray())),
+                (rs, rowNum) -> toEntry(rs));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private StoreLexicalEntry toEntry(ResultSet rs) throws SQLException {
+        List<String> categories = new ArrayList<>(2);
+        addIfPresent(categories, rs.getString("primary_type"));
+        addIfPresent(categories, rs.getString("secondary_type"));
+
+        List<String> menuNames = List.of();
+        Array menus = rs.getArray("menu_names");
+        if (menus != null) {
+            menuNames = Arrays.stream((Object[]) menus.getArray())
+                    .filter(Objects::nonNull)
+                    .map(Object::toString)
+                    .toList();
+        }
+
+        return new StoreLexicalEntry(
+                rs.getLong("id"),
+                rs.getString("name"),
+                menuNames,
+                categories,
+                (Double) rs.getObject("latitude"),
+                (Double) rs.getObject("longitude")
+        );
+    }
+
+    private void addIfPresent(List<String> values, String value) {
+        if (value != null && !value.isBlank()) {
+            values.add(value);
+        }
+    }
+}
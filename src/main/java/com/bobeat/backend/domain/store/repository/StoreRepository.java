@@ -1,12 +1,16 @@
 package com.bobeat.backend.domain.store.repository;
 
+import com.bobeat.backend.domain.store.dto.StoreScoreInput;
 import com.bobeat.backend.domain.store.entity.Store;
+import com.bobeat.backend.domain.store.index.StoreGeoEntry;
 import com.bobeat.backend.global.exception.CustomException;
 import com.bobeat.backend.global.exception.ErrorCode;
 import java.util.List;
 import java.util.Map;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,10 +22,39 @@ public interface StoreRepository extends JpaRepository<Store, Long>, StoreReposi
     }
 
     /**
-     * 점수 업데이트가 필요한 식당들을 조회 (internalScore가 null인 경우)
+     * 메뉴/좌석 요약이 계산되지 않은 식당들을 ID 순으로 조회 (afterId 이후, 키셋 청크)
      */
-    @Query("SELECT s FROM Store s WHERE s.internalScore IS NULL")
-    List<Store> findStoresNeedingScoreUpdate();
+    @Query("SELECT s FROM Store s WHERE s.seatTypeMask IS NULL AND s.id > :afterId ORDER BY s.id")
+    List<Store> findStoresNeedingSummary(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT s.id FROM Store s ORDER BY s.id")
+    List<Long> findAllIds();
+
+    /**
+     * 공간 인덱스 적재용 위치 정보 전체 조회 (엔티티 대신 프로젝션)
+     */
+    @Query("""
+            SELECT new com.bobeat.backend.domain.store.index.StoreGeoEntry(
+                s.id, s.address.latitude, s.address.longitude, s.honbobLevel, pc.primaryType)
+            FROM Store s
+            LEFT JOIN s.categories.primaryCategory pc
+            """)
+    List<StoreGeoEntry> findAllGeoEntries();
+
+    /**
+     * 점수 계산용 프로젝션을 ID 순으로 조회 (afterId 다음 가게부터)
+     */
+    @Query("""
+            SELECT new com.bobeat.backend.domain.store.dto.StoreScoreInput(
+                s.id, s.honbobLevel, s.signatureMenuPrice, s.seatTypeMask, pc.primaryType)
+            FROM Store s
+            LEFT JOIN s.categories.primaryCategory pc
+            WHERE s.id > :afterId
+            ORDER BY s.id
+            """)
+    List<StoreScoreInput> findScoreInputs(@Param("afterId") Long afterId, Pageable pageable);
+
+    long countByIdGreaterThan(Long id);
 
     /**
      * 이름, 위도, 경도로 중복 가게 확인
@@ -1,8 +1,11 @@
 package com.bobeat.backend.domain.store.repository;
 
+import com.bobeat.backend.domain.store.dto.StoreCard;
 import com.bobeat.backend.domain.store.dto.request.StoreFilteringRequest;
 import com.bobeat.backend.domain.store.dto.response.StoreSearchResultDto;
 import com.bobeat.backend.domain.store.entity.Store;
+import com.bobeat.backend.domain.store.vo.Embedding;
+import com.bobeat.backend.global.util.KeysetCursor;
 import java.util.List;
 import java.util.Map;
 
@@ -15,6 +18,19 @@ public interface StoreRepositoryCustom {
 
     Map<Long, List<String>> findSeatTypes(List<Long> storeIds);
 
+    Map<Long, StoreCard> findStoreCards(List<Long> storeIds);
+
+    List<StoreSearchResultDto> findStoreSearchResults(StoreFilteringRequest request, int limitPlusOne);
+
+    List<ScoredSearchResult> findHybridSearchResults(Embedding embedding, double centerLat, double centerLon,
+                                                     KeysetCursor.ScoreCursor cursor, int limitPlusOne);
+
     record StoreRow(Store store, int distance) {
     }
+
+    /**
+     * score: 다음 페이지 커서로 쓰는 DB 계산 점수
+     */
+    record ScoredSearchResult(StoreSearchResultDto result, double score) {
+    }
 }
@@ -6,13 +6,18 @@ import static com.bobeat.backend.domain.store.entity.QMenu.menu;
 import static com.bobeat.backend.domain.store.entity.QSeatOption.seatOption;
 import static com.bobeat.backend.domain.store.entity.QStore.store;
 
+import com.bobeat.backend.domain.member.entity.Level;
+import com.bobeat.backend.domain.store.dto.StoreCard;
 import com.bobeat.backend.domain.store.dto.request.StoreFilteringRequest;
 import com.bobeat.backend.domain.store.dto.response.StoreSearchResultDto;
 import com.bobeat.backend.domain.store.entity.Menu;
 import com.bobeat.backend.domain.store.entity.QStore;
 import com.bobeat.backend.domain.store.entity.Store;
+import com.bobeat.backend.domain.store.repository.query.StoreNativeQueryBuilder;
 import com.bobeat.backend.domain.store.repository.query.StoreQueryFilterBuilder;
 import com.bobeat.backend.domain.store.repository.query.StoreQuerySortBuilder;
+import com.bobeat.backend.domain.store.util.PgVectorType;
+import com.bobeat.backend.domain.store.vo.Embedding;
 import com.bobeat.backend.global.util.KeysetCursor;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
@@ -29,6 +34,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.CustomType;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -40,6 +48,7 @@ public class StoreRepositoryImpl implements StoreRepositoryCustom {
     private final JPAQueryFactory queryFactory;
     private final StoreQueryFilterBuilder filterBuilder;
     private final StoreQuerySortBuilder sortBuilder;
+    private final StoreNativeQueryBuilder nativeQueryBuilder;
     private final EntityManager em;
 
     @Override
@@ -49,14 +58,11 @@ public class StoreRepositoryImpl implements StoreRepositoryCustom {
 
         NumberExpression<Integer> distanceExpr = distanceMeters(store.address.location, centerLat, centerLon);
 
-        // 가격 또는 좌석 필터가 있으면 JOIN 사용, 없으면 일반 쿼리
-        if (filterBuilder.needsJoin(request)) {
-            return findStoresWithJoins(request, limitPlusOne, distanceExpr, centerLat, centerLon);
-        }
-
         // Builder를 사용한 필터 구축
+        // 가격/좌석 필터는 Store 요약 컬럼 사용 → JOIN 없이 키셋 + LIMIT을 한 쿼리에서 처리
         BooleanExpression filters = andAll(
                 filterBuilder.buildAllFilters(request, centerLat, centerLon),
+                filterBuilder.buildSummaryFilters(request),
                 applyKeyset(request, distanceExpr)
         );
 
@@ -74,86 +80,6 @@ public class StoreRepositoryImpl implements StoreRepositoryCustom {
         return convertToStoreRows(rows, distanceExpr);
     }
 
-    /**
-     * 가격/좌석 필터가 있을 때 2단계 쿼리로 조회
-     * <p>
-     * 전략: 1단계 - JOIN으로 필터링된 Store ID만 조회 (DISTINCT) 2단계 - ID로 Store + distance 조회 (중복 없음, 정렬 정확)
-     * <p>
-     * 이유: - 상관 서브쿼리는 각 Store마다 반복 실행되어 느림 - 단순 JOIN은 중복 발생 (1 Store : N Menu) - DISTINCT + ORDER BY는 PostgreSQL 에러 발생 -
-     * GROUP BY 모든 컬럼은 코드가 지저분함
-     * <p>
-     * 상세 설명: SUBQUERY_OPTIMIZATION.md 참고
-     */
-    private List<StoreRow> findStoresWithJoins(StoreFilteringRequest request, int limitPlusOne,
-                                               NumberExpression<Integer> distanceExpr, double centerLat,
-                                               double centerLon) {
-        // 1단계: JOIN으로 필터링된 Store ID만 조회
-        List<Long> filteredStoreIds = findFilteredStoreIds(request, centerLat, centerLon, limitPlusOne);
-
-        if (filteredStoreIds.isEmpty()) {
-            return List.of();
-        }
-
-        // 2단계: ID로 Store + distance 조회 (중복 없음)
-        BooleanExpression filters = andAll(
-                filterBuilder.buildAllFilters(request, centerLat, centerLon),
-                applyKeyset(request, distanceExpr),
-                store.id.in(filteredStoreIds)
-        );
-
-        OrderSpecifier<?>[] orders = sortBuilder.buildOrderSpecifiers(request, distanceExpr);
-
-        List<Tuple> rows = queryFactory
-                .select(store, distanceExpr)
-                .from(store)
-                .where(filters)
-                .orderBy(orders)
-                .limit(limitPlusOne)
-                .fetch();
-
-        return convertToStoreRows(rows, distanceExpr);
-    }
-
-    /**
-     * JOIN 조건으로 필터링된 Store ID 목록 조회 (1단계) //TODO: 데이터가 많아져 성능저하 시 고민 필요
-     * <p>
-     * 전략: - DISTINCT로 중복 제거하여 유효한 모든 Store ID를 조회 - LIMIT을 적용하지 않음 → 2단계에서 키셋 페이징으로 정확하게 제어 - 이 방식으로 무한 스크롤에서 데이터 누락
-     * 방지
-     * <p>
-     * 트레이드오프: - 장점: 키셋 페이징이 정확하게 동작, 데이터 누락 없음 - 단점: 필터링된 Store가 많으면 1단계에서 많은 ID를 가져올 수 있음 - 일반적으로 위치 필터(반경 5km)로 인해 결과
-     * 집합은 제한적
-     */
-    private List<Long> findFilteredStoreIds(StoreFilteringRequest request, double centerLat, double centerLon,
-                                            int limitPlusOne) {
-        // 기본 필터
-        BooleanExpression baseFilters = filterBuilder.buildAllFilters(request, centerLat, centerLon);
-
-        // JOIN 필터 (Builder를 통해 생성)
-        BooleanExpression priceJoinFilter = filterBuilder.buildPriceJoinFilter(request);
-        BooleanExpression seatJoinFilter = filterBuilder.buildSeatJoinFilter(request);
-
-        // 쿼리 빌드
-        var query = queryFactory
-                .select(store.id)
-                .distinct()  // Store ID만 조회하므로 DISTINCT 사용 가능
-                .from(store);
-
-        // JOIN 추가 (Builder를 통해 확인)
-        if (filterBuilder.needsPriceJoin(request)) {
-            query = query.join(menu).on(menu.store.eq(store));
-        }
-        if (filterBuilder.needsSeatJoin(request)) {
-            query = query.join(seatOption).on(seatOption.store.eq(store));
-        }
-
-        // WHERE 조건
-        query = query.where(andAll(baseFilters, priceJoinFilter, seatJoinFilter));
-
-        // LIMIT 없이 모든 유효한 Store ID 조회
-        // 2단계에서 키셋 페이징과 정렬을 정확하게 적용
-        return query.fetch();
-    }
-
     @Override
     public Map<Long, StoreSearchResultDto.SignatureMenu> findRepresentativeMenus(List<Long> storeIds) {
         if (storeIds.isEmpty()) {
@@ -191,8 +117,119 @@ public class StoreRepositoryImpl implements StoreRepositoryCustom {
         return convertToSeatTypeMap(rows);
     }
 
+    /**
+     * 검색 카드 프로젝션 배치 조회
+     * 가게 기본 정보 + 대표 메뉴 + 좌석 타입 + 대표 이미지를 LATERAL 서브쿼리로 한 번에 조회
+     */
+    @Override
+    public Map<Long, StoreCard> findStoreCards(List<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, StoreCard> cards = new LinkedHashMap<>();
+        for (Object[] row : fetchNative(nativeQueryBuilder.buildCardQuery(storeIds))) {
+            StoreCard card = toStoreCard(row);
+            cards.put(card.storeId(), card);
+        }
+        return cards;
+    }
+
+    /**
+     * 단일 네이티브 쿼리 검색
+     * 가게 슬라이스와 카드 정보를 한 번의 왕복으로 조회하고 엔티티 없이 DTO로 바로 매핑
+     */
+    @Override
+    public List<StoreSearchResultDto> findStoreSearchResults(StoreFilteringRequest request, int limitPlusOne) {
+        return fetchNative(nativeQueryBuilder.buildSearchQuery(request, limitPlusOne)).stream()
+                .map(row -> toStoreCard(row).toSearchResult(toInt(row[7])))
+                .toList();
+    }
+
+    /**
+     * 검색어 하이브리드 검색 (반경 안의 가게를 유사도/거리/내부 점수 합산 순으로) - 카드 정보까지 한 번에 조회
+     */
+    @Override
+    public List<ScoredSearchResult> findHybridSearchResults(Embedding embedding, double centerLat, double centerLon,
+                                                            KeysetCursor.ScoreCursor cursor, int limitPlusOne) {
+        StoreNativeQueryBuilder.NativeQuery nativeQuery = nativeQueryBuilder.buildHybridSearchQuery(
+                embedding, centerLat, centerLon, cursor, limitPlusOne);
+        return fetchNative(nativeQuery).stream()
+                .map(row -> new ScoredSearchResult(toStoreCard(row).toSearchResult(toInt(row[7])),
+                        ((Number) row[12]).doubleValue()))
+                .toList();
+    }
+
     // ==================== Private Helper Methods ====================
 
+    /**
+     * float[] 파라미터는 pgvector 타입으로 바인딩 (텍스트 리터럴 + CAST 없이)
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object[]> fetchNative(StoreNativeQueryBuilder.NativeQuery nativeQuery) {
+        NativeQuery<?> query = em.createNativeQuery(nativeQuery.sql()).unwrap(NativeQuery.class);
+        nativeQuery.params().forEach((name, value) -> {
+            if (value instanceof float[] vector) {
+                query.setParameter(name, vector, vectorType());
+            } else {
+                query.setParameter(name, value);
+            }
+        });
+        return (List<Object[]>) query.getResultList();
+    }
+
+    private CustomType<float[]> vectorType() {
+        return new CustomType<>(PgVectorType.INSTANCE,
+                em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class).getTypeConfiguration());
+    }
+
+    /**
+     * 컬럼 순서: id, name, image_url, menu_name, menu_price, latitude, longitude, distance,
+     * seat_types, primary_type, secondary_type, honbob_level
+     */
+    private StoreCard toStoreCard(Object[] row) {
+        Long id = ((Number) row[0]).longValue();
+
+        StoreSearchResultDto.SignatureMenu signatureMenu = row[3] != null
+                ? new StoreSearchResultDto.SignatureMenu((String) row[3], toInt(row[4]))
+                : null;
+
+        List<String> seatTypes = row[8] != null
+                ? List.of(((String) row[8]).split(","))
+                : List.of();
+
+        List<String> tags = new ArrayList<>(2);
+        if (row[9] != null) {
+            tags.add((String) row[9]);
+        }
+        if (row[10] != null) {
+            tags.add((String) row[10]);
+        }
+
+        // honbob_level 컬럼은 ORDINAL 저장
+        int honbobLevel = row[11] != null ? Level.values()[toInt(row[11])].getValue() : 0;
+
+        return new StoreCard(
+                id,
+                (String) row[1],
+                (String) row[2],
+                signatureMenu,
+                toDouble(row[5]),
+                toDouble(row[6]),
+                seatTypes,
+                tags,
+                honbobLevel
+        );
+    }
+
+    private int toInt(Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+
+    private Double toDouble(Object value) {
+        return value != null ? ((Number) value).doubleValue() : null;
+    }
+
     private BooleanExpression applyKeyset(StoreFilteringRequest req, NumberExpression<Integer> distanceExpr) {
         if (req.paging() == null) {
             return null;
@@ -260,7 +297,7 @@ public class StoreRepositoryImpl implements StoreRepositoryCustom {
                 Integer.class,
                 "CAST(ST_Distance(" +
                         "geography(ST_SetSRID(ST_MakePoint({0}, {1}), 4326)), " +
-                        "geography(ST_SetSRID(ST_MakePoint({2}, {3}), 4326))" +
+                        "geography(ST_SetSRID(ST_MakePoint({2}, {3}), 4326)), false" +
                         ") AS integer)",
                 userLon, userLat, store.address.longitude, store.address.latitude
         );
@@ -0,0 +1,83 @@
+package com.bobeat.backend.domain.store.repository;
+
+import java.sql.Array;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 점수 재계산 대상 가게(store_score_dirty) 등록/가져가기
+ * <p>
+ * 엔티티 리스너가 flush 중에 호출하므로 EntityManager 대신 같은 커넥션의 JDBC로 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreScoreDirtyRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 재계산 대상으로 등록 (이미 등록된 가게는 그대로)
+     */
+    public void mark(Collection<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("""
+                        INSERT INTO store_score_dirty (store_id, marked_at)
+                        SELECT id, ? FROM unnest(?) AS t(id)
+                        ON CONFLICT (store_id) DO NOTHING
+                        """,
+                statement -> {
+                    Array ids = statement.getConnection().createArrayOf("int8", storeIds.toArray());
+                    statement.setTimestamp(1, now);
+                    statement.setArray(2, ids);
+                });
+    }
+
+    /**
+     * 점수가 없는 가게를 재계산 대상으로 등록 (기존 데이터 보정용)
+     *
+     * @return 새로 등록된 가게 수
+     */
+    public int markUnscored() {
+        return jdbcTemplate.update("""
+                INSERT INTO store_score_dirty (store_id, marked_at)
+                SELECT id, now() FROM store WHERE internal_score IS NULL
+                ON CONFLICT (store_id) DO NOTHING
+                """);
+    }
+
+    /**
+     * 오래된 순으로 limit개를 가져가면서 삭제 (다른 워커가 잡은 행은 건너뜀)
+     * 호출 트랜잭션이 롤백되면 다시 대상으로 남는다.
+     */
+    public List<Long> claim(int limit) {
+        return jdbcTemplate.queryForList("""
+                DELETE FROM store_score_dirty
+                WHERE store_id IN (
+                    SELECT store_id FROM store_score_dirty
+                    ORDER BY marked_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING store_id
+                """, Long.class, limit);
+    }
+
+    public boolean isMarked(Long storeId) {
+        Boolean marked = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM store_score_dirty WHERE store_id = ?)", Boolean.class, storeId);
+        return Boolean.TRUE.equals(marked);
+    }
+
+    public long count() {
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM store_score_dirty", Long.class);
+        return count == null ? 0L : count;
+    }
+}
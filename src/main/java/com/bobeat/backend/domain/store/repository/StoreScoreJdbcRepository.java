@@ -0,0 +1,32 @@
+package com.bobeat.backend.domain.store.repository;
+
+import java.util.ArrayList;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 가게 내부 점수 배치 UPDATE
+ * <p>
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 (id, score)만 JDBC 배치로 갱신한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreScoreJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void updateScores(Map<Long, Double> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("UPDATE store SET internal_score = ? WHERE id = ?",
+                new ArrayList<>(scores.entrySet()), BATCH_SIZE, (statement, entry) -> {
+                    statement.setDouble(1, entry.getValue());
+                    statement.setLong(2, entry.getKey());
+                });
+    }
+}
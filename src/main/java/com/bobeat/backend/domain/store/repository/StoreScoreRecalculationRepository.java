@@ -0,0 +1,12 @@
+package com.bobeat.backend.domain.store.repository;
+
+import com.bobeat.backend.domain.store.entity.StoreScoreRecalculation;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StoreScoreRecalculationRepository extends JpaRepository<StoreScoreRecalculation, Long> {
+
+    Optional<StoreScoreRecalculation> findFirstByOrderByIdDesc();
+}
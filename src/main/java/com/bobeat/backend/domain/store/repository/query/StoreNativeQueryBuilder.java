@@ -0,0 +1,279 @@
+package com.bobeat.backend.domain.store.repository.query;
+
+import com.bobeat.backend.domain.member.entity.Level;
+import com.bobeat.backend.domain.store.dto.request.StoreFilteringRequest;
+import com.bobeat.backend.domain.store.entity.SeatType;
+import com.bobeat.backend.domain.store.service.CompositeScoreCalculator;
+import com.bobeat.backend.domain.store.vo.Embedding;
+import com.bobeat.backend.global.util.KeysetCursor;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Store 검색 네이티브 SQL 빌더
+ * <p>
+ * 가게 슬라이스 조회와 대표 메뉴/좌석 타입/대표 이미지 조회를 LATERAL 서브쿼리로 묶어 한 번의 왕복으로 처리한다.
+ * 엔티티를 로딩하지 않고 컬럼 값만 반환하므로 페이지당 힙 사용량도 줄어든다.
+ * <p>
+ * 필터/정렬 의미는 StoreQueryFilterBuilder, StoreQuerySortBuilder와 동일하게 유지한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreNativeQueryBuilder {
+
+    private static final int DEFAULT_RADIUS_METERS = 5000;
+
+    /**
+     * 첫 번째 %s = 카드 컬럼 뒤에 붙일 추가 컬럼, 두 번째 %s = 가게 슬라이스 서브쿼리 (STORE_COLUMNS + distance),
+     * 세 번째 %s = ORDER BY 절
+     */
+    private static final String CARD_QUERY_TEMPLATE = """
+            SELECT p.id, p.name, img.image_url, rm.name AS menu_name, rm.price AS menu_price,
+                   p.latitude, p.longitude, p.distance, seats.seat_types,
+                   pc.primary_type, sc.secondary_type, p.honbob_level%s
+            FROM (%s) p
+            LEFT JOIN primary_category pc ON pc.id = p.primary_category_id
+            LEFT JOIN secondary_category sc ON sc.id = p.secondary_category_id
+            LEFT JOIN LATERAL (
+                SELECT m.name, m.price
+                FROM menu m
+                WHERE m.store_id = p.id
+                ORDER BY m.recommend DESC, m.price ASC, m.id ASC
+                LIMIT 1
+            ) rm ON true
+            LEFT JOIN LATERAL (
+                SELECT string_agg(DISTINCT so.seat_type, ',' ORDER BY so.seat_type) AS seat_types
+                FROM seat_option so
+                WHERE so.store_id = p.id
+            ) seats ON true
+            LEFT JOIN LATERAL (
+                SELECT si.image_url
+                FROM store_image si
+                WHERE si.store_id = p.id AND si.is_main = true
+                ORDER BY si.id
+                LIMIT 1
+            ) img ON true
+            ORDER BY %s
+            """;
+
+    private static final String STORE_COLUMNS =
+            "s.id, s.name, s.latitude, s.longitude, s.honbob_level, s.internal_score, "
+                    + "s.primary_category_id, s.secondary_category_id";
+
+    /**
+     * 거리/반경은 구면 계산(use_spheroid = false) - 인메모리 인덱스(StoreGeoIndex)와 같은 값이어야 커서가 경로 간에 호환된다
+     */
+    private static final String CENTER_POINT = "geography(ST_SetSRID(ST_MakePoint(:centerLon, :centerLat), 4326))";
+
+    private final StoreQueryFilterBuilder filterBuilder;
+    private final CompositeScoreCalculator compositeScoreCalculator;
+
+    public record NativeQuery(String sql, Map<String, Object> params) {
+    }
+
+    /**
+     * 위치 기반 검색 한 페이지 (슬라이스 + 카드 정보)
+     */
+    public NativeQuery buildSearchQuery(StoreFilteringRequest request, int limitPlusOne) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("centerLat", request.center().lat());
+        params.put("centerLon", request.center().lon());
+        params.put("limit", limitPlusOne);
+
+        List<String> conditions = new ArrayList<>();
+        conditions.add(buildLocationCondition(request, params));
+        addHonbobLevelCondition(request, conditions, params);
+        addCategoryCondition(request, conditions, params);
+        addPriceCondition(request, conditions, params);
+        addSeatCondition(request, conditions, params);
+
+        String keyset = buildKeysetCondition(request, params);
+
+        String slice = """
+                SELECT f.*
+                FROM (
+                    SELECT %s,
+                           CAST(ST_Distance(s.location, %s, false) AS integer) AS distance
+                    FROM store s
+                    WHERE %s
+                ) f
+                WHERE %s
+                ORDER BY %s
+                LIMIT :limit
+                """.formatted(STORE_COLUMNS, CENTER_POINT, String.join(" AND ", conditions), keyset,
+                buildOrderBy(request, "f"));
+
+        return new NativeQuery(CARD_QUERY_TEMPLATE.formatted("", slice, buildOrderBy(request, "p")), params);
+    }
+
+    /**
+     * 가게 ID 목록의 카드 정보 (거리 없이)
+     */
+    public NativeQuery buildCardQuery(List<Long> storeIds) {
+        String slice = "SELECT " + STORE_COLUMNS + ", 0 AS distance FROM store s WHERE s.id IN (:storeIds)";
+        return new NativeQuery(CARD_QUERY_TEMPLATE.formatted("", slice, "p.id"), Map.of("storeIds", storeIds));
+    }
+
+    /**
+     * 검색어 하이브리드 검색 한 페이지 (슬라이스 + 카드 정보 + 점수)
+     * <p>
+     * 반경 안의 가게만 임베딩 거리를 계산하고, 유사도/거리/내부 점수를 합친 점수 내림차순으로 정렬한다.
+     * 점수는 커서로 다시 쓰이므로 DB가 계산한 float8 값을 마지막 컬럼(score)으로 그대로 반환한다.
+     *
+     * 임베딩은 float[] 그대로 담아 두고, 실행 시 pgvector 타입(PgVectorType)으로 바인딩한다.
+     */
+    public NativeQuery buildHybridSearchQuery(Embedding embedding, double centerLat, double centerLon,
+                                              KeysetCursor.ScoreCursor cursor, int limitPlusOne) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("centerLat", centerLat);
+        params.put("centerLon", centerLon);
+        params.put("embedding", embedding.values());
+        params.put("radius", compositeScoreCalculator.getHybridSearchRadius());
+        params.put("limit", limitPlusOne);
+
+        String hybridScore = compositeScoreCalculator.buildHybridScoreExpression()
+                .replace("{0}", "c.internal_score")
+                .replace("{1}", "c.distance")
+                .replace("{2}", "c.embedding_distance");
+
+        String keyset = "true";
+        if (cursor != null) {
+            params.put("lastScore", cursor.score());
+            params.put("lastId", cursor.id());
+            keyset = "f.score <= :lastScore AND (f.score < :lastScore OR f.id > :lastId)";
+        }
+
+        String slice = """
+                SELECT f.*
+                FROM (
+                    SELECT c.*, %s AS score
+                    FROM (
+                        SELECT %s,
+                               CAST(ST_Distance(s.location, %s, false) AS integer) AS distance,
+                               (se.embedding <=> :embedding) AS embedding_distance
+                        FROM store s
+                        JOIN store_embedding se ON se.store_id = s.id
+                        WHERE ST_DWithin(s.location, %s, :radius, false)
+                          AND se.embedding IS NOT NULL
+                    ) c
+                ) f
+                WHERE %s
+                ORDER BY f.score DESC, f.id ASC
+                LIMIT :limit
+                """.formatted(hybridScore, STORE_COLUMNS, CENTER_POINT, CENTER_POINT, keyset);
+
+        return new NativeQuery(CARD_QUERY_TEMPLATE.formatted(", p.score", slice, "p.score DESC, p.id ASC"), params);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private String buildLocationCondition(StoreFilteringRequest request, Map<String, Object> params) {
+        if (filterBuilder.hasValidBbox(request)) {
+            var nw = request.bbox().nw();
+            var se = request.bbox().se();
+            params.put("nwLat", nw.lat());
+            params.put("nwLon", nw.lon());
+            params.put("seLat", se.lat());
+            params.put("seLon", se.lon());
+            return "ST_Intersects(geometry(s.location), ST_MakeEnvelope(:nwLon, :seLat, :seLon, :nwLat, 4326))";
+        }
+        params.put("radius", DEFAULT_RADIUS_METERS);
+        return "ST_DWithin(s.location, " + CENTER_POINT + ", :radius, false)";
+    }
+
+    private void addHonbobLevelCondition(StoreFilteringRequest request, List<String> conditions,
+                                         Map<String, Object> params) {
+        if (request.filters() == null || request.filters().honbobLevel() == null) {
+            return;
+        }
+        // honbob_level 컬럼은 ORDINAL 저장
+        List<Integer> ordinals = request.filters().honbobLevel().stream()
+                .filter(Objects::nonNull)
+                .map(Level::fromValue)
+                .map(Level::ordinal)
+                .toList();
+        if (ordinals.isEmpty()) {
+            return;
+        }
+        conditions.add("s.honbob_level IN (:levels)");
+        params.put("levels", ordinals);
+    }
+
+    private void addCategoryCondition(StoreFilteringRequest request, List<String> conditions,
+                                      Map<String, Object> params) {
+        if (request.filters() == null
+                || request.filters().categories() == null
+                || request.filters().categories().isEmpty()) {
+            return;
+        }
+        conditions.add("s.primary_category_id IN "
+                + "(SELECT c.id FROM primary_category c WHERE c.primary_type IN (:categories))");
+        params.put("categories", request.filters().categories());
+    }
+
+    /**
+     * StoreQueryFilterBuilder.buildSummaryFilters와 같은 요약 컬럼 조건
+     */
+    private void addPriceCondition(StoreFilteringRequest request, List<String> conditions,
+                                   Map<String, Object> params) {
+        if (!filterBuilder.needsPriceJoin(request)) {
+            return;
+        }
+        Integer min = request.filters().price().min();
+        Integer max = request.filters().price().max();
+
+        if (min != null) {
+            params.put("minPrice", min);
+        }
+        if (max != null) {
+            params.put("maxPrice", max);
+        }
+
+        if (min == null) {
+            conditions.add("s.min_menu_price <= :maxPrice");
+        } else if (max == null) {
+            conditions.add("s.max_menu_price >= :minPrice");
+        } else {
+            conditions.add("s.min_menu_price <= :maxPrice AND s.max_menu_price >= :minPrice "
+                    + "AND (s.min_menu_price >= :minPrice OR s.max_menu_price <= :maxPrice "
+                    + "OR EXISTS (SELECT 1 FROM menu m WHERE m.store_id = s.id "
+                    + "AND m.price BETWEEN :minPrice AND :maxPrice))");
+        }
+    }
+
+    private void addSeatCondition(StoreFilteringRequest request, List<String> conditions,
+                                  Map<String, Object> params) {
+        if (!filterBuilder.needsSeatJoin(request)) {
+            return;
+        }
+        conditions.add("s.seat_type_mask IN (:seatTypeMasks)");
+        params.put("seatTypeMasks", SeatType.overlappingMasks(SeatType.toMask(request.filters().seatTypes())));
+    }
+
+    private String buildKeysetCondition(StoreFilteringRequest request, Map<String, Object> params) {
+        KeysetCursor.PageCursor cursor = request.paging() != null
+                ? KeysetCursor.decodeOrNull(request.paging().lastKnown())
+                : null;
+        if (cursor == null) {
+            return "true";
+        }
+        params.put("lastDistance", cursor.distance());
+        params.put("lastId", cursor.id());
+        return "(f.distance > :lastDistance OR (f.distance = :lastDistance AND f.id > :lastId))";
+    }
+
+    private String buildOrderBy(StoreFilteringRequest request, String alias) {
+        if (request.sortBy() == null || request.sortBy() == StoreFilteringRequest.SortBy.DISTANCE) {
+            return alias + ".distance ASC, " + alias + ".id ASC";
+        }
+        String compositeScore = compositeScoreCalculator.buildCompositeScoreExpression()
+                .replace("{0}", alias + ".internal_score")
+                .replace("{1}", alias + ".distance");
+        return "(" + compositeScore + ") DESC, " + alias + ".id ASC";
+    }
+}
@@ -2,7 +2,9 @@ package com.bobeat.backend.domain.store.repository.query;
 
 import com.bobeat.backend.domain.member.entity.Level;
 import com.bobeat.backend.domain.store.dto.request.StoreFilteringRequest;
+import com.bobeat.backend.domain.store.entity.SeatType;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -12,7 +14,6 @@ import java.util.Objects;
 import static com.bobeat.backend.domain.common.PostgisExpressions.intersectsEnvelope;
 import static com.bobeat.backend.domain.common.PostgisExpressions.stDWithin;
 import static com.bobeat.backend.domain.store.entity.QMenu.menu;
-import static com.bobeat.backend.domain.store.entity.QSeatOption.seatOption;
 import static com.bobeat.backend.domain.store.entity.QStore.store;
 
 /**
@@ -108,8 +109,16 @@ public class StoreQueryFilterBuilder {
     }
 
     /**
-     * 가격 필터를 JOIN 조건으로 빌드
-     * 2단계 쿼리의 1단계(Store ID 조회)에서 사용
+     * 가격/좌석 필터를 Store 요약 컬럼 조건으로 빌드 (menu, seat_option JOIN 없음)
+     * 가격 하한/상한이 모두 있고 메뉴 가격대가 필터 범위를 양쪽으로 벗어나는 경우에만 EXISTS로 재확인
+     */
+    public BooleanExpression buildSummaryFilters(StoreFilteringRequest request) {
+        return andAll(buildPriceSummaryFilter(request), buildSeatSummaryFilter(request));
+    }
+
+    /**
+     * 가격 필터 조건 (menu 기준)
+     * EXISTS 서브쿼리 내부 조건으로 사용
      *
      * TODO: 임시로 추천 메뉴 조건 제거 - 전체 메뉴 대상으로 가격 필터 적용
      */
@@ -135,19 +144,9 @@ public class StoreQueryFilterBuilder {
     }
 
     /**
-     * 좌석 타입 필터를 JOIN 조건으로 빌드
-     * 2단계 쿼리의 1단계(Store ID 조회)에서 사용
+     * BBox 좌표가 모두 채워져 있는지 확인
      */
-    public BooleanExpression buildSeatJoinFilter(StoreFilteringRequest request) {
-        if (!needsSeatJoin(request)) {
-            return null;
-        }
-        return seatOption.seatType.in(request.filters().seatTypes());
-    }
-
-    // ==================== Helper Methods ====================
-
-    private boolean hasValidBbox(StoreFilteringRequest req) {
+    public boolean hasValidBbox(StoreFilteringRequest req) {
         if (req == null || req.bbox() == null || req.bbox().nw() == null || req.bbox().se() == null) {
             return false;
         }
@@ -156,6 +155,46 @@ public class StoreQueryFilterBuilder {
         return nw.lat() != null && nw.lon() != null && se.lat() != null && se.lon() != null;
     }
 
+    // ==================== Helper Methods ====================
+
+    /**
+     * 범위 안의 메뉴가 하나라도 있는지 - min/max 요약으로 판정하고 애매한 경우만 EXISTS
+     */
+    private BooleanExpression buildPriceSummaryFilter(StoreFilteringRequest request) {
+        if (!needsPriceJoin(request)) {
+            return null;
+        }
+        Integer min = request.filters().price().min();
+        Integer max = request.filters().price().max();
+
+        if (min == null) {
+            return store.minMenuPrice.loe(max);
+        }
+        if (max == null) {
+            return store.maxMenuPrice.goe(min);
+        }
+        // 최저가 또는 최고가가 범위 안이면 확정, 둘 다 범위 밖(양쪽으로 걸침)이면 메뉴 재확인
+        return store.minMenuPrice.loe(max)
+                .and(store.maxMenuPrice.goe(min))
+                .and(store.minMenuPrice.goe(min)
+                        .or(store.maxMenuPrice.loe(max))
+                        .or(JPAExpressions.selectOne()
+                                .from(menu)
+                                .where(menu.store.id.eq(store.id), buildPriceJoinFilter(request))
+                                .exists()));
+    }
+
+    /**
+     * 선택한 좌석 타입 중 하나라도 보유 - 비트가 겹치는 마스크 값 IN 조건 (인덱스 사용)
+     */
+    private BooleanExpression buildSeatSummaryFilter(StoreFilteringRequest request) {
+        if (!needsSeatJoin(request)) {
+            return null;
+        }
+        int mask = SeatType.toMask(request.filters().seatTypes());
+        return store.seatTypeMask.in(SeatType.overlappingMasks(mask));
+    }
+
     private BooleanExpression andAll(BooleanExpression... exprs) {
         BooleanExpression acc = null;
         for (BooleanExpression e : exprs) {
@@ -0,0 +1,58 @@
+package com.bobeat.backend.domain.store.repository.query;
+
+import com.bobeat.backend.domain.store.config.StoreSearchConfig;
+import com.bobeat.backend.domain.store.config.StoreSearchConfig.PgvectorIndex.IndexType;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * pgvector 검색 쿼리의 인덱스 파라미터 (hnsw.ef_search / ivfflat.probes)
+ * set_config(..., true)는 SET LOCAL과 같아서 현재 트랜잭션에만 적용되므로 호출하는 쪽은 트랜잭션 안에 있어야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VectorSearchParameters {
+
+    private final StoreSearchConfig searchConfig;
+
+    public static final int MAX_EF_SEARCH = 1000;
+
+    /**
+     * @param minCandidates 한 번에 필요한 결과 수 - HNSW는 ef_search개까지만 돌려주므로 이보다 작지 않게 맞춘다
+     */
+    public void apply(EntityManager em, int minCandidates) {
+        StoreSearchConfig.PgvectorIndex config = searchConfig.getPgvectorIndex();
+        if (config.getType() == IndexType.IVFFLAT) {
+            set(em, "ivfflat.probes", String.valueOf(config.getProbes()));
+            return;
+        }
+        int efSearch = Math.min(Math.max(config.getEfSearch(), minCandidates), MAX_EF_SEARCH);
+        set(em, "hnsw.ef_search", String.valueOf(efSearch));
+        if (hasIterativeScan(config)) {
+            set(em, "hnsw.iterative_scan", config.getIterativeScan());
+        }
+    }
+
+    /**
+     * HNSW 인덱스 스캔이 ef_search개 후보에서 끝나는지 (hnsw.iterative_scan 미설정, pgvector 0.8 미만)
+     * true면 커서 조건으로 걸러지는 행 때문에 결과가 모자랄 수 있어 호출하는 쪽에서 ef_search를 넓혀 다시 조회해야 한다
+     */
+    public boolean isBoundedByEfSearch() {
+        StoreSearchConfig.PgvectorIndex config = searchConfig.getPgvectorIndex();
+        return config.getType() == IndexType.HNSW && !hasIterativeScan(config);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private boolean hasIterativeScan(StoreSearchConfig.PgvectorIndex config) {
+        return config.getIterativeScan() != null && !config.getIterativeScan().isBlank();
+    }
+
+    private void set(EntityManager em, String name, String value) {
+        em.createNativeQuery("SELECT set_config(:name, :value, true)")
+                .setParameter("name", name)
+                .setParameter("value", value)
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,142 @@
+package com.bobeat.backend.domain.store.scheduler;
+
+import com.bobeat.backend.domain.store.config.EmbeddingConfig;
+import com.bobeat.backend.domain.store.entity.EmbeddingStatus;
+import com.bobeat.backend.domain.store.external.embedding.EmbeddingGateway;
+import com.bobeat.backend.domain.store.service.StoreEmbeddingJobService;
+import com.bobeat.backend.domain.store.service.StoreEmbeddingJobService.ClaimedJob;
+import com.bobeat.backend.domain.store.service.StoreEmbeddingService;
+import com.bobeat.backend.domain.store.vo.Embedding;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가게 임베딩 작업 큐 워커
+ * <p>
+ * - 2초마다 대기 작업을 batchSize만큼 가져와 embeddingTaskExecutor에서 처리 (동시 묶음 수는 workerConcurrency로 제한)
+ * - 묶음 안의 텍스트는 EmbeddingGateway로 한꺼번에 요청해 제공자 배치로 묶이도록 함
+ * - 실패한 작업은 재시도 간격을 늘려가며 다시 대기, 최대 시도 횟수를 넘기면 FAILED
+ * - 워커 중단으로 IN_PROGRESS에 남은 작업은 1분마다 다시 대기 상태로 돌린다
+ */
+@Slf4j
+@Component
+public class StoreEmbeddingJobWorker {
+
+    private final StoreEmbeddingJobService storeEmbeddingJobService;
+    private final StoreEmbeddingService storeEmbeddingService;
+    private final EmbeddingGateway embeddingGateway;
+    private final EmbeddingConfig embeddingConfig;
+    private final Executor embeddingTaskExecutor;
+
+    private final Set<CompletableFuture<Void>> activeBatches = ConcurrentHashMap.newKeySet();
+    private final Counter completed;
+    private final Counter retried;
+    private final Counter failed;
+    private final Timer batchTimer;
+
+    public StoreEmbeddingJobWorker(StoreEmbeddingJobService storeEmbeddingJobService,
+                                   StoreEmbeddingService storeEmbeddingService,
+                                   EmbeddingGateway embeddingGateway,
+                                   EmbeddingConfig embeddingConfig,
+                                   @Qualifier("embeddingTaskExecutor") Executor embeddingTaskExecutor,
+                                   MeterRegistry meterRegistry) {
+        this.storeEmbeddingJobService = storeEmbeddingJobService;
+        this.storeEmbeddingService = storeEmbeddingService;
+        this.embeddingGateway = embeddingGateway;
+        this.embeddingConfig = embeddingConfig;
+        this.embeddingTaskExecutor = embeddingTaskExecutor;
+
+        this.completed = Counter.builder("embedding.job.processed").tag("result", "completed").register(meterRegistry);
+        this.retried = Counter.builder("embedding.job.processed").tag("result", "retry").register(meterRegistry);
+        this.failed = Counter.builder("embedding.job.processed").tag("result", "failed").register(meterRegistry);
+        this.batchTimer = Timer.builder("embedding.job.batch").register(meterRegistry);
+        Gauge.builder("embedding.job.active_batches", activeBatches, Set::size).register(meterRegistry);
+    }
+
+    @Scheduled(initialDelay = 10000, fixedDelay = 2000)
+    public void poll() {
+        EmbeddingConfig.Job config = embeddingConfig.getJob();
+        try {
+            while (activeBatches.size() < config.getWorkerConcurrency()) {
+                List<ClaimedJob> jobs = storeEmbeddingJobService.claim(config.getBatchSize());
+                if (jobs.isEmpty()) {
+                    return;
+                }
+                // 실행기가 작업을 버려도 stale 시간이 지나면 자리를 비운다 (작업 자체는 releaseStale이 되돌림)
+                CompletableFuture<Void> batch = CompletableFuture
+                        .runAsync(() -> process(jobs), embeddingTaskExecutor)
+                        .orTimeout(config.getStaleMinutes(), TimeUnit.MINUTES);
+                activeBatches.add(batch);
+                batch.whenComplete((result, error) -> activeBatches.remove(batch));
+            }
+        } catch (Exception e) {
+            log.error("Failed to poll store embedding jobs", e);
+        }
+    }
+
+    @Scheduled(initialDelay = 60000, fixedDelay = 60000)
+    public void releaseStaleJobs() {
+        try {
+            int released = storeEmbeddingJobService.releaseStale();
+            if (released > 0) {
+                log.warn("Released {} stale store embedding jobs", released);
+            }
+        } catch (Exception e) {
+            log.error("Failed to release stale store embedding jobs", e);
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void process(List<ClaimedJob> jobs) {
+        batchTimer.record(() -> {
+            Map<Long, String> texts = storeEmbeddingService.buildStoreTexts(
+                    jobs.stream().map(ClaimedJob::storeId).toList());
+
+            // 먼저 모두 요청해 게이트웨이가 배치로 묶을 수 있도록 한 뒤 결과를 기다린다
+            Map<ClaimedJob, CompletableFuture<Embedding>> requests = new LinkedHashMap<>();
+            for (ClaimedJob job : jobs) {
+                String text = texts.get(job.storeId());
+                if (text == null) {
+                    storeEmbeddingJobService.discard(job);
+                    continue;
+                }
+                requests.put(job, embeddingGateway.embedAsync(text));
+            }
+
+            requests.forEach(this::finish);
+        });
+    }
+
+    private void finish(ClaimedJob job, CompletableFuture<Embedding> request) {
+        try {
+            Embedding embedding = request.get(embeddingConfig.getTimeoutMillis(), TimeUnit.MILLISECONDS);
+            storeEmbeddingJobService.complete(job, embedding);
+            completed.increment();
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+            EmbeddingStatus status = storeEmbeddingJobService.fail(job, cause.toString());
+            (status == EmbeddingStatus.FAILED ? failed : retried).increment();
+            log.warn("Store embedding job failed. storeId={}, attempt={}, status={}: {}",
+                    job.storeId(), job.attempts(), status, cause.toString());
+        }
+    }
+}
@@ -1,14 +1,21 @@
 package com.bobeat.backend.domain.store.scheduler;
 
+import com.bobeat.backend.domain.store.config.StoreScoringConfig;
+import com.bobeat.backend.domain.store.repository.StoreScoreDirtyRepository;
 import com.bobeat.backend.domain.store.service.StoreScoreCalculator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
- * 식당 내부 점수를 주기적으로 계산하는 스케줄러
- * 매일 자정(00:00)에 업데이트가 필요한 식당들만 증분 업데이트
+ * 식당 내부 점수를 변경 직후 다시 계산하는 스케줄러
+ * <p>
+ * - 새로 등록되거나 메뉴/좌석이 바뀐 가게는 StoreScoreDirtyListener가 store_score_dirty에 등록 (계산 전에 요약을 다시 계산)
+ * - 3초마다 등록된 가게만 dirtyBatchSize씩 나눠 계산 (배치마다 커밋)
+ * - 서버 시작 시 점수가 없는 기존 가게를 한 번 등록해 보정
  */
 @Component
 @RequiredArgsConstructor
@@ -16,38 +23,41 @@ import org.springframework.stereotype.Component;
 public class StoreScoreScheduler {
 
     private final StoreScoreCalculator storeScoreCalculator;
+    private final StoreScoreDirtyRepository storeScoreDirtyRepository;
+    private final StoreScoringConfig scoringConfig;
 
     /**
-     * 매일 자정에 실행 - 증분 업데이트만 수행
-     * internalScore가 null인 경우만 업데이트
-     * cron: 초 분 시 일 월 요일
-     * "0 0 0 * * *" = 매일 00시 00분 00초
+     * 점수가 없는 가게를 재계산 대상으로 등록 (이후 처리는 rescoreDirtyStores)
      */
-    @Scheduled(cron = "0 0 0 * * *")
-    public void calculatePendingStoreScores() {
-        log.info("Starting scheduled incremental store score calculation");
-
+    @EventListener(ApplicationReadyEvent.class)
+    public void markUnscoredStoresOnStartup() {
         try {
-            int updatedCount = storeScoreCalculator.calculateAndUpdatePendingScores();
-            log.info("Successfully completed scheduled score calculation. Updated {} stores", updatedCount);
+            int marked = storeScoreDirtyRepository.markUnscored();
+            if (marked > 0) {
+                log.info("Marked {} unscored stores for score calculation", marked);
+            }
         } catch (Exception e) {
-            log.error("Error during scheduled store score calculation", e);
+            log.error("Failed to mark unscored stores", e);
         }
     }
 
-    /**
-     * 서버 시작 시 1분 후에 한 번 실행 - 증분 업데이트
-     * 초기에 점수가 없는 식당들만 계산
-     */
-    @Scheduled(initialDelay = 60000, fixedDelay = Long.MAX_VALUE)
-    public void calculateStoreScoresOnStartup() {
-        log.info("Starting initial store score calculation on application startup");
-
+    @Scheduled(initialDelay = 10000, fixedDelay = 3000)
+    public void rescoreDirtyStores() {
+        int batchSize = scoringConfig.getDirtyBatchSize();
+        int total = 0;
         try {
-            int updatedCount = storeScoreCalculator.calculateAndUpdatePendingScores();
-            log.info("Successfully completed initial score calculation. Updated {} stores", updatedCount);
+            for (int batch = 0; batch < scoringConfig.getDirtyMaxBatchesPerPoll(); batch++) {
+                int claimed = storeScoreCalculator.rescoreDirtyStores(batchSize);
+                total += claimed;
+                if (claimed < batchSize) {
+                    break;
+                }
+            }
         } catch (Exception e) {
-            log.error("Error during initial store score calculation", e);
+            log.error("Error during dirty store score calculation", e);
+        }
+        if (total > 0) {
+            log.info("Recalculated scores for {} changed stores", total);
         }
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.bobeat.backend.domain.store.service;
 
 import com.bobeat.backend.domain.store.config.StoreScoringConfig;
+import java.util.Locale;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -66,4 +67,50 @@ public class CompositeScoreCalculator {
 
         return (normalizedInternal * w1) + (normalizedDistance * w2);
     }
-}
\ No newline at end of file
+
+    /**
+     * 하이브리드 검색 점수 (검색어 임베딩 유사도 + 거리 + 내부 점수) SQL 표현식
+     *
+     * hybridScore = (similarity * W1) + (normalizedDistanceScore * W2) + (internalScore * W3)
+     *
+     * - similarity: 코사인 거리 0~1을 100~0으로 변환 (1 이상은 0)
+     * - normalizedDistanceScore: 0~searchRadius를 100~0으로 정규화
+     * - internalScore: 0~100 (없으면 composite.defaultInternalScore)
+     *
+     * @return SQL 표현식 문자열
+     *         {0} = store.internal_score
+     *         {1} = distance expression (미터, integer)
+     *         {2} = 임베딩 코사인 거리 (pgvector <=>)
+     */
+    public String buildHybridScoreExpression() {
+        var config = scoringConfig.getHybrid();
+        int radius = config.getSearchRadius();
+
+        return String.format(Locale.ROOT,
+            "(GREATEST(0.0, 1.0 - {2}) * 100.0 * %s) + (GREATEST(0.0, (%d - {1}) / %d.0 * 100.0) * %s) "
+                + "+ (COALESCE({0}, %s) * %s)",
+            config.getSimilarityWeight(), radius, radius, config.getDistanceWeight(),
+            scoringConfig.getComposite().getDefaultInternalScore(), config.getInternalScoreWeight()
+        );
+    }
+
+    public int getHybridSearchRadius() {
+        return scoringConfig.getHybrid().getSearchRadius();
+    }
+
+    /**
+     * 하이브리드 검색 점수 Java 계산 - buildHybridScoreExpression과 같은 식 (StoreHybridSearchIntegrationTest에서 일치 확인)
+     */
+    public double calculateHybrid(Double internalScore, int distanceMeters, double cosineDistance) {
+        var config = scoringConfig.getHybrid();
+        int radius = config.getSearchRadius();
+
+        double similarity = Math.max(0.0, 1.0 - cosineDistance) * 100.0;
+        double normalizedDistance = Math.max(0.0, (radius - distanceMeters) / (double) radius * 100.0);
+        double internal = internalScore != null ? internalScore : scoringConfig.getComposite().getDefaultInternalScore();
+
+        return (similarity * config.getSimilarityWeight())
+                + (normalizedDistance * config.getDistanceWeight())
+                + (internal * config.getInternalScoreWeight());
+    }
+}
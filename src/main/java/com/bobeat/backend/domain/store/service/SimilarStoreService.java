@@ -6,29 +6,34 @@ import com.bobeat.backend.domain.store.entity.SeatOption;
 import com.bobeat.backend.domain.store.entity.SeatType;
 import com.bobeat.backend.domain.store.entity.Store;
 import com.bobeat.backend.domain.store.entity.StoreImage;
+import com.bobeat.backend.domain.store.index.StoreVectorIndex;
 import com.bobeat.backend.domain.store.repository.SeatOptionRepository;
 import com.bobeat.backend.domain.store.repository.SimilarStoreRepository;
 import com.bobeat.backend.domain.store.repository.StoreImageRepository;
 import com.bobeat.backend.domain.store.repository.StoreRepository;
+import com.bobeat.backend.domain.store.vo.Categories;
+import com.bobeat.backend.global.util.EnrichmentExecutor;
+import com.bobeat.backend.global.util.EnrichmentExecutor.Lookup;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 유사 가게 추천 서비스
  *
  * 로직:
  * 1. PostGIS로 해당 가게로부터 3km 이내 가게 필터링
- * 2. 필터링된 후보군을 임베딩 벡터 유사도로 정렬
+ * 2. 필터링된 후보군을 임베딩 벡터 유사도로 정렬 (벡터 인덱스가 준비되어 있으면 인메모리, 아니면 pgvector)
  * 3. 상위 5개 반환
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class SimilarStoreService {
 
     private static final double MAX_DISTANCE_METERS = 3000.0; // 3km
@@ -38,6 +43,26 @@ public class SimilarStoreService {
     private final SimilarStoreRepository similarStoreRepository;
     private final StoreImageRepository storeImageRepository;
     private final SeatOptionRepository seatOptionRepository;
+    private final StoreVectorIndex storeVectorIndex;
+    private final EnrichmentExecutor enrichmentExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public SimilarStoreService(StoreRepository storeRepository,
+                               SimilarStoreRepository similarStoreRepository,
+                               StoreImageRepository storeImageRepository,
+                               SeatOptionRepository seatOptionRepository,
+                               StoreVectorIndex storeVectorIndex,
+                               EnrichmentExecutor enrichmentExecutor,
+                               PlatformTransactionManager transactionManager) {
+        this.storeRepository = storeRepository;
+        this.similarStoreRepository = similarStoreRepository;
+        this.storeImageRepository = storeImageRepository;
+        this.seatOptionRepository = seatOptionRepository;
+        this.storeVectorIndex = storeVectorIndex;
+        this.enrichmentExecutor = enrichmentExecutor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
     /**
      * 유사 가게 추천(최대 5개)
@@ -48,8 +73,56 @@ public class SimilarStoreService {
      *
      * @return 유사 가게 목록
      */
-    @Transactional(readOnly = true)
     public List<SimilarStoreResponse> findSimilarStores(Long storeId, Double userLatitude, Double userLongitude) {
+        // 1~2단계는 짧은 읽기 트랜잭션 안에서 - 보강 조회 전에 커넥션을 반납
+        List<StoreWithDistance> similarStoresWithDistance = readOnlyTransaction.execute(status ->
+                findSimilarStoresInTransaction(storeId, userLatitude, userLongitude));
+        if (similarStoresWithDistance.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> similarStoreIds = similarStoresWithDistance.stream()
+                .map(storeWithDistance -> storeWithDistance.getStore().getId())
+                .toList();
+
+        // 대표 이미지와 좌석 조회는 서로 독립적이라 트랜잭션 밖에서 동시에 실행 (조회마다 각자 커넥션 사용)
+        Map<Long, StoreImage> storeImageMap;
+        Map<Long, List<SeatType>> seatTypeMap;
+        try (EnrichmentExecutor.Scope scope = enrichmentExecutor.open("store.similar")) {
+            Lookup<Map<Long, StoreImage>> imageLookup = scope.fork("images",
+                    () -> storeImageRepository.findMainImagesByStoreIds(similarStoreIds).stream()
+                            .collect(Collectors.toMap(img -> img.getStore().getId(), img -> img)));
+            Lookup<Map<Long, List<SeatType>>> seatLookup = scope.fork("seats",
+                    () -> seatOptionRepository.findByStoreIdIn(similarStoreIds).stream()
+                            .collect(Collectors.groupingBy(
+                                    seatOption -> seatOption.getStore().getId(),
+                                    Collectors.mapping(SeatOption::getSeatType, Collectors.toList())
+                            )));
+            scope.join();
+
+            storeImageMap = imageLookup.get();
+            seatTypeMap = seatLookup.get();
+        }
+
+        return similarStoresWithDistance.stream()
+                .map(storeWithDistance -> {
+                    Store store = storeWithDistance.getStore();
+                    Integer distance = storeWithDistance.getDistance();
+                    StoreImage mainImage = storeImageMap.get(store.getId());
+                    List<SeatType> seatTypes = seatTypeMap.getOrDefault(store.getId(), List.of());
+                    return SimilarStoreResponse.of(store, mainImage, distance, seatTypes);
+                })
+                .toList();
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * 기준 가게 확인 + 3km 이내 후보 추출 + 유사도 상위 5개 (유저와의 거리 포함)
+     * 응답에 쓰는 대표 카테고리는 트랜잭션 안에서 초기화해 트랜잭션 밖에서도 그대로 읽을 수 있게 한다.
+     */
+    private List<StoreWithDistance> findSimilarStoresInTransaction(Long storeId, Double userLatitude,
+                                                                   Double userLongitude) {
         storeRepository.findByIdOrThrow(storeId);
 
         // 1단계: PostGIS로 3km 이내 가게 ID 추출
@@ -60,35 +133,40 @@ public class SimilarStoreService {
         }
 
         // 2단계: 임베딩 벡터 유사도로 정렬하여 상위 5개 추출 (유저와의 거리 정보 포함)
-        List<StoreWithDistance> similarStoresWithDistance = similarStoreRepository.findSimilarByEmbeddingWithDistance(
+        List<StoreWithDistance> similarStores = findSimilarStoresWithDistance(
                 storeId,
                 nearbyStoreIds,
-                RESULT_LIMIT,
                 userLatitude,
                 userLongitude
         );
+        similarStores.forEach(storeWithDistance -> {
+            Categories categories = storeWithDistance.getStore().getCategories();
+            if (categories != null) {
+                Hibernate.initialize(categories.getPrimaryCategory());
+            }
+        });
+        return similarStores;
+    }
 
-        List<Long> similarStoreIds = similarStoresWithDistance.stream()
-                .map(storeWithDistance -> storeWithDistance.getStore().getId())
-                .toList();
+    private List<StoreWithDistance> findSimilarStoresWithDistance(Long storeId, List<Long> nearbyStoreIds,
+                                                                  Double userLatitude, Double userLongitude) {
+        if (!storeVectorIndex.isReady()) {
+            return similarStoreRepository.findSimilarByEmbeddingWithDistance(
+                    storeId, nearbyStoreIds, RESULT_LIMIT, userLatitude, userLongitude);
+        }
 
-        Map<Long, StoreImage> storeImageMap = storeImageRepository.findMainImagesByStoreIds(similarStoreIds).stream()
-                .collect(Collectors.toMap(img -> img.getStore().getId(), img -> img));
+        List<Long> rankedStoreIds = storeVectorIndex.rankCandidates(storeId, nearbyStoreIds, RESULT_LIMIT).stream()
+                .map(StoreVectorIndex.VectorHit::storeId)
+                .toList();
 
-        Map<Long, List<SeatType>> seatTypeMap = seatOptionRepository.findByStoreIdIn(similarStoreIds).stream()
-                .collect(Collectors.groupingBy(
-                        seatOption -> seatOption.getStore().getId(),
-                        Collectors.mapping(SeatOption::getSeatType, Collectors.toList())
-                ));
+        Map<Long, StoreWithDistance> storeMap = similarStoreRepository.findStoresWithDistance(
+                        rankedStoreIds, userLatitude, userLongitude).stream()
+                .collect(Collectors.toMap(storeWithDistance -> storeWithDistance.getStore().getId(),
+                        storeWithDistance -> storeWithDistance));
 
-        return similarStoresWithDistance.stream()
-                .map(storeWithDistance -> {
-                    Store store = storeWithDistance.getStore();
-                    Integer distance = storeWithDistance.getDistance();
-                    StoreImage mainImage = storeImageMap.get(store.getId());
-                    List<SeatType> seatTypes = seatTypeMap.getOrDefault(store.getId(), List.of());
-                    return SimilarStoreResponse.of(store, mainImage, distance, seatTypes);
-                })
+        return rankedStoreIds.stream()
+                .map(storeMap::get)
+                .filter(Objects::nonNull)
                 .toList();
     }
 }
@@ -0,0 +1,318 @@
+package com.bobeat.backend.domain.store.service;
+
+import com.bobeat.backend.domain.member.entity.Level;
+import com.bobeat.backend.domain.store.dto.request.StoreCreateRequest;
+import com.bobeat.backend.domain.store.dto.response.StoreBulkImportResponse;
+import com.bobeat.backend.domain.store.dto.response.StoreBulkImportResponse.SkippedRow;
+import com.bobeat.backend.domain.store.entity.PrimaryCategory;
+import com.bobeat.backend.domain.store.entity.SeatType;
+import com.bobeat.backend.domain.store.index.StoreCardSnapshot;
+import com.bobeat.backend.domain.store.index.StoreLexicalIndex;
+import com.bobeat.backend.domain.store.index.StoreGeoEntry;
+import com.bobeat.backend.domain.store.index.StoreGeoIndex;
+import com.bobeat.backend.domain.store.repository.PrimaryCategoryRepository;
+import com.bobeat.backend.domain.store.repository.StoreBulkImportRepository;
+import com.bobeat.backend.domain.store.repository.StoreBulkImportRepository.ImageRow;
+import com.bobeat.backend.domain.store.repository.StoreBulkImportRepository.MenuRow;
+import com.bobeat.backend.domain.store.repository.StoreBulkImportRepository.SeatOptionRow;
+import com.bobeat.backend.domain.store.repository.StoreBulkImportRepository.StoreKey;
+import com.bobeat.backend.domain.store.repository.StoreBulkImportRepository.StoreRow;
+import com.bobeat.backend.domain.store.repository.StoreScoreDirtyRepository;
+import com.bobeat.backend.domain.store.util.StoreCsvParser;
+import com.bobeat.backend.global.exception.CustomException;
+import com.bobeat.backend.global.exception.ErrorCode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 가게 대량 등록 (JSON/CSV)
+ * <p>
+ * - 요청 검증 후 (이름, 위도, 경도) 중복을 요청 안에서 한 번, DB와 한 번의 쿼리로 걸러냄
+ * - 카테고리는 요청에 나온 종류만 캐시된 조회로 한 번씩 확인
+ * - 가게 ID를 미리 발급받아 가게/이미지/메뉴/좌석을 JDBC 배치 INSERT
+ * - 점수(internal_score)는 비워 두고 재계산 대상(store_score_dirty)으로 등록해 StoreScoreScheduler에 맡김
+ * - 임베딩은 작업 큐에 등록만 하고 StoreEmbeddingJobWorker가 생성
+ * <p>
+ * 잘못된 행이나 중복 행은 건너뛰고 사유를 응답에 담는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreBulkImportService {
+
+    private static final int MAX_ROWS = 10_000;
+
+    private final StoreBulkImportRepository bulkImportRepository;
+    private final PrimaryCategoryRepository primaryCategoryRepository;
+    private final Validator validator;
+    private final StoreGeoIndex storeGeoIndex;
+    private final StoreCardSnapshot storeCardSnapshot;
+    private final StoreLexicalIndex storeLexicalIndex;
+    private final StoreScoreDirtyRepository storeScoreDirtyRepository;
+
+    private record Candidate(int row, StoreCreateRequest request, Level level, Long categoryId, StoreKey key) {
+    }
+
+    @Transactional
+    public StoreBulkImportResponse importStores(List<StoreCreateRequest> requests) {
+        List<StoreCsvParser.Row> rows = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            rows.add(new StoreCsvParser.Row(i + 1, requests.get(i), null));
+        }
+        return importRows(rows);
+    }
+
+    @Transactional
+    public StoreBulkImportResponse importCsv(MultipartFile file) {
+        String content;
+        try {
+            content = new String(file.getBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.INVALID_STORE_IMPORT_FILE);
+        }
+
+        try {
+            return importRows(StoreCsvParser.parse(content));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(e.getMessage(), ErrorCode.INVALID_STORE_IMPORT_FILE);
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private StoreBulkImportResponse importRows(List<StoreCsvParser.Row> rows) {
+        if (rows.size() > MAX_ROWS) {
+            throw new CustomException("한 번에 최대 " + MAX_ROWS + "개까지 등록할 수 있습니다.",
+                    ErrorCode.INVALID_STORE_IMPORT_FILE);
+        }
+        long start = System.currentTimeMillis();
+        List<SkippedRow> skipped = new ArrayList<>();
+
+        List<Candidate> candidates = validate(rows, skipped);
+        candidates = removeDuplicates(candidates, skipped);
+
+        List<Long> storeIds = insert(candidates);
+        bulkImportRepository.insertEmbeddingJobs(storeIds, LocalDateTime.now());
+        // JDBC INSERT는 엔티티 리스너를 거치지 않으므로 직접 등록
+        storeScoreDirtyRepository.mark(storeIds);
+        afterImport(candidates, storeIds);
+
+        skipped.sort(Comparator.comparingInt(SkippedRow::row));
+        log.info("Bulk imported {} stores ({} requested, {} skipped) in {} ms",
+                storeIds.size(), rows.size(), skipped.size(), System.currentTimeMillis() - start);
+        return new StoreBulkImportResponse(rows.size(), storeIds.size(), storeIds, skipped);
+    }
+
+    /**
+     * 필드 검증, 혼밥 레벨/카테고리 확인
+     */
+    private List<Candidate> validate(List<StoreCsvParser.Row> rows, List<SkippedRow> skipped) {
+        Map<String, Long> categoryIds = resolveCategories(rows);
+
+        List<Candidate> candidates = new ArrayList<>(rows.size());
+        for (StoreCsvParser.Row row : rows) {
+            StoreCreateRequest request = row.request();
+            if (request == null) {
+                skipped.add(new SkippedRow(row.row(), null, row.error()));
+                continue;
+            }
+
+            Set<String> violations = violations(request);
+            if (!violations.isEmpty()) {
+                skipped.add(new SkippedRow(row.row(), request.name(), String.join(", ", violations)));
+                continue;
+            }
+
+            Level level;
+            try {
+                level = Level.fromValue(request.honbobLevel());
+            } catch (CustomException e) {
+                skipped.add(new SkippedRow(row.row(), request.name(), e.getMessage()));
+                continue;
+            }
+
+            Long categoryId = categoryIds.get(request.categories().primaryCategory());
+            if (categoryId == null) {
+                skipped.add(new SkippedRow(row.row(), request.name(),
+                        ErrorCode.NOT_FOUND_STORE_CATEGORY.getMessage()));
+                continue;
+            }
+
+            StoreKey key = new StoreKey(request.name(), request.address().latitude(),
+                    request.address().longitude());
+            candidates.add(new Candidate(row.row(), request, level, categoryId, key));
+        }
+        return candidates;
+    }
+
+    /**
+     * 요청 필드 + 목록 항목(이미지/메뉴/좌석) 검증 메시지
+     */
+    private Set<String> violations(StoreCreateRequest request) {
+        List<Object> targets = new ArrayList<>();
+        targets.add(request);
+        for (List<?> items : Arrays.asList(request.storeImages(), request.menus(), request.seatOptions())) {
+            if (items != null) {
+                targets.addAll(items);
+            }
+        }
+
+        Set<String> messages = new TreeSet<>();
+        for (Object target : targets) {
+            if (target == null) {
+                messages.add("목록에 빈 항목이 있습니다");
+                continue;
+            }
+            validator.validate(target).stream()
+                    .map(ConstraintViolation::getMessage)
+                    .forEach(messages::add);
+        }
+        return messages;
+    }
+
+    /**
+     * 요청에 나온 카테고리 종류만 한 번씩 조회 (findByPrimaryType은 캐시됨)
+     */
+    private Map<String, Long> resolveCategories(List<StoreCsvParser.Row> rows) {
+        Map<String, Long> categoryIds = new HashMap<>();
+        rows.stream()
+                .map(StoreCsvParser.Row::request)
+                .filter(request -> request != null && request.categories() != null
+                        && request.categories().primaryCategory() != null)
+                .map(request -> request.categories().primaryCategory())
+                .distinct()
+                .forEach(type -> primaryCategoryRepository.findByPrimaryType(type)
+                        .map(PrimaryCategory::getId)
+                        .ifPresent(id -> categoryIds.put(type, id)));
+        return categoryIds;
+    }
+
+    /**
+     * 요청 안의 중복은 첫 행만 남기고, 이미 등록된 가게는 한 번의 쿼리로 확인해 제외
+     */
+    private List<Candidate> removeDuplicates(List<Candidate> candidates, List<SkippedRow> skipped) {
+        Set<StoreKey> seen = new HashSet<>();
+        List<Candidate> unique = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            if (!seen.add(candidate.key())) {
+                skipped.add(new SkippedRow(candidate.row(), candidate.request().name(), "요청 안에서 중복된 가게입니다."));
+                continue;
+            }
+            unique.add(candidate);
+        }
+
+        Set<StoreKey> existing = bulkImportRepository.findExistingKeys(
+                unique.stream().map(Candidate::key).toList());
+        if (existing.isEmpty()) {
+            return unique;
+        }
+
+        List<Candidate> remaining = new ArrayList<>(unique.size());
+        for (Candidate candidate : unique) {
+            if (existing.contains(candidate.key())) {
+                skipped.add(new SkippedRow(candidate.row(), candidate.request().name(),
+                        ErrorCode.DUPLICATE_STORE_NAME.getMessage()));
+                continue;
+            }
+            remaining.add(candidate);
+        }
+        return remaining;
+    }
+
+    private List<Long> insert(List<Candidate> candidates) {
+        List<Long> storeIds = bulkImportRepository.allocateStoreIds(candidates.size());
+        if (storeIds.isEmpty()) {
+            return storeIds;
+        }
+
+        List<StoreRow> stores = new ArrayList<>(candidates.size());
+        List<ImageRow> images = new ArrayList<>();
+        List<MenuRow> menus = new ArrayList<>();
+        List<SeatOptionRow> seatOptions = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            Candidate candidate = candidates.get(i);
+            StoreCreateRequest request = candidate.request();
+            Long storeId = storeIds.get(i);
+
+            stores.add(toStoreRow(storeId, candidate));
+            request.storeImages().forEach(image ->
+                    images.add(new ImageRow(storeId, image.imageUrl(), Boolean.TRUE.equals(image.isMain()))));
+            request.menus().forEach(menu ->
+                    menus.add(new MenuRow(storeId, menu.name(), menu.price(), menu.imageUrl())));
+            request.seatOptions().forEach(seat ->
+                    seatOptions.add(new SeatOptionRow(storeId, seat.seatType().name(), seat.imageUrl())));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        bulkImportRepository.insertStores(stores, now);
+        bulkImportRepository.insertImages(images, now);
+        bulkImportRepository.insertMenus(menus, now);
+        bulkImportRepository.insertSeatOptions(seatOptions, now);
+        return storeIds;
+    }
+
+    /**
+     * Store.updateSummary와 같은 요약 - 대량 등록 메뉴는 추천 메뉴가 없으므로 대표 가격은 최저가
+     */
+    private StoreRow toStoreRow(Long storeId, Candidate candidate) {
+        StoreCreateRequest request = candidate.request();
+        List<Integer> prices = request.menus().stream().map(StoreCreateRequest.MenuRequest::price).toList();
+        Integer minPrice = prices.stream().min(Integer::compare).orElse(null);
+        Integer maxPrice = prices.stream().max(Integer::compare).orElse(null);
+        int seatTypeMask = SeatType.toMask(request.seatOptions().stream()
+                .map(StoreCreateRequest.SeatOptionRequest::seatType)
+                .toList());
+
+        return new StoreRow(
+                storeId,
+                request.name(),
+                request.address().address(),
+                request.address().latitude(),
+                request.address().longitude(),
+                request.phoneNumber(),
+                request.description(),
+                candidate.level().ordinal(),
+                candidate.categoryId(),
+                minPrice,
+                maxPrice,
+                minPrice,
+                seatTypeMask
+        );
+    }
+
+    /**
+     * 커밋 이후 인메모리 인덱스 반영
+     */
+    private void afterImport(List<Candidate> candidates, List<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return;
+        }
+        List<StoreGeoEntry> entries = new ArrayList<>(storeIds.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            StoreCreateRequest request = candidates.get(i).request();
+            entries.add(new StoreGeoEntry(storeIds.get(i), request.address().latitude(),
+                    request.address().longitude(), candidates.get(i).level(),
+                    request.categories().primaryCategory()));
+        }
+        storeGeoIndex.putAll(entries);
+        storeCardSnapshot.refreshAll(storeIds);
+        storeLexicalIndex.refreshAll(storeIds);
+    }
+}
@@ -7,6 +7,10 @@ import com.bobeat.backend.domain.store.entity.PrimaryCategory;
 import com.bobeat.backend.domain.store.entity.SeatOption;
 import com.bobeat.backend.domain.store.entity.Store;
 import com.bobeat.backend.domain.store.entity.StoreImage;
+import com.bobeat.backend.domain.store.index.StoreCardSnapshot;
+import com.bobeat.backend.domain.store.index.StoreLexicalIndex;
+import com.bobeat.backend.domain.store.index.StoreGeoEntry;
+import com.bobeat.backend.domain.store.index.StoreGeoIndex;
 import com.bobeat.backend.domain.store.repository.MenuRepository;
 import com.bobeat.backend.domain.store.repository.PrimaryCategoryRepository;
 import com.bobeat.backend.domain.store.repository.SeatOptionRepository;
@@ -34,7 +38,10 @@ public class StoreCreateService {
     private final StoreImageRepository storeImageRepository;
     private final MenuRepository menuRepository;
     private final SeatOptionRepository seatOptionRepository;
-    private final StoreEmbeddingService storeEmbeddingService;
+    private final StoreEmbeddingJobService storeEmbeddingJobService;
+    private final StoreGeoIndex storeGeoIndex;
+    private final StoreCardSnapshot storeCardSnapshot;
+    private final StoreLexicalIndex storeLexicalIndex;
 
     @Transactional
     public List<Long> createStores(List<StoreCreateRequest> requests) {
@@ -66,10 +73,15 @@ public class StoreCreateService {
         Store savedStore = storeRepository.save(store);
 
         createStoreImages(request.storeImages(), savedStore);
-        createMenus(request.menus(), savedStore);
-        createSeatOptions(request.seatOptions(), savedStore);
+        List<Menu> menus = createMenus(request.menus(), savedStore);
+        List<SeatOption> seatOptions = createSeatOptions(request.seatOptions(), savedStore);
+        savedStore.updateSummary(menus, seatOptions);
 
-        storeEmbeddingService.saveEmbeddingByStore(savedStore.getId());
+        // 임베딩은 작업 큐에 등록만 하고 워커가 비동기로 생성 (완료되면 의미 검색 대상이 됨)
+        storeEmbeddingJobService.enqueue(savedStore.getId());
+        storeGeoIndex.put(StoreGeoEntry.from(savedStore));
+        storeCardSnapshot.refresh(savedStore.getId());
+        storeLexicalIndex.refresh(savedStore.getId());
 
         return savedStore.getId();
     }
@@ -116,7 +128,7 @@ public class StoreCreateService {
         storeImageRepository.saveAll(storeImages);
     }
 
-    private void createMenus(List<StoreCreateRequest.MenuRequest> menuRequests, Store store) {
+    private List<Menu> createMenus(List<StoreCreateRequest.MenuRequest> menuRequests, Store store) {
         List<Menu> menus = menuRequests.stream()
                 .map(menuRequest -> Menu.builder()
                         .store(store)
@@ -126,10 +138,10 @@ public class StoreCreateService {
                         .build())
                 .toList();
 
-        menuRepository.saveAll(menus);
+        return menuRepository.saveAll(menus);
     }
 
-    private void createSeatOptions(List<StoreCreateRequest.SeatOptionRequest> seatOptionRequests, Store store) {
+    private List<SeatOption> createSeatOptions(List<StoreCreateRequest.SeatOptionRequest> seatOptionRequests, Store store) {
         List<SeatOption> seatOptions = seatOptionRequests.stream()
                 .map(seatOptionRequest -> SeatOption.builder()
                         .store(store)
@@ -138,6 +150,6 @@ public class StoreCreateService {
                         .build())
                 .toList();
 
-        seatOptionRepository.saveAll(seatOptions);
+        return seatOptionRepository.saveAll(seatOptions);
     }
 }
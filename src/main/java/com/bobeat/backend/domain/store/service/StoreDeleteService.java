@@ -2,8 +2,13 @@ package com.bobeat.backend.domain.store.service;
 
 import com.bobeat.backend.domain.review.repository.ReviewRepository;
 import com.bobeat.backend.domain.store.entity.Store;
+import com.bobeat.backend.domain.store.index.StoreCardSnapshot;
+import com.bobeat.backend.domain.store.index.StoreLexicalIndex;
+import com.bobeat.backend.domain.store.index.StoreGeoIndex;
+import com.bobeat.backend.domain.store.index.StoreVectorIndex;
 import com.bobeat.backend.domain.store.repository.MenuRepository;
 import com.bobeat.backend.domain.store.repository.SeatOptionRepository;
+import com.bobeat.backend.domain.store.repository.StoreEmbeddingJobRepository;
 import com.bobeat.backend.domain.store.repository.StoreEmbeddingRepository;
 import com.bobeat.backend.domain.store.repository.StoreImageRepository;
 import com.bobeat.backend.domain.store.repository.StoreProposalRepository;
@@ -23,14 +28,23 @@ public class StoreDeleteService {
     private final MenuRepository menuRepository;
     private final SeatOptionRepository seatOptionRepository;
     private final StoreEmbeddingRepository storeEmbeddingRepository;
+    private final StoreEmbeddingJobRepository storeEmbeddingJobRepository;
     private final ReviewRepository reviewRepository;
     private final StoreProposalRepository storeProposalRepository;
+    private final StoreGeoIndex storeGeoIndex;
+    private final StoreCardSnapshot storeCardSnapshot;
+    private final StoreLexicalIndex storeLexicalIndex;
+    private final StoreVectorIndex storeVectorIndex;
 
     @Transactional
     public void deleteStore(Long storeId) {
         Store store = storeRepository.findByIdOrThrow(storeId);
         deleteRelatedEntities(storeId);
         storeRepository.delete(store);
+        storeGeoIndex.remove(storeId);
+        storeCardSnapshot.remove(storeId);
+        storeLexicalIndex.remove(storeId);
+        storeVectorIndex.remove(storeId);
     }
 
     private void deleteRelatedEntities(Long storeId) {
@@ -38,6 +52,7 @@ public class StoreDeleteService {
         menuRepository.deleteByStoreId(storeId);
         seatOptionRepository.deleteByStoreId(storeId);
         storeEmbeddingRepository.deleteByStoreId(storeId);
+        storeEmbeddingJobRepository.deleteByStoreId(storeId);
         reviewRepository.deleteByStoreId(storeId);
         storeProposalRepository.deleteByStoreId(storeId);
         // Note: MemberSavedStore는 Repository가 없어서 제외
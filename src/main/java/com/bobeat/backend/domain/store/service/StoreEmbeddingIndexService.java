@@ -0,0 +1,236 @@
+package com.bobeat.backend.domain.store.service;
+
+import com.bobeat.backend.domain.store.config.StoreSearchConfig;
+import com.bobeat.backend.domain.store.config.StoreSearchConfig.PgvectorIndex.IndexType;
+import com.bobeat.backend.domain.store.repository.StoreEmbeddingIndexRepository;
+import com.bobeat.backend.domain.store.repository.StoreEmbeddingIndexRepository.BuildProgress;
+import com.bobeat.backend.domain.store.repository.StoreEmbeddingIndexRepository.IndexInfo;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * store_embedding.embedding pgvector ANN 인덱스 관리
+ * <p>
+ * - 서버 시작 시 설정과 다른(또는 없는/깨진) 인덱스를 백그라운드에서 재구축
+ * - 재구축은 새 이름으로 CONCURRENTLY 생성 후 기존 인덱스와 교체하므로 구축 중에도 검색/쓰기가 막히지 않는다
+ * - 재현율은 샘플 임베딩으로 인덱스 검색과 전수 비교 결과를 비교해 측정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreEmbeddingIndexService {
+
+    static final String INDEX_NAME = "idx_store_embedding_ann";
+    private static final String BUILDING_INDEX_NAME = INDEX_NAME + "_new";
+
+    private final StoreEmbeddingIndexRepository indexRepository;
+    private final StoreSearchConfig searchConfig;
+
+    private final AtomicBoolean building = new AtomicBoolean(false);
+    private volatile BuildResult lastBuild;
+    private volatile RecallResult lastRecall;
+
+    public record BuildResult(Instant startedAt, Instant finishedAt, long elapsedMillis, String method, String error) {
+    }
+
+    public record RecallResult(Instant measuredAt, int sampleSize, int k, double recall, double indexAvgMillis,
+                               double exactAvgMillis) {
+    }
+
+    public record IndexStatus(
+            String indexName,
+            boolean managed,
+            boolean exists,
+            boolean valid,
+            boolean upToDate,
+            long sizeBytes,
+            long rowCount,
+            String definition,
+            String configuredMethod,
+            Map<String, String> queryParameters,
+            boolean building,
+            BuildProgress progress,
+            BuildResult lastBuild,
+            RecallResult lastRecall
+    ) {
+    }
+
+    /**
+     * 서버 시작 시 인덱스 확인 (백그라운드) - 없거나, 유효하지 않거나, 설정과 다르면 재구축
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexOnStartup() {
+        if (!isManaged()) {
+            return;
+        }
+        try {
+            IndexInfo index = indexRepository.findIndex(INDEX_NAME).orElse(null);
+            if (index != null && index.valid() && matchesConfig(index)) {
+                log.info("Store embedding index is up to date: {}", index.definition());
+                return;
+            }
+            log.info("Store embedding index missing or outdated. Rebuilding with {}", buildMethod());
+            rebuild();
+        } catch (Exception e) {
+            log.error("Failed to verify store embedding index", e);
+        }
+    }
+
+    /**
+     * 관리자 요청으로 백그라운드 재구축
+     */
+    @Async
+    public void rebuildAsync() {
+        rebuild();
+    }
+
+    public boolean isBuilding() {
+        return building.get();
+    }
+
+    /**
+     * 새 인덱스를 CONCURRENTLY로 만든 뒤 기존 인덱스와 교체
+     *
+     * @return 교체까지 끝나면 true, 이미 구축 중이거나 실패하면 false (실패 사유는 lastBuild.error)
+     */
+    public boolean rebuild() {
+        if (!building.compareAndSet(false, true)) {
+            log.info("Store embedding index build already in progress");
+            return false;
+        }
+        Instant startedAt = Instant.now();
+        String method = buildMethod();
+        try {
+            // 이전 구축이 중간에 실패하면 INVALID 인덱스가 남으므로 먼저 정리
+            indexRepository.dropIndexConcurrently(BUILDING_INDEX_NAME);
+            indexRepository.createIndexConcurrently(BUILDING_INDEX_NAME, method,
+                    searchConfig.getPgvectorIndex().getMaintenanceWorkMem());
+            indexRepository.swapIndex(BUILDING_INDEX_NAME, INDEX_NAME);
+
+            Instant finishedAt = Instant.now();
+            lastBuild = new BuildResult(startedAt, finishedAt, Duration.between(startedAt, finishedAt).toMillis(),
+                    method, null);
+            log.info("Store embedding index built in {} ms: {}", lastBuild.elapsedMillis(), method);
+            return true;
+        } catch (Exception e) {
+            Instant finishedAt = Instant.now();
+            lastBuild = new BuildResult(startedAt, finishedAt, Duration.between(startedAt, finishedAt).toMillis(),
+                    method, e.getMessage());
+            log.error("Failed to build store embedding index: {}", method, e);
+            return false;
+        } finally {
+            building.set(false);
+        }
+    }
+
+    public IndexStatus getStatus() {
+        IndexInfo index = indexRepository.findIndex(INDEX_NAME).orElse(null);
+        return new IndexStatus(
+                INDEX_NAME,
+                isManaged(),
+                index != null,
+                index != null && index.valid(),
+                index != null && index.valid() && matchesConfig(index),
+                index != null ? index.sizeBytes() : 0L,
+                indexRepository.countRows(),
+                index != null ? index.definition() : null,
+                buildMethod(),
+                queryParameters(),
+                building.get(),
+                indexRepository.findBuildProgress().orElse(null),
+                lastBuild,
+                lastRecall
+        );
+    }
+
+    /**
+     * 샘플 임베딩을 질의로 사용해 인덱스 검색(recall@k)과 전수 비교 결과 비교
+     */
+    public RecallResult measureRecall() {
+        StoreSearchConfig.PgvectorIndex config = searchConfig.getPgvectorIndex();
+        int k = config.getRecallK();
+        List<float[]> samples = indexRepository.sampleEmbeddings(config.getRecallSampleSize());
+        Map<String, String> parameters = queryParameters();
+
+        int matched = 0;
+        int total = 0;
+        long indexNanos = 0;
+        long exactNanos = 0;
+        for (float[] query : samples) {
+            long start = System.nanoTime();
+            List<Long> exact = indexRepository.findNearestIds(query, k, false, parameters);
+            exactNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            List<Long> approximate = indexRepository.findNearestIds(query, k, true, parameters);
+            indexNanos += System.nanoTime() - start;
+
+            Set<Long> expected = new HashSet<>(exact);
+            matched += (int) approximate.stream().filter(expected::contains).count();
+            total += expected.size();
+        }
+
+        int sampleSize = samples.size();
+        RecallResult result = new RecallResult(
+                Instant.now(),
+                sampleSize,
+                k,
+                total == 0 ? 0.0 : (double) matched / total,
+                sampleSize == 0 ? 0.0 : indexNanos / 1_000_000.0 / sampleSize,
+                sampleSize == 0 ? 0.0 : exactNanos / 1_000_000.0 / sampleSize
+        );
+        lastRecall = result;
+        log.info("Store embedding index recall@{} = {} ({} samples)", k, result.recall(), sampleSize);
+        return result;
+    }
+
+    // ==================== Helper Methods ====================
+
+    private boolean isManaged() {
+        return Boolean.TRUE.equals(searchConfig.getPgvectorIndex().getManaged());
+    }
+
+    /**
+     * CREATE INDEX ... USING 이후 부분
+     */
+    String buildMethod() {
+        StoreSearchConfig.PgvectorIndex config = searchConfig.getPgvectorIndex();
+        if (config.getType() == IndexType.IVFFLAT) {
+            return "ivfflat (embedding vector_cosine_ops) WITH (lists = " + config.getLists() + ")";
+        }
+        return "hnsw (embedding vector_cosine_ops) WITH (m = " + config.getM()
+                + ", ef_construction = " + config.getEfConstruction() + ")";
+    }
+
+    /**
+     * pg_indexes.indexdef는 옵션을 m='16' 형태로 보여주므로 같은 형태로 비교
+     */
+    boolean matchesConfig(IndexInfo index) {
+        StoreSearchConfig.PgvectorIndex config = searchConfig.getPgvectorIndex();
+        String expected = config.getType() == IndexType.IVFFLAT
+                ? "USING ivfflat (embedding vector_cosine_ops) WITH (lists='" + config.getLists() + "')"
+                : "USING hnsw (embedding vector_cosine_ops) WITH (m='" + config.getM()
+                        + "', ef_construction='" + config.getEfConstruction() + "')";
+        return index.definition() != null && index.definition().endsWith(expected);
+    }
+
+    private Map<String, String> queryParameters() {
+        StoreSearchConfig.PgvectorIndex config = searchConfig.getPgvectorIndex();
+        if (config.getType() == IndexType.IVFFLAT) {
+            return Map.of("ivfflat.probes", String.valueOf(config.getProbes()));
+        }
+        return Map.of("hnsw.ef_search", String.valueOf(config.getEfSearch()));
+    }
+}
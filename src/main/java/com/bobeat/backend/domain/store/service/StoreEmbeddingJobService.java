@@ -0,0 +1,137 @@
+package com.bobeat.backend.domain.store.service;
+
+import com.bobeat.backend.domain.store.config.EmbeddingConfig;
+import com.bobeat.backend.domain.store.entity.EmbeddingStatus;
+import com.bobeat.backend.domain.store.entity.StoreEmbeddingJob;
+import com.bobeat.backend.domain.store.repository.StoreEmbeddingJobRepository;
+import com.bobeat.backend.domain.store.vo.Embedding;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 가게 임베딩 작업 큐 (store_embedding_job)
+ * <p>
+ * 가게 생성/수정 트랜잭션에서는 작업만 등록하고, 실제 임베딩 생성은 StoreEmbeddingJobWorker가 비동기로 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreEmbeddingJobService {
+
+    private final StoreEmbeddingJobRepository storeEmbeddingJobRepository;
+    private final StoreEmbeddingService storeEmbeddingService;
+    private final EmbeddingConfig embeddingConfig;
+
+    public record ClaimedJob(Long jobId, Long storeId, int attempts, long claimToken) {
+    }
+
+    /**
+     * 임베딩 생성 작업 등록 (이미 있으면 다시 대기 상태로)
+     */
+    @Transactional
+    public void enqueue(Long storeId) {
+        LocalDateTime now = LocalDateTime.now();
+        storeEmbeddingJobRepository.findByStoreId(storeId)
+                .ifPresentOrElse(
+                        job -> job.requeue(now),
+                        () -> storeEmbeddingJobRepository.save(StoreEmbeddingJob.pending(storeId, now))
+                );
+    }
+
+    /**
+     * 처리할 작업을 IN_PROGRESS로 바꾸고 반환 (다른 워커가 잠근 작업은 건너뜀)
+     */
+    @Transactional
+    public List<ClaimedJob> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<StoreEmbeddingJob> jobs = storeEmbeddingJobRepository.findClaimable(now, limit);
+        jobs.forEach(job -> job.start(now));
+        return jobs.stream()
+                .map(job -> new ClaimedJob(job.getId(), job.getStoreId(), job.getAttempts(), job.getClaimToken()))
+                .toList();
+    }
+
+    /**
+     * 임베딩 저장과 작업 완료를 한 트랜잭션으로 처리 (커밋 이후 벡터 인덱스에 반영되어 의미 검색 대상이 됨)
+     * 작업 행을 잠근 뒤 선점 정보가 맞을 때만 기록 - 처리 중 재등록/재선점된 작업의 오래된 결과는 버린다
+     */
+    @Transactional
+    public void complete(ClaimedJob claimed, Embedding embedding) {
+        StoreEmbeddingJob job = findClaimed(claimed);
+        if (job == null) {
+            return;
+        }
+        if (storeEmbeddingService.saveEmbedding(claimed.storeId(), embedding)) {
+            job.complete();
+        } else {
+            // 처리 중 가게가 삭제됨
+            storeEmbeddingJobRepository.delete(job);
+        }
+    }
+
+    /**
+     * 실패 기록 후 재시도 예약 (선점 정보가 맞지 않으면 기록하지 않음)
+     *
+     * @return 변경된 상태 (PENDING: 재시도 예정, FAILED: 최대 시도 횟수 초과), 기록하지 않았으면 현재 상태
+     */
+    @Transactional
+    public EmbeddingStatus fail(ClaimedJob claimed, String error) {
+        StoreEmbeddingJob job = findClaimed(claimed);
+        if (job == null) {
+            return storeEmbeddingJobRepository.findById(claimed.jobId())
+                    .map(StoreEmbeddingJob::getStatus)
+                    .orElse(EmbeddingStatus.FAILED);
+        }
+        EmbeddingConfig.Job config = embeddingConfig.getJob();
+        job.fail(error, LocalDateTime.now(), config.getMaxAttempts(),
+                Duration.ofSeconds(config.getBackoffSeconds()), Duration.ofSeconds(config.getMaxBackoffSeconds()));
+        return job.getStatus();
+    }
+
+    @Transactional
+    public void discard(ClaimedJob claimed) {
+        storeEmbeddingJobRepository.deleteById(claimed.jobId());
+    }
+
+    @Transactional
+    public int releaseStale() {
+        LocalDateTime staleBefore = LocalDateTime.now().minusMinutes(embeddingConfig.getJob().getStaleMinutes());
+        return storeEmbeddingJobRepository.releaseStale(staleBefore);
+    }
+
+    @Transactional
+    public int retryFailed() {
+        return storeEmbeddingJobRepository.retryFailed(LocalDateTime.now());
+    }
+
+    @Transactional(readOnly = true)
+    public Map<EmbeddingStatus, Long> countByStatus() {
+        Map<EmbeddingStatus, Long> counts = new EnumMap<>(EmbeddingStatus.class);
+        for (EmbeddingStatus status : EmbeddingStatus.values()) {
+            counts.put(status, storeEmbeddingJobRepository.countByStatus(status));
+        }
+        return counts;
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * 작업 행을 잠그고 조회 - 삭제됐거나 이 선점이 아니면(재등록, 오래된 작업 해제 후 재선점) null
+     */
+    private StoreEmbeddingJob findClaimed(ClaimedJob claimed) {
+        StoreEmbeddingJob job = storeEmbeddingJobRepository.findByIdWithLock(claimed.jobId()).orElse(null);
+        if (job == null || !job.isClaimedBy(claimed.claimToken())) {
+            log.debug("Ignoring stale store embedding job result. jobId={}, storeId={}",
+                    claimed.jobId(), claimed.storeId());
+            return null;
+        }
+        return job;
+    }
+}
@@ -7,14 +7,18 @@ import com.bobeat.backend.domain.store.entity.Menu;
 import com.bobeat.backend.domain.store.entity.SeatOption;
 import com.bobeat.backend.domain.store.entity.Store;
 import com.bobeat.backend.domain.store.entity.StoreEmbedding;
-import com.bobeat.backend.domain.store.external.clova.service.ClovaEmbeddingClient;
+import com.bobeat.backend.domain.store.external.embedding.EmbeddingGateway;
+import com.bobeat.backend.domain.store.index.StoreVectorIndex;
 import com.bobeat.backend.domain.store.repository.MenuRepository;
 import com.bobeat.backend.domain.store.repository.SeatOptionRepository;
 import com.bobeat.backend.domain.store.repository.StoreEmbeddingRepository;
 import com.bobeat.backend.domain.store.repository.StoreRepository;
+import com.bobeat.backend.domain.store.vo.Embedding;
 import com.bobeat.backend.global.exception.CustomException;
 import com.bobeat.backend.global.exception.ErrorCode;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,43 +30,73 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class StoreEmbeddingService {
 
-    private final ClovaEmbeddingClient clovaEmbeddingClient;
+    private final EmbeddingGateway embeddingGateway;
     private final MenuRepository menuRepository;
     private final SeatOptionRepository seatOptionRepository;
     private final StoreRepository storeRepository;
     private final StoreEmbeddingRepository storeEmbeddingRepository;
+    private final StoreVectorIndex storeVectorIndex;
 
     @Transactional
     public EmbeddingTestResponse saveEmbeddingByStore(Long storeId) {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_STORE));
         String combinedText = buildStoreText(store);
-        List<Float> embedding = generateStoreEmbeddingSync(store);
-        float[] embeddingArray = new float[embedding.size()];
-
-        for (int i = 0; i < embedding.size(); i++) {
-            embeddingArray[i] = embedding.get(i);
-        }
+        Embedding embedding = generateStoreEmbeddingSync(store);
 
         StoreEmbedding storeEmbedding = StoreEmbedding.builder()
-                .embedding(embeddingArray)
+                .embedding(embedding.values())
                 .embeddingStatus(EmbeddingStatus.COMPLETED)
                 .store(store)
                 .build();
 
         saveOrUpdateStoreEmbedding(storeEmbedding, store);
+        storeVectorIndex.put(storeId, embedding);
         return new EmbeddingTestResponse(
                 storeId,
                 store.getName(),
                 combinedText,
-                embedding,
-                embedding.size()
+                embedding.values(),
+                embedding.dimension()
         );
     }
 
-    private List<Float> generateStoreEmbeddingSync(Store store) {
+    /**
+     * 작업 큐 워커용 - 가게별 임베딩 텍스트 (삭제된 가게는 제외)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, String> buildStoreTexts(List<Long> storeIds) {
+        Map<Long, String> texts = new LinkedHashMap<>();
+        for (Store store : storeRepository.findAllById(storeIds)) {
+            texts.put(store.getId(), buildStoreText(store));
+        }
+        return texts;
+    }
+
+    /**
+     * 생성된 임베딩 저장 (COMPLETED) 후 커밋되면 벡터 인덱스에 반영
+     *
+     * @return 가게가 없으면 false
+     */
+    @Transactional
+    public boolean saveEmbedding(Long storeId, Embedding embedding) {
+        Store store = storeRepository.findById(storeId).orElse(null);
+        if (store == null) {
+            return false;
+        }
+        StoreEmbedding storeEmbedding = StoreEmbedding.builder()
+                .embedding(embedding.values())
+                .embeddingStatus(EmbeddingStatus.COMPLETED)
+                .store(store)
+                .build();
+        saveOrUpdateStoreEmbedding(storeEmbedding, store);
+        storeVectorIndex.put(storeId, embedding);
+        return true;
+    }
+
+    private Embedding generateStoreEmbeddingSync(Store store) {
         String combinedText = buildStoreText(store);
-        return clovaEmbeddingClient.getEmbeddingSync(combinedText);
+        return embeddingGateway.embedSync(combinedText);
     }
 
     public StoreTextResponse createEmbeddingTextByStore(Long storeId) {
@@ -0,0 +1,109 @@
+package com.bobeat.backend.domain.store.service;
+
+import com.bobeat.backend.domain.store.config.StoreScoringConfig;
+import com.bobeat.backend.domain.store.dto.StoreScoreInput;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 가게의 점수를 한 번에 계산 (CPU 코어 수만큼 나눠 병렬 계산)
+ * <p>
+ * - 입력은 불변 프로젝션(StoreScoreInput)이고 계산은 가게마다 독립적이라 잠금 없이 구간별로 나눠 계산
+ * - 전용 ForkJoinPool(store.scoring.parallelism)을 사용해 공용 풀이나 요청 처리 스레드와 경쟁하지 않음
+ * - 결과는 입력 순서의 배열에 채운 뒤 (storeId → 점수)로 모아 JDBC 배치 UPDATE에 넘긴다
+ * <p>
+ * 가게가 parallelLeafSize 이하이거나 parallelism이 1이면 호출 스레드에서 순차 계산한다.
+ */
+@Component
+public class StoreScoreBatchScorer {
+
+    private final StoreScoreCalculator storeScoreCalculator;
+    private final int parallelism;
+    private final int leafSize;
+    private final ForkJoinPool pool;
+
+    public StoreScoreBatchScorer(StoreScoreCalculator storeScoreCalculator, StoreScoringConfig scoringConfig) {
+        this.storeScoreCalculator = storeScoreCalculator;
+        this.parallelism = Math.max(1, scoringConfig.getParallelism());
+        this.leafSize = Math.max(1, scoringConfig.getParallelLeafSize());
+        this.pool = parallelism > 1 ? new ForkJoinPool(parallelism, StoreScoreBatchScorer::newThread, null, false)
+                : null;
+    }
+
+    /**
+     * @return storeId → 점수
+     */
+    public Map<Long, Double> calculateScores(List<StoreScoreInput> inputs) {
+        double[] scores = new double[inputs.size()];
+        if (pool == null || inputs.size() <= leafSize) {
+            score(inputs, scores, 0, inputs.size());
+        } else {
+            pool.invoke(new ScoreTask(inputs, scores, 0, inputs.size()));
+        }
+
+        Map<Long, Double> result = new HashMap<>(inputs.size() * 4 / 3 + 1);
+        for (int i = 0; i < scores.length; i++) {
+            result.put(inputs.get(i).storeId(), scores[i]);
+        }
+        return result;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void score(List<StoreScoreInput> inputs, double[] scores, int from, int to) {
+        for (int i = from; i < to; i++) {
+            scores[i] = storeScoreCalculator.calculateScore(inputs.get(i));
+        }
+    }
+
+    private static ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("store-score-" + thread.getPoolIndex());
+        return thread;
+    }
+
+    /**
+     * [from, to) 구간이 leafSize 이하가 될 때까지 반으로 나눠 계산 (각 작업은 자기 구간에만 씀)
+     */
+    private class ScoreTask extends RecursiveAction {
+
+        private final List<StoreScoreInput> inputs;
+        private final double[] scores;
+        private final int from;
+        private final int to;
+
+        ScoreTask(List<StoreScoreInput> inputs, double[] scores, int from, int to) {
+            this.inputs = inputs;
+            this.scores = scores;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                score(inputs, scores, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ScoreTask(inputs, scores, from, mid), new ScoreTask(inputs, scores, mid, to));
+        }
+    }
+}
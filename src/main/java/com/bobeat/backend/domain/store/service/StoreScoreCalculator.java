@@ -2,13 +2,11 @@ package com.bobeat.backend.domain.store.service;
 
 import com.bobeat.backend.domain.member.entity.Level;
 import com.bobeat.backend.domain.store.config.StoreScoringConfig;
-import com.bobeat.backend.domain.store.entity.Menu;
-import com.bobeat.backend.domain.store.entity.SeatOption;
+import com.bobeat.backend.domain.store.dto.StoreScoreInput;
 import com.bobeat.backend.domain.store.entity.SeatType;
 import com.bobeat.backend.domain.store.entity.Store;
-import com.bobeat.backend.domain.store.repository.MenuRepository;
-import com.bobeat.backend.domain.store.repository.SeatOptionRepository;
 import com.bobeat.backend.domain.store.repository.StoreRepository;
+import com.bobeat.backend.domain.store.repository.StoreScoreDirtyRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -31,113 +29,62 @@ import java.util.List;
 public class StoreScoreCalculator {
 
     private final StoreRepository storeRepository;
-    private final MenuRepository menuRepository;
-    private final SeatOptionRepository seatOptionRepository;
+    private final StoreSummaryService storeSummaryService;
     private final StoreScoringConfig scoringConfig;
+    private final StoreScoreSqlCalculator storeScoreSqlCalculator;
+    private final StoreScoreDirtyRepository storeScoreDirtyRepository;
 
-    private static final double MAX_SCORE = 100.0;
+    // SQL 계산(StoreScoreSqlCalculator)과 같은 값을 쓰도록 공유
+    static final double MAX_SCORE = 100.0;
+    static final double LEVEL_2_RATIO = 0.67;
+    static final double LEVEL_3_RATIO = 0.33;
+    static final double SINGLE_SEAT_RATIO = 0.6;
+    static final double OTHER_SEAT_RATIO = 0.2;
 
     /**
-     * 업데이트가 필요한 식당들의 내부 점수만 계산하고 업데이트 (증분 업데이트)
-     * internalScore가 null인 경우만 처리
+     * 점수가 없는 식당을 재계산 대상(store_score_dirty)으로 등록
+     * 계산은 StoreScoreScheduler가 dirtyBatchSize씩 나눠 처리하므로 엔티티를 한 트랜잭션에 모두 올리지 않는다.
+     *
+     * @return 새로 등록된 가게 수
      */
-    @Transactional
-    public int calculateAndUpdatePendingScores() {
-        log.info("Starting incremental score calculation for stores needing update");
-
-        List<Store> stores = storeRepository.findStoresNeedingScoreUpdate();
-
-        if (stores.isEmpty()) {
-            log.info("No stores need score update");
-            return 0;
-        }
-
-        // 배치 쿼리로 모든 메뉴와 좌석 옵션을 한 번에 조회
-        java.util.Map<Long, List<Menu>> menusByStoreId = groupMenusByStoreId(stores);
-        java.util.Map<Long, List<SeatOption>> seatsByStoreId = groupSeatsByStoreId(stores);
-
-        int updatedCount = 0;
-
-        for (Store store : stores) {
-            try {
-                List<Menu> menus = menusByStoreId.getOrDefault(store.getId(), List.of());
-                List<SeatOption> seatOptions = seatsByStoreId.getOrDefault(store.getId(), List.of());
-
-                double score = calculateStoreScore(store, menus, seatOptions);
-                store.updateInternalScore(score);
-                updatedCount++;
-            } catch (Exception e) {
-                log.error("Failed to calculate score for store id: {}", store.getId(), e);
-            }
-        }
-
-        if (updatedCount > 0) {
-            storeRepository.saveAll(stores);
-        }
-
-        log.info("Completed incremental score calculation. Updated {} stores", updatedCount);
-        return updatedCount;
+    public int markPendingScores() {
+        int marked = storeScoreDirtyRepository.markUnscored();
+        log.info("Marked {} unscored stores for score calculation", marked);
+        return marked;
     }
 
     /**
-     * 모든 식당의 내부 점수를 강제로 재계산 (전체 업데이트)
-     * 내부 정렬 로직이 변경되었을 때 사용
+     * 재계산 대상(store_score_dirty)으로 등록된 가게를 오래된 순으로 limit개 가져와 점수 계산
+     * 대상 삭제와 점수 저장이 한 트랜잭션이라 실패하면 대상으로 남아 다음 주기에 다시 처리된다.
+     * 메뉴/좌석 변경으로 등록된 가게는 요약 컬럼이 예전 값이므로 메뉴/좌석에서 요약을 다시 계산한 뒤 점수를 계산한다.
+     *
+     * @return 가져간 가게 수 (limit보다 작으면 남은 대상이 없음)
      */
     @Transactional
-    public int calculateAndUpdateAllScores() {
-        log.info("Starting FULL score recalculation for all stores");
-
-        List<Store> stores = storeRepository.findAll();
-
-        if (stores.isEmpty()) {
-            log.info("No stores found");
+    public int rescoreDirtyStores(int limit) {
+        List<Long> storeIds = storeScoreDirtyRepository.claim(limit);
+        if (storeIds.isEmpty()) {
             return 0;
         }
 
-        // 배치 쿼리로 모든 메뉴와 좌석 옵션을 한 번에 조회
-        java.util.Map<Long, List<Menu>> menusByStoreId = groupMenusByStoreId(stores);
-        java.util.Map<Long, List<SeatOption>> seatsByStoreId = groupSeatsByStoreId(stores);
+        // 삭제된 가게는 조회되지 않으므로 대상에서만 빠진다
+        List<Store> stores = storeRepository.findAllById(storeIds);
+        storeSummaryService.refreshSummaries(stores);
 
-        int updatedCount = 0;
+        if (scoringConfig.getEngine() == StoreScoringConfig.Engine.SQL) {
+            // 다시 계산한 요약으로 점수를 계산하므로 다시 대상으로 등록하지 않고, SQL이 읽도록 먼저 반영
+            stores.forEach(Store::consumeScoreInputChange);
+            storeRepository.flush();
+            storeScoreSqlCalculator.updateScores(storeIds);
+            return storeIds.size();
+        }
 
         for (Store store : stores) {
-            try {
-                List<Menu> menus = menusByStoreId.getOrDefault(store.getId(), List.of());
-                List<SeatOption> seatOptions = seatsByStoreId.getOrDefault(store.getId(), List.of());
-
-                double score = calculateStoreScore(store, menus, seatOptions);
-                store.updateInternalScore(score);
-                updatedCount++;
-            } catch (Exception e) {
-                log.error("Failed to calculate score for store id: {}", store.getId(), e);
-            }
+            store.updateInternalScore(calculateScoreFromSummary(store));
+            // 다시 계산한 요약으로 이미 계산했으므로 다시 대상으로 등록하지 않음
+            store.consumeScoreInputChange();
         }
-
-        storeRepository.saveAll(stores);
-        log.info("Completed FULL score recalculation. Updated {} stores", updatedCount);
-        return updatedCount;
-    }
-
-    /**
-     * 배치 쿼리로 조회한 메뉴를 Store ID별로 그룹화
-     */
-    private java.util.Map<Long, List<Menu>> groupMenusByStoreId(List<Store> stores) {
-        List<Menu> allMenus = menuRepository.findByStoreIn(stores);
-        return allMenus.stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        menu -> menu.getStore().getId()
-                ));
-    }
-
-    /**
-     * 배치 쿼리로 조회한 좌석 옵션을 Store ID별로 그룹화
-     */
-    private java.util.Map<Long, List<SeatOption>> groupSeatsByStoreId(List<Store> stores) {
-        List<SeatOption> allSeatOptions = seatOptionRepository.findByStoreIn(stores);
-        return allSeatOptions.stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        seatOption -> seatOption.getStore().getId()
-                ));
+        return storeIds.size();
     }
 
     /**
@@ -145,33 +92,39 @@ public class StoreScoreCalculator {
      * 단일 가게 점수 계산시 사용
      */
     public double calculateStoreScore(Store store) {
-        List<Menu> menus = menuRepository.findByStore(store);
-        List<SeatOption> seatOptions = seatOptionRepository.findByStore(store);
-        return calculateStoreScore(store, menus, seatOptions);
+        storeSummaryService.applySummaries(List.of(store));
+        return calculateScoreFromSummary(store);
     }
 
     /**
-     * 개별 식당의 점수 계산 (배치 처리용)
-     * 메뉴와 좌석 옵션을 파라미터로 받아 DB 조회 없이 계산
+     * 프로젝션으로 조회한 가게의 점수 계산 (요약 컬럼이 채워진 경우)
      */
-    private double calculateStoreScore(Store store, List<Menu> menus, List<SeatOption> seatOptions) {
+    public double calculateScore(StoreScoreInput input) {
         double score = 0.0;
 
         // 1. 혼밥레벨 점수 (레벨이 낮을수록 높은 점수)
-        score += calculateHonbobLevelScore(store);
+        score += calculateHonbobLevelScore(input.honbobLevel());
 
         // 2. 가격 점수 (가격이 낮을수록 높은 점수)
-        score += calculatePriceScore(menus);
+        score += calculatePriceScore(input.signatureMenuPrice());
 
         // 3. 좌석 점수 (1인석/바좌석이 많을수록 높은 점수)
-        score += calculateSeatScore(seatOptions);
+        score += calculateSeatScore(input.seatTypeMask());
 
         // 4. 카테고리 점수
-        score += calculateCategoryScore(store);
+        score += calculateCategoryScore(input.primaryCategory());
 
         return Math.min(score, MAX_SCORE);
     }
 
+    /**
+     * 개별 식당의 점수 계산 (배치 처리용)
+     * Store 요약 컬럼(대표 메뉴 가격, 좌석 비트마스크)만 사용하여 DB 조회 없이 계산
+     */
+    private double calculateScoreFromSummary(Store store) {
+        return calculateScore(StoreScoreInput.from(store));
+    }
+
     /**
      * 혼밥레벨 기반 점수 계산
      * Level 1 (하) -> 만점
@@ -179,19 +132,19 @@ public class StoreScoreCalculator {
      * Level 3 (중상) -> 33%
      * Level 4 (상) -> 0점
      */
-    private double calculateHonbobLevelScore(Store store) {
+    private double calculateHonbobLevelScore(Level honbobLevel) {
         double weight = scoringConfig.getHonbobLevelWeight();
 
-        if (store.getHonbobLevel() == null) {
+        if (honbobLevel == null) {
             return weight / 2; // 기본값
         }
 
-        int levelValue = store.getHonbobLevel().getValue();
+        int levelValue = honbobLevel.getValue();
 
         return switch (levelValue) {
             case 1 -> weight;           // 하: 만점
-            case 2 -> weight * 0.67;    // 중: 67%
-            case 3 -> weight * 0.33;    // 중상: 33%
+            case 2 -> weight * LEVEL_2_RATIO;    // 중: 67%
+            case 3 -> weight * LEVEL_3_RATIO;    // 중상: 33%
             case 4 -> 0.0;              // 상: 0점
             default -> weight / 2;      // 기본값
         };
@@ -199,25 +152,19 @@ public class StoreScoreCalculator {
 
     /**
      * 메뉴 가격 기반 점수 계산 (배치 처리용)
-     * 대표 메뉴의 최저가를 기준으로 계산
+     * 대표 메뉴 가격(추천 메뉴 우선 → 최저가)을 기준으로 계산
      * YAML 설정의 임계값 사용
      */
-    private double calculatePriceScore(List<Menu> menus) {
+    private double calculatePriceScore(Integer signatureMenuPrice) {
         double weight = scoringConfig.getPriceWeight();
         int lowThreshold = scoringConfig.getPriceThreshold().getLow();
         int highThreshold = scoringConfig.getPriceThreshold().getHigh();
 
-        if (menus.isEmpty()) {
+        if (signatureMenuPrice == null) {
             return weight / 2; // 메뉴 정보 없으면 중간 점수
         }
 
-        // 대표 메뉴 중 최저가 찾기: 추천 메뉴 우선 → 가격 낮은 순
-        int minPrice = menus.stream()
-                .min(java.util.Comparator
-                        .comparing(Menu::isRecommend).reversed()  // 추천 메뉴 우선 (true가 먼저)
-                        .thenComparingInt(Menu::getPrice))        // 가격 낮은 순
-                .map(Menu::getPrice)
-                .orElse(15000); // 기본값 15,000원
+        int minPrice = signatureMenuPrice;
 
         if (minPrice <= lowThreshold) {
             return weight;
@@ -234,24 +181,22 @@ public class StoreScoreCalculator {
      * 좌석 옵션 기반 점수 계산 (배치 처리용)
      * 1인석/바좌석이 있으면 각각 가산점
      */
-    private double calculateSeatScore(List<SeatOption> seatOptions) {
+    private double calculateSeatScore(Integer seatTypeMask) {
         double weight = scoringConfig.getSeatTypeWeight();
 
-        if (seatOptions.isEmpty()) {
+        if (seatTypeMask == null || seatTypeMask == 0) {
             return 0.0;
         }
 
-        boolean hasForOne = seatOptions.stream()
-                .anyMatch(seat -> seat.getSeatType() == SeatType.FOR_ONE);
-        boolean hasBarTable = seatOptions.stream()
-                .anyMatch(seat -> seat.getSeatType() == SeatType.BAR_TABLE);
+        boolean hasForOne = (seatTypeMask & SeatType.FOR_ONE.bit()) != 0;
+        boolean hasBarTable = (seatTypeMask & SeatType.BAR_TABLE.bit()) != 0;
 
         if (hasForOne && hasBarTable) {
             return weight; // 둘 다 있으면 만점
         } else if (hasForOne || hasBarTable) {
-            return weight * 0.6; // 하나만 있으면 60%
+            return weight * SINGLE_SEAT_RATIO; // 하나만 있으면 60%
         } else {
-            return weight * 0.2; // 다른 좌석만 있으면 20%
+            return weight * OTHER_SEAT_RATIO; // 다른 좌석만 있으면 20%
         }
     }
 
@@ -259,15 +204,13 @@ public class StoreScoreCalculator {
      * 카테고리 기반 점수 계산
      * YAML 설정의 카테고리별 가중치 비율 사용
      */
-    private double calculateCategoryScore(Store store) {
+    private double calculateCategoryScore(String category) {
         double weight = scoringConfig.getCategoryWeight();
 
-        if (store.getCategories() == null ||
-            store.getCategories().getPrimaryCategory() == null) {
+        if (category == null) {
             return weight / 2;
         }
 
-        String category = store.getCategories().getPrimaryCategory().getPrimaryType();
         double ratio = scoringConfig.getCategoryWeightRatio(category);
 
         return weight * ratio;
@@ -0,0 +1,271 @@
+package com.bobeat.backend.domain.store.service;
+
+import com.bobeat.backend.domain.store.config.StoreScoringConfig;
+import com.bobeat.backend.domain.store.dto.StoreScoreInput;
+import com.bobeat.backend.domain.store.entity.ScoreRecalculationStatus;
+import com.bobeat.backend.domain.store.entity.Store;
+import com.bobeat.backend.domain.store.entity.StoreScoreRecalculation;
+import com.bobeat.backend.domain.store.repository.StoreRepository;
+import com.bobeat.backend.domain.store.repository.StoreScoreJdbcRepository;
+import com.bobeat.backend.domain.store.repository.StoreScoreRecalculationRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 전체 가게 점수 재계산 (청크 단위, 이어하기 가능)
+ * <p>
+ * - 가게를 ID 순으로 chunkSize씩 프로젝션 조회 → 점수 병렬 계산(StoreScoreBatchScorer) → JDBC 배치 UPDATE → 청크마다 커밋
+ * - 청크 커밋과 함께 체크포인트(store_score_recalculation.last_store_id)를 갱신
+ * - 서버가 중간에 종료되면 다음 시작 시, 실패하면 다음 실행 요청 시 체크포인트 다음 가게부터 이어서 처리
+ * <p>
+ * 한 번에 메모리에 올리는 가게는 한 청크뿐이고 행 잠금도 청크 트랜잭션 동안만 유지된다.
+ * store.scoring.engine=sql이면 StoreScoreSqlCalculator로 DB 안에서 한 번에 계산한다.
+ */
+@Slf4j
+@Service
+public class StoreScoreRecalculationService {
+
+    private final StoreRepository storeRepository;
+    private final StoreScoreJdbcRepository storeScoreJdbcRepository;
+    private final StoreScoreRecalculationRepository recalculationRepository;
+    private final StoreScoreCalculator storeScoreCalculator;
+    private final StoreScoreBatchScorer storeScoreBatchScorer;
+    private final StoreScoreSqlCalculator storeScoreSqlCalculator;
+    private final StoreSummaryService storeSummaryService;
+    private final StoreScoringConfig scoringConfig;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public StoreScoreRecalculationService(StoreRepository storeRepository,
+                                          StoreScoreJdbcRepository storeScoreJdbcRepository,
+                                          StoreScoreRecalculationRepository recalculationRepository,
+                                          StoreScoreCalculator storeScoreCalculator,
+                                          StoreScoreBatchScorer storeScoreBatchScorer,
+                                          StoreScoreSqlCalculator storeScoreSqlCalculator,
+                                          StoreSummaryService storeSummaryService,
+                                          StoreScoringConfig scoringConfig,
+                                          PlatformTransactionManager transactionManager) {
+        this.storeRepository = storeRepository;
+        this.storeScoreJdbcRepository = storeScoreJdbcRepository;
+        this.recalculationRepository = recalculationRepository;
+        this.storeScoreCalculator = storeScoreCalculator;
+        this.storeScoreBatchScorer = storeScoreBatchScorer;
+        this.storeScoreSqlCalculator = storeScoreSqlCalculator;
+        this.storeSummaryService = storeSummaryService;
+        this.scoringConfig = scoringConfig;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public record Progress(
+            Long runId,
+            ScoreRecalculationStatus status,
+            boolean running,
+            long processedCount,
+            long totalCount,
+            double percent,
+            long lastStoreId,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt,
+            String lastError
+    ) {
+    }
+
+    private record RunState(Long runId, long lastStoreId) {
+    }
+
+    private record ChunkResult(int processed, long lastStoreId) {
+    }
+
+    /**
+     * 서버 종료로 중단된(RUNNING으로 남은) 재계산을 이어서 진행 (백그라운드)
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        try {
+            boolean interrupted = recalculationRepository.findFirstByOrderByIdDesc()
+                    .map(run -> run.getStatus() == ScoreRecalculationStatus.RUNNING)
+                    .orElse(false);
+            if (interrupted) {
+                log.info("Resuming interrupted store score recalculation");
+                recalculate(false);
+            }
+        } catch (Exception e) {
+            log.error("Failed to resume store score recalculation", e);
+        }
+    }
+
+    /**
+     * 관리자 요청으로 백그라운드 재계산
+     */
+    @Async
+    public void recalculateAsync(boolean restart) {
+        recalculate(restart);
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * 전체 점수 재계산 - 마지막 실행이 끝나지 않았으면 체크포인트부터 이어서 진행
+     *
+     * @param restart true면 이어하지 않고 처음부터
+     * @return 끝까지 계산하면 true, 이미 진행 중이거나 실패하면 false (실패 사유는 getProgress().lastError())
+     */
+    public boolean recalculate(boolean restart) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Store score recalculation already in progress");
+            return false;
+        }
+        Long runId = null;
+        try {
+            RunState state = transactionTemplate.execute(status -> prepareRun(restart));
+            runId = state.runId();
+            long afterId = state.lastStoreId();
+            long start = System.currentTimeMillis();
+
+            // SQL 계산은 UPDATE 한 번이라 청크/체크포인트 없이 전체를 처리
+            if (scoringConfig.getEngine() == StoreScoringConfig.Engine.SQL) {
+                Integer updated = transactionTemplate.execute(status -> storeScoreSqlCalculator.updateAllScores());
+                updateRun(runId, run -> run.completeAll(LocalDateTime.now()));
+                log.info("Completed store score recalculation in SQL (run {}). {} scores changed in {} ms", runId,
+                        updated, System.currentTimeMillis() - start);
+                return true;
+            }
+
+            while (true) {
+                long chunkAfterId = afterId;
+                Long chunkRunId = runId;
+                ChunkResult chunk = transactionTemplate.execute(status -> processChunk(chunkRunId, chunkAfterId));
+                if (chunk.processed() == 0) {
+                    break;
+                }
+                afterId = chunk.lastStoreId();
+            }
+
+            updateRun(runId, run -> run.complete(LocalDateTime.now()));
+            log.info("Completed store score recalculation (run {}) in {} ms", runId,
+                    System.currentTimeMillis() - start);
+            return true;
+        } catch (Exception e) {
+            log.error("Store score recalculation failed (run {})", runId, e);
+            if (runId != null) {
+                updateRun(runId, run -> run.fail(e.toString(), LocalDateTime.now()));
+            }
+            return false;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public Progress getProgress() {
+        StoreScoreRecalculation run = recalculationRepository.findFirstByOrderByIdDesc().orElse(null);
+        if (run == null) {
+            return new Progress(null, null, running.get(), 0L, 0L, 0.0, 0L, null, null, null);
+        }
+        double percent = run.getStatus() == ScoreRecalculationStatus.COMPLETED ? 100.0
+                : run.getTotalCount() == 0 ? 0.0
+                : Math.min(100.0, run.getProcessedCount() * 100.0 / run.getTotalCount());
+        return new Progress(
+                run.getId(),
+                run.getStatus(),
+                running.get(),
+                run.getProcessedCount(),
+                run.getTotalCount(),
+                percent,
+                run.getLastStoreId(),
+                run.getStartedAt(),
+                run.getFinishedAt(),
+                run.getLastError()
+        );
+    }
+
+    // ==================== Helper Methods ====================
+
+    private RunState prepareRun(boolean restart) {
+        LocalDateTime now = LocalDateTime.now();
+        StoreScoreRecalculation latest = recalculationRepository.findFirstByOrderByIdDesc().orElse(null);
+        if (latest != null && latest.isResumable()) {
+            if (!restart) {
+                latest.resume();
+                log.info("Resuming store score recalculation (run {}) after store {}. {}/{} done",
+                        latest.getId(), latest.getLastStoreId(), latest.getProcessedCount(), latest.getTotalCount());
+                return new RunState(latest.getId(), latest.getLastStoreId());
+            }
+            latest.fail("Restarted from the beginning", now);
+        }
+
+        StoreScoreRecalculation run = recalculationRepository.save(
+                StoreScoreRecalculation.start(storeRepository.count(), now));
+        log.info("Starting store score recalculation (run {}) for {} stores", run.getId(), run.getTotalCount());
+        return new RunState(run.getId(), 0L);
+    }
+
+    /**
+     * 한 청크 처리 (하나의 트랜잭션)
+     */
+    private ChunkResult processChunk(Long runId, long afterId) {
+        List<StoreScoreInput> inputs = storeRepository.findScoreInputs(afterId,
+                PageRequest.of(0, scoringConfig.getRecalculationChunkSize()));
+        if (inputs.isEmpty()) {
+            return new ChunkResult(0, afterId);
+        }
+
+        List<StoreScoreInput> withSummary = new ArrayList<>(inputs.size());
+        List<Long> missingSummary = new ArrayList<>();
+        for (StoreScoreInput input : inputs) {
+            if (input.hasSummary()) {
+                withSummary.add(input);
+            } else {
+                missingSummary.add(input.storeId());
+            }
+        }
+        storeScoreJdbcRepository.updateScores(storeScoreBatchScorer.calculateScores(withSummary));
+        scoreMissingSummaries(missingSummary);
+
+        long lastStoreId = inputs.get(inputs.size() - 1).storeId();
+        recalculationRepository.findById(runId)
+                .orElseThrow(() -> new IllegalStateException("Recalculation run not found: " + runId))
+                .advance(lastStoreId, inputs.size());
+        log.debug("Recalculated scores for {} stores up to store {}", inputs.size(), lastStoreId);
+        return new ChunkResult(inputs.size(), lastStoreId);
+    }
+
+    /**
+     * 메뉴/좌석 요약이 없는 가게는 엔티티로 요약을 채운 뒤 점수도 엔티티에 반영 (커밋 시 함께 flush)
+     */
+    private void scoreMissingSummaries(List<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return;
+        }
+        List<Store> stores = storeRepository.findAllById(storeIds);
+        storeSummaryService.applySummaries(stores);
+        for (Store store : stores) {
+            store.updateInternalScore(storeScoreCalculator.calculateScore(StoreScoreInput.from(store)));
+            // 채운 요약으로 이미 계산했으므로 다시 대상으로 등록하지 않음
+            store.consumeScoreInputChange();
+        }
+    }
+
+    private void updateRun(Long runId, Consumer<StoreScoreRecalculation> action) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    recalculationRepository.findById(runId).ifPresent(action));
+        } catch (Exception e) {
+            log.error("Failed to update store score recalculation run {}", runId, e);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.bobeat.backend.domain.store.service;
+
+import static com.bobeat.backend.domain.store.service.StoreScoreCalculator.LEVEL_2_RATIO;
+import static com.bobeat.backend.domain.store.service.StoreScoreCalculator.LEVEL_3_RATIO;
+import static com.bobeat.backend.domain.store.service.StoreScoreCalculator.MAX_SCORE;
+import static com.bobeat.backend.domain.store.service.StoreScoreCalculator.OTHER_SEAT_RATIO;
+import static com.bobeat.backend.domain.store.service.StoreScoreCalculator.SINGLE_SEAT_RATIO;
+
+import com.bobeat.backend.domain.store.config.StoreScoringConfig;
+import com.bobeat.backend.domain.store.entity.SeatType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가게 내부 점수의 SQL 계산 (StoreScoreCalculator와 같은 결과)
+ * <p>
+ * StoreScoringConfig 가중치와 StoreScoreCalculator의 비율을 Java에서 곱한 값을 파라미터로 넘기고,
+ * DB는 같은 순서로 더하기/비교만 하므로 double 결과가 Java 계산과 비트 단위로 같다.
+ * <p>
+ * - 메뉴/좌석 요약이 있는 가게는 요약 컬럼, 없는 가게는 menu/seat_option에서 같은 규칙으로 계산
+ * - 값이 바뀐 행만 UPDATE
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreScoreSqlCalculator {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final StoreScoringConfig scoringConfig;
+
+    /**
+     * 모든 가게의 점수 계산
+     *
+     * @return 점수가 바뀐 가게 수
+     */
+    public int updateAllScores() {
+        return update("TRUE", Map.of());
+    }
+
+    /**
+     * 점수가 없는 가게만 계산
+     *
+     * @return 점수를 채운 가게 수
+     */
+    public int updatePendingScores() {
+        return update("st.internal_score IS NULL", Map.of());
+    }
+
+    /**
+     * 지정한 가게만 계산 (재계산 대상 가게 처리용)
+     *
+     * @return 점수가 바뀐 가게 수
+     */
+    public int updateScores(Collection<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return 0;
+        }
+        return update("st.id IN (:storeIds)", Map.of("storeIds", storeIds));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private int update(String condition, Map<String, ?> conditionParameters) {
+        long start = System.currentTimeMillis();
+        MapSqlParameterSource parameters = parameters().addValues(conditionParameters);
+        String sql = """
+                UPDATE store s
+                SET internal_score = x.score
+                FROM (
+                    SELECT st.id,
+                           LEAST(
+                               CASE st.honbob_level
+                                   WHEN 1 THEN :level1 WHEN 2 THEN :level2 WHEN 3 THEN :level3 WHEN 4 THEN :level4
+                                   ELSE :levelDefault
+                               END
+                               + CASE
+                                   WHEN summary.price IS NULL THEN :priceDefault
+                                   WHEN summary.price <= :priceLow THEN :priceWeight
+                                   WHEN summary.price >= :priceHigh THEN :zero
+                                   ELSE :priceWeight * (CAST(:priceHigh - summary.price AS float8) / (:priceHigh - :priceLow))
+                               END
+                               + CASE
+                                   WHEN summary.mask = 0 THEN :zero
+                                   WHEN summary.mask & :forOneBit <> 0 AND summary.mask & :barTableBit <> 0 THEN :seatWeight
+                                   WHEN summary.mask & :forOneBit <> 0 OR summary.mask & :barTableBit <> 0 THEN :seatSingle
+                                   ELSE :seatOther
+                               END
+                               + CASE
+                                   WHEN pc.primary_type IS NULL THEN :categoryDefault
+                                   ELSE :categoryWeight * COALESCE(cw.ratio, :defaultCategoryRatio)
+                               END,
+                               :maxScore) AS score
+                    FROM store st
+                    CROSS JOIN LATERAL (
+                        SELECT CASE WHEN st.seat_type_mask IS NOT NULL THEN st.signature_menu_price
+                                    ELSE (SELECT m.price FROM menu m WHERE m.store_id = st.id
+                                          ORDER BY m.recommend DESC, m.price LIMIT 1)
+                               END AS price,
+                               CASE WHEN st.seat_type_mask IS NOT NULL THEN st.seat_type_mask
+                                    ELSE COALESCE((SELECT bit_or(%s) FROM seat_option so WHERE so.store_id = st.id), 0)
+                               END AS mask
+                    ) summary
+                    LEFT JOIN primary_category pc ON pc.id = st.primary_category_id
+                    LEFT JOIN (%s) cw ON cw.name = pc.primary_type
+                    WHERE %s
+                ) x
+                WHERE s.id = x.id AND s.internal_score IS DISTINCT FROM x.score
+                """.formatted(seatBitExpression(), categoryRatios(parameters), condition);
+
+        int updated = jdbcTemplate.update(sql, parameters);
+        log.debug("Updated {} store scores in SQL in {} ms", updated, System.currentTimeMillis() - start);
+        return updated;
+    }
+
+    /**
+     * Java 계산과 같은 double 값이 되도록 가중치 × 비율은 Java에서 미리 계산
+     */
+    private MapSqlParameterSource parameters() {
+        double levelWeight = scoringConfig.getHonbobLevelWeight();
+        double priceWeight = scoringConfig.getPriceWeight();
+        double seatWeight = scoringConfig.getSeatTypeWeight();
+        double categoryWeight = scoringConfig.getCategoryWeight();
+
+        return new MapSqlParameterSource()
+                .addValue("zero", 0.0)
+                .addValue("maxScore", MAX_SCORE)
+                .addValue("level1", levelWeight)
+                .addValue("level2", levelWeight * LEVEL_2_RATIO)
+                .addValue("level3", levelWeight * LEVEL_3_RATIO)
+                .addValue("level4", 0.0)
+                .addValue("levelDefault", levelWeight / 2)
+                .addValue("priceWeight", priceWeight)
+                .addValue("priceDefault", priceWeight / 2)
+                .addValue("priceLow", scoringConfig.getPriceThreshold().getLow())
+                .addValue("priceHigh", scoringConfig.getPriceThreshold().getHigh())
+                .addValue("forOneBit", SeatType.FOR_ONE.bit())
+                .addValue("barTableBit", SeatType.BAR_TABLE.bit())
+                .addValue("seatWeight", seatWeight)
+                .addValue("seatSingle", seatWeight * SINGLE_SEAT_RATIO)
+                .addValue("seatOther", seatWeight * OTHER_SEAT_RATIO)
+                .addValue("categoryWeight", categoryWeight)
+                .addValue("categoryDefault", categoryWeight / 2)
+                .addValue("defaultCategoryRatio", StoreScoringConfig.DEFAULT_CATEGORY_WEIGHT_RATIO);
+    }
+
+    /**
+     * seat_option.seat_type → SeatType.bit (Store.seatTypeMask와 같은 규칙)
+     */
+    private String seatBitExpression() {
+        StringBuilder sb = new StringBuilder("CASE so.seat_type");
+        for (SeatType seatType : SeatType.values()) {
+            sb.append(" WHEN '").append(seatType.name()).append("' THEN ").append(seatType.bit());
+        }
+        return sb.append(" END").toString();
+    }
+
+    /**
+     * 카테고리 가중치 비율 (name, ratio) 목록
+     */
+    private String categoryRatios(MapSqlParameterSource parameters) {
+        List<StoreScoringConfig.CategoryWeightItem> items = scoringConfig.getCategoryWeights();
+        if (items == null || items.isEmpty()) {
+            return "SELECT CAST(NULL AS text) AS name, CAST(NULL AS float8) AS ratio WHERE FALSE";
+        }
+        StringBuilder sb = new StringBuilder("VALUES ");
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append("(CAST(:categoryName").append(i).append(" AS text), CAST(:categoryRatio").append(i)
+                    .append(" AS float8))");
+            parameters.addValue("categoryName" + i, items.get(i).getName());
+            parameters.addValue("categoryRatio" + i, items.get(i).getRatio());
+        }
+        return "SELECT * FROM (" + sb + ") AS v(name, ratio)";
+    }
+}
@@ -2,6 +2,7 @@ package com.bobeat.backend.domain.store.service;
 
 import static com.bobeat.backend.global.exception.ErrorCode.NOT_FOUND_STORE;
 
+import com.bobeat.backend.domain.store.dto.StoreCard;
 import com.bobeat.backend.domain.store.dto.request.StoreFilteringRequest;
 import com.bobeat.backend.domain.store.dto.response.StoreDetailResponse;
 import com.bobeat.backend.domain.store.dto.response.StoreSearchResultDto;
@@ -9,11 +10,12 @@ import com.bobeat.backend.domain.store.entity.Menu;
 import com.bobeat.backend.domain.store.entity.SeatOption;
 import com.bobeat.backend.domain.store.entity.Store;
 import com.bobeat.backend.domain.store.entity.StoreImage;
+import com.bobeat.backend.domain.store.index.StoreCardSnapshot;
+import com.bobeat.backend.domain.store.index.StoreGeoIndex;
 import com.bobeat.backend.domain.store.repository.MenuRepository;
 import com.bobeat.backend.domain.store.repository.SeatOptionRepository;
 import com.bobeat.backend.domain.store.repository.StoreImageRepository;
 import com.bobeat.backend.domain.store.repository.StoreRepository;
-import com.bobeat.backend.domain.store.repository.StoreRepositoryCustom;
 import com.bobeat.backend.domain.store.vo.Categories;
 import com.bobeat.backend.global.exception.CustomException;
 import com.bobeat.backend.global.response.CursorPageResponse;
@@ -21,7 +23,7 @@ import com.bobeat.backend.global.util.KeysetCursor;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -35,67 +37,73 @@ public class StoreService {
     private final StoreImageRepository storeImageRepository;
     private final MenuRepository menuRepository;
     private final SeatOptionRepository seatOptionRepository;
+    private final StoreGeoIndex storeGeoIndex;
+    private final StoreCardSnapshot storeCardSnapshot;
 
     @Transactional(readOnly = true)
     public CursorPageResponse<StoreSearchResultDto> search(StoreFilteringRequest request) {
         final int pageSize = request.paging() != null ? request.paging().limit() : 20;
 
-        // DB 쿼리 레벨에서 복합 점수 기반으로 정렬됨 (30% 내부점수 + 70% 거리)
-        List<StoreRepositoryCustom.StoreRow> rows = storeRepository.findStoresSlice(request, pageSize + 1);
+        List<StoreSearchResultDto> data = findStores(request, pageSize + 1);
 
-        boolean hasNext = rows.size() > pageSize;
+        boolean hasNext = data.size() > pageSize;
         if (hasNext) {
-            rows = rows.subList(0, pageSize);
+            data = data.subList(0, pageSize);
         }
 
-        List<Long> storeIds = rows.stream()
-                .map(r -> r.store().getId())
-                .toList();
-
-        // N+1 해결: 배치 조회
-        var repMenuMap = storeRepository.findRepresentativeMenus(storeIds);
-        var seatTypesMap = storeRepository.findSeatTypes(storeIds);
-        var mainImageMap = storeImageRepository.findMainImagesByStoreIds(storeIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        img -> img.getStore().getId(),
-                        img -> img
-                ));
-
-        List<StoreSearchResultDto> data = rows.stream()
-                .map(r -> {
-                    var store = r.store();
-                    var mainImage = mainImageMap.get(store.getId());
-
-                    long id = store.getId();
-                    int distance = r.distance();
-                    int walkingMinutes = (int) Math.ceil(distance / 80.0);
-
-                    return new StoreSearchResultDto(
-                            store.getId(),
-                            store.getName(),
-                            mainImage != null ? mainImage.getImageUrl() : null, // Null 안전성
-                            repMenuMap.getOrDefault(id, new StoreSearchResultDto.SignatureMenu(null, 0)),
-                            new StoreSearchResultDto.Coordinate(store.getAddress().getLatitude(),
-                                    store.getAddress().getLongitude()),
-                            distance,
-                            walkingMinutes,
-                            seatTypesMap.getOrDefault(id, List.of()),
-                            buildTagsFromCategories(store.getCategories()),
-                            store.getHonbobLevel() != null ? store.getHonbobLevel().getValue() : 0
-                    );
-                })
-                .collect(Collectors.toList());
-
         String nextCursor = null;
-        if (hasNext && !rows.isEmpty()) {
-            var last = rows.getLast();
-            nextCursor = KeysetCursor.encode(last.distance(), last.store().getId());
+        if (hasNext && !data.isEmpty()) {
+            var last = data.getLast();
+            nextCursor = KeysetCursor.encode(last.distance(), last.id());
         }
 
         return new CursorPageResponse<>(data, nextCursor, hasNext, null);
     }
 
+    /**
+     * 거리순 + 위치/혼밥레벨/카테고리 필터는 인메모리 공간 인덱스 + 카드 스냅샷으로 처리
+     * 그 외(추천순, 가격/좌석 필터)는 단일 네이티브 쿼리로 슬라이스와 카드 정보를 함께 조회
+     * (추천순은 DB 쿼리 레벨에서 정렬됨: 30% 내부점수 + 70% 거리)
+     */
+    private List<StoreSearchResultDto> findStores(StoreFilteringRequest request, int limitPlusOne) {
+        if (!storeGeoIndex.supports(request)) {
+            return storeRepository.findStoreSearchResults(request, limitPlusOne);
+        }
+
+        // 인덱스에는 있지만 카드가 없는 가게(삭제 직후 등)는 건너뛰고, 모자란 만큼 마지막 히트 이후부터 더 조회
+        List<StoreSearchResultDto> results = new ArrayList<>(limitPlusOne);
+        KeysetCursor.PageCursor cursor = request.paging() != null
+                ? KeysetCursor.decodeOrNull(request.paging().lastKnown())
+                : null;
+        while (results.size() < limitPlusOne) {
+            List<StoreGeoIndex.GeoHit> hits = storeGeoIndex.search(request, cursor, limitPlusOne);
+            appendCards(results, hits, limitPlusOne);
+            if (hits.size() < limitPlusOne) {
+                break;
+            }
+            StoreGeoIndex.GeoHit last = hits.getLast();
+            cursor = new KeysetCursor.PageCursor(last.distance(), last.storeId());
+        }
+        return results;
+    }
+
+    /**
+     * 검색 카드 스냅샷에서 대표 메뉴/좌석/이미지/태그를 한 번에 조회해 히트 순서대로 추가
+     */
+    private void appendCards(List<StoreSearchResultDto> results, List<StoreGeoIndex.GeoHit> hits, int limit) {
+        List<Long> storeIds = hits.stream()
+                .map(StoreGeoIndex.GeoHit::storeId)
+                .toList();
+        Map<Long, StoreCard> cardMap = storeCardSnapshot.findAll(storeIds);
+
+        for (StoreGeoIndex.GeoHit hit : hits) {
+            StoreCard card = cardMap.get(hit.storeId());
+            if (card != null && results.size() < limit) {
+                results.add(card.toSearchResult(hit.distance()));
+            }
+        }
+    }
+
     public StoreDetailResponse findById(Long storeId) {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new CustomException(NOT_FOUND_STORE));
@@ -0,0 +1,119 @@
+package com.bobeat.backend.domain.store.service;
+
+import com.bobeat.backend.domain.store.config.StoreScoringConfig;
+import com.bobeat.backend.domain.store.entity.Menu;
+import com.bobeat.backend.domain.store.entity.SeatOption;
+import com.bobeat.backend.domain.store.entity.Store;
+import com.bobeat.backend.domain.store.repository.MenuRepository;
+import com.bobeat.backend.domain.store.repository.SeatOptionRepository;
+import com.bobeat.backend.domain.store.repository.StoreRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Store 메뉴/좌석 요약 컬럼(최저/최고가, 대표 메뉴 가격, 좌석 비트마스크) 관리
+ * <p>
+ * 가게 등록 시에는 StoreCreateService에서 바로 갱신하고, 요약이 비어 있는 기존 데이터는 서버 시작 시 청크 단위로 보정한다.
+ */
+@Slf4j
+@Service
+public class StoreSummaryService {
+
+    private final StoreRepository storeRepository;
+    private final MenuRepository menuRepository;
+    private final SeatOptionRepository seatOptionRepository;
+    private final StoreScoringConfig scoringConfig;
+    private final TransactionTemplate transactionTemplate;
+
+    public StoreSummaryService(StoreRepository storeRepository,
+                               MenuRepository menuRepository,
+                               SeatOptionRepository seatOptionRepository,
+                               StoreScoringConfig scoringConfig,
+                               PlatformTransactionManager transactionManager) {
+        this.storeRepository = storeRepository;
+        this.menuRepository = menuRepository;
+        this.seatOptionRepository = seatOptionRepository;
+        this.scoringConfig = scoringConfig;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    private record ChunkResult(int processed, long lastStoreId) {
+    }
+
+    /**
+     * 서버 시작 시 요약이 없는 식당 보정
+     * ID 순 summaryChunkSize 단위로 청크마다 커밋 - 영속성 컨텍스트와 행 잠금은 한 청크 동안만 유지
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void refreshMissingSummaries() {
+        long afterId = 0L;
+        int total = 0;
+        while (true) {
+            long chunkAfterId = afterId;
+            ChunkResult chunk = transactionTemplate.execute(status -> refreshChunk(chunkAfterId));
+            if (chunk.processed() == 0) {
+                break;
+            }
+            total += chunk.processed();
+            afterId = chunk.lastStoreId();
+        }
+        if (total > 0) {
+            log.info("Filled menu/seat summaries for {} stores", total);
+        }
+    }
+
+    /**
+     * 요약이 없는 식당만 메뉴/좌석을 배치 조회해서 요약 컬럼 갱신 (호출 트랜잭션 안에서 더티 체킹으로 반영)
+     */
+    public void applySummaries(List<Store> stores) {
+        refreshSummaries(stores.stream()
+                .filter(store -> !store.hasSummary())
+                .toList());
+    }
+
+    /**
+     * 요약 유무와 관계없이 메뉴/좌석을 배치 조회해서 요약 컬럼 다시 계산 (메뉴/좌석이 바뀐 가게용)
+     */
+    public void refreshSummaries(List<Store> stores) {
+        if (stores.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<Menu>> menusByStoreId = menuRepository.findByStoreIn(stores).stream()
+                .collect(Collectors.groupingBy(menu -> menu.getStore().getId()));
+        Map<Long, List<SeatOption>> seatsByStoreId = seatOptionRepository.findByStoreIn(stores).stream()
+                .collect(Collectors.groupingBy(seatOption -> seatOption.getStore().getId()));
+
+        for (Store store : stores) {
+            store.updateSummary(
+                    menusByStoreId.getOrDefault(store.getId(), List.of()),
+                    seatsByStoreId.getOrDefault(store.getId(), List.of())
+            );
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * 한 청크 처리 (하나의 트랜잭션)
+     */
+    private ChunkResult refreshChunk(long afterId) {
+        List<Store> stores = storeRepository.findStoresNeedingSummary(afterId,
+                PageRequest.of(0, scoringConfig.getSummaryChunkSize()));
+        if (stores.isEmpty()) {
+            return new ChunkResult(0, afterId);
+        }
+        applySummaries(stores);
+        long lastStoreId = stores.get(stores.size() - 1).getId();
+        log.debug("Filled menu/seat summaries for {} stores up to store {}", stores.size(), lastStoreId);
+        return new ChunkResult(stores.size(), lastStoreId);
+    }
+}
@@ -1,12 +1,47 @@
 package com.bobeat.backend.domain.store.util;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.sql.SQLException;
+import org.postgresql.util.PGobject;
 
 public class PgVectorUtils {
-    public static String toLiteral(List<Float> vector) {
-        return "[" + vector.stream()
-                .map(d -> String.format("%.6f", d))
-                .collect(Collectors.joining(",")) + "]";
+
+    private static final String VECTOR_TYPE = "vector";
+
+    /**
+     * pgvector 텍스트 표현 "[x1,x2,...]"
+     * Float.toString은 float 값을 손실 없이 복원할 수 있는 최단 표현을 사용하므로 정밀도가 유지된다.
+     */
+    public static String toLiteral(float[] vector) {
+        StringBuilder sb = new StringBuilder(vector.length * 12 + 2).append('[');
+        for (int i = 0; i < vector.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(vector[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * vector 타입으로 지정된 JDBC 파라미터 - SQL에서 CAST(:param AS vector) 없이 바로 비교 연산에 사용 가능
+     */
+    public static PGobject toPGobject(float[] vector) throws SQLException {
+        PGobject object = new PGobject();
+        object.setType(VECTOR_TYPE);
+        object.setValue(toLiteral(vector));
+        return object;
+    }
+
+    public static float[] parse(String literal) {
+        String body = literal.substring(1, literal.length() - 1);
+        if (body.isEmpty()) {
+            return new float[0];
+        }
+        String[] parts = body.split(",");
+        float[] result = new float[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            result[i] = Float.parseFloat(parts[i]);
+        }
+        return result;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,228 @@
+package com.bobeat.backend.domain.store.util;
+
+import com.bobeat.backend.domain.store.dto.request.StoreCreateRequest;
+import com.bobeat.backend.domain.store.dto.request.StoreCreateRequest.AddressRequest;
+import com.bobeat.backend.domain.store.dto.request.StoreCreateRequest.CategoryRequest;
+import com.bobeat.backend.domain.store.dto.request.StoreCreateRequest.MenuRequest;
+import com.bobeat.backend.domain.store.dto.request.StoreCreateRequest.SeatOptionRequest;
+import com.bobeat.backend.domain.store.dto.request.StoreCreateRequest.StoreImageRequest;
+import com.bobeat.backend.domain.store.entity.SeatType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가게 대량 등록 CSV 파서
+ * <p>
+ * 첫 줄은 헤더이며 열 순서는 자유롭다.
+ * name,address,latitude,longitude,phoneNumber,description,honbobLevel,primaryCategory,storeImages,menus,seatOptions
+ * <p>
+ * 목록 열은 항목을 ';'로, 항목 안의 값을 '|'로 구분한다.
+ * - storeImages: url[|true] (메인 표시가 없으면 첫 번째 이미지가 메인)
+ * - menus: 이름|가격|이미지URL
+ * - seatOptions: 좌석타입[|이미지URL]
+ */
+public final class StoreCsvParser {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of(
+            "name", "address", "latitude", "longitude", "honbobLevel", "primaryCategory",
+            "storeImages", "menus", "seatOptions");
+
+    /**
+     * @param row     데이터 행 번호 (헤더 제외, 1부터)
+     * @param request 변환 결과 (실패 시 null)
+     * @param error   변환 실패 사유
+     */
+    public record Row(int row, StoreCreateRequest request, String error) {
+    }
+
+    private StoreCsvParser() {
+    }
+
+    /**
+     * @throws IllegalArgumentException 헤더가 없거나 필수 열이 빠진 경우
+     */
+    public static List<Row> parse(String content) {
+        List<List<String>> records = readRecords(content);
+        if (records.isEmpty()) {
+            throw new IllegalArgumentException("CSV header is missing");
+        }
+
+        Map<String, Integer> header = new HashMap<>();
+        List<String> columns = records.get(0);
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(columns.get(i).strip(), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!header.containsKey(column)) {
+                throw new IllegalArgumentException("Missing CSV column: " + column);
+            }
+        }
+
+        List<Row> rows = new ArrayList<>(records.size() - 1);
+        for (int i = 1; i < records.size(); i++) {
+            List<String> values = records.get(i);
+            if (values.size() == 1 && values.get(0).isBlank()) {
+                continue;
+            }
+            try {
+                rows.add(new Row(i, toRequest(values, header), null));
+            } catch (IllegalArgumentException e) {
+                rows.add(new Row(i, null, e.getMessage()));
+            }
+        }
+        return rows;
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static StoreCreateRequest toRequest(List<String> values, Map<String, Integer> header) {
+        return new StoreCreateRequest(
+                value(values, header, "name"),
+                new AddressRequest(
+                        value(values, header, "address"),
+                        parseDouble(value(values, header, "latitude"), "latitude"),
+                        parseDouble(value(values, header, "longitude"), "longitude")),
+                value(values, header, "phoneNumber"),
+                value(values, header, "description"),
+                null,
+                parseInt(value(values, header, "honbobLevel"), "honbobLevel"),
+                new CategoryRequest(value(values, header, "primaryCategory")),
+                parseImages(value(values, header, "storeImages")),
+                parseMenus(value(values, header, "menus")),
+                parseSeatOptions(value(values, header, "seatOptions"))
+        );
+    }
+
+    private static List<StoreImageRequest> parseImages(String value) {
+        List<String[]> items = splitItems(value);
+        boolean hasMain = items.stream().anyMatch(fields -> fields.length > 1 && Boolean.parseBoolean(fields[1]));
+        List<StoreImageRequest> images = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            String[] fields = items.get(i);
+            boolean isMain = hasMain ? fields.length > 1 && Boolean.parseBoolean(fields[1]) : i == 0;
+            images.add(new StoreImageRequest(fields[0], isMain));
+        }
+        return images;
+    }
+
+    private static List<MenuRequest> parseMenus(String value) {
+        return splitItems(value).stream()
+                .map(fields -> {
+                    if (fields.length < 3) {
+                        throw new IllegalArgumentException("menus must be name|price|imageUrl");
+                    }
+                    return new MenuRequest(fields[0], parseInt(fields[1], "menu price"), fields[2]);
+                })
+                .toList();
+    }
+
+    private static List<SeatOptionRequest> parseSeatOptions(String value) {
+        return splitItems(value).stream()
+                .map(fields -> {
+                    SeatType seatType;
+                    try {
+                        seatType = SeatType.valueOf(fields[0]);
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Unknown seat type: " + fields[0]);
+                    }
+                    return new SeatOptionRequest(seatType, fields.length > 1 ? fields[1] : null);
+                })
+                .toList();
+    }
+
+    private static List<String[]> splitItems(String value) {
+        if (value == null) {
+            return List.of();
+        }
+        List<String[]> items = new ArrayList<>();
+        for (String item : value.split(";")) {
+            if (item.isBlank()) {
+                continue;
+            }
+            String[] fields = item.split("\\|", -1);
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = fields[i].strip();
+            }
+            items.add(fields);
+        }
+        return items;
+    }
+
+    private static String value(List<String> values, Map<String, Integer> header, String column) {
+        Integer index = header.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Double parseDouble(String value, String column) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    private static Integer parseInt(String value, String column) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    /**
+     * RFC 4180 - 큰따옴표로 감싼 값 안의 쉼표/줄바꿈과 "" 이스케이프 처리
+     */
+    private static List<List<String>> readRecords(String content) {
+        List<List<String>> records = new ArrayList<>();
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        int start = !content.isEmpty() && content.charAt(0) == '\uFEFF' ? 1 : 0;
+        for (int i = start; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < content.length() && content.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < content.length() && content.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                record.add(field.toString());
+                field.setLength(0);
+                records.add(record);
+                record = new ArrayList<>();
+            } else {
+                field.append(c);
+            }
+        }
+        if (field.length() > 0 || !record.isEmpty()) {
+            record.add(field.toString());
+            records.add(record);
+        }
+        return records;
+    }
+}
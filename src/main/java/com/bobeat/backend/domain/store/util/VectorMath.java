@@ -0,0 +1,31 @@
+package com.bobeat.backend.domain.store.util;
+
+public final class VectorMath {
+    private VectorMath() {}
+
+    /** 코사인 거리 (1 - 코사인 유사도), pgvector의 <=> 연산자와 같은 값 */
+    public static double cosineDistance(float[] a, float[] b) {
+        return cosineDistance(a, squaredNorm(a), b, squaredNorm(b));
+    }
+
+    /**
+     * 노름(제곱합)을 미리 계산해 둔 경우의 코사인 거리
+     * pgvector와 같은 순서로 float 누적 후 double로 나누어 커서 비교 시 DB 값과 어긋나지 않도록 한다.
+     */
+    public static double cosineDistance(float[] a, float squaredNormA, float[] b, float squaredNormB) {
+        double cosineSimilarity = dot(a, b) / Math.sqrt((double) squaredNormA * squaredNormB);
+        return 1 - cosineSimilarity;
+    }
+
+    public static float dot(float[] a, float[] b) {
+        float dot = 0.0f;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+        }
+        return dot;
+    }
+
+    public static float squaredNorm(float[] a) {
+        return dot(a, a);
+    }
+}
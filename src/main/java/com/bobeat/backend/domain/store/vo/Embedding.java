@@ -0,0 +1,50 @@
+package com.bobeat.backend.domain.store.vo;
+
+import com.bobeat.backend.domain.store.util.VectorMath;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * 임베딩 벡터 값 객체
+ * <p>
+ * float[]를 그대로 감싸고 노름(제곱합)을 생성 시 한 번만 계산해 둔다.
+ * JSON 디코딩 → 캐시 → 리포지토리 바인딩 → 유사도 계산까지 List&lt;Float&gt; 박싱 없이 같은 배열을 공유하므로
+ * 전달받은 배열은 이후 수정하지 않아야 한다.
+ */
+public final class Embedding {
+
+    private final float[] values;
+    private final float squaredNorm;
+
+    private Embedding(float[] values) {
+        this.values = values;
+        this.squaredNorm = VectorMath.squaredNorm(values);
+    }
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Embedding of(float[] values) {
+        return new Embedding(values);
+    }
+
+    @JsonValue
+    public float[] values() {
+        return values;
+    }
+
+    public int dimension() {
+        return values.length;
+    }
+
+    public double norm() {
+        return Math.sqrt(squaredNorm);
+    }
+
+    /** 코사인 거리 (1 - 코사인 유사도), pgvector의 <=> 연산자와 같은 값 */
+    public double cosineDistance(float[] other) {
+        return VectorMath.cosineDistance(values, squaredNorm, other, VectorMath.squaredNorm(other));
+    }
+
+    public double cosineDistance(Embedding other) {
+        return VectorMath.cosineDistance(values, squaredNorm, other.values, other.squaredNorm);
+    }
+}
@@ -1,8 +1,12 @@
 package com.bobeat.backend.global.config;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -12,17 +16,28 @@ import java.util.concurrent.Executor;
 
 /**
  * 비동기 처리 설정
+ * 가상 스레드 모드(spring.threads.virtual.enabled)에서는 작업마다 가상 스레드를 쓰고 동시 실행 수만 제한한다.
+ * (직접 정의한 실행기가 있어 Spring Boot 기본 실행기(applicationTaskExecutor)는 만들어지지 않으므로 같은 설정을 따름)
+ * (제한에 걸리면 큐에 쌓거나 버리지 않고 제출한 스레드가 자리가 날 때까지 기다림)
  */
 @Slf4j
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class AsyncConfig implements AsyncConfigurer {
 
+    private final ExecutionConfig executionConfig;
+    private final Environment environment;
+
     /**
      * 기본 비동기 작업용 스레드 풀
      */
     @Override
     public Executor getAsyncExecutor() {
+        if (isVirtual()) {
+            return virtualExecutor("async-", executionConfig.getAsyncConcurrencyLimit());
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
         executor.setCorePoolSize(4);
@@ -43,6 +58,10 @@ public class AsyncConfig implements AsyncConfigurer {
      */
     @Bean(name = "embeddingTaskExecutor")
     public Executor embeddingTaskExecutor() {
+        if (isVirtual()) {
+            return virtualExecutor("embedding-async-", executionConfig.getEmbeddingConcurrencyLimit());
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
         executor.setMaxPoolSize(8);
@@ -55,4 +74,16 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.initialize();
         return executor;
     }
+
+    private boolean isVirtual() {
+        return Threading.VIRTUAL.isActive(environment);
+    }
+
+    private SimpleAsyncTaskExecutor virtualExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
 }
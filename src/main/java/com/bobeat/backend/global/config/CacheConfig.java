@@ -22,7 +22,6 @@ public class CacheConfig {
     public CacheManager cacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager(
                 "categories",
-                "searchEmbeddings",
                 "storeMainImages"
         );
 
@@ -0,0 +1,33 @@
+package com.bobeat.backend.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 검색 결과 보강 조회(대표 메뉴/좌석/이미지/거리 등) 병렬 실행 설정
+ * application.yml의 enrichment 하위에서 관리
+ */
+@Configuration
+@ConfigurationProperties(prefix = "enrichment")
+@Getter
+@Setter
+public class EnrichmentConfig {
+
+    /**
+     * 보강 조회를 가상 스레드에서 동시에 실행할지 여부 (false면 호출 스레드에서 순서대로 실행)
+     */
+    private Boolean parallel = true;
+
+    /**
+     * 한 페이지의 보강 조회 전체에 주는 제한 시간 (밀리초)
+     */
+    private Long timeoutMillis = 1500L;
+
+    /**
+     * 동시에 실행 중인 보강 조회 최대 수 (각 조회가 커넥션을 하나씩 쓰므로 커넥션 풀보다 작게)
+     * 자리가 없으면 호출 스레드에서 바로 실행한다.
+     */
+    private Integer maxConcurrentLookups = 8;
+}
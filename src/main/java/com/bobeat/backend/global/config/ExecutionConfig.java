@@ -0,0 +1,65 @@
+package com.bobeat.backend.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서 Spring Boot가 다루지 않는 설정
+ * application.yml의 execution 하위에서 관리
+ */
+@Configuration
+@ConfigurationProperties(prefix = "execution")
+@Getter
+@Setter
+public class ExecutionConfig {
+
+    /**
+     * 기본 @Async 작업 동시 실행 수 (가상 스레드 모드)
+     */
+    private Integer asyncConcurrencyLimit = 16;
+
+    /**
+     * 임베딩 생성 작업 동시 실행 수 (가상 스레드 모드) - 외부 API 호출량 제한
+     */
+    private Integer embeddingConcurrencyLimit = 8;
+
+    /**
+     * 가상 스레드 모드의 커넥션 풀 설정
+     */
+    private Hikari hikari = new Hikari();
+
+    /**
+     * 가상 스레드 고정(pinning) 진단 설정
+     */
+    private Pinning pinning = new Pinning();
+
+    @Getter
+    @Setter
+    public static class Hikari {
+        /**
+         * 최대 커넥션 수 - 동시 요청 수가 더 이상 Tomcat 스레드 수(200)로 제한되지 않으므로 DB 처리량에 맞춰 제한
+         */
+        private Integer maximumPoolSize = 20;
+
+        /**
+         * 커넥션 대기 제한 시간 (밀리초) - 풀이 모자랄 때 30초씩 쌓이지 않고 빨리 실패
+         */
+        private Long connectionTimeoutMillis = 3000L;
+    }
+
+    @Getter
+    @Setter
+    public static class Pinning {
+        /**
+         * JFR jdk.VirtualThreadPinned 이벤트 감시 여부
+         */
+        private Boolean enabled = true;
+
+        /**
+         * 이 시간 이상 캐리어 스레드를 붙잡은 경우만 기록 (밀리초)
+         */
+        private Long thresholdMillis = 20L;
+    }
+}
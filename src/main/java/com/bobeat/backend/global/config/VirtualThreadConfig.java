@@ -0,0 +1,49 @@
+package com.bobeat.backend.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)의 커넥션 풀 보정
+ * <p>
+ * Tomcat 요청 처리와 @Scheduled의 가상 스레드 전환은 Spring Boot가 같은 설정으로 처리한다.
+ * 동시 요청이 Tomcat 스레드 수로 제한되지 않으므로 Hikari 커넥션 수와 대기 시간을 제한한다 (ExecutionConfig.Hikari).
+ * spring.datasource.hikari.* 로 직접 지정한 값이 있으면 그 값을 유지한다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    private static final String MAXIMUM_POOL_SIZE_PROPERTY = "spring.datasource.hikari.maximum-pool-size";
+    private static final String CONNECTION_TIMEOUT_PROPERTY = "spring.datasource.hikari.connection-timeout";
+
+    @Bean
+    public static BeanPostProcessor hikariVirtualThreadTuner(ObjectProvider<ExecutionConfig> executionConfig,
+                                                             Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    ExecutionConfig.Hikari hikari = executionConfig.getObject().getHikari();
+                    if (!environment.containsProperty(MAXIMUM_POOL_SIZE_PROPERTY)) {
+                        dataSource.setMaximumPoolSize(hikari.getMaximumPoolSize());
+                    }
+                    if (!environment.containsProperty(CONNECTION_TIMEOUT_PROPERTY)) {
+                        dataSource.setConnectionTimeout(hikari.getConnectionTimeoutMillis());
+                    }
+                    log.info("Hikari tuned for virtual threads. maximumPoolSize={}, connectionTimeout={}ms",
+                            dataSource.getMaximumPoolSize(), dataSource.getConnectionTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -30,6 +30,7 @@ public enum ErrorCode {
     STORE_NOT_FOUND(HttpStatus.NOT_FOUND, "S001", "가게를 찾을 수 없습니다."),
     STORE_VECTOR_NOT_FOUND(HttpStatus.NOT_FOUND, "S002", "가게의 벡터 데이터가 없습니다."),
     DUPLICATE_STORE_NAME(HttpStatus.BAD_REQUEST, "S003", "이미 존재하는 가게입니다."),
+    INVALID_STORE_IMPORT_FILE(HttpStatus.BAD_REQUEST, "S005", "가게 등록 파일을 읽을 수 없습니다."),
 
     // 리뷰
     REVIEW_NOT_FOUND(HttpStatus.NOT_FOUND, "R001", "리뷰를 찾을 수 없습니다."),
@@ -41,6 +42,8 @@ public enum ErrorCode {
     GOOGLE_TOKEN_VALIDATION_FAIL(HttpStatus.UNAUTHORIZED, "O002", "구글 토큰 검증에 실패했습니다."),
     PROVIDER_NOT_SUPPORTED(HttpStatus.BAD_REQUEST, "O003", "지원하지 않는 OAuth 프로바이더입니다."),
     APPLE_TOKEN_VALIDATION_FAIL(HttpStatus.UNAUTHORIZED, "O004", "애플 토큰 검증에 실패했습니다."),
+    OAUTH_PROVIDER_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "O005", "로그인 서버의 응답이 늦어지고 있습니다. 잠시 후 다시 시도해주세요."),
+    OAUTH_PROVIDER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "O006", "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
     JWT_INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "J001", "유효하지 않은 JWT 토큰입니다."),
     JWT_EXPIRED(HttpStatus.UNAUTHORIZED, "J002", "만료된 JWT 토큰입니다."),
     JWT_UNSUPPORTED(HttpStatus.UNAUTHORIZED, "J003", "지원하지 않는 JWT 토큰입니다."),
@@ -52,7 +55,13 @@ public enum ErrorCode {
 
     //검색
     SEARCH_HISTORY_NOT_FOUND(HttpStatus.NOT_FOUND, "S001", "검색 기록을 찾을 수 없습니다."),
-    SEARCH_HISTORY_ACCESS_DENIED(HttpStatus.UNAUTHORIZED, "S002", "접근 불가한 검색 기록입니다");
+    SEARCH_HISTORY_ACCESS_DENIED(HttpStatus.UNAUTHORIZED, "S002", "접근 불가한 검색 기록입니다"),
+    QUERY_EMBEDDING_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "S004", "검색어를 분석할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    SEARCH_ENRICHMENT_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "S006", "검색 결과를 불러오는 데 시간이 오래 걸리고 있습니다. 잠시 후 다시 시도해주세요."),
+
+    //임베딩
+    EMBEDDING_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "E001", "임베딩 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    EMBEDDING_FAILED(HttpStatus.BAD_GATEWAY, "E002", "임베딩 생성에 실패했습니다.");
 
     private final HttpStatus httpStatus;
 
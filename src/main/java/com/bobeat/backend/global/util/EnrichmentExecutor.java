@@ -0,0 +1,230 @@
+package com.bobeat.backend.global.util;
+
+import static com.bobeat.backend.global.exception.ErrorCode.CONCURRENCY_ERROR;
+import static com.bobeat.backend.global.exception.ErrorCode.SEARCH_ENRICHMENT_TIMEOUT;
+
+import com.bobeat.backend.global.config.EnrichmentConfig;
+import com.bobeat.backend.global.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 검색 결과 보강 조회를 가상 스레드에서 동시에 실행
+ * <p>
+ * 대표 메뉴/좌석/이미지/거리처럼 서로 독립적인 조회를 각자의 커넥션에서 동시에 실행해 페이지 지연을 조회 시간의 합이 아니라 가장 느린 조회
+ * 시간으로 줄인다.
+ * <pre>
+ * try (EnrichmentExecutor.Scope scope = enrichmentExecutor.open("search.similarity")) {
+ *     Lookup&lt;Map&lt;Long, SignatureMenu&gt;&gt; menus = scope.fork("menus", () -&gt; ...);
+ *     Lookup&lt;Map&lt;Long, Integer&gt;&gt; distances = scope.fork("distances", () -&gt; ...);
+ *     scope.join();
+ *     menus.get(); distances.get();
+ * }
+ * </pre>
+ * - 한 범위(Scope)의 조회는 같은 제한 시간을 공유하고, 하나라도 실패하거나 시간을 넘기면 나머지를 취소한다
+ * - 범위를 벗어나면(close) 끝나지 않은 조회를 모두 취소해 요청보다 오래 사는 조회가 없다
+ * - 동시 조회 수는 maxConcurrentLookups로 제한하고, 자리가 없으면 호출 스레드에서 바로 실행한다 (커넥션 풀 보호)
+ * - 조회는 호출 트랜잭션 밖에서 실행되므로 커밋된 데이터를 읽는 읽기 전용 조회에만 사용한다
+ * - 호출 스레드가 트랜잭션 안이면 순차 모드로 실행한다 (커넥션을 쥔 채 조회마다 커넥션을 더 빌리면 풀이 고갈된다)
+ * <p>
+ * 지표: enrichment.page(name, mode=parallel/sequential), enrichment.lookup(name, lookup), enrichment.timeouts(name)
+ */
+@Slf4j
+@Component
+public class EnrichmentExecutor {
+
+    private final EnrichmentConfig config;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+
+    public EnrichmentExecutor(EnrichmentConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("enrichment-", 0).factory());
+        this.permits = new Semaphore(Math.max(1, config.getMaxConcurrentLookups()));
+    }
+
+    /**
+     * 보강 조회 범위 시작 - 제한 시간은 이 시점부터 계산
+     * 트랜잭션 안에서 열면 설정과 관계없이 호출 스레드에서 순차 실행
+     *
+     * @param name 지표 태그로 쓰이는 페이지 이름 (예: search.similarity)
+     */
+    public Scope open(String name) {
+        boolean parallel = Boolean.TRUE.equals(config.getParallel())
+                && !TransactionSynchronizationManager.isActualTransactionActive();
+        return new Scope(name, parallel,
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getTimeoutMillis()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * fork한 조회의 결과 - join 이후에만 get 가능
+     */
+    public static final class Lookup<T> {
+        private final Future<T> future;
+
+        private Lookup(Future<T> future) {
+            this.future = future;
+        }
+
+        public T get() {
+            if (!future.isDone()) {
+                throw new IllegalStateException("Lookup is not joined yet");
+            }
+            return future.resultNow();
+        }
+    }
+
+    public final class Scope implements AutoCloseable {
+
+        private final String name;
+        private final boolean parallel;
+        private final long deadlineNanos;
+        private final long startedAt = System.nanoTime();
+        private final List<Future<?>> futures = new ArrayList<>();
+
+        private Scope(String name, boolean parallel, long deadlineNanos) {
+            this.name = name;
+            this.parallel = parallel;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * 조회 시작 - 병렬 모드이고 자리가 있으면 가상 스레드에서, 아니면 호출 스레드에서 바로 실행
+         */
+        public <T> Lookup<T> fork(String lookup, Callable<T> task) {
+            Future<T> future;
+            if (parallel && permits.tryAcquire()) {
+                future = submit(lookup, task);
+            } else {
+                future = runInline(lookup, task);
+            }
+            futures.add(future);
+            return new Lookup<>(future);
+        }
+
+        /**
+         * 모든 조회가 끝날 때까지 대기 (제한 시간 공유)
+         * 시간 초과 시 SEARCH_ENRICHMENT_TIMEOUT, 조회 실패 시 그 예외를 그대로 던지고 나머지 조회는 취소한다.
+         */
+        public void join() {
+            try {
+                for (Future<?> future : futures) {
+                    future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+                }
+            } catch (TimeoutException e) {
+                cancelAll();
+                Counter.builder("enrichment.timeouts").tag("name", name).register(meterRegistry).increment();
+                log.warn("Enrichment lookups timed out. name={}, timeoutMillis={}", name, config.getTimeoutMillis());
+                throw new CustomException(SEARCH_ENRICHMENT_TIMEOUT);
+            } catch (ExecutionException e) {
+                cancelAll();
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new CustomException(e.getCause().toString(), CONCURRENCY_ERROR);
+            } catch (InterruptedException e) {
+                cancelAll();
+                Thread.currentThread().interrupt();
+                throw new CustomException("보강 조회 대기 중 인터럽트", CONCURRENCY_ERROR);
+            }
+            Timer.builder("enrichment.page")
+                    .tag("name", name)
+                    .tag("mode", parallel ? "parallel" : "sequential")
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void close() {
+            cancelAll();
+        }
+
+        // ==================== Helper Methods ====================
+
+        /**
+         * 자리(permit)는 조회가 끝나거나, 시작 전에 취소되면 한 번만 반납
+         */
+        private <T> Future<T> submit(String lookup, Callable<T> task) {
+            AtomicBoolean claimed = new AtomicBoolean();
+            FutureTask<T> future = new FutureTask<>(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;
+                }
+                try {
+                    return timed(lookup, task);
+                } finally {
+                    permits.release();
+                }
+            }) {
+                @Override
+                protected void done() {
+                    if (isCancelled() && claimed.compareAndSet(false, true)) {
+                        permits.release();
+                    }
+                }
+            };
+            try {
+                executor.execute(future);
+            } catch (RejectedExecutionException e) {
+                future.cancel(false);
+                return runInline(lookup, task);
+            }
+            return future;
+        }
+
+        private <T> Future<T> runInline(String lookup, Callable<T> task) {
+            try {
+                return CompletableFuture.completedFuture(timed(lookup, task));
+            } catch (Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        private <T> T timed(String lookup, Callable<T> task) throws Exception {
+            long start = System.nanoTime();
+            try {
+                return task.call();
+            } finally {
+                Timer.builder("enrichment.lookup")
+                        .tag("name", name)
+                        .tag("lookup", lookup)
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private void cancelAll() {
+            for (Future<?> future : futures) {
+                if (!future.isDone()) {
+                    future.cancel(true);
+                }
+            }
+        }
+    }
+}
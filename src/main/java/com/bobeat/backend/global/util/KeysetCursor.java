@@ -5,6 +5,12 @@ public final class KeysetCursor {
 
     public record PageCursor(int distance, long id) {}
 
+    /** 벡터 거리 커서 - 거리는 DB/인덱스가 계산한 값을 그대로 사용해야 경계 행이 빠지거나 반복되지 않는다 */
+    public record VectorCursor(double distance, long id) {}
+
+    /** 점수 내림차순 커서 - 점수도 DB가 계산한 값을 그대로 사용 */
+    public record ScoreCursor(double score, long id) {}
+
     /** "distance:id" 로 인코딩 */
     public static String encode(int distance, long id) {
         return distance + ":" + id;
@@ -23,4 +29,35 @@ public final class KeysetCursor {
             return null;
         }
     }
-}
\ No newline at end of file
+
+    /** "distance:id" 로 인코딩 (Double.toString은 역변환 시 같은 double 값을 보장) */
+    public static String encodeVector(double distance, long id) {
+        return Double.toString(distance) + ":" + id;
+    }
+
+    /** "distance:id" → VectorCursor 디코딩 (실패 시 null) */
+    public static VectorCursor decodeVectorOrNull(String s) {
+        if (s == null || s.isBlank()) return null;
+        try {
+            String[] parts = s.split(":");
+            if (parts.length != 2) return null;
+            double d = Double.parseDouble(parts[0]);
+            long i = Long.parseLong(parts[1]);
+            if (!Double.isFinite(d)) return null;
+            return new VectorCursor(d, i);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /** "score:id" 로 인코딩 */
+    public static String encodeScore(double score, long id) {
+        return Double.toString(score) + ":" + id;
+    }
+
+    /** "score:id" → ScoreCursor 디코딩 (실패 시 null) */
+    public static ScoreCursor decodeScoreOrNull(String s) {
+        VectorCursor cursor = decodeVectorOrNull(s);
+        return cursor != null ? new ScoreCursor(cursor.distance(), cursor.id()) : null;
+    }
+}
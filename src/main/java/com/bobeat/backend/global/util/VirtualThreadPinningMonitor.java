@@ -0,0 +1,101 @@
+package com.bobeat.backend.global.util;
+
+import com.bobeat.backend.global.config.ExecutionConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드 고정(pinning) 진단
+ * <p>
+ * synchronized 블록이나 네이티브 호출 안에서 I/O를 기다리면 가상 스레드가 캐리어 스레드를 놓지 못해 가상 스레드 모드의 이점이 사라진다.
+ * JFR jdk.VirtualThreadPinned 이벤트를 앱 안에서 구독해 지표(jvm.threads.virtual.pinned)로 남기고, 처음 보는 위치는 스택과 함께 한 번 로그로 남긴다.
+ * (-Djdk.tracePinnedThreads와 달리 재시작 없이 운영 중에 확인 가능)
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor {
+
+    private static final int MAX_LOGGED_SITES = 100;
+    private static final int LOGGED_FRAMES = 8;
+
+    private final ExecutionConfig executionConfig;
+    private final Environment environment;
+    private final Counter pinnedEvents;
+    private final Timer pinnedDuration;
+    private final Set<String> loggedSites = ConcurrentHashMap.newKeySet();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(ExecutionConfig executionConfig, Environment environment,
+                                       MeterRegistry meterRegistry) {
+        this.executionConfig = executionConfig;
+        this.environment = environment;
+        this.pinnedEvents = Counter.builder("jvm.threads.virtual.pinned").register(meterRegistry);
+        this.pinnedDuration = Timer.builder("jvm.threads.virtual.pinned.duration").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!Threading.VIRTUAL.isActive(environment)
+                || !Boolean.TRUE.equals(executionConfig.getPinning().getEnabled())) {
+            return;
+        }
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable("jdk.VirtualThreadPinned")
+                    .withThreshold(Duration.ofMillis(executionConfig.getPinning().getThresholdMillis()))
+                    .withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+            recording.startAsync();
+            this.stream = recording;
+            log.info("Virtual thread pinning monitor started. threshold={}ms",
+                    executionConfig.getPinning().getThresholdMillis());
+        } catch (Exception e) {
+            log.warn("Failed to start virtual thread pinning monitor: {}", e.toString());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        RecordingStream current = stream;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void onPinned(RecordedEvent event) {
+        pinnedEvents.increment();
+        pinnedDuration.record(event.getDuration());
+
+        if (event.getStackTrace() == null || loggedSites.size() >= MAX_LOGGED_SITES) {
+            return;
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        String stack = frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n\tat "));
+        if (loggedSites.add(stack)) {
+            log.warn("Virtual thread pinned for {}ms\n\tat {}", event.getDuration().toMillis(), stack);
+        }
+    }
+}
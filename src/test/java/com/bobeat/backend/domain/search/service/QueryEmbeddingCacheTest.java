@@ -0,0 +1,110 @@
+package com.bobeat.backend.domain.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.bobeat.backend.domain.search.repository.SearchHistoryEmbeddingRepository;
+import com.bobeat.backend.domain.store.config.StoreSearchConfig;
+import com.bobeat.backend.domain.store.external.embedding.EmbeddingGateway;
+import com.bobeat.backend.domain.store.vo.Embedding;
+import com.bobeat.backend.global.exception.CustomException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class QueryEmbeddingCacheTest {
+
+    @Mock
+    private SearchHistoryEmbeddingRepository searchHistoryEmbeddingRepository;
+
+    @Mock
+    private EmbeddingGateway embeddingGateway;
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryEmbeddingCache queryEmbeddingCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queryEmbeddingCache = new QueryEmbeddingCache(searchHistoryEmbeddingRepository, embeddingGateway,
+                new StoreSearchConfig(), meterRegistry);
+    }
+
+    @Test
+    void 공백과_대소문자만_다른_검색어는_같은_키로_정규화된다() {
+        assertThat(QueryEmbeddingCache.normalize("  국밥　 맛집 ")).isEqualTo("국밥 맛집");
+        assertThat(QueryEmbeddingCache.normalize("Pasta")).isEqualTo("pasta");
+        // 자모 분리(NFD)로 입력된 한글도 같은 키
+        assertThat(QueryEmbeddingCache.normalize("\u1100\u116e\u11a8\u1107\u1161\u11b8")).isEqualTo("국밥");
+    }
+
+    @Test
+    void 정규화된_검색어가_같으면_외부_API를_한_번만_호출한다() {
+        given(searchHistoryEmbeddingRepository.findFirstByQuery("국밥")).willReturn(Optional.empty());
+        given(embeddingGateway.embedSync("국밥")).willReturn(Embedding.of(new float[]{1f, 0f}));
+
+        Embedding first = queryEmbeddingCache.get("국밥 ");
+        Embedding second = queryEmbeddingCache.get(" 국밥");
+
+        assertThat(second).isSameAs(first);
+        verify(embeddingGateway, times(1)).embedSync(anyString());
+        verify(searchHistoryEmbeddingRepository, times(1)).save(any());
+        assertThat(meterRegistry.get("search.query_embedding.load").tag("source", "api").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void 같은_검색어의_동시_미스는_한_번만_적재한다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        given(searchHistoryEmbeddingRepository.findFirstByQuery("파스타")).willReturn(Optional.empty());
+        given(embeddingGateway.embedSync("파스타")).willAnswer(invocation -> {
+            release.await();
+            return Embedding.of(new float[]{0f, 1f});
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Embedding>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> queryEmbeddingCache.get("파스타")));
+            }
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<Embedding> future : futures) {
+                assertThat(future.get().values()).containsExactly(0f, 1f);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(embeddingGateway, times(1)).embedSync("파스타");
+    }
+
+    @Test
+    void 임베딩_생성에_실패한_검색어는_잠시_외부_API를_다시_호출하지_않는다() {
+        given(searchHistoryEmbeddingRepository.findFirstByQuery("초밥")).willReturn(Optional.empty());
+        given(embeddingGateway.embedSync("초밥")).willThrow(new RuntimeException("timeout"));
+
+        assertThatThrownBy(() -> queryEmbeddingCache.get("초밥")).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> queryEmbeddingCache.get("초밥")).isInstanceOf(CustomException.class);
+
+        verify(embeddingGateway, times(1)).embedSync("초밥");
+        assertThat(meterRegistry.get("search.query_embedding.negative_hit").counter().count()).isEqualTo(1.0);
+    }
+}
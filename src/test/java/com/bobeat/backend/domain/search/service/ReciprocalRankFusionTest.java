@@ -0,0 +1,24 @@
+package com.bobeat.backend.domain.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bobeat.backend.domain.search.service.ReciprocalRankFusion.FusedHit;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ReciprocalRankFusionTest {
+
+    @Test
+    void 두_목록에_모두_있는_가게가_한쪽_1위보다_앞선다() {
+        // given
+        List<Long> lexical = List.of(1L, 2L, 3L);
+        List<Long> vector = List.of(4L, 2L, 3L);
+
+        // when
+        List<FusedHit> fused = ReciprocalRankFusion.fuse(60, List.of(lexical, vector));
+
+        // then - 점수가 같은 1, 4는 id 순
+        assertThat(fused).extracting(FusedHit::storeId).containsExactly(2L, 3L, 1L, 4L);
+        assertThat(fused.getFirst().score()).isEqualTo(2.0 / 62);
+    }
+}
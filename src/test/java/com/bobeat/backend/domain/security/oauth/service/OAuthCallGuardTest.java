@@ -0,0 +1,74 @@
+package com.bobeat.backend.domain.security.oauth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bobeat.backend.domain.member.entity.SocialProvider;
+import com.bobeat.backend.domain.security.oauth.config.OAuthClientConfig;
+import com.bobeat.backend.global.exception.CustomException;
+import com.bobeat.backend.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+class OAuthCallGuardTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OAuthCallGuard oAuthCallGuard;
+
+    @BeforeEach
+    void setUp() {
+        OAuthClientConfig config = new OAuthClientConfig();
+        config.setKakao(new OAuthClientConfig.Provider(100L, 10));
+        config.setApple(new OAuthClientConfig.Provider(10_000L, 1));
+        meterRegistry = new SimpleMeterRegistry();
+        oAuthCallGuard = new OAuthCallGuard(config, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        oAuthCallGuard.shutdown();
+    }
+
+    @Test
+    void 프로바이더가_제한_시간_안에_응답하지_않으면_타임아웃_예외로_바꾼다() {
+        // given
+        Mono<String> slow = Mono.delay(Duration.ofSeconds(5)).thenReturn("late");
+
+        // when & then
+        assertThatThrownBy(() -> oAuthCallGuard.call(SocialProvider.KAKAO, slow).block())
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.OAUTH_PROVIDER_TIMEOUT);
+        assertThat(meterRegistry.get("oauth.provider.call").tag("result", "timeout").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 동시_호출_수를_넘으면_기다리지_않고_거절하고_끝난_호출의_자리는_반납한다() {
+        // given - 자리 하나를 점유 중인 호출
+        Disposable inFlight = oAuthCallGuard.call(SocialProvider.APPLE, Mono.never()).subscribe();
+
+        // when & then
+        assertThatThrownBy(() -> oAuthCallGuard.call(SocialProvider.APPLE, Mono.just("ok")).block())
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.OAUTH_PROVIDER_BUSY);
+
+        // 다른 프로바이더는 영향을 받지 않음
+        assertThat(oAuthCallGuard.call(SocialProvider.KAKAO, Mono.just("ok")).block()).isEqualTo("ok");
+
+        inFlight.dispose();
+        assertThat(oAuthCallGuard.call(SocialProvider.APPLE, Mono.just("ok")).block()).isEqualTo("ok");
+    }
+
+    @Test
+    void 블로킹_작업은_가상_스레드에서_실행한다() {
+        Boolean virtual = oAuthCallGuard.blocking(() -> Thread.currentThread().isVirtual()).block();
+
+        assertThat(virtual).isTrue();
+    }
+}
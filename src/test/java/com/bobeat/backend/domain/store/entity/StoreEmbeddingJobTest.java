@@ -0,0 +1,87 @@
+package com.bobeat.backend.domain.store.entity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StoreEmbeddingJobTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final Duration BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(2);
+
+    @Test
+    void 실패하면_시도할_때마다_두_배씩_늘어난_간격_뒤에_다시_대기한다() {
+        // given
+        StoreEmbeddingJob job = StoreEmbeddingJob.pending(1L, NOW);
+
+        // when & then
+        job.start(NOW);
+        job.fail("timeout", NOW, 5, BACKOFF, MAX_BACKOFF);
+        assertThat(job.getStatus()).isEqualTo(EmbeddingStatus.PENDING);
+        assertThat(job.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(30));
+
+        job.start(NOW);
+        job.fail("timeout", NOW, 5, BACKOFF, MAX_BACKOFF);
+        assertThat(job.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(60));
+
+        job.start(NOW);
+        job.fail("timeout", NOW, 5, BACKOFF, MAX_BACKOFF);
+        assertThat(job.getNextAttemptAt()).isEqualTo(NOW.plusMinutes(2)); // 상한
+        assertThat(job.getLockedAt()).isNull();
+    }
+
+    @Test
+    void 최대_시도_횟수를_넘기면_FAILED로_남는다() {
+        // given
+        StoreEmbeddingJob job = StoreEmbeddingJob.pending(1L, NOW);
+
+        // when
+        job.start(NOW);
+        job.fail("first", NOW, 2, BACKOFF, MAX_BACKOFF);
+        job.start(NOW);
+        job.fail("x".repeat(1000), NOW, 2, BACKOFF, MAX_BACKOFF);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(EmbeddingStatus.FAILED);
+        assertThat(job.getAttempts()).isEqualTo(2);
+        assertThat(job.getLastError()).hasSize(500);
+    }
+
+    @Test
+    void 다시_등록하면_시도_횟수와_오류가_초기화된다() {
+        // given
+        StoreEmbeddingJob job = StoreEmbeddingJob.pending(1L, NOW);
+        job.start(NOW);
+        job.fail("error", NOW, 1, BACKOFF, MAX_BACKOFF);
+
+        // when
+        job.requeue(NOW.plusHours(1));
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(EmbeddingStatus.PENDING);
+        assertThat(job.getAttempts()).isZero();
+        assertThat(job.getLastError()).isNull();
+        assertThat(job.getNextAttemptAt()).isEqualTo(NOW.plusHours(1));
+    }
+
+    @Test
+    void 처리_중_다시_등록되거나_재선점되면_이전_선점의_결과는_기록할_수_없다() {
+        // given
+        StoreEmbeddingJob job = StoreEmbeddingJob.pending(1L, NOW);
+        job.start(NOW);
+        long firstClaim = job.getClaimToken();
+
+        // when - 처리 중 가게 정보가 바뀌어 재등록된 뒤 다른 워커가 다시 선점
+        job.requeue(NOW.plusMinutes(1));
+        boolean claimedAfterRequeue = job.isClaimedBy(firstClaim);
+        job.start(NOW.plusMinutes(1));
+
+        // then
+        assertThat(claimedAfterRequeue).isFalse();
+        assertThat(job.isClaimedBy(firstClaim)).isFalse();
+        assertThat(job.isClaimedBy(job.getClaimToken())).isTrue();
+    }
+}
@@ -0,0 +1,63 @@
+package com.bobeat.backend.domain.store.entity;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.bobeat.backend.domain.member.entity.Level;
+import com.bobeat.backend.domain.store.repository.StoreScoreDirtyRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StoreScoreDirtyListenerTest {
+
+    private StoreScoreDirtyRepository storeScoreDirtyRepository;
+    private StoreScoreDirtyListener listener;
+
+    @BeforeEach
+    void setUp() {
+        storeScoreDirtyRepository = mock(StoreScoreDirtyRepository.class);
+        listener = new StoreScoreDirtyListener(storeScoreDirtyRepository);
+    }
+
+    @Test
+    void 점수만_바뀐_가게는_재계산_대상으로_등록하지_않는다() {
+        // given
+        Store store = Store.builder().id(1L).honbobLevel(Level.LEVEL_1).build();
+
+        // when
+        store.updateInternalScore(50.0);
+        listener.onUpdate(store);
+
+        // then
+        verify(storeScoreDirtyRepository, never()).mark(any());
+    }
+
+    @Test
+    void 요약이_바뀐_가게는_한_번만_등록한다() {
+        // given
+        Store store = Store.builder().id(1L).honbobLevel(Level.LEVEL_1).build();
+
+        // when
+        store.updateSummary(List.of(Menu.builder().price(9000).build()), List.of());
+        listener.onUpdate(store);
+        listener.onUpdate(store);
+
+        // then
+        verify(storeScoreDirtyRepository).mark(List.of(1L));
+    }
+
+    @Test
+    void 메뉴나_좌석이_바뀌면_소속_가게를_등록한다() {
+        // given
+        Store store = Store.builder().id(7L).build();
+
+        // when
+        listener.onRemove(Menu.builder().store(store).price(9000).build());
+
+        // then
+        verify(storeScoreDirtyRepository).mark(List.of(7L));
+    }
+}
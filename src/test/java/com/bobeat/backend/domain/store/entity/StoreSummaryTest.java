@@ -0,0 +1,60 @@
+package com.bobeat.backend.domain.store.entity;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StoreSummaryTest {
+
+    @Test
+    void 메뉴와_좌석으로_가격_요약과_좌석_비트마스크를_계산한다() {
+        // given
+        Store store = Store.builder().name("store").build();
+        List<Menu> menus = List.of(
+                Menu.builder().name("김치찌개").price(9000).recommend(true).build(),
+                Menu.builder().name("계란말이").price(5000).recommend(false).build(),
+                Menu.builder().name("제육볶음").price(12000).recommend(true).build()
+        );
+        List<SeatOption> seatOptions = List.of(
+                SeatOption.builder().seatType(SeatType.FOR_ONE).build(),
+                SeatOption.builder().seatType(SeatType.BAR_TABLE).build(),
+                SeatOption.builder().seatType(SeatType.FOR_ONE).build()
+        );
+
+        // when
+        store.updateSummary(menus, seatOptions);
+
+        // then
+        assertThat(store.getMinMenuPrice()).isEqualTo(5000);
+        assertThat(store.getMaxMenuPrice()).isEqualTo(12000);
+        assertThat(store.getSignatureMenuPrice()).isEqualTo(9000); // 추천 메뉴 중 최저가
+        assertThat(store.getSeatTypeMask()).isEqualTo(SeatType.FOR_ONE.bit() | SeatType.BAR_TABLE.bit());
+        assertThat(store.hasSummary()).isTrue();
+    }
+
+    @Test
+    void 메뉴와_좌석이_없으면_가격은_null_비트마스크는_0이다() {
+        // given
+        Store store = Store.builder().name("store").build();
+
+        // when
+        store.updateSummary(List.of(), List.of());
+
+        // then
+        assertThat(store.getMinMenuPrice()).isNull();
+        assertThat(store.getSignatureMenuPrice()).isNull();
+        assertThat(store.getSeatTypeMask()).isZero();
+        assertThat(store.hasSummary()).isTrue();
+    }
+
+    @Test
+    void 선택한_좌석_타입과_겹치는_마스크만_반환한다() {
+        // when
+        List<Integer> masks = SeatType.overlappingMasks(SeatType.toMask(List.of(SeatType.FOR_ONE)));
+
+        // then
+        assertThat(masks).hasSize(16)
+                .allMatch(mask -> (mask & SeatType.FOR_ONE.bit()) != 0);
+    }
+}
@@ -0,0 +1,44 @@
+package com.bobeat.backend.domain.store.external.embedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.bobeat.backend.domain.store.external.clova.service.ClovaEmbeddingClient;
+import com.bobeat.backend.domain.store.vo.Embedding;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class ClovaEmbeddingProviderTest {
+
+    @Mock
+    private ClovaEmbeddingClient clovaEmbeddingClient;
+
+    @InjectMocks
+    private ClovaEmbeddingProvider clovaEmbeddingProvider;
+
+    @Test
+    void 빈_응답이_있어도_나머지_임베딩은_원래_자리를_유지한다() {
+        // given - 가운데 텍스트만 빈 응답, 첫 텍스트가 가장 늦게 응답
+        Embedding first = Embedding.of(new float[]{1f});
+        Embedding third = Embedding.of(new float[]{3f});
+        given(clovaEmbeddingClient.getEmbedding("국밥")).willReturn(Mono.just(first).delayElement(Duration.ofMillis(30)));
+        given(clovaEmbeddingClient.getEmbedding("냉면")).willReturn(Mono.empty());
+        given(clovaEmbeddingClient.getEmbedding("돈까스")).willReturn(Mono.just(third));
+
+        // when
+        List<Embedding> embeddings = clovaEmbeddingProvider.embed(List.of("국밥", "냉면", "돈까스")).block();
+
+        // then
+        assertThat(embeddings).hasSize(3);
+        assertThat(embeddings.get(0)).isSameAs(first);
+        assertThat(embeddings.get(1)).isNull();
+        assertThat(embeddings.get(2)).isSameAs(third);
+    }
+}
@@ -0,0 +1,137 @@
+package com.bobeat.backend.domain.store.external.embedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bobeat.backend.domain.store.config.EmbeddingConfig;
+import com.bobeat.backend.domain.store.vo.Embedding;
+import com.bobeat.backend.global.exception.CustomException;
+import com.bobeat.backend.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+class EmbeddingGatewayTest {
+
+    private EmbeddingGateway embeddingGateway;
+
+    @AfterEach
+    void tearDown() {
+        if (embeddingGateway != null) {
+            embeddingGateway.shutdown();
+        }
+    }
+
+    @Test
+    void 같은_텍스트의_동시_요청은_한_번만_제공자에_전달한다() {
+        RecordingProvider provider = new RecordingProvider(Duration.ofMillis(50));
+        embeddingGateway = new EmbeddingGateway(provider, new EmbeddingConfig(), new SimpleMeterRegistry());
+
+        List<CompletableFuture<Embedding>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(embeddingGateway.embedAsync("국밥"));
+        }
+
+        futures.forEach(future -> assertThat(future.join().values()).containsExactly(2f));
+        assertThat(provider.batches).hasSize(1);
+        assertThat(provider.batches.getFirst()).containsExactly("국밥");
+    }
+
+    @Test
+    void 서로_다른_텍스트는_배치_크기만큼_묶어서_전달한다() {
+        EmbeddingConfig config = new EmbeddingConfig();
+        config.setBatchWindowMillis(50L);
+        config.setMaxBatchSize(4);
+        RecordingProvider provider = new RecordingProvider(Duration.ZERO);
+        embeddingGateway = new EmbeddingGateway(provider, config, new SimpleMeterRegistry());
+
+        List<CompletableFuture<Embedding>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(embeddingGateway.embedAsync("메뉴" + i));
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(futures.get(i).join().values()).containsExactly(("메뉴" + i).length());
+        }
+        assertThat(provider.batches).hasSize(3);
+        assertThat(provider.batches).allMatch(batch -> batch.size() <= 4);
+    }
+
+    @Test
+    void 동시_배치_수를_제한한다() {
+        EmbeddingConfig config = new EmbeddingConfig();
+        config.setBatchWindowMillis(1L);
+        config.setMaxBatchSize(1);
+        config.setMaxConcurrency(2);
+        RecordingProvider provider = new RecordingProvider(Duration.ofMillis(30));
+        embeddingGateway = new EmbeddingGateway(provider, config, new SimpleMeterRegistry());
+
+        List<CompletableFuture<Embedding>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(embeddingGateway.embedAsync("가게" + i));
+        }
+
+        futures.forEach(CompletableFuture::join);
+        assertThat(provider.maxConcurrent.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 대기열이_가득_차면_바로_거절한다() {
+        EmbeddingConfig config = new EmbeddingConfig();
+        config.setBatchWindowMillis(1000L);
+        config.setMaxQueueSize(2);
+        embeddingGateway = new EmbeddingGateway(new RecordingProvider(Duration.ZERO), config,
+                new SimpleMeterRegistry());
+
+        embeddingGateway.embedAsync("a");
+        embeddingGateway.embedAsync("b");
+
+        assertThatThrownBy(() -> embeddingGateway.embedSync("c"))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.EMBEDDING_OVERLOADED);
+    }
+
+    /**
+     * 텍스트 길이를 값으로 가진 1차원 벡터를 돌려주고, 받은 배치와 최대 동시 호출 수를 기록
+     */
+    private static class RecordingProvider implements EmbeddingProvider {
+
+        private final Duration latency;
+        private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+        private final AtomicInteger concurrent = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        private RecordingProvider(Duration latency) {
+            this.latency = latency;
+        }
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public int maxBatchSize() {
+            return 16;
+        }
+
+        @Override
+        public Mono<List<Embedding>> embed(List<String> texts) {
+            batches.add(texts);
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            return Mono.delay(latency)
+                    .map(tick -> texts.stream()
+                            .map(text -> Embedding.of(new float[]{text.length()}))
+                            .toList())
+                    .doOnTerminate(concurrent::decrementAndGet);
+        }
+    }
+}
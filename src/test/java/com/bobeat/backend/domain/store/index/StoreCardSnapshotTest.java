@@ -0,0 +1,84 @@
+package com.bobeat.backend.domain.store.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.bobeat.backend.domain.store.config.StoreSearchConfig;
+import com.bobeat.backend.domain.store.dto.StoreCard;
+import com.bobeat.backend.domain.store.repository.StoreRepository;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StoreCardSnapshotTest {
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    private StoreCardSnapshot storeCardSnapshot;
+
+    @BeforeEach
+    void setUp() {
+        storeCardSnapshot = new StoreCardSnapshot(storeRepository, new StoreSearchConfig());
+    }
+
+    @Test
+    void 스냅샷에_없는_가게는_조회_후_채워_넣는다() {
+        // given
+        given(storeRepository.findStoreCards(List.of(1L))).willReturn(Map.of(1L, card(1L)));
+
+        // when
+        storeCardSnapshot.findAll(List.of(1L));
+        Map<Long, StoreCard> result = storeCardSnapshot.findAll(List.of(1L));
+
+        // then
+        assertThat(result).containsOnlyKeys(1L);
+        verify(storeRepository, times(1)).findStoreCards(List.of(1L));
+    }
+
+    @Test
+    void 조회_도중_삭제된_가게는_채워_넣지_않는다() {
+        // given - 조회 결과가 돌아오기 전에 삭제가 커밋됨 (트랜잭션 밖이므로 즉시 반영)
+        given(storeRepository.findStoreCards(List.of(1L))).willAnswer(invocation -> {
+            storeCardSnapshot.remove(1L);
+            return Map.of(1L, card(1L));
+        });
+
+        // when
+        storeCardSnapshot.findAll(List.of(1L));
+        storeCardSnapshot.findAll(List.of(1L));
+
+        // then - 오래된 조회 결과가 스냅샷에 남지 않아 다시 조회
+        verify(storeRepository, times(2)).findStoreCards(List.of(1L));
+    }
+
+    @Test
+    void 조회_도중_스냅샷이_재적재되면_채워_넣지_않는다() {
+        // given
+        given(storeRepository.findAllIds()).willReturn(List.of());
+        given(storeRepository.findStoreCards(List.of(1L))).willAnswer(invocation -> {
+            storeCardSnapshot.rebuild();
+            return Map.of(1L, card(1L));
+        });
+
+        // when
+        storeCardSnapshot.findAll(List.of(1L));
+        storeCardSnapshot.findAll(List.of(1L));
+
+        // then
+        verify(storeRepository, times(2)).findStoreCards(List.of(1L));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private StoreCard card(Long storeId) {
+        return new StoreCard(storeId, "가게" + storeId, null, null, 37.5, 127.0, List.of(), List.of(), 1);
+    }
+}
@@ -0,0 +1,151 @@
+package com.bobeat.backend.domain.store.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.bobeat.backend.domain.member.entity.Level;
+import com.bobeat.backend.domain.store.config.StoreSearchConfig;
+import com.bobeat.backend.domain.store.dto.request.StoreFilteringRequest;
+import com.bobeat.backend.domain.store.entity.SeatType;
+import com.bobeat.backend.domain.store.repository.StoreRepository;
+import com.bobeat.backend.domain.store.repository.query.StoreQueryFilterBuilder;
+import com.bobeat.backend.global.request.CursorPaginationRequest;
+import com.bobeat.backend.global.util.KeysetCursor;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StoreGeoIndexTest {
+
+    // 강남역 좌표
+    private static final double CENTER_LAT = 37.4979;
+    private static final double CENTER_LON = 127.0276;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    private StoreGeoIndex storeGeoIndex;
+
+    @BeforeEach
+    void setUp() {
+        storeGeoIndex = new StoreGeoIndex(storeRepository, new StoreQueryFilterBuilder(), new StoreSearchConfig());
+
+        given(storeRepository.findAllGeoEntries()).willReturn(List.of(
+                new StoreGeoEntry(1L, 37.5013, 127.0296, Level.LEVEL_1, "한식"),   // ~417m
+                new StoreGeoEntry(2L, 37.5065, 127.0547, Level.LEVEL_2, "일식"),   // ~2.5km
+                new StoreGeoEntry(3L, 37.5200, 127.0200, Level.LEVEL_1, "패스트푸드"), // ~2.5km
+                new StoreGeoEntry(4L, 37.4800, 127.0850, Level.LEVEL_3, "한식"),   // ~5.5km
+                new StoreGeoEntry(5L, null, null, Level.LEVEL_1, "한식")           // 위치 없음
+        ));
+        storeGeoIndex.rebuild();
+    }
+
+    @Test
+    void 반경_5km_안의_가게만_거리순으로_반환한다() {
+        List<StoreGeoIndex.GeoHit> hits = storeGeoIndex.search(request(null, null, null), 10);
+
+        assertThat(hits).extracting(StoreGeoIndex.GeoHit::storeId).containsExactly(1L, 3L, 2L);
+        assertThat(hits.get(0).distance()).isBetween(400, 440);
+    }
+
+    @Test
+    void 혼밥레벨과_카테고리_필터를_적용한다() {
+        List<StoreGeoIndex.GeoHit> hits = storeGeoIndex.search(request(List.of(1), List.of("패스트푸드"), null), 10);
+
+        assertThat(hits).extracting(StoreGeoIndex.GeoHit::storeId).containsExactly(3L);
+    }
+
+    @Test
+    void 커서_이후의_가게만_반환한다() {
+        List<StoreGeoIndex.GeoHit> firstPage = storeGeoIndex.search(request(null, null, null), 2);
+        StoreGeoIndex.GeoHit last = firstPage.getLast();
+
+        String cursor = KeysetCursor.encode(last.distance(), last.storeId());
+        List<StoreGeoIndex.GeoHit> nextPage = storeGeoIndex.search(request(null, null, cursor), 2);
+
+        assertThat(nextPage).extracting(StoreGeoIndex.GeoHit::storeId).containsExactly(2L);
+    }
+
+    @Test
+    void BBox_요청은_박스_안의_가게를_반환한다() {
+        StoreFilteringRequest request = new StoreFilteringRequest(
+                new StoreFilteringRequest.BoundingBox(
+                        new StoreFilteringRequest.Coordinate(37.51, 127.02),
+                        new StoreFilteringRequest.Coordinate(37.47, 127.09)
+                ),
+                new StoreFilteringRequest.Coordinate(CENTER_LAT, CENTER_LON),
+                new StoreFilteringRequest.Filters(null, List.of(), null, null),
+                null,
+                null
+        );
+
+        List<StoreGeoIndex.GeoHit> hits = storeGeoIndex.search(request, 10);
+
+        assertThat(hits).extracting(StoreGeoIndex.GeoHit::storeId).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    void 좌석_필터나_추천순_정렬은_인덱스를_사용하지_않는다() {
+        StoreFilteringRequest seatFilter = new StoreFilteringRequest(
+                null,
+                new StoreFilteringRequest.Coordinate(CENTER_LAT, CENTER_LON),
+                new StoreFilteringRequest.Filters(null, List.of(), List.of(SeatType.FOR_ONE), null),
+                null,
+                null
+        );
+        StoreFilteringRequest recommended = new StoreFilteringRequest(
+                null,
+                new StoreFilteringRequest.Coordinate(CENTER_LAT, CENTER_LON),
+                new StoreFilteringRequest.Filters(null, List.of(), null, null),
+                null,
+                StoreFilteringRequest.SortBy.RECOMMENDED
+        );
+
+        assertThat(storeGeoIndex.supports(request(null, null, null))).isTrue();
+        assertThat(storeGeoIndex.supports(seatFilter)).isFalse();
+        assertThat(storeGeoIndex.supports(recommended)).isFalse();
+    }
+
+    @Test
+    void 삭제된_가게는_검색되지_않는다() {
+        storeGeoIndex.remove(1L);
+
+        List<StoreGeoIndex.GeoHit> hits = storeGeoIndex.search(request(null, null, null), 10);
+
+        assertThat(hits).extracting(StoreGeoIndex.GeoHit::storeId).doesNotContain(1L);
+    }
+
+    @Test
+    void 재적재_도중_반영된_변경분은_새_격자에서도_유지된다() {
+        // given - 전체 조회가 끝나기 전에 가게 등록/삭제가 커밋됨
+        given(storeRepository.findAllGeoEntries()).willAnswer(invocation -> {
+            storeGeoIndex.put(new StoreGeoEntry(6L, 37.4985, 127.0280, Level.LEVEL_1, "한식"));
+            storeGeoIndex.remove(1L);
+            return List.of(
+                    new StoreGeoEntry(1L, 37.5013, 127.0296, Level.LEVEL_1, "한식"),
+                    new StoreGeoEntry(2L, 37.5065, 127.0547, Level.LEVEL_2, "일식")
+            );
+        });
+
+        // when
+        storeGeoIndex.rebuild();
+
+        // then
+        List<StoreGeoIndex.GeoHit> hits = storeGeoIndex.search(request(null, null, null), 10);
+        assertThat(hits).extracting(StoreGeoIndex.GeoHit::storeId).containsExactly(6L, 2L);
+    }
+
+    private StoreFilteringRequest request(List<Integer> levels, List<String> categories, String lastKnown) {
+        return new StoreFilteringRequest(
+                null,
+                new StoreFilteringRequest.Coordinate(CENTER_LAT, CENTER_LON),
+                new StoreFilteringRequest.Filters(null, levels == null ? List.of() : levels, null, categories),
+                lastKnown == null ? null : new CursorPaginationRequest(10, lastKnown),
+                null
+        );
+    }
+}
@@ -0,0 +1,85 @@
+package com.bobeat.backend.domain.store.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.bobeat.backend.domain.store.config.StoreSearchConfig;
+import com.bobeat.backend.domain.store.index.StoreLexicalIndex.LexicalHit;
+import com.bobeat.backend.domain.store.repository.StoreLexicalRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StoreLexicalIndexTest {
+
+    // 강남역 좌표
+    private static final double CENTER_LAT = 37.4979;
+    private static final double CENTER_LON = 127.0276;
+    private static final int RADIUS = 5000;
+
+    @Mock
+    private StoreLexicalRepository storeLexicalRepository;
+
+    private StoreLexicalIndex storeLexicalIndex;
+
+    @BeforeEach
+    void setUp() {
+        storeLexicalIndex = new StoreLexicalIndex(storeLexicalRepository, new StoreSearchConfig());
+
+        given(storeLexicalRepository.findAll()).willReturn(List.of(
+                new StoreLexicalEntry(1L, "혼밥 식당", List.of("김치찌개"), List.of("한식"), 37.5013, 127.0296),
+                new StoreLexicalEntry(2L, "할매국밥", List.of("순대국밥", "수육"), List.of("한식"), 37.5065, 127.0547),
+                new StoreLexicalEntry(3L, "역삼 분식", List.of("떡볶이", "순대"), List.of("분식"), 37.5000, 127.0300),
+                new StoreLexicalEntry(4L, "혼밥식당 2호점", List.of(), List.of("한식"), 37.4800, 127.0850), // ~5.5km
+                new StoreLexicalEntry(5L, "혼밥식당", List.of(), List.of("한식"), null, null)              // 위치 없음
+        ));
+        storeLexicalIndex.rebuild();
+    }
+
+    @Test
+    void 공백과_관계없이_가게명이_일치하면_가장_높은_점수를_준다() {
+        List<LexicalHit> hits = storeLexicalIndex.search("혼밥식당", CENTER_LAT, CENTER_LON, RADIUS, 10);
+
+        // 반경 밖(4)과 위치 없는 가게(5)는 제외
+        assertThat(hits).extracting(LexicalHit::storeId).containsExactly(1L);
+        assertThat(hits.getFirst().score()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 메뉴명_부분_일치는_가게명_일치보다_낮은_점수로_함께_반환한다() {
+        List<LexicalHit> hits = storeLexicalIndex.search("국밥", CENTER_LAT, CENTER_LON, RADIUS, 10);
+
+        // 가게명 포함(0.9)이 메뉴명 포함(0.81)보다 우선
+        assertThat(hits).extracting(LexicalHit::storeId).containsExactly(2L);
+        assertThat(hits.getFirst().score()).isEqualTo(0.9);
+
+        List<LexicalHit> sundae = storeLexicalIndex.search("순대", CENTER_LAT, CENTER_LON, RADIUS, 10);
+        assertThat(sundae).extracting(LexicalHit::storeId).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void 글자가_충분히_겹치지_않으면_후보에서_제외한다() {
+        assertThat(storeLexicalIndex.search("파스타", CENTER_LAT, CENTER_LON, RADIUS, 10)).isEmpty();
+        assertThat(storeLexicalIndex.search("밥", CENTER_LAT, CENTER_LON, RADIUS, 10)).isEmpty();
+    }
+
+    @Test
+    void 커밋_이후_반영된_변경분을_재적재_전에도_검색한다() {
+        // given
+        given(storeLexicalRepository.findByStoreIds(List.of(6L))).willReturn(List.of(
+                new StoreLexicalEntry(6L, "새로 연 라멘집", List.of("돈코츠라멘"), List.of("일식"), 37.4990, 127.0280)));
+
+        // when - 트랜잭션 밖이므로 바로 반영
+        storeLexicalIndex.refresh(6L);
+        storeLexicalIndex.remove(1L);
+
+        // then
+        assertThat(storeLexicalIndex.search("라멘", CENTER_LAT, CENTER_LON, RADIUS, 10))
+                .extracting(LexicalHit::storeId).containsExactly(6L);
+        assertThat(storeLexicalIndex.search("혼밥식당", CENTER_LAT, CENTER_LON, RADIUS, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,196 @@
+package com.bobeat.backend.domain.store.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import com.bobeat.backend.domain.store.config.StoreSearchConfig;
+import com.bobeat.backend.domain.store.repository.StoreEmbeddingRepository;
+import com.bobeat.backend.domain.store.vo.Embedding;
+import com.bobeat.backend.global.util.KeysetCursor;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+class StoreVectorIndexTest {
+
+    private static final int STORE_COUNT = 2000;
+    private static final int DIMENSION = 64;
+    private static final int CLUSTERS = 20;
+
+    @Mock
+    private StoreEmbeddingRepository storeEmbeddingRepository;
+
+    private StoreVectorIndex storeVectorIndex;
+    private float[][] centroids;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(7);
+        centroids = new float[CLUSTERS][];
+        for (int i = 0; i < CLUSTERS; i++) {
+            centroids[i] = gaussian(1.0f, null);
+        }
+
+        List<StoreVectorEntry> entries = new ArrayList<>();
+        for (long id = 1; id <= STORE_COUNT; id++) {
+            entries.add(new StoreVectorEntry(id, clusteredVector()));
+        }
+
+        StoreSearchConfig config = new StoreSearchConfig();
+        config.getVectorIndex().setLoadChunkSize(STORE_COUNT);
+        storeVectorIndex = new StoreVectorIndex(storeEmbeddingRepository, config);
+
+        given(storeEmbeddingRepository.findCompletedVectorsAfter(eq(0L), any(Limit.class))).willReturn(entries);
+        given(storeEmbeddingRepository.findCompletedVectorsAfter(eq((long) STORE_COUNT), any(Limit.class)))
+                .willReturn(List.of());
+        storeVectorIndex.rebuild();
+    }
+
+    @Test
+    void 근사_검색_결과가_전수_비교_결과와_대부분_일치한다() {
+        HnswIndex exact = buildReferenceIndex();
+        int matched = 0;
+        int total = 0;
+
+        for (int q = 0; q < 50; q++) {
+            Embedding query = Embedding.of(clusteredVector());
+            Set<Long> expected = new HashSet<>();
+            exact.exactSearch(query, 10).forEach(hit -> expected.add(hit.id()));
+
+            for (StoreVectorIndex.VectorHit hit : storeVectorIndex.search(query, null, 10)) {
+                if (expected.contains(hit.storeId())) {
+                    matched++;
+                }
+            }
+            total += expected.size();
+        }
+
+        assertThat((double) matched / total).isGreaterThanOrEqualTo(0.95);
+    }
+
+    @Test
+    void 커서보다_먼_가게만_거리순으로_반환한다() {
+        Embedding query = Embedding.of(clusteredVector());
+        List<StoreVectorIndex.VectorHit> firstPage = storeVectorIndex.search(query, null, 20);
+        StoreVectorIndex.VectorHit last = firstPage.getLast();
+        KeysetCursor.VectorCursor cursor = new KeysetCursor.VectorCursor(last.distance(), last.storeId());
+
+        List<StoreVectorIndex.VectorHit> nextPage = storeVectorIndex.search(query, cursor, 20);
+
+        assertThat(nextPage).hasSize(20);
+        assertThat(nextPage).allMatch(hit -> hit.distance() > cursor.distance());
+        assertThat(nextPage).isSortedAccordingTo((a, b) -> Double.compare(a.distance(), b.distance()));
+    }
+
+    @Test
+    void 거리가_같은_가게는_가게_id_순으로_이어서_반환한다() {
+        float[] duplicated = clusteredVector();
+        for (long storeId = 1; storeId <= 5; storeId++) {
+            storeVectorIndex.put(storeId, Embedding.of(duplicated));
+        }
+        Embedding query = Embedding.of(duplicated);
+        List<StoreVectorIndex.VectorHit> firstPage = storeVectorIndex.search(query, null, 3);
+        StoreVectorIndex.VectorHit last = firstPage.getLast();
+
+        List<StoreVectorIndex.VectorHit> nextPage = storeVectorIndex.search(query,
+                new KeysetCursor.VectorCursor(last.distance(), last.storeId()), 2);
+
+        assertThat(firstPage).extracting(StoreVectorIndex.VectorHit::storeId).containsExactly(1L, 2L, 3L);
+        assertThat(nextPage).extracting(StoreVectorIndex.VectorHit::storeId).containsExactly(4L, 5L);
+    }
+
+    @Test
+    void 삭제된_가게는_검색되지_않고_갱신된_임베딩으로_검색된다() {
+        float[] target = clusteredVector();
+        storeVectorIndex.put(1L, Embedding.of(target));
+        storeVectorIndex.remove(2L);
+
+        List<StoreVectorIndex.VectorHit> hits = storeVectorIndex.search(Embedding.of(target), null, 10);
+
+        assertThat(hits.getFirst().storeId()).isEqualTo(1L);
+        assertThat(hits).extracting(StoreVectorIndex.VectorHit::storeId).doesNotContain(2L);
+    }
+
+    @Test
+    void 삭제_표시된_노드가_탐색_후보를_차지해도_페이지를_채운다() {
+        // given - 질의와 같은 임베딩 80개 중 70개 삭제 (갱신 80 + 삭제 70 = 삭제 표시 150개가 질의 바로 옆에 몰림)
+        float[] target = clusteredVector();
+        for (long storeId = 1; storeId <= 80; storeId++) {
+            storeVectorIndex.put(storeId, Embedding.of(target));
+        }
+        for (long storeId = 1; storeId <= 70; storeId++) {
+            storeVectorIndex.remove(storeId);
+        }
+
+        // when
+        List<StoreVectorIndex.VectorHit> hits = storeVectorIndex.search(Embedding.of(target), null, 20);
+
+        // then
+        assertThat(hits).hasSize(20);
+        assertThat(hits.subList(0, 10)).extracting(StoreVectorIndex.VectorHit::storeId)
+                .containsExactly(71L, 72L, 73L, 74L, 75L, 76L, 77L, 78L, 79L, 80L);
+    }
+
+    @Test
+    void 재구축_도중_반영된_변경분은_새_인덱스에서도_유지된다() {
+        // given - 전체 조회가 끝나기 전에 임베딩 저장/가게 삭제가 커밋됨
+        float[] target = clusteredVector();
+        List<StoreVectorEntry> entries = storeEmbeddingRepository.findCompletedVectorsAfter(0L, Limit.of(STORE_COUNT));
+        given(storeEmbeddingRepository.findCompletedVectorsAfter(eq(0L), any(Limit.class))).willAnswer(invocation -> {
+            storeVectorIndex.put(1L, Embedding.of(target));
+            storeVectorIndex.remove(2L);
+            return entries;
+        });
+
+        // when
+        storeVectorIndex.rebuild();
+
+        // then
+        List<StoreVectorIndex.VectorHit> hits = storeVectorIndex.search(Embedding.of(target), null, 10);
+        assertThat(hits.getFirst().storeId()).isEqualTo(1L);
+        assertThat(storeVectorIndex.rankCandidates(1L, List.of(2L), 1)).isEmpty();
+    }
+
+    @Test
+    void 후보_가게를_기준_가게와의_거리순으로_정렬한다() {
+        List<StoreVectorIndex.VectorHit> hits = storeVectorIndex.rankCandidates(1L, List.of(2L, 3L, 4L, 5L, 99_999L), 3);
+
+        assertThat(hits).hasSize(3);
+        assertThat(hits).isSortedAccordingTo((a, b) -> Double.compare(a.distance(), b.distance()));
+        assertThat(storeVectorIndex.rankCandidates(99_999L, List.of(2L), 3)).isEmpty();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private HnswIndex buildReferenceIndex() {
+        HnswIndex reference = new HnswIndex(16, 128);
+        for (StoreVectorEntry entry : storeEmbeddingRepository.findCompletedVectorsAfter(0L, Limit.of(STORE_COUNT))) {
+            reference.add(entry.storeId(), Embedding.of(entry.embedding()));
+        }
+        return reference;
+    }
+
+    private float[] clusteredVector() {
+        return gaussian(0.5f, centroids[random.nextInt(CLUSTERS)]);
+    }
+
+    private float[] gaussian(float scale, float[] center) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (center != null ? center[i] : 0.0f) + (float) random.nextGaussian() * scale;
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,58 @@
+package com.bobeat.backend.domain.store.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bobeat.backend.domain.member.entity.Level;
+import com.bobeat.backend.domain.store.entity.EmbeddingStatus;
+import com.bobeat.backend.domain.store.entity.Store;
+import com.bobeat.backend.domain.store.entity.StoreEmbeddingJob;
+import com.bobeat.backend.domain.store.vo.Address;
+import com.bobeat.backend.global.db.PostgreSQLTestContainer;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@PostgreSQLTestContainer
+@Transactional
+class StoreBulkImportRepositoryTest {
+
+    @Autowired
+    private StoreBulkImportRepository storeBulkImportRepository;
+
+    @Autowired
+    private StoreEmbeddingJobRepository storeEmbeddingJobRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void 대량_등록한_임베딩_작업은_선점_토큰_0으로_등록되고_선점할_수_있다() {
+        // given
+        Store store = storeRepository.save(Store.builder()
+                .name("대량 등록 가게")
+                .address(Address.builder().address("서울").latitude(37.5).longitude(127.0).build())
+                .honbobLevel(Level.LEVEL_1)
+                .build());
+        entityManager.flush();
+
+        // when
+        storeBulkImportRepository.insertEmbeddingJobs(List.of(store.getId()), LocalDateTime.now());
+
+        // then
+        entityManager.clear();
+        StoreEmbeddingJob job = storeEmbeddingJobRepository.findByStoreId(store.getId()).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(EmbeddingStatus.PENDING);
+        assertThat(job.getClaimToken()).isZero();
+
+        job.start(LocalDateTime.now());
+        assertThat(job.isClaimedBy(1L)).isTrue();
+    }
+}
@@ -0,0 +1,134 @@
+package com.bobeat.backend.domain.store.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bobeat.backend.domain.store.dto.request.StoreFilteringRequest;
+import com.bobeat.backend.domain.store.entity.SeatType;
+import com.bobeat.backend.global.db.PostgreSQLTestContainer;
+import com.bobeat.backend.global.db.SyntheticStoreSeeder;
+import com.bobeat.backend.global.request.CursorPaginationRequest;
+import com.bobeat.backend.global.util.KeysetCursor;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 가격/좌석 필터 검색 벤치마크
+ * <p>
+ * 가게 수를 1천 → 1백만으로 늘리면서 가격 + 좌석 필터가 걸린 한 페이지 조회 지연시간을 측정한다.
+ * 가게 밀도(반경 5km 안의 가게 수)는 고정하고 전체 면적만 넓혀, 전체 데이터 크기에 비례하는 비용이 있는지 확인한다.
+ * <p>
+ * 실행: ./gradlew benchmarkTest (기본 test 태스크에서는 제외)
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        // 인메모리 인덱스/스냅샷 재적재가 측정에 끼어들지 않도록 비활성화
+        "store.search.geo-index.enabled=false",
+        "store.search.card-snapshot.enabled=false"
+})
+@PostgreSQLTestContainer
+@DisplayName("가격/좌석 필터 검색 벤치마크")
+class StoreFilteredSearchBenchmarkTest {
+
+    private static final int[] STORE_COUNTS = {1_000, 10_000, 100_000, 1_000_000};
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 100;
+    private static final int PAGE_SIZE = 20;
+
+    private static final double CENTER_LAT = 37.4979;
+    private static final double CENTER_LON = 127.0276;
+    // 가게 1천 개 기준 한 변 0.2도(약 20km) 정사각형, 가게 수에 맞춰 면적을 늘려 밀도 유지
+    private static final double BASE_SPAN_DEGREES = 0.2;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StoreRepositoryImpl storeRepositoryImpl;
+
+    @Test
+    @DisplayName("가게 수가 늘어나도 가격/좌석 필터 검색의 페이지 지연시간이 일정하게 유지된다")
+    void 가게_수에_따른_필터_검색_지연시간() {
+        SyntheticStoreSeeder seeder = new SyntheticStoreSeeder(jdbcTemplate);
+        seeder.createLocationIndex();
+
+        Map<Integer, long[]> firstPageLatencies = new LinkedHashMap<>();
+        for (int storeCount : STORE_COUNTS) {
+            seeder.seedStores(storeCount, CENTER_LAT, CENTER_LON, BASE_SPAN_DEGREES * Math.sqrt(storeCount / 1_000.0));
+
+            StoreFilteringRequest firstPage = request(null);
+            String deepCursor = cursorAfterPages(5);
+
+            long[] first = measure(firstPage);
+            long[] deep = measure(request(deepCursor));
+            firstPageLatencies.put(storeCount, first);
+
+            log.info("[benchmark] stores={} firstPage p50={}us p99={}us | page6 p50={}us p99={}us",
+                    storeCount, percentile(first, 50), percentile(first, 99),
+                    percentile(deep, 50), percentile(deep, 99));
+        }
+
+        // 1백만 건에서도 1천 건 대비 p50이 크게 늘지 않아야 함 (컨테이너 노이즈를 감안한 여유값)
+        long smallest = percentile(firstPageLatencies.get(STORE_COUNTS[0]), 50);
+        long largest = percentile(firstPageLatencies.get(STORE_COUNTS[STORE_COUNTS.length - 1]), 50);
+        assertThat(largest).isLessThan(Math.max(smallest * 5, 20_000L));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private String cursorAfterPages(int pages) {
+        String cursor = null;
+        for (int i = 0; i < pages; i++) {
+            List<StoreRepositoryCustom.StoreRow> rows = storeRepositoryImpl.findStoresSlice(request(cursor), PAGE_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+            var last = rows.getLast();
+            cursor = KeysetCursor.encode(last.distance(), last.store().getId());
+        }
+        return cursor;
+    }
+
+    private long[] measure(StoreFilteringRequest request) {
+        for (int i = 0; i < WARMUP; i++) {
+            storeRepositoryImpl.findStoresSlice(request, PAGE_SIZE + 1);
+        }
+        long[] micros = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            storeRepositoryImpl.findStoresSlice(request, PAGE_SIZE + 1);
+            micros[i] = (System.nanoTime() - start) / 1_000;
+        }
+        Arrays.sort(micros);
+        return micros;
+    }
+
+    private long percentile(long[] sorted, int p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private StoreFilteringRequest request(String lastKnown) {
+        return new StoreFilteringRequest(
+                null,
+                new StoreFilteringRequest.Coordinate(CENTER_LAT, CENTER_LON),
+                new StoreFilteringRequest.Filters(
+                        new StoreFilteringRequest.PriceRange(8000, 15000),
+                        null,
+                        List.of(SeatType.FOR_ONE),
+                        null
+                ),
+                lastKnown == null ? null : new CursorPaginationRequest(PAGE_SIZE, lastKnown),
+                null
+        );
+    }
+}
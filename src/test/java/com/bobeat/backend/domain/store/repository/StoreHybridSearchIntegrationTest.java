@@ -0,0 +1,152 @@
+package com.bobeat.backend.domain.store.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.bobeat.backend.domain.member.entity.Level;
+import com.bobeat.backend.domain.store.entity.EmbeddingStatus;
+import com.bobeat.backend.domain.store.entity.Store;
+import com.bobeat.backend.domain.store.entity.StoreEmbedding;
+import com.bobeat.backend.domain.store.repository.StoreRepositoryCustom.ScoredSearchResult;
+import com.bobeat.backend.domain.store.service.CompositeScoreCalculator;
+import com.bobeat.backend.domain.store.vo.Address;
+import com.bobeat.backend.domain.store.vo.Embedding;
+import com.bobeat.backend.global.db.PostgreSQLTestContainer;
+import com.bobeat.backend.global.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@PostgreSQLTestContainer
+@Transactional
+class StoreHybridSearchIntegrationTest {
+
+    private static final GeometryFactory GF = new GeometryFactory(new PrecisionModel(), 4326);
+    private static final double CENTER_LAT = 33.45;
+    private static final double CENTER_LON = 126.56;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private StoreEmbeddingRepository storeEmbeddingRepository;
+
+    @Autowired
+    private CompositeScoreCalculator compositeScoreCalculator;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final Embedding query = Embedding.of(vector(1.0f, 1.0f));
+
+    private Store nearSimilar;
+    private Store nearDissimilar;
+    private Store midSimilar;
+    private Store farSimilar;
+
+    @BeforeEach
+    void setUp() {
+        nearSimilar = store("가까운 비슷한 가게", CENTER_LAT + 0.0045, vector(1.0f, 1.0f));     // 약 500m
+        nearDissimilar = store("가까운 다른 가게", CENTER_LAT + 0.0027, vector(1.0f, -1.0f));  // 약 300m
+        midSimilar = store("조금 먼 비슷한 가게", CENTER_LAT + 0.018, vector(1.0f, 1.0f));     // 약 2km
+        farSimilar = store("반경 밖 비슷한 가게", CENTER_LAT + 0.09, vector(1.0f, 1.0f));      // 약 10km
+        entityManager.flush();
+    }
+
+    @Test
+    void 반경_안의_가게만_유사도_거리_내부점수를_합친_순서로_반환한다() {
+        // when
+        List<ScoredSearchResult> results = storeRepository.findHybridSearchResults(query, CENTER_LAT, CENTER_LON,
+                null, 10);
+
+        // then - 가장 가깝지만 내용이 다른 가게보다 조금 멀어도 비슷한 가게가 앞선다
+        assertThat(results).extracting(result -> result.result().id())
+                .containsExactly(nearSimilar.getId(), midSimilar.getId(), nearDissimilar.getId());
+        assertThat(results.getFirst().result().distance()).isBetween(400, 600);
+        assertThat(results).extracting(ScoredSearchResult::score).isSortedAccordingTo((a, b) -> Double.compare(b, a));
+    }
+
+    @Test
+    void 점수_커서로_이어서_조회하면_빠지거나_반복되는_가게가_없다() {
+        // given
+        List<Long> seen = new ArrayList<>();
+        KeysetCursor.ScoreCursor cursor = null;
+
+        // when - 한 개씩 페이지 조회
+        for (int page = 0; page < 5; page++) {
+            List<ScoredSearchResult> rows = storeRepository.findHybridSearchResults(query, CENTER_LAT, CENTER_LON,
+                    cursor, 2);
+            if (rows.isEmpty()) {
+                break;
+            }
+            ScoredSearchResult current = rows.getFirst();
+            seen.add(current.result().id());
+            if (rows.size() < 2) {
+                break;
+            }
+            cursor = KeysetCursor.decodeScoreOrNull(KeysetCursor.encodeScore(current.score(), current.result().id()));
+        }
+
+        // then
+        assertThat(seen).containsExactly(nearSimilar.getId(), midSimilar.getId(), nearDissimilar.getId());
+        assertThat(seen).doesNotContain(farSimilar.getId());
+    }
+
+    @Test
+    void SQL_하이브리드_점수는_Java_계산과_같다() {
+        // given
+        Map<Long, float[]> embeddings = Map.of(
+                nearSimilar.getId(), vector(1.0f, 1.0f),
+                nearDissimilar.getId(), vector(1.0f, -1.0f),
+                midSimilar.getId(), vector(1.0f, 1.0f));
+
+        // when
+        List<ScoredSearchResult> results = storeRepository.findHybridSearchResults(query, CENTER_LAT, CENTER_LON,
+                null, 10);
+
+        // then - 거리는 SQL이 반올림한 값, 코사인 거리는 float 누적 오차만큼 허용
+        assertThat(results).hasSize(3);
+        for (ScoredSearchResult result : results) {
+            double expected = compositeScoreCalculator.calculateHybrid(null, result.result().distance(),
+                    query.cosineDistance(embeddings.get(result.result().id())));
+            assertThat(result.score()).isCloseTo(expected, within(1e-4));
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private Store store(String name, double lat, float[] embedding) {
+        Point point = GF.createPoint(new Coordinate(CENTER_LON, lat));
+        point.setSRID(4326);
+        Store store = storeRepository.save(Store.builder()
+                .name(name)
+                .address(Address.builder().address("제주").latitude(lat).longitude(CENTER_LON).location(point).build())
+                .honbobLevel(Level.LEVEL_2)
+                .build());
+        storeEmbeddingRepository.save(StoreEmbedding.builder()
+                .store(store)
+                .embedding(embedding)
+                .embeddingStatus(EmbeddingStatus.COMPLETED)
+                .build());
+        return store;
+    }
+
+    private static float[] vector(float seed, float sign) {
+        float[] vector = new float[1024];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = sign * (float) Math.sin(seed + i * 0.01f);
+        }
+        return vector;
+    }
+}
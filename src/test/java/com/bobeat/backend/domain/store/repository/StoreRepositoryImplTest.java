@@ -3,8 +3,11 @@ package com.bobeat.backend.domain.store.repository;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.bobeat.backend.domain.member.entity.Level;
+import com.bobeat.backend.domain.store.dto.StoreCard;
 import com.bobeat.backend.domain.store.dto.request.StoreFilteringRequest;
+import com.bobeat.backend.domain.store.dto.response.StoreSearchResultDto;
 import com.bobeat.backend.domain.store.entity.*;
+import com.bobeat.backend.domain.store.service.StoreSummaryService;
 import com.bobeat.backend.domain.store.vo.Address;
 import com.bobeat.backend.domain.store.vo.Categories;
 import com.bobeat.backend.global.db.PostgreSQLTestContainer;
@@ -12,6 +15,7 @@ import com.bobeat.backend.global.request.CursorPaginationRequest;
 import com.bobeat.backend.global.util.KeysetCursor;
 import jakarta.transaction.Transactional;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -58,6 +62,9 @@ public class StoreRepositoryImplTest {
     @Autowired
     private PrimaryCategoryRepository primaryCategoryRepository;
 
+    @Autowired
+    private StoreSummaryService storeSummaryService;
+
     private static final GeometryFactory GF = new GeometryFactory(new PrecisionModel(), 4326);
 
     // 강남역 좌표 (37.4979, 127.0276)
@@ -147,6 +154,9 @@ public class StoreRepositoryImplTest {
         );
         createMenu(storeE, "오마카세", 50000, true);
         createSeatOption(storeE, SeatType.FOR_FOUR);
+
+        // 가격/좌석 필터가 사용하는 메뉴/좌석 요약 컬럼 채우기
+        storeSummaryService.applySummaries(List.of(storeA, storeB, storeC, storeD, storeE));
     }
 
     // ==================== 필터링 테스트 ====================
@@ -891,6 +901,98 @@ public class StoreRepositoryImplTest {
         }
     }
 
+    // ==================== 검색 카드 테스트 ====================
+
+    @Nested
+    @DisplayName("검색 카드 조회 테스트")
+    class StoreCardTests {
+
+        @Test
+        @DisplayName("대표 메뉴(추천 우선, 저가순)와 좌석 타입, 태그를 함께 조회")
+        void testFindStoreCards() {
+            // when
+            Map<Long, StoreCard> cards = storeRepositoryImpl.findStoreCards(List.of(storeA.getId(), storeB.getId()));
+
+            // then
+            StoreCard cardA = cards.get(storeA.getId());
+            assertThat(cardA.name()).isEqualTo("Store A");
+            assertThat(cardA.signatureMenu().name()).isEqualTo("김치찌개");
+            assertThat(cardA.seatTypes()).containsExactlyInAnyOrder("FOR_ONE", "FOR_TWO");
+            assertThat(cardA.tags()).containsExactly("한식");
+            assertThat(cardA.honbobLevel()).isEqualTo(1);
+
+            StoreCard cardB = cards.get(storeB.getId());
+            assertThat(cardB.signatureMenu().name()).isEqualTo("초밥세트");
+            assertThat(cardB.thumbnailUrl()).isNull();
+        }
+
+        @Test
+        @DisplayName("빈 ID 목록은 빈 결과 반환")
+        void testFindStoreCards_Empty() {
+            assertThat(storeRepositoryImpl.findStoreCards(List.of())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("단일 네이티브 쿼리 검색 테스트")
+    class NativeSearchTests {
+
+        @Test
+        @DisplayName("가격/좌석 필터 결과가 기존 슬라이스 조회와 동일한 순서로 반환")
+        void testFindStoreSearchResults_SameAsSlice() {
+            // given
+            List<StoreFilteringRequest> requests = List.of(
+                createRequest(null, centerAt(CENTER_LAT, CENTER_LON),
+                    new StoreFilteringRequest.Filters(new StoreFilteringRequest.PriceRange(8000, 15000), null, null, null),
+                    null, null),
+                createRequest(null, centerAt(CENTER_LAT, CENTER_LON),
+                    new StoreFilteringRequest.Filters(null, List.of(1), List.of(SeatType.FOR_ONE), List.of("한식", "패스트푸드")),
+                    null, null),
+                createRequest(null, centerAt(CENTER_LAT, CENTER_LON),
+                    new StoreFilteringRequest.Filters(null, null, null, null),
+                    null, StoreFilteringRequest.SortBy.RECOMMENDED)
+            );
+
+            for (StoreFilteringRequest request : requests) {
+                // when
+                List<StoreSearchResultDto> results = storeRepositoryImpl.findStoreSearchResults(request, 20);
+                List<StoreRepositoryCustom.StoreRow> slice = storeRepositoryImpl.findStoresSlice(request, 20);
+
+                // then
+                assertThat(results)
+                    .extracting(StoreSearchResultDto::id)
+                    .containsExactlyElementsOf(slice.stream().map(row -> row.store().getId()).toList());
+                assertThat(results)
+                    .extracting(StoreSearchResultDto::distance)
+                    .containsExactlyElementsOf(slice.stream().map(StoreRepositoryCustom.StoreRow::distance).toList());
+            }
+        }
+
+        @Test
+        @DisplayName("대표 메뉴와 좌석 타입, 태그를 같은 쿼리에서 채운다")
+        void testFindStoreSearchResults_CardFields() {
+            // given
+            StoreFilteringRequest request = createRequest(
+                null,
+                centerAt(CENTER_LAT, CENTER_LON),
+                new StoreFilteringRequest.Filters(null, List.of(1), List.of(SeatType.FOR_ONE), List.of("한식")),
+                null,
+                null
+            );
+
+            // when
+            List<StoreSearchResultDto> results = storeRepositoryImpl.findStoreSearchResults(request, 20);
+
+            // then
+            StoreSearchResultDto resultA = results.getFirst();
+            assertThat(resultA.name()).isEqualTo("Store A");
+            assertThat(resultA.signatureMenu().name()).isEqualTo("김치찌개");
+            assertThat(resultA.seatTypes()).containsExactlyInAnyOrder("FOR_ONE", "FOR_TWO");
+            assertThat(resultA.tags()).containsExactly("한식");
+            assertThat(resultA.honbobLevel()).isEqualTo(1);
+        }
+    }
+
     // ==================== Helper Methods ====================
 
     private Store createStore(String name, double lat, double lon, Level honbobLevel,
@@ -0,0 +1,123 @@
+package com.bobeat.backend.domain.store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bobeat.backend.domain.member.entity.Level;
+import com.bobeat.backend.domain.store.dto.response.StoreBulkImportResponse;
+import com.bobeat.backend.domain.store.entity.PrimaryCategory;
+import com.bobeat.backend.domain.store.entity.SeatType;
+import com.bobeat.backend.domain.store.entity.Store;
+import com.bobeat.backend.domain.store.repository.PrimaryCategoryRepository;
+import com.bobeat.backend.domain.store.repository.StoreRepository;
+import com.bobeat.backend.domain.store.vo.Address;
+import com.bobeat.backend.domain.store.vo.Categories;
+import com.bobeat.backend.global.db.PostgreSQLTestContainer;
+import com.bobeat.backend.global.exception.ErrorCode;
+import jakarta.persistence.EntityManager;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@PostgreSQLTestContainer
+@Transactional
+class StoreBulkImportServiceIntegrationTest {
+
+    private static final String HEADER =
+            "name,address,latitude,longitude,phoneNumber,description,honbobLevel,primaryCategory,storeImages,menus,seatOptions\n";
+
+    @Autowired
+    private StoreBulkImportService storeBulkImportService;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private PrimaryCategoryRepository primaryCategoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        PrimaryCategory category = primaryCategoryRepository.findByPrimaryType("한식")
+                .orElseGet(() -> primaryCategoryRepository.save(PrimaryCategory.builder().primaryType("한식").build()));
+
+        storeRepository.save(Store.builder()
+                .name("기존 국밥집")
+                .address(Address.builder().address("서울").latitude(37.51).longitude(127.01).build())
+                .honbobLevel(Level.LEVEL_1)
+                .categories(new Categories(category, null))
+                .build());
+        entityManager.flush();
+    }
+
+    @Test
+    void CSV로_등록한_가게의_모든_테이블_행을_만들고_DB에_있는_가게는_건너뛴다() {
+        // given
+        String csv = HEADER
+                + "대량 국밥집,서울 강남구,37.5,127.0,02-000-0000,든든한 국밥,2,한식,"
+                + "https://a.jpg;https://b.jpg|true,순대국|9000|https://m.jpg;수육|25000|https://n.jpg,FOR_ONE;BAR_TABLE\n"
+                + "기존 국밥집,서울 강남구,37.51,127.01,,,1,한식,"
+                + "https://a.jpg;https://b.jpg|true,국밥|8000|https://m.jpg,FOR_ONE\n";
+        MockMultipartFile file = new MockMultipartFile("file", "stores.csv", "text/csv",
+                csv.getBytes(StandardCharsets.UTF_8));
+
+        // when
+        StoreBulkImportResponse response = storeBulkImportService.importCsv(file);
+
+        // then - 응답
+        assertThat(response.requested()).isEqualTo(2);
+        assertThat(response.created()).isEqualTo(1);
+        assertThat(response.skipped()).hasSize(1);
+        assertThat(response.skipped().get(0).row()).isEqualTo(2);
+        assertThat(response.skipped().get(0).reason()).isEqualTo(ErrorCode.DUPLICATE_STORE_NAME.getMessage());
+        Long storeId = response.storeIds().get(0);
+
+        // then - store (요약 컬럼과 위치까지)
+        Map<String, Object> store = jdbcTemplate.queryForMap("""
+                SELECT name, honbob_level, min_menu_price, max_menu_price, signature_menu_price, seat_type_mask,
+                       location IS NOT NULL AS has_location
+                FROM store WHERE id = ?
+                """, storeId);
+        assertThat(store.get("name")).isEqualTo("대량 국밥집");
+        assertThat(store.get("honbob_level")).isEqualTo(Level.LEVEL_2.ordinal());
+        assertThat(store.get("min_menu_price")).isEqualTo(9000);
+        assertThat(store.get("max_menu_price")).isEqualTo(25000);
+        assertThat(store.get("signature_menu_price")).isEqualTo(9000);
+        assertThat(store.get("seat_type_mask"))
+                .isEqualTo(SeatType.toMask(List.of(SeatType.FOR_ONE, SeatType.BAR_TABLE)));
+        assertThat(store.get("has_location")).isEqualTo(true);
+
+        // then - 하위 테이블
+        assertThat(jdbcTemplate.queryForList("SELECT price FROM menu WHERE store_id = ? ORDER BY price",
+                Integer.class, storeId)).containsExactly(9000, 25000);
+        assertThat(jdbcTemplate.queryForList("SELECT seat_type FROM seat_option WHERE store_id = ? ORDER BY seat_type",
+                String.class, storeId)).containsExactly("BAR_TABLE", "FOR_ONE");
+        assertThat(jdbcTemplate.queryForList("SELECT is_main FROM store_image WHERE store_id = ? ORDER BY id",
+                Boolean.class, storeId)).containsExactly(false, true);
+
+        // then - 점수 재계산 대상과 임베딩 작업
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM store_score_dirty WHERE store_id = ?",
+                Integer.class, storeId)).isEqualTo(1);
+        Map<String, Object> job = jdbcTemplate.queryForMap(
+                "SELECT status, attempts, claim_token FROM store_embedding_job WHERE store_id = ?", storeId);
+        assertThat(job.get("status")).isEqualTo("PENDING");
+        assertThat(job.get("attempts")).isEqualTo(0);
+        assertThat(job.get("claim_token")).isEqualTo(0L);
+
+        // then - 건너뛴 가게는 새로 등록되지 않음
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM store WHERE name = ?",
+                Integer.class, "기존 국밥집")).isEqualTo(1);
+    }
+}
@@ -0,0 +1,91 @@
+package com.bobeat.backend.domain.store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.bobeat.backend.domain.store.config.StoreSearchConfig;
+import com.bobeat.backend.domain.store.config.StoreSearchConfig.PgvectorIndex.IndexType;
+import com.bobeat.backend.domain.store.repository.StoreEmbeddingIndexRepository;
+import com.bobeat.backend.domain.store.repository.StoreEmbeddingIndexRepository.IndexInfo;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StoreEmbeddingIndexServiceTest {
+
+    private static final String HNSW_DEFINITION = "CREATE INDEX idx_store_embedding_ann ON public.store_embedding "
+            + "USING hnsw (embedding vector_cosine_ops) WITH (m='16', ef_construction='64')";
+
+    @Mock
+    private StoreEmbeddingIndexRepository indexRepository;
+
+    private StoreSearchConfig searchConfig;
+    private StoreEmbeddingIndexService indexService;
+
+    @BeforeEach
+    void setUp() {
+        searchConfig = new StoreSearchConfig();
+        indexService = new StoreEmbeddingIndexService(indexRepository, searchConfig);
+    }
+
+    @Test
+    void 설정과_같은_유효한_인덱스가_있으면_재구축하지_않는다() {
+        given(indexRepository.findIndex(StoreEmbeddingIndexService.INDEX_NAME))
+                .willReturn(Optional.of(new IndexInfo(HNSW_DEFINITION, true, 1024L)));
+
+        indexService.ensureIndexOnStartup();
+
+        verify(indexRepository, never()).createIndexConcurrently(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void 인덱스_설정이_바뀌면_새_인덱스를_만든_뒤_교체한다() {
+        searchConfig.getPgvectorIndex().setType(IndexType.IVFFLAT);
+        searchConfig.getPgvectorIndex().setLists(200);
+        given(indexRepository.findIndex(StoreEmbeddingIndexService.INDEX_NAME))
+                .willReturn(Optional.of(new IndexInfo(HNSW_DEFINITION, true, 1024L)));
+
+        indexService.ensureIndexOnStartup();
+
+        verify(indexRepository).createIndexConcurrently(
+                eq("idx_store_embedding_ann_new"),
+                eq("ivfflat (embedding vector_cosine_ops) WITH (lists = 200)"),
+                anyString());
+        verify(indexRepository).swapIndex("idx_store_embedding_ann_new", "idx_store_embedding_ann");
+    }
+
+    @Test
+    void 구축이_중단되어_유효하지_않은_인덱스는_다시_만든다() {
+        given(indexRepository.findIndex(StoreEmbeddingIndexService.INDEX_NAME))
+                .willReturn(Optional.of(new IndexInfo(HNSW_DEFINITION, false, 0L)));
+
+        indexService.ensureIndexOnStartup();
+
+        verify(indexRepository).dropIndexConcurrently("idx_store_embedding_ann_new");
+        verify(indexRepository).createIndexConcurrently(
+                eq("idx_store_embedding_ann_new"),
+                eq("hnsw (embedding vector_cosine_ops) WITH (m = 16, ef_construction = 64)"),
+                eq("512MB"));
+    }
+
+    @Test
+    void 구축이_실패하면_false를_반환하고_기존_인덱스를_교체하지_않는다() {
+        willThrow(new IllegalStateException("out of memory"))
+                .given(indexRepository).createIndexConcurrently(anyString(), anyString(), anyString());
+
+        boolean built = indexService.rebuild();
+
+        assertThat(built).isFalse();
+        assertThat(indexService.isBuilding()).isFalse();
+        verify(indexRepository, never()).swapIndex(anyString(), anyString());
+    }
+}
@@ -0,0 +1,116 @@
+package com.bobeat.backend.domain.store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bobeat.backend.domain.store.config.StoreScoringConfig;
+import com.bobeat.backend.domain.store.dto.StoreScoreInput;
+import com.bobeat.backend.domain.store.repository.StoreRepository;
+import com.bobeat.backend.global.db.PostgreSQLTestContainer;
+import com.bobeat.backend.global.db.SyntheticStoreSeeder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 가게 점수 병렬 계산 벤치마크
+ * <p>
+ * 가상 가게 10만 개의 점수 입력을 조회해 두고, 순차 계산(parallelism=1)과 병렬 계산의 계산 구간 시간을 비교한다.
+ * 이어서 같은 데이터로 전체 재계산(조회 + 계산 + 배치 UPDATE)의 총 시간도 기록한다.
+ * <p>
+ * 실행: ./gradlew benchmarkTest (기본 test 태스크에서는 제외)
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "store.search.geo-index.enabled=false",
+        "store.search.card-snapshot.enabled=false",
+        "store.scoring.recalculation-chunk-size=10000"
+})
+@PostgreSQLTestContainer
+@DisplayName("가게 점수 병렬 계산 벤치마크")
+class StoreScoreBatchScorerBenchmarkTest {
+
+    private static final int STORE_COUNT = 100_000;
+    private static final int WARMUP = 10;
+    private static final int ITERATIONS = 30;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private StoreScoreCalculator storeScoreCalculator;
+
+    @Autowired
+    private StoreScoreBatchScorer parallelScorer;
+
+    @Autowired
+    private StoreScoreRecalculationService recalculationService;
+
+    @Test
+    @DisplayName("병렬 계산은 순차 계산과 같은 점수를 더 빨리 계산한다")
+    void 순차_계산과_병렬_계산_비교() {
+        new SyntheticStoreSeeder(jdbcTemplate).seedStores(STORE_COUNT, 37.4979, 127.0276, 2.0);
+        List<StoreScoreInput> inputs = storeRepository.findScoreInputs(0L, PageRequest.of(0, STORE_COUNT));
+        StoreScoreBatchScorer sequentialScorer = new StoreScoreBatchScorer(storeScoreCalculator, sequentialConfig());
+
+        long[] sequential = measure(sequentialScorer, inputs);
+        long[] parallel = measure(parallelScorer, inputs);
+        long sequentialP50 = percentile(sequential, 50);
+        long parallelP50 = percentile(parallel, 50);
+        log.info("[benchmark] stores={} sequential p50={}us p99={}us | parallel({} threads) p50={}us p99={}us | "
+                        + "speedup={}x", inputs.size(), sequentialP50, percentile(sequential, 99),
+                parallelScorer.getParallelism(), parallelP50, percentile(parallel, 99),
+                String.format("%.2f", (double) sequentialP50 / Math.max(1, parallelP50)));
+
+        long start = System.currentTimeMillis();
+        recalculationService.recalculate(true);
+        log.info("[benchmark] full recalculation of {} stores took {} ms", inputs.size(),
+                System.currentTimeMillis() - start);
+
+        // then
+        assertThat(parallelScorer.calculateScores(inputs)).isEqualTo(sequentialScorer.calculateScores(inputs));
+        if (parallelScorer.getParallelism() >= 4) {
+            assertThat(parallelP50).isLessThan(sequentialP50);
+        }
+        sequentialScorer.shutdown();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private StoreScoringConfig sequentialConfig() {
+        StoreScoringConfig config = new StoreScoringConfig();
+        config.setParallelism(1);
+        return config;
+    }
+
+    private long[] measure(StoreScoreBatchScorer scorer, List<StoreScoreInput> inputs) {
+        for (int i = 0; i < WARMUP; i++) {
+            scorer.calculateScores(inputs);
+        }
+        long[] micros = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            Map<Long, Double> scores = scorer.calculateScores(inputs);
+            micros[i] = (System.nanoTime() - start) / 1_000;
+            assertThat(scores).hasSize(inputs.size());
+        }
+        Arrays.sort(micros);
+        return micros;
+    }
+
+    private long percentile(long[] sorted, int p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
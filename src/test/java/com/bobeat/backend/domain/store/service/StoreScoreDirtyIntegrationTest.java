@@ -0,0 +1,148 @@
+package com.bobeat.backend.domain.store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bobeat.backend.domain.member.entity.Level;
+import com.bobeat.backend.domain.store.config.StoreScoringConfig;
+import com.bobeat.backend.domain.store.dto.StoreScoreInput;
+import com.bobeat.backend.domain.store.entity.Menu;
+import com.bobeat.backend.domain.store.entity.SeatOption;
+import com.bobeat.backend.domain.store.entity.SeatType;
+import com.bobeat.backend.domain.store.entity.Store;
+import com.bobeat.backend.domain.store.repository.MenuRepository;
+import com.bobeat.backend.domain.store.repository.SeatOptionRepository;
+import com.bobeat.backend.domain.store.repository.StoreRepository;
+import com.bobeat.backend.domain.store.repository.StoreScoreDirtyRepository;
+import com.bobeat.backend.domain.store.vo.Address;
+import com.bobeat.backend.global.db.PostgreSQLTestContainer;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@PostgreSQLTestContainer
+@Transactional
+class StoreScoreDirtyIntegrationTest {
+
+    @Autowired
+    private StoreScoreCalculator storeScoreCalculator;
+
+    @Autowired
+    private StoreScoreDirtyRepository storeScoreDirtyRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private SeatOptionRepository seatOptionRepository;
+
+    @Autowired
+    private StoreScoringConfig scoringConfig;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void 메뉴와_좌석이_등록된_가게는_재계산_대상이_되고_처리되면_점수가_채워진다() {
+        // given
+        Store store = storeRepository.save(Store.builder()
+                .name("변경 가게")
+                .address(Address.builder().address("서울").latitude(37.5).longitude(127.0).build())
+                .honbobLevel(Level.LEVEL_1)
+                .build());
+        Menu menu = menuRepository.save(Menu.builder().store(store).name("국밥").price(9000).recommend(true).build());
+        SeatOption seat = seatOptionRepository.save(SeatOption.builder().store(store).seatType(SeatType.FOR_ONE).build());
+        store.updateSummary(List.of(menu), List.of(seat));
+        entityManager.flush();
+        assertThat(storeScoreDirtyRepository.isMarked(store.getId())).isTrue();
+
+        // when
+        int claimed = storeScoreCalculator.rescoreDirtyStores(1000);
+        entityManager.flush();
+
+        // then
+        entityManager.clear();
+        Store reloaded = storeRepository.findById(store.getId()).orElseThrow();
+        assertThat(claimed).isPositive();
+        assertThat(storeScoreDirtyRepository.isMarked(store.getId())).isFalse();
+        assertThat(reloaded.getInternalScore())
+                .isEqualTo(storeScoreCalculator.calculateScore(StoreScoreInput.from(reloaded)));
+    }
+
+    @Test
+    void 요약이_없는_가게도_요약을_채워_계산하고_다시_등록하지_않는다() {
+        // given
+        Store store = storeRepository.save(Store.builder()
+                .name("요약 없는 가게")
+                .address(Address.builder().address("서울").latitude(37.5).longitude(127.0).build())
+                .honbobLevel(Level.LEVEL_2)
+                .build());
+        menuRepository.save(Menu.builder().store(store).name("우동").price(7000).recommend(false).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        storeScoreCalculator.rescoreDirtyStores(1000);
+        entityManager.flush();
+
+        // then
+        entityManager.clear();
+        Store reloaded = storeRepository.findById(store.getId()).orElseThrow();
+        assertThat(reloaded.getSignatureMenuPrice()).isEqualTo(7000);
+        assertThat(reloaded.getInternalScore()).isNotNull();
+        assertThat(storeScoreDirtyRepository.isMarked(store.getId())).isFalse();
+    }
+
+    @ParameterizedTest
+    @EnumSource(StoreScoringConfig.Engine.class)
+    void 메뉴_가격이_바뀌면_요약을_다시_계산해_점수가_바뀐다(StoreScoringConfig.Engine engine) {
+        // given - 요약과 점수가 채워진 가게
+        StoreScoringConfig.Engine originalEngine = scoringConfig.getEngine();
+        scoringConfig.setEngine(engine);
+        Store store = storeRepository.save(Store.builder()
+                .name("가격 변경 가게")
+                .address(Address.builder().address("서울").latitude(37.5).longitude(127.0).build())
+                .honbobLevel(Level.LEVEL_1)
+                .build());
+        Menu menu = menuRepository.save(Menu.builder().store(store).name("국밥").price(9000).recommend(true).build());
+        SeatOption seat = seatOptionRepository.save(SeatOption.builder().store(store).seatType(SeatType.FOR_ONE).build());
+        store.updateSummary(List.of(menu), List.of(seat));
+        entityManager.flush();
+        try {
+            storeScoreCalculator.rescoreDirtyStores(1000);
+            entityManager.flush();
+            entityManager.clear();
+            Double before = storeRepository.findById(store.getId()).orElseThrow().getInternalScore();
+
+            // 메뉴 가격 수정 - 리스너가 등록하는 것과 같이 소속 가게를 재계산 대상으로 등록
+            jdbcTemplate.update("UPDATE menu SET price = 15000 WHERE id = ?", menu.getId());
+            storeScoreDirtyRepository.mark(List.of(store.getId()));
+
+            // when
+            storeScoreCalculator.rescoreDirtyStores(1000);
+            entityManager.flush();
+
+            // then
+            entityManager.clear();
+            Store reloaded = storeRepository.findById(store.getId()).orElseThrow();
+            assertThat(reloaded.getSignatureMenuPrice()).isEqualTo(15000);
+            assertThat(reloaded.getInternalScore()).isNotEqualTo(before)
+                    .isEqualTo(storeScoreCalculator.calculateScore(StoreScoreInput.from(reloaded)));
+            assertThat(storeScoreDirtyRepository.isMarked(store.getId())).isFalse();
+        } finally {
+            scoringConfig.setEngine(originalEngine);
+        }
+    }
+}
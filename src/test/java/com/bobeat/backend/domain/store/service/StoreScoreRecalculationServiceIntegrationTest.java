@@ -0,0 +1,128 @@
+package com.bobeat.backend.domain.store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bobeat.backend.domain.member.entity.Level;
+import com.bobeat.backend.domain.store.config.StoreScoringConfig;
+import com.bobeat.backend.domain.store.dto.StoreScoreInput;
+import com.bobeat.backend.domain.store.entity.PrimaryCategory;
+import com.bobeat.backend.domain.store.entity.ScoreRecalculationStatus;
+import com.bobeat.backend.domain.store.entity.SeatType;
+import com.bobeat.backend.domain.store.entity.Store;
+import com.bobeat.backend.domain.store.entity.StoreScoreRecalculation;
+import com.bobeat.backend.domain.store.repository.PrimaryCategoryRepository;
+import com.bobeat.backend.domain.store.repository.StoreRepository;
+import com.bobeat.backend.domain.store.repository.StoreScoreRecalculationRepository;
+import com.bobeat.backend.domain.store.vo.Address;
+import com.bobeat.backend.domain.store.vo.Categories;
+import com.bobeat.backend.global.db.PostgreSQLTestContainer;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@PostgreSQLTestContainer
+@Transactional
+class StoreScoreRecalculationServiceIntegrationTest {
+
+    @Autowired
+    private StoreScoreRecalculationService recalculationService;
+
+    @Autowired
+    private StoreScoreCalculator storeScoreCalculator;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private StoreScoreRecalculationRepository recalculationRepository;
+
+    @Autowired
+    private PrimaryCategoryRepository primaryCategoryRepository;
+
+    @Autowired
+    private StoreScoringConfig scoringConfig;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Integer originalChunkSize;
+    private List<Store> stores;
+
+    @BeforeEach
+    void setUp() {
+        originalChunkSize = scoringConfig.getRecalculationChunkSize();
+        scoringConfig.setRecalculationChunkSize(2);
+
+        PrimaryCategory category = primaryCategoryRepository.findByPrimaryType("한식")
+                .orElseGet(() -> primaryCategoryRepository.save(PrimaryCategory.builder().primaryType("한식").build()));
+
+        stores = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            stores.add(storeRepository.save(Store.builder()
+                    .name("점수 가게 " + i)
+                    .address(Address.builder().address("서울").latitude(37.5).longitude(127.0 + i * 0.001).build())
+                    .honbobLevel(Level.fromValue(1 + i % 4))
+                    .categories(new Categories(category, null))
+                    .signatureMenuPrice(6000 + i * 3000)
+                    .seatTypeMask(SeatType.toMask(i % 2 == 0 ? Set.of(SeatType.FOR_ONE) : Set.of(SeatType.FOR_FOUR)))
+                    .build()));
+        }
+        entityManager.flush();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoringConfig.setRecalculationChunkSize(originalChunkSize);
+    }
+
+    @Test
+    void 청크_단위로_모든_가게의_점수를_계산하고_완료_상태를_남긴다() {
+        // when
+        boolean started = recalculationService.recalculate(true);
+
+        // then
+        assertThat(started).isTrue();
+        entityManager.clear();
+        for (Store store : stores) {
+            Store reloaded = storeRepository.findById(store.getId()).orElseThrow();
+            assertThat(reloaded.getInternalScore())
+                    .isEqualTo(storeScoreCalculator.calculateScore(StoreScoreInput.from(reloaded)));
+        }
+
+        StoreScoreRecalculationService.Progress progress = recalculationService.getProgress();
+        assertThat(progress.status()).isEqualTo(ScoreRecalculationStatus.COMPLETED);
+        assertThat(progress.lastStoreId()).isGreaterThanOrEqualTo(stores.get(4).getId());
+        assertThat(progress.percent()).isEqualTo(100.0);
+    }
+
+    @Test
+    void 중단된_재계산은_체크포인트_다음_가게부터_이어서_계산한다() {
+        // given - 세 번째 가게까지 처리하고 멈춘 실행
+        StoreScoreRecalculation interrupted = StoreScoreRecalculation.start(5, LocalDateTime.now());
+        interrupted.advance(stores.get(2).getId(), 3);
+        recalculationRepository.save(interrupted);
+        entityManager.flush();
+
+        // when
+        recalculationService.recalculate(false);
+
+        // then
+        entityManager.clear();
+        assertThat(storeRepository.findById(stores.get(2).getId()).orElseThrow().getInternalScore()).isNull();
+        assertThat(storeRepository.findById(stores.get(3).getId()).orElseThrow().getInternalScore()).isNotNull();
+        assertThat(storeRepository.findById(stores.get(4).getId()).orElseThrow().getInternalScore()).isNotNull();
+
+        StoreScoreRecalculation resumed = recalculationRepository.findById(interrupted.getId()).orElseThrow();
+        assertThat(resumed.getStatus()).isEqualTo(ScoreRecalculationStatus.COMPLETED);
+        assertThat(resumed.getProcessedCount()).isGreaterThanOrEqualTo(5);
+    }
+}
@@ -0,0 +1,157 @@
+package com.bobeat.backend.domain.store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bobeat.backend.domain.member.entity.Level;
+import com.bobeat.backend.domain.store.config.StoreScoringConfig;
+import com.bobeat.backend.domain.store.entity.Menu;
+import com.bobeat.backend.domain.store.entity.PrimaryCategory;
+import com.bobeat.backend.domain.store.entity.SeatOption;
+import com.bobeat.backend.domain.store.entity.SeatType;
+import com.bobeat.backend.domain.store.entity.Store;
+import com.bobeat.backend.domain.store.repository.MenuRepository;
+import com.bobeat.backend.domain.store.repository.PrimaryCategoryRepository;
+import com.bobeat.backend.domain.store.repository.SeatOptionRepository;
+import com.bobeat.backend.domain.store.repository.StoreRepository;
+import com.bobeat.backend.domain.store.vo.Address;
+import com.bobeat.backend.domain.store.vo.Categories;
+import com.bobeat.backend.global.db.PostgreSQLTestContainer;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@PostgreSQLTestContainer
+@Transactional
+class StoreScoreSqlCalculatorIntegrationTest {
+
+    @Autowired
+    private StoreScoreSqlCalculator storeScoreSqlCalculator;
+
+    @Autowired
+    private StoreScoreCalculator storeScoreCalculator;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private SeatOptionRepository seatOptionRepository;
+
+    @Autowired
+    private PrimaryCategoryRepository primaryCategoryRepository;
+
+    @Autowired
+    private StoreScoringConfig scoringConfig;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<StoreScoringConfig.CategoryWeightItem> originalCategoryWeights;
+
+    @BeforeEach
+    void setUp() {
+        originalCategoryWeights = scoringConfig.getCategoryWeights();
+        StoreScoringConfig.CategoryWeightItem korean = new StoreScoringConfig.CategoryWeightItem();
+        korean.setName("한식");
+        korean.setRatio(0.8);
+        scoringConfig.setCategoryWeights(List.of(korean));
+        scoringConfig.setCategoryWeightMap(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoringConfig.setCategoryWeights(originalCategoryWeights);
+        scoringConfig.setCategoryWeightMap(null);
+    }
+
+    @Test
+    void SQL_계산_결과가_Java_계산과_정확히_같다() {
+        // given - 레벨/가격/좌석/카테고리 경계값 조합 + 요약이 없는 가게
+        List<PrimaryCategory> categories = Arrays.asList(category("한식"), category("일식"), null);
+        List<Level> levels = Arrays.asList(null, Level.LEVEL_0, Level.LEVEL_1, Level.LEVEL_2, Level.LEVEL_3,
+                Level.LEVEL_4);
+        List<Integer> prices = Arrays.asList(null, 5000, 8000, 12345, 19999, 20000, 30000);
+        List<Integer> masks = List.of(0, SeatType.FOR_ONE.bit(), SeatType.BAR_TABLE.bit(),
+                SeatType.toMask(Set.of(SeatType.FOR_ONE, SeatType.BAR_TABLE)), SeatType.FOR_FOUR.bit());
+
+        List<Store> stores = new ArrayList<>();
+        int i = 0;
+        for (Level level : levels) {
+            for (Integer price : prices) {
+                for (Integer mask : masks) {
+                    stores.add(store("조합 " + i, level, categories.get(i % categories.size()), price, mask));
+                    i++;
+                }
+            }
+        }
+
+        Store noSummary = store("요약 없음", Level.LEVEL_2, categories.get(0), null, null);
+        menuRepository.save(Menu.builder().store(noSummary).name("대표").price(15000).recommend(true).build());
+        menuRepository.save(Menu.builder().store(noSummary).name("저렴").price(7000).recommend(false).build());
+        seatOptionRepository.save(SeatOption.builder().store(noSummary).seatType(SeatType.BAR_TABLE).build());
+        stores.add(noSummary);
+        stores.add(store("메뉴/좌석 없음", Level.LEVEL_1, categories.get(1), null, null));
+        entityManager.flush();
+
+        // when
+        storeScoreSqlCalculator.updateAllScores();
+
+        // then
+        entityManager.clear();
+        for (Store store : stores) {
+            Store reloaded = storeRepository.findById(store.getId()).orElseThrow();
+            Double sqlScore = reloaded.getInternalScore();
+            double javaScore = storeScoreCalculator.calculateStoreScore(reloaded);
+            assertThat(sqlScore).as(reloaded.getName()).isEqualTo(javaScore);
+        }
+    }
+
+    @Test
+    void 점수가_없는_가게만_계산한다() {
+        // given
+        Store scored = store("계산됨", Level.LEVEL_1, category("한식"), 9000, SeatType.FOR_ONE.bit());
+        scored.updateInternalScore(1.0);
+        Store pending = store("대기", Level.LEVEL_1, category("한식"), 9000, SeatType.FOR_ONE.bit());
+        entityManager.flush();
+
+        // when
+        storeScoreSqlCalculator.updatePendingScores();
+
+        // then
+        entityManager.clear();
+        assertThat(storeRepository.findById(scored.getId()).orElseThrow().getInternalScore()).isEqualTo(1.0);
+        assertThat(storeRepository.findById(pending.getId()).orElseThrow().getInternalScore()).isNotNull();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private PrimaryCategory category(String type) {
+        // findByPrimaryType은 캐시되어 롤백된 카테고리를 돌려줄 수 있으므로 직접 조회
+        return primaryCategoryRepository.findAll().stream()
+                .filter(category -> type.equals(category.getPrimaryType()))
+                .findFirst()
+                .orElseGet(() -> primaryCategoryRepository.save(PrimaryCategory.builder().primaryType(type).build()));
+    }
+
+    private Store store(String name, Level level, PrimaryCategory category, Integer signaturePrice, Integer mask) {
+        return storeRepository.save(Store.builder()
+                .name(name)
+                .address(Address.builder().address("서울").latitude(37.5).longitude(127.0).build())
+                .honbobLevel(level)
+                .categories(new Categories(category, null))
+                .signatureMenuPrice(signaturePrice)
+                .seatTypeMask(mask)
+                .build());
+    }
+}
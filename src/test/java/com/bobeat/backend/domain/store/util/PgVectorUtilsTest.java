@@ -0,0 +1,37 @@
+package com.bobeat.backend.domain.store.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.SQLException;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.postgresql.util.PGobject;
+
+class PgVectorUtilsTest {
+
+    @Test
+    void 리터럴로_변환했다가_다시_파싱해도_float_값이_그대로_유지된다() {
+        // given
+        Random random = new Random(7);
+        float[] vector = new float[1024];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (random.nextFloat() - 0.5f) * 1e-3f;
+        }
+
+        // when
+        float[] parsed = PgVectorUtils.parse(PgVectorUtils.toLiteral(vector));
+
+        // then
+        assertThat(parsed).containsExactly(vector);
+    }
+
+    @Test
+    void 바인딩_파라미터는_vector_타입으로_지정된다() throws SQLException {
+        // when
+        PGobject object = PgVectorUtils.toPGobject(new float[]{1.0f, 2.0f});
+
+        // then
+        assertThat(object.getType()).isEqualTo("vector");
+        assertThat(object.getValue()).isEqualTo("[1.0,2.0]");
+    }
+}
@@ -0,0 +1,65 @@
+package com.bobeat.backend.domain.store.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bobeat.backend.domain.store.dto.request.StoreCreateRequest;
+import com.bobeat.backend.domain.store.entity.SeatType;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StoreCsvParserTest {
+
+    private static final String HEADER =
+            "name,address,latitude,longitude,phoneNumber,description,honbobLevel,primaryCategory,storeImages,menus,seatOptions\n";
+
+    @Test
+    void 따옴표로_감싼_값의_쉼표와_목록_열을_요청으로_변환한다() {
+        // given
+        String csv = HEADER
+                + "\"국밥, 본점\",서울 강남구,37.5,127.0,02-000-0000,\"\"\"든든한\"\" 국밥\",2,한식,"
+                + "https://a.jpg;https://b.jpg|true,순대국|9000|https://m.jpg;수육|25000|https://n.jpg,FOR_ONE|https://s.jpg;BAR_TABLE\r\n";
+
+        // when
+        List<StoreCsvParser.Row> rows = StoreCsvParser.parse(csv);
+
+        // then
+        assertThat(rows).hasSize(1);
+        StoreCreateRequest request = rows.get(0).request();
+        assertThat(request.name()).isEqualTo("국밥, 본점");
+        assertThat(request.description()).isEqualTo("\"든든한\" 국밥");
+        assertThat(request.address().latitude()).isEqualTo(37.5);
+        assertThat(request.honbobLevel()).isEqualTo(2);
+        assertThat(request.storeImages()).extracting(StoreCreateRequest.StoreImageRequest::isMain)
+                .containsExactly(false, true);
+        assertThat(request.menus()).extracting(StoreCreateRequest.MenuRequest::price)
+                .containsExactly(9000, 25000);
+        assertThat(request.seatOptions()).extracting(StoreCreateRequest.SeatOptionRequest::seatType)
+                .containsExactly(SeatType.FOR_ONE, SeatType.BAR_TABLE);
+    }
+
+    @Test
+    void 변환할_수_없는_행은_행_번호와_사유를_남기고_나머지는_계속_읽는다() {
+        // given
+        String csv = HEADER
+                + "가게1,주소,abc,127.0,,,1,한식,https://a.jpg;https://b.jpg,메뉴|5000|https://m.jpg,FOR_ONE\n"
+                + "가게2,주소,37.5,127.0,,,1,한식,https://a.jpg;https://b.jpg,메뉴|5000|https://m.jpg,SOFA\n"
+                + "가게3,주소,37.5,127.0,,,1,한식,https://a.jpg;https://b.jpg,메뉴|5000|https://m.jpg,FOR_TWO\n";
+
+        // when
+        List<StoreCsvParser.Row> rows = StoreCsvParser.parse(csv);
+
+        // then
+        assertThat(rows).extracting(StoreCsvParser.Row::row).containsExactly(1, 2, 3);
+        assertThat(rows.get(0).error()).contains("latitude");
+        assertThat(rows.get(1).error()).contains("SOFA");
+        assertThat(rows.get(2).request().storeImages().get(0).isMain()).isTrue();
+    }
+
+    @Test
+    void 필수_열이_없으면_예외가_발생한다() {
+        assertThatThrownBy(() -> StoreCsvParser.parse("name,address\n가게,주소\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("latitude");
+    }
+}
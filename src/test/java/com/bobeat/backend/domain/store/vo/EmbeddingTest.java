@@ -0,0 +1,39 @@
+package com.bobeat.backend.domain.store.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.bobeat.backend.domain.store.external.clova.dto.ClovaEmbeddingResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+class EmbeddingTest {
+
+    @Test
+    void CLOVA_응답의_임베딩_배열을_float_배열로_바로_디코딩한다() throws Exception {
+        // given
+        String json = """
+                {"status": {"code": "20000"}, "result": {"embedding": [0.5, -1.25, 3.0], "inputTokens": 3}}
+                """;
+
+        // when
+        ClovaEmbeddingResponse response = new ObjectMapper().readValue(json, ClovaEmbeddingResponse.class);
+
+        // then
+        Embedding embedding = response.getResult().getEmbedding();
+        assertThat(embedding.values()).containsExactly(0.5f, -1.25f, 3.0f);
+        assertThat(embedding.dimension()).isEqualTo(3);
+    }
+
+    @Test
+    void 코사인_거리는_같은_방향이면_0_직교하면_1_반대_방향이면_2다() {
+        // given
+        Embedding embedding = Embedding.of(new float[]{1.0f, 2.0f, 0.0f});
+
+        // when & then
+        assertThat(embedding.cosineDistance(new float[]{2.0f, 4.0f, 0.0f})).isCloseTo(0.0, within(1e-6));
+        assertThat(embedding.cosineDistance(new float[]{-2.0f, 1.0f, 0.0f})).isCloseTo(1.0, within(1e-6));
+        assertThat(embedding.cosineDistance(Embedding.of(new float[]{-1.0f, -2.0f, 0.0f}))).isCloseTo(2.0, within(1e-6));
+        assertThat(embedding.norm()).isCloseTo(Math.sqrt(5.0), within(1e-6));
+    }
+}
@@ -0,0 +1,116 @@
+package com.bobeat.backend.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 외부 API가 느릴 때 요청 처리 스레드 방식별 처리량 벤치마크
+ * <p>
+ * 200ms 늦게 응답하는 로컬 서버를 OAuth/주소 검색처럼 WebClient.block()으로 호출하는 요청 REQUESTS개를
+ * Tomcat 기본값과 같은 플랫폼 스레드 200개 풀과 요청마다 가상 스레드로 각각 처리해 처리량을 비교한다.
+ * <p>
+ * 실행: ./gradlew benchmarkTest (기본 test 태스크에서는 제외)
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("외부 호출 대기 중 처리량 벤치마크")
+class VirtualThreadBlockingBenchmarkTest {
+
+    private static final int REQUESTS = 2000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final long UPSTREAM_DELAY_MILLIS = 200;
+
+    private HttpServer upstream;
+    private ConnectionProvider connectionProvider;
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), REQUESTS);
+        upstream.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(UPSTREAM_DELAY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        upstream.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        upstream.start();
+
+        connectionProvider = ConnectionProvider.builder("benchmark")
+                .maxConnections(REQUESTS)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        webClient = WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + upstream.getAddress().getPort())
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstream.stop(0);
+        connectionProvider.dispose();
+    }
+
+    @Test
+    @DisplayName("가상 스레드는 외부 호출을 기다리는 동안 스레드 수에 묶이지 않는다")
+    void 플랫폼_스레드_풀과_가상_스레드_처리량_비교() throws Exception {
+        // 연결/JIT 예열
+        run(Executors.newVirtualThreadPerTaskExecutor(), 200);
+
+        double platform = run(Executors.newFixedThreadPool(TOMCAT_MAX_THREADS), REQUESTS);
+        double virtual = run(Executors.newVirtualThreadPerTaskExecutor(), REQUESTS);
+        log.info("[benchmark] {} requests, upstream {}ms | platform({} threads) {} req/s | virtual {} req/s | {}x",
+                REQUESTS, UPSTREAM_DELAY_MILLIS, TOMCAT_MAX_THREADS, String.format("%.0f", platform),
+                String.format("%.0f", virtual), String.format("%.2f", virtual / platform));
+
+        assertThat(virtual).isGreaterThan(platform * 2);
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * @return 초당 처리 요청 수
+     */
+    private double run(ExecutorService executor, int requests) throws Exception {
+        long start = System.nanoTime();
+        try (executor) {
+            List<Future<String>> responses = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                responses.add(executor.submit(() -> webClient.get()
+                        .uri("/slow")
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .block(Duration.ofSeconds(30))));
+            }
+            for (Future<String> response : responses) {
+                assertThat(response.get()).isEqualTo("ok");
+            }
+        }
+        return requests / ((System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,96 @@
+package com.bobeat.backend.global.db;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 벤치마크/부하 테스트용 가상 가게 데이터 생성기
+ * <p>
+ * 엔티티를 거치지 않고 SQL(generate_series)로 직접 넣기 때문에 수십만 건도 수십 초 안에 적재된다.
+ * 가게는 (centerLat, centerLon) 중심의 spanDegrees 크기 정사각형 안에 균일하게 분포한다.
+ */
+@RequiredArgsConstructor
+public class SyntheticStoreSeeder {
+
+    private static final int EMBEDDING_DIMENSION = 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 기존 가게 데이터를 비우고 가게 + 메뉴(3개) + 좌석(2종) + 메뉴/좌석 요약 컬럼을 채운다.
+     */
+    public void seedStores(int storeCount, double centerLat, double centerLon, double spanDegrees) {
+        jdbcTemplate.execute("TRUNCATE store, menu, seat_option, store_embedding RESTART IDENTITY CASCADE");
+
+        jdbcTemplate.update("""
+                INSERT INTO store (name, address, latitude, longitude, location, honbob_level, internal_score,
+                                   created_at, updated_at)
+                SELECT 'bench-' || t.g, 'bench', t.lat, t.lon,
+                       geography(ST_SetSRID(ST_MakePoint(t.lon, t.lat), 4326)),
+                       (t.g % 4) + 1, (t.g % 100), now(), now()
+                FROM (
+                    SELECT g, ? + (random() - 0.5) * ? AS lat, ? + (random() - 0.5) * ? AS lon
+                    FROM generate_series(1, ?) g
+                ) t
+                """, centerLat, spanDegrees, centerLon, spanDegrees, storeCount);
+
+        // 가게당 메뉴 3개 (5천 ~ 2만 원), 좌석 2종
+        jdbcTemplate.update("""
+                INSERT INTO menu (name, price, recommend, store_id, created_at, updated_at)
+                SELECT 'menu-' || m, 5000 + floor(random() * 15000), m = 1, s.id, now(), now()
+                FROM store s CROSS JOIN generate_series(1, 3) m
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO seat_option (seat_type, store_id, created_at, updated_at)
+                SELECT (ARRAY['FOR_ONE', 'FOR_TWO', 'FOR_FOUR', 'BAR_TABLE'])[1 + (s.id + k) % 4], s.id, now(), now()
+                FROM store s CROSS JOIN generate_series(0, 1) k
+                """);
+
+        // 가격/좌석 필터가 사용하는 요약 컬럼 (SeatType.bit = 1 << ordinal)
+        jdbcTemplate.update("""
+                UPDATE store s
+                SET min_menu_price = m.min_price,
+                    max_menu_price = m.max_price,
+                    signature_menu_price = m.signature_price,
+                    seat_type_mask = so.mask
+                FROM (
+                    SELECT store_id, min(price) AS min_price, max(price) AS max_price,
+                           (array_agg(price ORDER BY recommend DESC, price))[1] AS signature_price
+                    FROM menu GROUP BY store_id
+                ) m
+                JOIN (
+                    SELECT store_id,
+                           bit_or(1 << (array_position(
+                               ARRAY['FOR_ONE', 'FOR_TWO', 'FOR_FOUR', 'BAR_TABLE', 'CUBICLE'], seat_type) - 1)) AS mask
+                    FROM seat_option GROUP BY store_id
+                ) so ON so.store_id = m.store_id
+                WHERE s.id = m.store_id
+                """);
+
+        analyze("store", "menu", "seat_option");
+    }
+
+    /**
+     * 모든 가게에 임의의 1024차원 임베딩(COMPLETED)을 생성한다.
+     */
+    public void seedEmbeddings() {
+        jdbcTemplate.update("""
+                INSERT INTO store_embedding (store_id, embedding, embedding_status)
+                SELECT s.id,
+                       CAST((SELECT array_agg(random() - 0.5 + s.id * 0) FROM generate_series(1, %d)) AS vector),
+                       'COMPLETED'
+                FROM store s
+                """.formatted(EMBEDDING_DIMENSION));
+        analyze("store_embedding");
+    }
+
+    public void createLocationIndex() {
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_store_location_gist ON store USING gist (location)");
+    }
+
+    private void analyze(String... tables) {
+        for (String table : tables) {
+            jdbcTemplate.execute("ANALYZE " + table);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.bobeat.backend.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bobeat.backend.global.config.EnrichmentConfig;
+import com.bobeat.backend.global.exception.CustomException;
+import com.bobeat.backend.global.exception.ErrorCode;
+import com.bobeat.backend.global.util.EnrichmentExecutor.Lookup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class EnrichmentExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private EnrichmentConfig config;
+    private EnrichmentExecutor enrichmentExecutor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        config = new EnrichmentConfig();
+        config.setTimeoutMillis(1000L);
+        enrichmentExecutor = new EnrichmentExecutor(config, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        enrichmentExecutor.shutdown();
+    }
+
+    @Test
+    void 독립적인_조회는_동시에_실행되어_가장_느린_조회만큼만_걸린다() {
+        // given
+        long start = System.nanoTime();
+
+        // when
+        try (EnrichmentExecutor.Scope scope = enrichmentExecutor.open("test")) {
+            Lookup<Integer> first = scope.fork("first", () -> sleepAndReturn(200, 1));
+            Lookup<Integer> second = scope.fork("second", () -> sleepAndReturn(200, 2));
+            Lookup<Integer> third = scope.fork("third", () -> sleepAndReturn(200, 3));
+            scope.join();
+
+            // then
+            assertThat(first.get() + second.get() + third.get()).isEqualTo(6);
+        }
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(500);
+        assertThat(meterRegistry.get("enrichment.page").tag("mode", "parallel").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 제한_시간을_넘기면_나머지_조회를_취소하고_예외를_던진다() throws InterruptedException {
+        // given
+        config.setTimeoutMillis(100L);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // when & then
+        try (EnrichmentExecutor.Scope scope = enrichmentExecutor.open("test")) {
+            scope.fork("slow", () -> {
+                try {
+                    return sleepAndReturn(5000, 1);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+            });
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(CustomException.class)
+                    .extracting(e -> ((CustomException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.SEARCH_ENRICHMENT_TIMEOUT);
+        }
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("enrichment.timeouts").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 조회가_실패하면_그_예외를_그대로_던진다() {
+        try (EnrichmentExecutor.Scope scope = enrichmentExecutor.open("test")) {
+            scope.fork("ok", () -> 1);
+            scope.fork("broken", () -> {
+                throw new IllegalArgumentException("broken");
+            });
+
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("broken");
+        }
+    }
+
+    @Test
+    void 트랜잭션_안에서는_호출_스레드에서_순차로_실행한다() {
+        // given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        Thread caller = Thread.currentThread();
+
+        // when
+        try (EnrichmentExecutor.Scope scope = enrichmentExecutor.open("test")) {
+            Lookup<Thread> lookup = scope.fork("thread", Thread::currentThread);
+            scope.join();
+
+            // then
+            assertThat(lookup.get()).isSameAs(caller);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        assertThat(meterRegistry.get("enrichment.page").tag("mode", "sequential").timer().count()).isEqualTo(1);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private int sleepAndReturn(long millis, int value) throws InterruptedException {
+        Thread.sleep(millis);
+        return value;
+    }
+}
@@ -0,0 +1,97 @@
+package com.bobeat.backend.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntPredicate;
+
+/**
+ * 고정 RPS 부하 생성기 (open model)
+ * <p>
+ * 요청마다 가상 스레드를 하나씩 띄우고, 응답이 늦어져도 다음 요청은 예정된 시각에 보낸다.
+ * 지연시간은 실제 전송 시각이 아니라 예정 시각부터 재기 때문에 서버가 밀릴 때의 대기 시간도 포함된다 (coordinated omission 보정).
+ */
+public final class FixedRateLoadDriver {
+
+    private FixedRateLoadDriver() {}
+
+    public record Result(
+            String scenario,
+            int targetRps,
+            long requests,
+            long failures,
+            double throughput,
+            long p50Micros,
+            long p99Micros,
+            long p999Micros,
+            long maxMicros
+    ) {
+    }
+
+    /**
+     * @param request 요청 번호를 받아 실행하고 성공 여부를 반환
+     */
+    public static Result run(String scenario, int rps, Duration duration, IntPredicate request) {
+        int total = (int) (rps * duration.toSeconds());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rps;
+
+        long[] latencies = new long[total];
+        boolean[] failed = new boolean[total];
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < total; i++) {
+                long scheduledAt = start + i * intervalNanos;
+                long waitNanos = scheduledAt - System.nanoTime();
+                if (waitNanos > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+
+                int index = i;
+                executor.submit(() -> {
+                    boolean success;
+                    try {
+                        success = request.test(index);
+                    } catch (Exception e) {
+                        success = false;
+                    }
+                    latencies[index] = (System.nanoTime() - scheduledAt) / 1_000;
+                    failed[index] = !success;
+                });
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        long failures = 0;
+        for (boolean f : failed) {
+            if (f) {
+                failures++;
+            }
+        }
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+
+        return new Result(
+                scenario,
+                rps,
+                total,
+                failures,
+                (total - failures) / elapsedSeconds,
+                percentile(sorted, 50.0),
+                percentile(sorted, 99.0),
+                percentile(sorted, 99.9),
+                sorted.length > 0 ? sorted[sorted.length - 1] : 0
+        );
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
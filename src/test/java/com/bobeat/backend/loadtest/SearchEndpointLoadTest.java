@@ -0,0 +1,208 @@
+package com.bobeat.backend.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+import com.bobeat.backend.domain.store.external.clova.service.ClovaEmbeddingClient;
+import com.bobeat.backend.domain.store.index.StoreCardSnapshot;
+import com.bobeat.backend.domain.store.index.StoreGeoIndex;
+import com.bobeat.backend.domain.store.index.StoreVectorIndex;
+import com.bobeat.backend.domain.store.vo.Embedding;
+import com.bobeat.backend.global.db.PostgreSQLTestContainer;
+import com.bobeat.backend.global.db.SyntheticStoreSeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import reactor.core.publisher.Mono;
+
+/**
+ * 검색 엔드포인트 부하 테스트
+ * <p>
+ * Testcontainers PostGIS + pgvector에 가상 가게/메뉴/좌석/임베딩을 적재한 뒤 아래 엔드포인트를 고정 RPS로 호출하고
+ * p50/p99/p999 지연시간과 처리량을 build/reports/loadtest/results.json에 기록한다.
+ * - POST /api/v1/stores (위치 기반 검색)
+ * - POST /api/v1/search (의미 기반 검색, CLOVA 임베딩은 스텁)
+ * - GET /api/v1/stores/{id}/similar (유사 가게)
+ * <p>
+ * 실행: ./gradlew loadTest -Ploadtest.stores=50000 -Ploadtest.rps=100 -Ploadtest.durationSeconds=60
+ */
+@Slf4j
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@PostgreSQLTestContainer
+@DisplayName("검색 엔드포인트 부하 테스트")
+class SearchEndpointLoadTest {
+
+    private static final double CENTER_LAT = 37.4979;
+    private static final double CENTER_LON = 127.0276;
+    private static final double SPAN_DEGREES = 0.3;
+    private static final int EMBEDDING_DIMENSION = 1024;
+
+    private static final List<String> QUERIES = List.of(
+            "혼밥하기 좋은 국밥집", "조용한 라멘집", "1인석 있는 카페", "가성비 좋은 백반", "바 좌석 있는 초밥집",
+            "늦게까지 하는 분식집", "혼자 먹기 좋은 돈까스", "칸막이 있는 식당", "든든한 덮밥", "매운 음식"
+    );
+
+    private final int storeCount = Integer.getInteger("loadtest.stores", 10_000);
+    private final int rps = Integer.getInteger("loadtest.rps", 50);
+    private final Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.durationSeconds", 30));
+    private final long embeddingLatencyMillis = Integer.getInteger("loadtest.embeddingLatencyMs", 30);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StoreGeoIndex storeGeoIndex;
+
+    @Autowired
+    private StoreCardSnapshot storeCardSnapshot;
+
+    @Autowired
+    private StoreVectorIndex storeVectorIndex;
+
+    @MockBean
+    private ClovaEmbeddingClient clovaEmbeddingClient;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    @DisplayName("위치 검색/의미 검색/유사 가게 엔드포인트를 고정 RPS로 호출하고 지연시간 분포를 기록한다")
+    void 검색_엔드포인트_부하_테스트() throws IOException {
+        stubEmbeddingClient();
+
+        SyntheticStoreSeeder seeder = new SyntheticStoreSeeder(jdbcTemplate);
+        seeder.createLocationIndex();
+        seeder.seedStores(storeCount, CENTER_LAT, CENTER_LON, SPAN_DEGREES);
+        seeder.seedEmbeddings();
+        // SQL로 넣은 데이터는 인메모리 인덱스를 거치지 않으므로 직접 재적재
+        storeGeoIndex.rebuild();
+        storeCardSnapshot.rebuild();
+        storeVectorIndex.rebuild();
+
+        List<FixedRateLoadDriver.Result> results = new ArrayList<>();
+        results.add(FixedRateLoadDriver.run("location-search", rps, duration, i -> post("/api/v1/stores", """
+                {"center": {"lat": %f, "lon": %f}, "filters": %s, "paging": {"limit": 20}, "sortBy": "%s"}
+                """.formatted(randomLat(), randomLon(), randomFilters(i), i % 4 == 0 ? "RECOMMENDED" : "DISTANCE"))));
+        results.add(FixedRateLoadDriver.run("semantic-search", rps, duration, i -> post("/api/v1/search", """
+                {"query": "%s", "paging": {"limit": 20}, "lat": %f, "lon": %f}
+                """.formatted(QUERIES.get(i % QUERIES.size()), randomLat(), randomLon()))));
+        results.add(FixedRateLoadDriver.run("similar-stores", rps, duration, i -> get(
+                "/api/v1/stores/%d/similar?latitude=%f&longitude=%f".formatted(
+                        1 + ThreadLocalRandom.current().nextInt(storeCount), randomLat(), randomLon()))));
+
+        for (FixedRateLoadDriver.Result result : results) {
+            log.info("[loadtest] {} rps={} requests={} failures={} throughput={}/s p50={}us p99={}us p999={}us max={}us",
+                    result.scenario(), result.targetRps(), result.requests(), result.failures(),
+                    String.format("%.1f", result.throughput()), result.p50Micros(), result.p99Micros(),
+                    result.p999Micros(), result.maxMicros());
+        }
+        writeReport(results);
+
+        assertThat(results).allMatch(result -> result.failures() == 0);
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * 질의별로 항상 같은 벡터를 돌려주는 CLOVA 스텁 (외부 API 지연은 설정값으로 흉내)
+     */
+    private void stubEmbeddingClient() {
+        given(clovaEmbeddingClient.getEmbedding(anyString())).willAnswer(invocation ->
+                Mono.delay(Duration.ofMillis(embeddingLatencyMillis))
+                        .map(tick -> stubEmbedding(invocation.getArgument(0))));
+    }
+
+    private Embedding stubEmbedding(String text) {
+        Random random = new Random(text.hashCode());
+        float[] embedding = new float[EMBEDDING_DIMENSION];
+        for (int i = 0; i < EMBEDDING_DIMENSION; i++) {
+            embedding[i] = random.nextFloat() - 0.5f;
+        }
+        return Embedding.of(embedding);
+    }
+
+    private String randomFilters(int i) {
+        return switch (i % 3) {
+            case 0 -> "{\"honbobLevel\": []}";
+            case 1 -> "{\"honbobLevel\": [1, 2], \"seatTypes\": [\"FOR_ONE\"]}";
+            default -> "{\"honbobLevel\": [], \"price\": {\"min\": 8000, \"max\": 15000}}";
+        };
+    }
+
+    private double randomLat() {
+        return CENTER_LAT + (ThreadLocalRandom.current().nextDouble() - 0.5) * SPAN_DEGREES / 2;
+    }
+
+    private double randomLon() {
+        return CENTER_LON + (ThreadLocalRandom.current().nextDouble() - 0.5) * SPAN_DEGREES / 2;
+    }
+
+    private boolean post(String path, String body) {
+        HttpRequest request = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return send(request);
+    }
+
+    private boolean get(String path) {
+        return send(HttpRequest.newBuilder(uri(path)).GET().build());
+    }
+
+    private boolean send(HttpRequest request) {
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() / 100 == 2;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private void writeReport(List<FixedRateLoadDriver.Result> results) throws IOException {
+        Path reportFile = Path.of("build", "reports", "loadtest", "results.json");
+        Files.createDirectories(reportFile.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), Map.of(
+                "stores", storeCount,
+                "durationSeconds", duration.toSeconds(),
+                "embeddingLatencyMs", embeddingLatencyMillis,
+                "results", results
+        ));
+    }
+}